@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * The gate of {@link FlowableParallelEnrich} with the rails asking for more elements while the
+ * reorder ring releases one. Whatever the order, the source must be asked for exactly as many
+ * elements as the ring has room for. Lives in the library package to drive the gate directly.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("parallelEnrich gate requested and released concurrently")
+@Outcome(id = "3, 1", expect = Expect.ACCEPTABLE, desc = "Release first, then one request")
+@Outcome(id = "3, 2", expect = Expect.ACCEPTABLE, desc = "Request first, release tops it up")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Source asked for more than the ring holds, or less")
+@State
+public class ParallelEnrichGateStress {
+    private final RequestRecorder source = new RequestRecorder();
+
+    private final FlowableParallelEnrich.Gate gate = new FlowableParallelEnrich.Gate(source, 2, 2);
+
+    private Subscription rails;
+
+    public ParallelEnrichGateStress() {
+        gate.subscribe(new Subscriber<Object>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                rails = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Object t) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        // Only counts what the actors make the gate request
+        source.calls.set(0);
+    }
+
+    @Actor
+    public void request() {
+        rails.request(3);
+    }
+
+    @Actor
+    public void release() {
+        gate.release(1);
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r1 = (int)source.requested.get();
+        r.r2 = source.calls.get();
+    }
+}
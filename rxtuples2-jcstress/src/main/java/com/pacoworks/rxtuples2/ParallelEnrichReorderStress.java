@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Pair;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.subscriptions.BooleanSubscription;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * The reorder ring of {@link FlowableParallelEnrich} with the second element finishing on one rail
+ * before the first one finishes on another. Both must come out in source order, leave the ring
+ * empty and release their places in the gate. Lives in the library package to drive the stages
+ * directly.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("parallelEnrich elements completing out of order")
+@Outcome(id = "2, 0, 1, 4", expect = Expect.ACCEPTABLE, desc = "Emitted in order, gate reopened")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost, duplicated or reordered elements")
+@State
+public class ParallelEnrichReorderStress {
+    private final RequestRecorder source = new RequestRecorder();
+
+    private final FlowableParallelEnrich<Pair<Integer, Integer>> parent;
+
+    private final FlowableParallelEnrich.ReorderSubscriber<Pair<Integer, Integer>> reorder;
+
+    private final StringBuilder emitted = new StringBuilder();
+
+    private int violations;
+
+    @SuppressWarnings({
+            "unchecked", "rawtypes"
+    })
+    public ParallelEnrichReorderStress() {
+        parent = new FlowableParallelEnrich<Pair<Integer, Integer>>(Flowable.never(),
+                new Function[0], (TupleBuilder)TupleBuilders.PAIR, 2, Schedulers.trampoline(), 2);
+        final FlowableParallelEnrich.Gate gate = new FlowableParallelEnrich.Gate(source, 2, 2);
+        // Stands in for the rails, asking for more than the ring holds
+        gate.subscribe(new Subscriber<Object>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(4);
+            }
+
+            @Override
+            public void onNext(Object t) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        reorder = new FlowableParallelEnrich.ReorderSubscriber<Pair<Integer, Integer>>(
+                new Subscriber<Pair<Integer, Integer>>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        s.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(Pair<Integer, Integer> t) {
+                        if (!t.getValue0().equals(t.getValue1())) {
+                            violations++;
+                        }
+                        emitted.append(t.getValue0());
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        violations++;
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                }, parent, gate);
+        reorder.onSubscribe(new BooleanSubscription());
+    }
+
+    @Actor
+    public void firstRail() {
+        reorder.onNext(new FlowableParallelEnrich.Slot(0, new Object[] {
+                0, 0
+        }));
+    }
+
+    @Actor
+    public void secondRail() {
+        reorder.onNext(new FlowableParallelEnrich.Slot(1, new Object[] {
+                1, 1
+        }));
+    }
+
+    @Arbiter
+    public void arbiter(IIII_Result r) {
+        r.r1 = emitted.length();
+        r.r2 = violations + (int)parent.bufferOccupancy();
+        r.r3 = Integer.parseInt(emitted.toString());
+        r.r4 = (int)source.requested.get();
+    }
+}
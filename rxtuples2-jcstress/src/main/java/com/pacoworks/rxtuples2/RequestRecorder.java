@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Source for the stress tests of the package-private {@link FlowableParallelEnrich} stages, adding
+ * up what its subscriber requests
+ *
+ * @author pakoito
+ */
+final class RequestRecorder implements Publisher<Object>, Subscription {
+    final AtomicLong requested = new AtomicLong();
+
+    final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public void subscribe(Subscriber<? super Object> s) {
+        s.onSubscribe(this);
+    }
+
+    @Override
+    public void request(long n) {
+        requested.addAndGet(n);
+        calls.incrementAndGet();
+    }
+
+    @Override
+    public void cancel() {
+    }
+}
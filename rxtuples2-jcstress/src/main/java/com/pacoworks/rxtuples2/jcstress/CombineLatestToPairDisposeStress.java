@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * {@link RxTuples#combineLatestToPair} disposed while a source emits. The update may or may not
+ * make it, but the sources must always end up unsubscribed.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("combineLatestToPair disposed while emitting")
+@Outcome(id = "1, 0, 0", expect = Expect.ACCEPTABLE, desc = "Disposed before the update")
+@Outcome(id = "2, 0, 0", expect = Expect.ACCEPTABLE, desc = "Update delivered, then disposed")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Sources still subscribed or bad tuples")
+@State
+public class CombineLatestToPairDisposeStress {
+    private final PublishSubject<Integer> first = PublishSubject.create();
+
+    private final PublishSubject<Integer> second = PublishSubject.create();
+
+    private final TupleRecorder recorder = new TupleRecorder();
+
+    public CombineLatestToPairDisposeStress() {
+        RxTuples.combineLatestToPair(first, second).subscribe(recorder);
+        first.onNext(0);
+        second.onNext(0);
+    }
+
+    @Actor
+    public void emit() {
+        first.onNext(1);
+    }
+
+    @Actor
+    public void dispose() {
+        recorder.dispose();
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r1 = recorder.count;
+        r.r2 = (first.hasObservers() ? 1 : 0) + (second.hasObservers() ? 1 : 0);
+        r.r3 = recorder.violations;
+    }
+}
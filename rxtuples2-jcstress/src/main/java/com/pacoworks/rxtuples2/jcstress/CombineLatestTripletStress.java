@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * {@code Observable.combineLatest()} with {@link RxTuples#toTriplet()}, each source emitting from
+ * its own thread as if observed on different schedulers.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("combineLatest with toTriplet() and racing sources")
+@Outcome(id = "4, 111, 0", expect = Expect.ACCEPTABLE, desc = "All updates delivered in order")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost, torn or reordered tuples")
+@State
+public class CombineLatestTripletStress {
+    private final PublishSubject<Integer> first = PublishSubject.create();
+
+    private final PublishSubject<Integer> second = PublishSubject.create();
+
+    private final PublishSubject<Integer> third = PublishSubject.create();
+
+    private final TupleRecorder recorder = new TupleRecorder();
+
+    public CombineLatestTripletStress() {
+        Observable.combineLatest(first, second, third,
+                RxTuples.<Integer, Integer, Integer> toTriplet()).subscribe(recorder);
+        first.onNext(0);
+        second.onNext(0);
+        third.onNext(0);
+    }
+
+    @Actor
+    public void first() {
+        first.onNext(1);
+    }
+
+    @Actor
+    public void second() {
+        second.onNext(1);
+    }
+
+    @Actor
+    public void third() {
+        third.onNext(1);
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r1 = recorder.count;
+        r.r2 = recorder.last;
+        r.r3 = recorder.violations;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.processors.PublishProcessor;
+
+/**
+ * The backpressured {@link RxTuples#combineLatestToPair} with two values per source racing, so
+ * the per-source prefetch queues and the shared order tokens interleave.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("Flowable combineLatestToPair with racing sources")
+@Outcome(id = "5, 22, 0", expect = Expect.ACCEPTABLE, desc = "All updates delivered in order")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost, torn or reordered tuples")
+@State
+public class FlowableCombineLatestToPairStress {
+    private final PublishProcessor<Integer> first = PublishProcessor.create();
+
+    private final PublishProcessor<Integer> second = PublishProcessor.create();
+
+    private final TupleRecorder recorder = new TupleRecorder();
+
+    public FlowableCombineLatestToPairStress() {
+        RxTuples.combineLatestToPair(first, second).subscribe(recorder);
+        first.onNext(0);
+        second.onNext(0);
+    }
+
+    @Actor
+    public void first() {
+        first.onNext(1);
+        first.onNext(2);
+    }
+
+    @Actor
+    public void second() {
+        second.onNext(1);
+        second.onNext(2);
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r1 = recorder.count;
+        r.r2 = recorder.last;
+        r.r3 = recorder.violations;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.LazyPair;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Two threads reading the same slot of a {@link LazyPair} for the first time. The slot function
+ * must run once and both readers must see the same value.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("LazyPair slot read from two threads")
+@Outcome(id = "1, 1, 1", expect = Expect.ACCEPTABLE, desc = "Computed once, seen by both")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Computed twice or value not published")
+@State
+public class LazyTupleStress {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final LazyPair<Integer, int[]> pair;
+
+    private int[] firstRead;
+
+    private int[] secondRead;
+
+    private final Function<Integer, int[]> boxed = new Function<Integer, int[]>() {
+        @Override
+        public int[] apply(Integer value) throws Exception {
+            calls.incrementAndGet();
+            return new int[] {
+                    value
+            };
+        }
+    };
+
+    public LazyTupleStress() {
+        try {
+            pair = RxTuples.toLazyPair(boxed).apply(1);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Actor
+    public void first() {
+        firstRead = pair.getValue1();
+    }
+
+    @Actor
+    public void second() {
+        secondRead = pair.getValue1();
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r1 = calls.get();
+        r.r2 = firstRead == secondRead ? 1 : 0;
+        r.r3 = firstRead[0];
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.PooledPair;
+import com.pacoworks.rxtuples2.ReleaseMode;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+
+/**
+ * {@link RxTuples#zipToPooledPair} in manual mode with two pairs released from different threads,
+ * so both race to claim the same free slot of the pool. The next two pairs must reuse both, each
+ * exactly once.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("Pooled pairs released concurrently into the pool")
+@Outcome(id = "2, 1, 33", expect = Expect.ACCEPTABLE, desc = "Both pooled and reused once")
+@Outcome(expect = Expect.FORBIDDEN, desc = "A pair lost, handed out twice or holding stale values")
+@State
+public class PooledPairConcurrentReleaseStress {
+    private final PublishProcessor<Integer> first = PublishProcessor.create();
+
+    private final PublishProcessor<Integer> second = PublishProcessor.create();
+
+    private final TestSubscriber<PooledPair<Integer, Integer>> subscriber = new TestSubscriber<PooledPair<Integer, Integer>>();
+
+    public PooledPairConcurrentReleaseStress() {
+        RxTuples.zipToPooledPair(first, second, ReleaseMode.MANUAL, false).subscribe(subscriber);
+        for (int i = 0; i < 2; i++) {
+            first.onNext(i);
+            second.onNext(i);
+        }
+    }
+
+    @Actor
+    public void releaseFirst() {
+        subscriber.values().get(0).release();
+    }
+
+    @Actor
+    public void releaseSecond() {
+        subscriber.values().get(1).release();
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        first.onNext(2);
+        second.onNext(2);
+        first.onNext(3);
+        second.onNext(3);
+        final PooledPair<Integer, Integer> a = subscriber.values().get(0);
+        final PooledPair<Integer, Integer> b = subscriber.values().get(1);
+        final PooledPair<Integer, Integer> c = subscriber.values().get(2);
+        final PooledPair<Integer, Integer> d = subscriber.values().get(3);
+        r.r1 = (c == a || c == b ? 1 : 0) + (d == a || d == b ? 1 : 0);
+        r.r2 = c != d ? 1 : 0;
+        r.r3 = d.getValue0() * 10 + d.getValue1();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.PooledPair;
+import com.pacoworks.rxtuples2.ReleaseMode;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+
+/**
+ * {@link RxTuples#zipToPooledPair} in manual mode, releasing the first pair on one thread while the
+ * sources emit the second on another. The second pair may or may not reuse the first one from the
+ * pool, but it is live and holds the second values either way.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("Pooled pair released while the next one is taken from the pool")
+@Outcome(id = "1, 0, 11", expect = Expect.ACCEPTABLE, desc = "Released first, then reused")
+@Outcome(id = "0, 0, 11", expect = Expect.ACCEPTABLE, desc = "Taken before the release")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Reused while released or holding stale values")
+@State
+public class PooledPairReleaseStress {
+    private final PublishProcessor<Integer> first = PublishProcessor.create();
+
+    private final PublishProcessor<Integer> second = PublishProcessor.create();
+
+    private final TestSubscriber<PooledPair<Integer, Integer>> subscriber = new TestSubscriber<PooledPair<Integer, Integer>>();
+
+    private final PooledPair<Integer, Integer> released;
+
+    public PooledPairReleaseStress() {
+        RxTuples.zipToPooledPair(first, second, ReleaseMode.MANUAL, false).subscribe(subscriber);
+        first.onNext(0);
+        second.onNext(0);
+        released = subscriber.values().get(0);
+    }
+
+    @Actor
+    public void emit() {
+        first.onNext(1);
+        second.onNext(1);
+    }
+
+    @Actor
+    public void release() {
+        released.release();
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        final PooledPair<Integer, Integer> next = subscriber.values().get(1);
+        r.r1 = next == released ? 1 : 0;
+        r.r2 = next.isReleased() ? 1 : 0;
+        r.r3 = next.getValue0() * 10 + next.getValue1();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.javatuples.Pair;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+import com.pacoworks.rxtuples2.InternMode;
+import com.pacoworks.rxtuples2.TupleInterner;
+
+/**
+ * Two threads interning different combinations into a {@link TupleInterner} of a single entry, so
+ * their misses race to replace each other. Each thread must get its own combination back, and a
+ * replacement is only counted as an eviction when the other tuple was seen in the entry.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("TupleInterner misses racing for the same entry")
+@Outcome(id = "12, 34, 2, 0", expect = Expect.ACCEPTABLE, desc = "Both found the entry empty")
+@Outcome(id = "12, 34, 2, 1", expect = Expect.ACCEPTABLE, desc = "One replaced the other")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Got the other combination or a torn tuple")
+@State
+public class TupleInternerEvictionStress {
+    private final TupleInterner interner = new TupleInterner(1, InternMode.EQUALITY);
+
+    private Pair<Integer, Integer> firstResult;
+
+    private Pair<Integer, Integer> secondResult;
+
+    @Actor
+    public void first() {
+        firstResult = interner.pair(1, 2);
+    }
+
+    @Actor
+    public void second() {
+        secondResult = interner.pair(3, 4);
+    }
+
+    @Arbiter
+    public void arbiter(IIII_Result r) {
+        r.r1 = firstResult.getValue0() * 10 + firstResult.getValue1();
+        r.r2 = secondResult.getValue0() * 10 + secondResult.getValue1();
+        r.r3 = (int)interner.misses();
+        r.r4 = (int)interner.evictions();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.javatuples.Pair;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+import com.pacoworks.rxtuples2.InternMode;
+import com.pacoworks.rxtuples2.TupleInterner;
+
+/**
+ * Two threads interning the same combination into an empty {@link TupleInterner}. Either one sees
+ * the tuple the other published with lazySet, or both miss and hand out equal tuples, but the
+ * slots read back are always the ones interned and every lookup is counted once.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("TupleInterner lookups of the same combination racing")
+@Outcome(id = "1, 1, 1, 1", expect = Expect.ACCEPTABLE, desc = "One miss, the other thread hit it")
+@Outcome(id = "0, 0, 2, 1", expect = Expect.ACCEPTABLE_INTERESTING, desc = "Both missed")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Torn tuple, lost or double counted lookups")
+@State
+public class TupleInternerStress {
+    private final TupleInterner interner = new TupleInterner(16, InternMode.EQUALITY);
+
+    private Pair<Integer, Integer> firstResult;
+
+    private Pair<Integer, Integer> secondResult;
+
+    @Actor
+    public void first() {
+        firstResult = interner.pair(1, 2);
+    }
+
+    @Actor
+    public void second() {
+        secondResult = interner.intern(Pair.with(1, 2));
+    }
+
+    @Arbiter
+    public void arbiter(IIII_Result r) {
+        r.r1 = firstResult == secondResult ? 1 : 0;
+        r.r2 = (int)interner.hits();
+        r.r3 = (int)interner.misses();
+        r.r4 = Pair.with(1, 2).equals(firstResult) && Pair.with(1, 2).equals(secondResult) ? 1 : 0;
+    }
+}
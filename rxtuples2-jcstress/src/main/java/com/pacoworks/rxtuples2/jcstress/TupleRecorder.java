@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.javatuples.Tuple;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * Unbounded consumer checking every tuple it receives. Slots must hold single digit Integers that
+ * never go back to an older value, so a torn, mixed or reordered tuple counts as a violation. The
+ * last tuple is kept as its digits, e.g. 110 for (1, 1, 0).
+ * <p>
+ * Signals are serialized by the operator under test, and jcstress orders the actors before the
+ * arbiter, so plain fields are enough.
+ *
+ * @author pakoito
+ */
+final class TupleRecorder implements Observer<Object>, Subscriber<Object> {
+    int count;
+
+    int last = -1;
+
+    int violations;
+
+    boolean terminated;
+
+    private Tuple previous;
+
+    private Disposable disposable;
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        disposable = d;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        s.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Object value) {
+        final Tuple tuple = (Tuple)value;
+        count++;
+        if (terminated) {
+            violations++;
+        }
+        int digits = 0;
+        for (int i = 0; i < tuple.getSize(); i++) {
+            final Object slot = tuple.getValue(i);
+            if (!(slot instanceof Integer) || (Integer)slot < 0 || (Integer)slot > 9) {
+                violations++;
+                return;
+            }
+            if (previous != null && (Integer)previous.getValue(i) > (Integer)slot) {
+                violations++;
+            }
+            digits = digits * 10 + (Integer)slot;
+        }
+        previous = tuple;
+        last = digits;
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        violations++;
+        terminated = true;
+    }
+
+    @Override
+    public void onComplete() {
+        if (terminated) {
+            violations++;
+        }
+        terminated = true;
+    }
+
+    void dispose() {
+        disposable.dispose();
+    }
+}
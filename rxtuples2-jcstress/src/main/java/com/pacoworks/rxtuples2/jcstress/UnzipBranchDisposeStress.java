@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.javatuples.Pair;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * One branch of {@link RxTuples#unzipPair(io.reactivex.ObservableSource)} disposed twice at once.
+ * Only one of the disposes may count, so the shared upstream stays subscribed for the other branch.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("unzipPair branch disposed concurrently")
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Upstream kept for the live branch")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Upstream disposed under the live branch")
+@State
+public class UnzipBranchDisposeStress {
+    private final PublishSubject<Pair<Integer, Integer>> source = PublishSubject.create();
+
+    private final Holder first = new Holder();
+
+    private final Holder second = new Holder();
+
+    public UnzipBranchDisposeStress() {
+        final Pair<Observable<Integer>, Observable<Integer>> unzipped = RxTuples.unzipPair(source);
+        unzipped.getValue0().subscribe(first);
+        unzipped.getValue1().subscribe(second);
+    }
+
+    @Actor
+    public void dispose1() {
+        first.disposable.dispose();
+    }
+
+    @Actor
+    public void dispose2() {
+        first.disposable.dispose();
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r1 = source.hasObservers() ? 1 : 0;
+        r.r2 = second.disposable.isDisposed() ? 0 : 1;
+    }
+
+    /**
+     * Keeps the branch's own disposable, test observers would serialize the disposes
+     */
+    static final class Holder implements Observer<Integer> {
+        Disposable disposable;
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            disposable = d;
+        }
+
+        @Override
+        public void onNext(Integer value) {
+        }
+
+        @Override
+        public void onError(Throwable e) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
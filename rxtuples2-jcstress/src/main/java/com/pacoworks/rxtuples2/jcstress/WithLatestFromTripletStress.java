@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * {@code withLatestFrom()} with {@link RxTuples#toTriplet()}, the main source and one of the
+ * others emitting from different threads. Either value of the racing source may be sampled, but
+ * never a mix or a torn tuple.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("withLatestFrom with toTriplet() and racing sources")
+@Outcome(id = "2, 100, 0", expect = Expect.ACCEPTABLE, desc = "Sampled before the other update")
+@Outcome(id = "2, 110, 0", expect = Expect.ACCEPTABLE, desc = "Sampled after the other update")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost, torn or reordered tuples")
+@State
+public class WithLatestFromTripletStress {
+    private final PublishSubject<Integer> main = PublishSubject.create();
+
+    private final PublishSubject<Integer> second = PublishSubject.create();
+
+    private final PublishSubject<Integer> third = PublishSubject.create();
+
+    private final TupleRecorder recorder = new TupleRecorder();
+
+    public WithLatestFromTripletStress() {
+        main.withLatestFrom(second, third, RxTuples.<Integer, Integer, Integer> toTriplet())
+                .subscribe(recorder);
+        second.onNext(0);
+        third.onNext(0);
+        main.onNext(0);
+    }
+
+    @Actor
+    public void main() {
+        main.onNext(1);
+    }
+
+    @Actor
+    public void second() {
+        second.onNext(1);
+    }
+
+    @Arbiter
+    public void arbiter(III_Result r) {
+        r.r1 = recorder.count;
+        r.r2 = recorder.last;
+        r.r3 = recorder.violations;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.processors.PublishProcessor;
+
+/**
+ * The fused {@link RxTuples#zipToPair} draining two sources that emit and complete from different
+ * threads. Values must pair up by position and completion must follow the last pair.
+ *
+ * @author pakoito
+ */
+@JCStressTest
+@Description("Flowable zipToPair with racing sources")
+@Outcome(id = "2, 22, 0, 1", expect = Expect.ACCEPTABLE, desc = "Both pairs, then completion")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost, mismatched or reordered pairs")
+@State
+public class ZipToPairStress {
+    private final PublishProcessor<Integer> first = PublishProcessor.create();
+
+    private final PublishProcessor<Integer> second = PublishProcessor.create();
+
+    private final TupleRecorder recorder = new TupleRecorder();
+
+    public ZipToPairStress() {
+        RxTuples.zipToPair(first, second).subscribe(recorder);
+    }
+
+    @Actor
+    public void first() {
+        first.onNext(1);
+        first.onNext(2);
+        first.onComplete();
+    }
+
+    @Actor
+    public void second() {
+        second.onNext(1);
+        second.onNext(2);
+        second.onComplete();
+    }
+
+    @Arbiter
+    public void arbiter(IIII_Result r) {
+        r.r1 = recorder.count;
+        r.r2 = recorder.last;
+        r.r3 = recorder.violations;
+        r.r4 = recorder.terminated ? 1 : 0;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+
+/**
+ * Hand-written value holders, the ad-hoc alternative RxTuples is measured against
+ *
+ * @author pakoito
+ */
+final class AdHocHolders {
+    private AdHocHolders() {
+        // No instances
+    }
+
+    static final class Holder2 {
+        final Object v0;
+        final Object v1;
+
+        Holder2(Object v0, Object v1) {
+            this.v0 = v0;
+            this.v1 = v1;
+        }
+    }
+
+    static final class Holder3 {
+        final Object v0;
+        final Object v1;
+        final Object v2;
+
+        Holder3(Object v0, Object v1, Object v2) {
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+    }
+
+    static final class Holder4 {
+        final Object v0;
+        final Object v1;
+        final Object v2;
+        final Object v3;
+
+        Holder4(Object v0, Object v1, Object v2, Object v3) {
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+    }
+
+    static final class Holder5 {
+        final Object v0;
+        final Object v1;
+        final Object v2;
+        final Object v3;
+        final Object v4;
+
+        Holder5(Object v0, Object v1, Object v2, Object v3, Object v4) {
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+    }
+
+    static final class Holder6 {
+        final Object v0;
+        final Object v1;
+        final Object v2;
+        final Object v3;
+        final Object v4;
+        final Object v5;
+
+        Holder6(Object v0, Object v1, Object v2, Object v3, Object v4, Object v5) {
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+    }
+
+    static final class Holder7 {
+        final Object v0;
+        final Object v1;
+        final Object v2;
+        final Object v3;
+        final Object v4;
+        final Object v5;
+        final Object v6;
+
+        Holder7(Object v0, Object v1, Object v2, Object v3, Object v4, Object v5, Object v6) {
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+    }
+
+    static final class Holder8 {
+        final Object v0;
+        final Object v1;
+        final Object v2;
+        final Object v3;
+        final Object v4;
+        final Object v5;
+        final Object v6;
+        final Object v7;
+
+        Holder8(Object v0, Object v1, Object v2, Object v3, Object v4, Object v5, Object v6, Object v7) {
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+    }
+
+    static final BiFunction<Object, Object, Holder2> HOLDER_2 = new BiFunction<Object, Object, Holder2>() {
+        @Override
+        public Holder2 apply(Object v0, Object v1) {
+            return new Holder2(v0, v1);
+        }
+    };
+
+    static final Function3<Object, Object, Object, Holder3> HOLDER_3 = new Function3<Object, Object, Object, Holder3>() {
+        @Override
+        public Holder3 apply(Object v0, Object v1, Object v2) {
+            return new Holder3(v0, v1, v2);
+        }
+    };
+
+    static final Function4<Object, Object, Object, Object, Holder4> HOLDER_4 = new Function4<Object, Object, Object, Object, Holder4>() {
+        @Override
+        public Holder4 apply(Object v0, Object v1, Object v2, Object v3) {
+            return new Holder4(v0, v1, v2, v3);
+        }
+    };
+
+    static final Function5<Object, Object, Object, Object, Object, Holder5> HOLDER_5 = new Function5<Object, Object, Object, Object, Object, Holder5>() {
+        @Override
+        public Holder5 apply(Object v0, Object v1, Object v2, Object v3, Object v4) {
+            return new Holder5(v0, v1, v2, v3, v4);
+        }
+    };
+
+    static final Function6<Object, Object, Object, Object, Object, Object, Holder6> HOLDER_6 = new Function6<Object, Object, Object, Object, Object, Object, Holder6>() {
+        @Override
+        public Holder6 apply(Object v0, Object v1, Object v2, Object v3, Object v4, Object v5) {
+            return new Holder6(v0, v1, v2, v3, v4, v5);
+        }
+    };
+
+    static final Function7<Object, Object, Object, Object, Object, Object, Object, Holder7> HOLDER_7 = new Function7<Object, Object, Object, Object, Object, Object, Object, Holder7>() {
+        @Override
+        public Holder7 apply(Object v0, Object v1, Object v2, Object v3, Object v4, Object v5, Object v6) {
+            return new Holder7(v0, v1, v2, v3, v4, v5, v6);
+        }
+    };
+
+    static final Function8<Object, Object, Object, Object, Object, Object, Object, Object, Holder8> HOLDER_8 = new Function8<Object, Object, Object, Object, Object, Object, Object, Object, Holder8>() {
+        @Override
+        public Holder8 apply(Object v0, Object v1, Object v2, Object v3, Object v4, Object v5, Object v6, Object v7) {
+            return new Holder8(v0, v1, v2, v3, v4, v5, v6, v7);
+        }
+    };
+}
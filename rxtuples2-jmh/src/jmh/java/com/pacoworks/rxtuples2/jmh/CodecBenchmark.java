@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.codec.ElementCodecs;
+import com.pacoworks.rxtuples2.codec.TupleCodec;
+import com.pacoworks.rxtuples2.codec.TupleCodecs;
+
+import io.reactivex.Flowable;
+
+/**
+ * Binary tuple codec against Java serialization, writing and reading back a stream of triplets.
+ * Scores are per tuple.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(CodecBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class CodecBenchmark {
+    static final int COUNT = 1000;
+
+    final TupleCodec<Triplet<Integer, String, Double>> codec = TupleCodecs.triplet(
+            ElementCodecs.ints(), ElementCodecs.strings(), ElementCodecs.doubles());
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    @SuppressWarnings({
+            "unchecked", "rawtypes"
+    })
+    final Triplet<Integer, String, Double>[] tuples = new Triplet[COUNT];
+
+    Flowable<Triplet<Integer, String, Double>> flowable;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < COUNT; i++) {
+            tuples[i] = Triplet.with(i, "sensor-" + i, i * 0.5);
+        }
+        flowable = Flowable.fromArray(tuples);
+    }
+
+    @Benchmark
+    public void codecRoundTrip(Blackhole bh) {
+        final ByteBuffer b = buffer;
+        b.clear();
+        for (Triplet<Integer, String, Double> tuple : tuples) {
+            codec.encode(tuple, b);
+        }
+        b.flip();
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(codec.decode(b));
+        }
+    }
+
+    @Benchmark
+    public void objectStreamRoundTrip(Blackhole bh) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        for (Triplet<Integer, String, Double> tuple : tuples) {
+            out.writeObject(tuple);
+        }
+        out.close();
+        final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(
+                bytes.toByteArray()));
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(in.readObject());
+        }
+    }
+
+    @Benchmark
+    public void flowableRoundTrip(Blackhole bh) {
+        flowable.compose(TupleCodecs.encoder(codec, 256)).compose(TupleCodecs.decoder(codec))
+                .subscribe(new PerfConsumer(bh));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.ColumnBatch;
+import com.pacoworks.rxtuples2.ColumnPredicate;
+import com.pacoworks.rxtuples2.ColumnType;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * Filtering a stream of triplets and scaling one slot, one operator call per element against one
+ * per columnar batch, and the cost of gathering the batches alone. Scores are per element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(ColumnBatchBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class ColumnBatchBenchmark {
+    static final int COUNT = 100000;
+
+    static final int BATCH_SIZE = 256;
+
+    final Flowable<Triplet<Long, Double, String>> triplets;
+
+    final Predicate<Triplet<Long, Double, String>> evenIds = new Predicate<Triplet<Long, Double, String>>() {
+        @Override
+        public boolean test(Triplet<Long, Double, String> t) throws Exception {
+            return (t.getValue0() & 1) == 0;
+        }
+    };
+
+    final Function<Triplet<Long, Double, String>, Double> scaledPrice = new Function<Triplet<Long, Double, String>, Double>() {
+        @Override
+        public Double apply(Triplet<Long, Double, String> t) throws Exception {
+            return t.getValue1() * 1.1;
+        }
+    };
+
+    final ColumnPredicate evenIdRows = new ColumnPredicate() {
+        @Override
+        public void test(ColumnBatch batch, boolean[] keep) {
+            final long[] ids = batch.longs(0);
+            for (int i = 0; i < batch.size(); i++) {
+                keep[i] = (ids[i] & 1) == 0;
+            }
+        }
+    };
+
+    final Function<ColumnBatch, ColumnBatch> scaledPrices = new Function<ColumnBatch, ColumnBatch>() {
+        @Override
+        public ColumnBatch apply(ColumnBatch batch) throws Exception {
+            final double[] prices = batch.doubles(1);
+            final double[] scaled = new double[batch.size()];
+            for (int i = 0; i < scaled.length; i++) {
+                scaled[i] = prices[i] * 1.1;
+            }
+            return batch.withColumn(1, scaled);
+        }
+    };
+
+    public ColumnBatchBenchmark() {
+        final List<Triplet<Long, Double, String>> list = new ArrayList<Triplet<Long, Double, String>>(
+                COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            list.add(Triplet.with((long)i, i * 0.5, "item"));
+        }
+        triplets = Flowable.fromIterable(list);
+    }
+
+    @Benchmark
+    public void perElement(Blackhole bh) {
+        triplets.filter(evenIds).map(scaledPrice).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void columnBatches(Blackhole bh) {
+        triplets.compose(
+                RxTuples.<Triplet<Long, Double, String>> toColumns(BATCH_SIZE, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT)).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void columnar(Blackhole bh) {
+        triplets.compose(
+                RxTuples.<Triplet<Long, Double, String>> toColumns(BATCH_SIZE, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT))
+                .compose(RxTuples.filterColumns(evenIdRows)).map(scaledPrices)
+                .subscribe(new PerfConsumer(bh));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Fused combineLatestToX operators against combineLatest with the matching toX factory, with
+ * synchronous sources and with every source emitting from its own thread. Scores are per source
+ * element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(CombineLatestBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class CombineLatestBenchmark {
+    static final int COUNT = 1000;
+
+    final Observable<Integer> o = Observable.range(0, COUNT / 3);
+
+    final Observable<Integer> async = o.subscribeOn(Schedulers.computation());
+
+    final Flowable<Integer> f = Flowable.range(0, COUNT / 3);
+
+    final Flowable<Integer> flowableAsync = f.subscribeOn(Schedulers.computation());
+
+    @Benchmark
+    public void observableCombineLatestTriplet(Blackhole bh) {
+        Observable.combineLatest(o, o, o,
+                RxTuples.<Integer, Integer, Integer> toTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableCombineLatestToTriplet(Blackhole bh) {
+        RxTuples.combineLatestToTriplet(o, o, o).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public Object observableAsyncCombineLatestTriplet() {
+        return Observable.combineLatest(async, async, async,
+                RxTuples.<Integer, Integer, Integer> toTriplet())
+                .blockingLast();
+    }
+
+    @Benchmark
+    public Object observableAsyncCombineLatestToTriplet() {
+        return RxTuples.combineLatestToTriplet(async, async, async).blockingLast();
+    }
+
+    @Benchmark
+    public Object observableAsyncCombineLatestToTripletConflated() {
+        return RxTuples.combineLatestToTriplet(async, async, async, true).blockingLast();
+    }
+
+    @Benchmark
+    public void flowableCombineLatestTriplet(Blackhole bh) {
+        Flowable.combineLatest(f, f, f,
+                RxTuples.<Integer, Integer, Integer> toTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableCombineLatestToTriplet(Blackhole bh) {
+        RxTuples.combineLatestToTriplet(f, f, f).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public Object flowableAsyncCombineLatestTriplet() {
+        return Flowable.combineLatest(flowableAsync, flowableAsync, flowableAsync,
+                RxTuples.<Integer, Integer, Integer> toTriplet())
+                .blockingLast();
+    }
+
+    @Benchmark
+    public Object flowableAsyncCombineLatestToTriplet() {
+        return RxTuples.combineLatestToTriplet(flowableAsync, flowableAsync, flowableAsync)
+                .blockingLast();
+    }
+
+    @Benchmark
+    public Object flowableAsyncCombineLatestToTripletConflated() {
+        return RxTuples.combineLatestToTriplet(flowableAsync, flowableAsync, flowableAsync, true)
+                .blockingLast();
+    }
+}
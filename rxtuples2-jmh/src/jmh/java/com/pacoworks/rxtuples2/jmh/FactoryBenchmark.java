@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+/**
+ * Cost of obtaining and applying every {@link RxTuples} factory outside of any operator
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class FactoryBenchmark {
+    Integer V0 = 1000;
+
+    Integer V1 = 2000;
+
+    Pair<Integer, Integer> PAIR = Pair.with(V0, V1);
+
+    Triplet<Integer, Integer, Integer> TRIPLET = Triplet.with(V0, V1, V0);
+
+    Quartet<Integer, Integer, Integer, Integer> QUARTET = Quartet.with(V0, V1, V0, V1);
+
+    Quintet<Integer, Integer, Integer, Integer, Integer> QUINTET = Quintet.with(V0, V1, V0, V1, V0);
+
+    Sextet<Integer, Integer, Integer, Integer, Integer, Integer> SEXTET = Sextet.with(V0, V1, V0,
+            V1, V0, V1);
+
+    Septet<Integer, Integer, Integer, Integer, Integer, Integer, Integer> SEPTET = Septet.with(V0,
+            V1, V0, V1, V0, V1, V0);
+
+    @Benchmark
+    public Object toPairFactory() {
+        return RxTuples.toPair();
+    }
+
+    @Benchmark
+    public Object adHocHolder2() throws Exception {
+        return AdHocHolders.HOLDER_2.apply(V0, V1);
+    }
+
+    @Benchmark
+    public Object adHocHolder8() throws Exception {
+        return AdHocHolders.HOLDER_8.apply(V0, V1, V0, V1, V0, V1, V0, V1);
+    }
+
+    @Benchmark
+    public Object toPair() throws Exception {
+        return RxTuples.<Integer, Integer> toPair().apply(V0, V1);
+    }
+
+    @Benchmark
+    public Object toTriplet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer> toTriplet().apply(V0, V1, V0);
+    }
+
+    @Benchmark
+    public Object toTripletFromSingle() throws Exception {
+        return RxTuples.<Integer, Integer, Integer> toTripletFromSingle().apply(V0, PAIR);
+    }
+
+    @Benchmark
+    public Object toTripletFromPair() throws Exception {
+        return RxTuples.<Integer, Integer, Integer> toTripletFromPair().apply(PAIR, V0);
+    }
+
+    @Benchmark
+    public Object toQuartet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer> toQuartet().apply(V0, V1, V0, V1);
+    }
+
+    @Benchmark
+    public Object toQuartetFromSingle() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromSingle().apply(V0, TRIPLET);
+    }
+
+    @Benchmark
+    public Object toQuartetFromPair() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromPair().apply(PAIR, PAIR);
+    }
+
+    @Benchmark
+    public Object toQuartetFromTriplet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromTriplet().apply(TRIPLET, V0);
+    }
+
+    @Benchmark
+    public Object toQuintet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintet().apply(V0, V1, V0, V1, V0);
+    }
+
+    @Benchmark
+    public Object toQuintetFromSingle() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromSingle().apply(V0, QUARTET);
+    }
+
+    @Benchmark
+    public Object toQuintetFromPair() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromPair().apply(PAIR, TRIPLET);
+    }
+
+    @Benchmark
+    public Object toQuintetFromTriplet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromTriplet().apply(TRIPLET, PAIR);
+    }
+
+    @Benchmark
+    public Object toQuintetFromQuartet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromQuartet().apply(QUARTET, V0);
+    }
+
+    @Benchmark
+    public Object toSextet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextet().apply(V0, V1, V0, V1, V0, V1);
+    }
+
+    @Benchmark
+    public Object toSextetFromSingle() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromSingle().apply(V0, QUINTET);
+    }
+
+    @Benchmark
+    public Object toSextetFromPair() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromPair().apply(PAIR, QUARTET);
+    }
+
+    @Benchmark
+    public Object toSextetFromTriplet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromTriplet().apply(TRIPLET, TRIPLET);
+    }
+
+    @Benchmark
+    public Object toSextetFromQuartet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuartet().apply(QUARTET, PAIR);
+    }
+
+    @Benchmark
+    public Object toSextetFromQuintet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuintet().apply(QUINTET, V0);
+    }
+
+    @Benchmark
+    public Object toSeptet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptet().apply(V0, V1, V0, V1, V0, V1, V0);
+    }
+
+    @Benchmark
+    public Object toSeptetFromSingle() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSingle().apply(V0, SEXTET);
+    }
+
+    @Benchmark
+    public Object toSeptetFromPair() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromPair().apply(PAIR, QUINTET);
+    }
+
+    @Benchmark
+    public Object toSeptetFromTriplet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromTriplet().apply(TRIPLET, QUARTET);
+    }
+
+    @Benchmark
+    public Object toSeptetFromQuartet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromQuartet().apply(QUARTET, TRIPLET);
+    }
+
+    @Benchmark
+    public Object toSeptetFromQuintet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromQuintet().apply(QUINTET, PAIR);
+    }
+
+    @Benchmark
+    public Object toSeptetFromSextet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSextet().apply(SEXTET, V0);
+    }
+
+    @Benchmark
+    public Object toOctet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctet().apply(V0, V1, V0, V1, V0, V1, V0, V1);
+    }
+
+    @Benchmark
+    public Object toOctetFromSingle() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSingle().apply(V0, SEPTET);
+    }
+
+    @Benchmark
+    public Object toOctetFromPair() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromPair().apply(PAIR, SEXTET);
+    }
+
+    @Benchmark
+    public Object toOctetFromTriplet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromTriplet().apply(TRIPLET, QUINTET);
+    }
+
+    @Benchmark
+    public Object toOctetFromQuartet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuartet().apply(QUARTET, QUARTET);
+    }
+
+    @Benchmark
+    public Object toOctetFromQuintet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuintet().apply(QUINTET, TRIPLET);
+    }
+
+    @Benchmark
+    public Object toOctetFromSextet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSextet().apply(SEXTET, PAIR);
+    }
+
+    @Benchmark
+    public Object toOctetFromSeptet() throws Exception {
+        return RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSeptet().apply(SEPTET, V0);
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+
+/**
+ * Every {@link RxTuples} toXFromY merge function inside {@link Flowable#zipWith} and
+ * {@link Flowable#withLatestFrom}. Scores are per emitted element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(FlowableMergeBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class FlowableMergeBenchmark {
+    static final int COUNT = 1000;
+
+    final Flowable<Integer> single = Flowable.range(0, COUNT);
+
+    final Flowable<Pair<Integer, Integer>> pair = Flowable.just(Pair.with(1, 1)).repeat(COUNT);
+
+    final Flowable<Triplet<Integer, Integer, Integer>> triplet = Flowable.just(Triplet.with(1, 1, 1)).repeat(COUNT);
+
+    final Flowable<Quartet<Integer, Integer, Integer, Integer>> quartet = Flowable.just(Quartet.with(1, 1, 1, 1)).repeat(COUNT);
+
+    final Flowable<Quintet<Integer, Integer, Integer, Integer, Integer>> quintet = Flowable.just(Quintet.with(1, 1, 1, 1, 1)).repeat(COUNT);
+
+    final Flowable<Sextet<Integer, Integer, Integer, Integer, Integer, Integer>> sextet = Flowable.just(Sextet.with(1, 1, 1, 1, 1, 1)).repeat(COUNT);
+
+    final Flowable<Septet<Integer, Integer, Integer, Integer, Integer, Integer, Integer>> septet = Flowable.just(Septet.with(1, 1, 1, 1, 1, 1, 1)).repeat(COUNT);
+
+    // region zipWith
+
+    @Benchmark
+    public void zipWithTripletFromSingle(Blackhole bh) {
+        single.zipWith(pair, RxTuples.<Integer, Integer, Integer> toTripletFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithTripletFromPair(Blackhole bh) {
+        pair.zipWith(single, RxTuples.<Integer, Integer, Integer> toTripletFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuartetFromSingle(Blackhole bh) {
+        single.zipWith(triplet, RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuartetFromPair(Blackhole bh) {
+        pair.zipWith(pair, RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuartetFromTriplet(Blackhole bh) {
+        triplet.zipWith(single, RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuintetFromSingle(Blackhole bh) {
+        single.zipWith(quartet, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuintetFromPair(Blackhole bh) {
+        pair.zipWith(triplet, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuintetFromTriplet(Blackhole bh) {
+        triplet.zipWith(pair, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithQuintetFromQuartet(Blackhole bh) {
+        quartet.zipWith(single, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSextetFromSingle(Blackhole bh) {
+        single.zipWith(quintet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSextetFromPair(Blackhole bh) {
+        pair.zipWith(quartet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSextetFromTriplet(Blackhole bh) {
+        triplet.zipWith(triplet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSextetFromQuartet(Blackhole bh) {
+        quartet.zipWith(pair, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSextetFromQuintet(Blackhole bh) {
+        quintet.zipWith(single, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSeptetFromSingle(Blackhole bh) {
+        single.zipWith(sextet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSeptetFromPair(Blackhole bh) {
+        pair.zipWith(quintet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSeptetFromTriplet(Blackhole bh) {
+        triplet.zipWith(quartet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSeptetFromQuartet(Blackhole bh) {
+        quartet.zipWith(triplet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSeptetFromQuintet(Blackhole bh) {
+        quintet.zipWith(pair, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithSeptetFromSextet(Blackhole bh) {
+        sextet.zipWith(single, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSextet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromSingle(Blackhole bh) {
+        single.zipWith(septet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromPair(Blackhole bh) {
+        pair.zipWith(sextet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromTriplet(Blackhole bh) {
+        triplet.zipWith(quintet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromQuartet(Blackhole bh) {
+        quartet.zipWith(quartet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromQuintet(Blackhole bh) {
+        quintet.zipWith(triplet, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromSextet(Blackhole bh) {
+        sextet.zipWith(pair, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSextet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithOctetFromSeptet(Blackhole bh) {
+        septet.zipWith(single, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSeptet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    // endregion
+
+    // region withLatestFrom
+
+    @Benchmark
+    public void withLatestFromTripletFromSingle(Blackhole bh) {
+        single.withLatestFrom(pair.take(1), RxTuples.<Integer, Integer, Integer> toTripletFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromTripletFromPair(Blackhole bh) {
+        pair.withLatestFrom(single.take(1), RxTuples.<Integer, Integer, Integer> toTripletFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuartetFromSingle(Blackhole bh) {
+        single.withLatestFrom(triplet.take(1), RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuartetFromPair(Blackhole bh) {
+        pair.withLatestFrom(pair.take(1), RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuartetFromTriplet(Blackhole bh) {
+        triplet.withLatestFrom(single.take(1), RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuintetFromSingle(Blackhole bh) {
+        single.withLatestFrom(quartet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuintetFromPair(Blackhole bh) {
+        pair.withLatestFrom(triplet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuintetFromTriplet(Blackhole bh) {
+        triplet.withLatestFrom(pair.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromQuintetFromQuartet(Blackhole bh) {
+        quartet.withLatestFrom(single.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSextetFromSingle(Blackhole bh) {
+        single.withLatestFrom(quintet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSextetFromPair(Blackhole bh) {
+        pair.withLatestFrom(quartet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSextetFromTriplet(Blackhole bh) {
+        triplet.withLatestFrom(triplet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSextetFromQuartet(Blackhole bh) {
+        quartet.withLatestFrom(pair.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSextetFromQuintet(Blackhole bh) {
+        quintet.withLatestFrom(single.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSeptetFromSingle(Blackhole bh) {
+        single.withLatestFrom(sextet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSeptetFromPair(Blackhole bh) {
+        pair.withLatestFrom(quintet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSeptetFromTriplet(Blackhole bh) {
+        triplet.withLatestFrom(quartet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSeptetFromQuartet(Blackhole bh) {
+        quartet.withLatestFrom(triplet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSeptetFromQuintet(Blackhole bh) {
+        quintet.withLatestFrom(pair.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromSeptetFromSextet(Blackhole bh) {
+        sextet.withLatestFrom(single.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSextet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromSingle(Blackhole bh) {
+        single.withLatestFrom(septet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSingle())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromPair(Blackhole bh) {
+        pair.withLatestFrom(sextet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromTriplet(Blackhole bh) {
+        triplet.withLatestFrom(quintet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromQuartet(Blackhole bh) {
+        quartet.withLatestFrom(quartet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromQuintet(Blackhole bh) {
+        quintet.withLatestFrom(triplet.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromSextet(Blackhole bh) {
+        sextet.withLatestFrom(pair.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSextet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromOctetFromSeptet(Blackhole bh) {
+        septet.withLatestFrom(single.take(1), RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSeptet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    // endregion
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+/**
+ * Fused zipToX operators against zip with the matching toX factory. Scores are per emitted
+ * element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(FusedZipBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class FusedZipBenchmark {
+    static final int COUNT = 1000;
+
+    final Observable<Integer> o = Observable.range(0, COUNT);
+
+    final Flowable<Integer> f = Flowable.range(0, COUNT);
+
+    @Benchmark
+    public void observableZipPair(Blackhole bh) {
+        Observable.zip(o, o,
+                RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableZipToPair(Blackhole bh) {
+        RxTuples.zipToPair(o, o).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableZipQuartet(Blackhole bh) {
+        Observable.zip(o, o, o, o,
+                RxTuples.<Integer, Integer, Integer, Integer> toQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableZipToQuartet(Blackhole bh) {
+        RxTuples.zipToQuartet(o, o, o, o).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableZipOctet(Blackhole bh) {
+        Observable.zip(o, o, o, o, o, o, o, o,
+                RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableZipToOctet(Blackhole bh) {
+        RxTuples.zipToOctet(o, o, o, o, o, o, o, o).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipPair(Blackhole bh) {
+        Flowable.zip(f, f,
+                RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipToPair(Blackhole bh) {
+        RxTuples.zipToPair(f, f).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipQuartet(Blackhole bh) {
+        Flowable.zip(f, f, f, f,
+                RxTuples.<Integer, Integer, Integer, Integer> toQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipToQuartet(Blackhole bh) {
+        RxTuples.zipToQuartet(f, f, f, f).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipOctet(Blackhole bh) {
+        Flowable.zip(f, f, f, f, f, f, f, f,
+                RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipToOctet(Blackhole bh) {
+        RxTuples.zipToOctet(f, f, f, f, f, f, f, f).subscribe(new PerfConsumer(bh));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+import com.pacoworks.rxtuples2.primitive.RxPrimitiveTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+/**
+ * Pairing elements with their index: zip against a boxed range versus the primitive transformers.
+ * Scores are per emitted element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(IndexBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class IndexBenchmark {
+    static final int COUNT = 1000;
+
+    final Observable<String> observable = Observable.just("value").repeat(COUNT);
+
+    final Flowable<String> flowable = Flowable.just("value").repeat(COUNT);
+
+    @Benchmark
+    public void observableZipRange(Blackhole bh) {
+        Observable.zip(observable, Observable.range(0, COUNT),
+                RxTuples.<String, Integer> toPair()).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableWithIndex(Blackhole bh) {
+        observable.compose(RxPrimitiveTuples.<String> withIndex())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipRange(Blackhole bh) {
+        Flowable.zip(flowable, Flowable.range(0, COUNT), RxTuples.<String, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableWithIndex(Blackhole bh) {
+        flowable.compose(RxPrimitiveTuples.<String> withIndex()).subscribe(new PerfConsumer(bh));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.InternMode;
+import com.pacoworks.rxtuples2.RxTuples;
+import com.pacoworks.rxtuples2.TupleInterner;
+
+import io.reactivex.functions.Function3;
+
+/**
+ * Building triplets from a small set of state combinations, allocating each one against
+ * interning them by identity and by equality. Compare {@code gc.alloc.rate.norm} too. Scores are
+ * per tuple.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(InternBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class InternBenchmark {
+    static final int COUNT = 10000;
+
+    enum Network {
+        NONE, WIFI, CELLULAR
+    }
+
+    enum Bluetooth {
+        OFF, ON, CONNECTED
+    }
+
+    enum Power {
+        NORMAL, SAVER
+    }
+
+    final Function3<Network, Bluetooth, Power, Triplet<Network, Bluetooth, Power>> toTriplet = RxTuples
+            .toTriplet();
+
+    final Function3<Network, Bluetooth, Power, Triplet<Network, Bluetooth, Power>> toIdentityTriplet = RxTuples
+            .toInternedTriplet(new TupleInterner(64, InternMode.IDENTITY));
+
+    final Function3<Network, Bluetooth, Power, Triplet<Network, Bluetooth, Power>> toEqualTriplet = RxTuples
+            .toInternedTriplet(new TupleInterner(64, InternMode.EQUALITY));
+
+    private void build(Function3<Network, Bluetooth, Power, Triplet<Network, Bluetooth, Power>> factory,
+            Blackhole bh) throws Exception {
+        final Network[] networks = Network.values();
+        final Bluetooth[] bluetooths = Bluetooth.values();
+        final Power[] powers = Power.values();
+        for (int i = 0; i < COUNT; i++) {
+            bh.consume(factory.apply(networks[i % networks.length],
+                    bluetooths[(i >> 2) % bluetooths.length], powers[(i >> 4) % powers.length]));
+        }
+    }
+
+    @Benchmark
+    public void allocate(Blackhole bh) throws Exception {
+        build(toTriplet, bh);
+    }
+
+    @Benchmark
+    public void internIdentity(Blackhole bh) throws Exception {
+        build(toIdentityTriplet, bh);
+    }
+
+    @Benchmark
+    public void internEquality(Blackhole bh) throws Exception {
+        build(toEqualTriplet, bh);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.LazyTriplet;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * A key with two expensive derived values, of which nine in ten elements are filtered out on the
+ * key: deriving both eagerly into a Triplet against a lazy triplet. Scores are per element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(LazyTupleBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class LazyTupleBenchmark {
+    static final int COUNT = 10000;
+
+    final Observable<Integer> range = Observable.range(0, COUNT);
+
+    final Function<Integer, Long> expensive = new Function<Integer, Long>() {
+        @Override
+        public Long apply(Integer i) throws Exception {
+            long hash = i;
+            for (int round = 0; round < 100; round++) {
+                hash = hash * 6364136223846793005L + 1442695040888963407L;
+            }
+            return hash;
+        }
+    };
+
+    final Function<Integer, Triplet<Integer, Long, Long>> eager = new Function<Integer, Triplet<Integer, Long, Long>>() {
+        @Override
+        public Triplet<Integer, Long, Long> apply(Integer i) throws Exception {
+            return Triplet.with(i, expensive.apply(i), expensive.apply(i + 1));
+        }
+    };
+
+    final Predicate<Triplet<Integer, Long, Long>> eagerFilter = new Predicate<Triplet<Integer, Long, Long>>() {
+        @Override
+        public boolean test(Triplet<Integer, Long, Long> t) throws Exception {
+            return t.getValue0() % 10 == 0;
+        }
+    };
+
+    final Function<Integer, LazyTriplet<Integer, Long, Long>> lazy = RxTuples.toLazyTriplet(
+            expensive, new Function<Integer, Long>() {
+                @Override
+                public Long apply(Integer i) throws Exception {
+                    return expensive.apply(i + 1);
+                }
+            });
+
+    final Predicate<LazyTriplet<Integer, Long, Long>> lazyFilter = new Predicate<LazyTriplet<Integer, Long, Long>>() {
+        @Override
+        public boolean test(LazyTriplet<Integer, Long, Long> t) throws Exception {
+            return t.getValue0() % 10 == 0;
+        }
+    };
+
+    final Function<LazyTriplet<Integer, Long, Long>, Long> readSecond = new Function<LazyTriplet<Integer, Long, Long>, Long>() {
+        @Override
+        public Long apply(LazyTriplet<Integer, Long, Long> t) throws Exception {
+            return t.getValue1();
+        }
+    };
+
+    final Function<Triplet<Integer, Long, Long>, Long> readEagerSecond = new Function<Triplet<Integer, Long, Long>, Long>() {
+        @Override
+        public Long apply(Triplet<Integer, Long, Long> t) throws Exception {
+            return t.getValue1();
+        }
+    };
+
+    @Benchmark
+    public void eagerTriplet(Blackhole bh) {
+        range.map(eager).filter(eagerFilter).map(readEagerSecond).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void lazyTriplet(Blackhole bh) {
+        range.map(lazy).filter(lazyFilter).map(readSecond).subscribe(new PerfConsumer(bh));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Observable;
+
+/**
+ * {@link RxTuples} factories inside {@link Observable} zip, zipWith, combineLatest and withLatestFrom,
+ * against an ad-hoc holder. Scores are per emitted element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(ObservableOperatorBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class ObservableOperatorBenchmark {
+    static final int COUNT = 1000;
+
+    final Observable<Integer> range = Observable.range(0, COUNT);
+
+    final Observable<Integer> one = Observable.just(1);
+
+    // region zip
+
+    @Benchmark
+    public void zipPair(Blackhole bh) {
+        Observable.zip(range, range, RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipTriplet(Blackhole bh) {
+        Observable.zip(range, range, range, RxTuples.<Integer, Integer, Integer> toTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipQuartet(Blackhole bh) {
+        Observable.zip(range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer> toQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipQuintet(Blackhole bh) {
+        Observable.zip(range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipSextet(Blackhole bh) {
+        Observable.zip(range, range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipSeptet(Blackhole bh) {
+        Observable.zip(range, range, range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipOctet(Blackhole bh) {
+        Observable.zip(range, range, range, range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipHolder2(Blackhole bh) {
+        Observable.zip(range, range, AdHocHolders.HOLDER_2)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipHolder8(Blackhole bh) {
+        Observable.zip(range, range, range, range, range, range, range, range, AdHocHolders.HOLDER_8)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    // endregion
+
+    // region combineLatest
+
+    @Benchmark
+    public void combineLatestPair(Blackhole bh) {
+        Observable.combineLatest(range, range, RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestTriplet(Blackhole bh) {
+        Observable.combineLatest(range, range, range, RxTuples.<Integer, Integer, Integer> toTriplet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestQuartet(Blackhole bh) {
+        Observable.combineLatest(range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer> toQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestQuintet(Blackhole bh) {
+        Observable.combineLatest(range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestSextet(Blackhole bh) {
+        Observable.combineLatest(range, range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestSeptet(Blackhole bh) {
+        Observable.combineLatest(range, range, range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestOctet(Blackhole bh) {
+        Observable.combineLatest(range, range, range, range, range, range, range, range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestHolder2(Blackhole bh) {
+        Observable.combineLatest(range, range, AdHocHolders.HOLDER_2)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void combineLatestHolder8(Blackhole bh) {
+        Observable.combineLatest(range, range, range, range, range, range, range, range, AdHocHolders.HOLDER_8)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    // endregion
+
+    // region zipWith
+
+    @Benchmark
+    public void zipWithPair(Blackhole bh) {
+        range.zipWith(range, RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithHolder2(Blackhole bh) {
+        range.zipWith(range, AdHocHolders.HOLDER_2)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipWithChainToOctet(Blackhole bh) {
+        range.zipWith(range, RxTuples.<Integer, Integer> toPair())
+                .zipWith(range, RxTuples.<Integer, Integer, Integer> toTripletFromPair())
+                .zipWith(range, RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromTriplet())
+                .zipWith(range, RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromQuartet())
+                .zipWith(range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuintet())
+                .zipWith(range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSextet())
+                .zipWith(range, RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSeptet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipBuilderToOctet(Blackhole bh) {
+        RxTuples.zipBuilder(range).and(range).and(range).and(range).and(range).and(range)
+                .and(range).and(range).toOctet()
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    // endregion
+
+    // region withLatestFrom
+
+    @Benchmark
+    public void withLatestFromPair(Blackhole bh) {
+        range.withLatestFrom(one, RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void withLatestFromHolder2(Blackhole bh) {
+        range.withLatestFrom(one, AdHocHolders.HOLDER_2)
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    // endregion
+}
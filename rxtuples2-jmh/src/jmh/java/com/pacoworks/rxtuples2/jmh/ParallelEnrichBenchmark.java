@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Pairing every element with a CPU-bound enrichment, in order: one at a time with map(),
+ * concatMapEager() over one Flowable per element, and parallelEnrich() on rails. Scores are per
+ * element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(ParallelEnrichBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class ParallelEnrichBenchmark {
+    static final int COUNT = 10000;
+
+    static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    final Flowable<Integer> range = Flowable.range(0, COUNT);
+
+    final Function<Integer, Long> enrich = new Function<Integer, Long>() {
+        @Override
+        public Long apply(Integer i) throws Exception {
+            long hash = i;
+            for (int round = 0; round < 1000; round++) {
+                hash = hash * 6364136223846793005L + 1442695040888963407L;
+            }
+            return hash;
+        }
+    };
+
+    final Function<Integer, Pair<Integer, Long>> enrichToPair = new Function<Integer, Pair<Integer, Long>>() {
+        @Override
+        public Pair<Integer, Long> apply(Integer i) throws Exception {
+            return Pair.with(i, enrich.apply(i));
+        }
+    };
+
+    final Function<Integer, Flowable<Pair<Integer, Long>>> enrichOnComputation = new Function<Integer, Flowable<Pair<Integer, Long>>>() {
+        @Override
+        public Flowable<Pair<Integer, Long>> apply(Integer i) throws Exception {
+            return Flowable.just(i).map(enrichToPair)
+                    .subscribeOn(Schedulers.computation());
+        }
+    };
+
+    @Benchmark
+    public void serialMap(Blackhole bh) {
+        range.map(enrichToPair).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void concatMapEager(Blackhole bh) {
+        bh.consume(range.concatMapEager(enrichOnComputation).blockingLast());
+    }
+
+    @Benchmark
+    public void parallelEnrich(Blackhole bh) {
+        bh.consume(RxTuples.parallelEnrich(range, PARALLELISM, enrich).blockingLast());
+    }
+}
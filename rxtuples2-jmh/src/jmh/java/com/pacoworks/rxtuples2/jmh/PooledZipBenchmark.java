@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.PooledPair;
+import com.pacoworks.rxtuples2.PooledQuartet;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Consumer;
+
+/**
+ * Synchronous fused zips allocating a javatuple per element against the pooled zips reusing one
+ * mutable tuple. Compare {@code gc.alloc.rate.norm} too. Scores are per emitted element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(PooledZipBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class PooledZipBenchmark {
+    static final int COUNT = 1000;
+
+    final Flowable<Integer> f = Flowable.range(0, COUNT);
+
+    @Benchmark
+    public void zipToPair(Blackhole bh) {
+        RxTuples.zipToPair(f, f).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipToPooledPair(final Blackhole bh) {
+        RxTuples.zipToPooledPair(f, f).subscribe(new Consumer<PooledPair<Integer, Integer>>() {
+            @Override
+            public void accept(PooledPair<Integer, Integer> pair) {
+                bh.consume(pair.getValue0());
+                bh.consume(pair.getValue1());
+            }
+        });
+    }
+
+    @Benchmark
+    public void zipToQuartet(Blackhole bh) {
+        RxTuples.zipToQuartet(f, f, f, f).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipToPooledQuartet(final Blackhole bh) {
+        RxTuples.zipToPooledQuartet(f, f, f, f).subscribe(
+                new Consumer<PooledQuartet<Integer, Integer, Integer, Integer>>() {
+                    @Override
+                    public void accept(PooledQuartet<Integer, Integer, Integer, Integer> quartet) {
+                        bh.consume(quartet.getValue0());
+                        bh.consume(quartet.getValue3());
+                    }
+                });
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+
+/**
+ * Zipping three sources and keeping two of the slots: a hand-written map after the zip, the shared
+ * select() function after the zip, and the zip builder building only the selected Pair. Scores
+ * are per zipped element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(ProjectionBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class ProjectionBenchmark {
+    static final int COUNT = 1000;
+
+    final Observable<Integer> o = Observable.range(0, COUNT);
+
+    final Function<Triplet<Integer, Integer, Integer>, Pair<Integer, Integer>> handWritten = new Function<Triplet<Integer, Integer, Integer>, Pair<Integer, Integer>>() {
+        @Override
+        public Pair<Integer, Integer> apply(Triplet<Integer, Integer, Integer> t) throws Exception {
+            return Pair.with(t.getValue2(), t.getValue0());
+        }
+    };
+
+    @Benchmark
+    public void zipThenMap(Blackhole bh) {
+        RxTuples.zipToTriplet(o, o, o).map(handWritten).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipThenSelect(Blackhole bh) {
+        RxTuples.zipToTriplet(o, o, o).map(RxTuples.<Integer, Integer> select(2, 0))
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void zipSelect(Blackhole bh) {
+        RxTuples.zipBuilder(o).and(o).and(o).<Integer, Integer> select(2, 0)
+                .subscribe(new PerfConsumer(bh));
+    }
+}
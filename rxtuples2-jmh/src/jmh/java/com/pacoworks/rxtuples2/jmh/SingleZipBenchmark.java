@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Maybe;
+import io.reactivex.MaybeObserver;
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposable;
+
+/**
+ * One request fan-out per operation: zipping already-completed Singles and Maybes with the
+ * RxTuples factories against the fused singleZipToX and maybeZipToX. Compare
+ * {@code gc.alloc.rate.norm} for the bytes allocated per fan-out.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class SingleZipBenchmark {
+    final Single<Integer> single = Single.just(1);
+
+    final Maybe<Integer> maybe = Maybe.just(1);
+
+    @Benchmark
+    public void singleZipPair(Blackhole bh) {
+        Single.zip(single, single, RxTuples.<Integer, Integer> toPair()).subscribe(
+                new SingleConsumer(bh));
+    }
+
+    @Benchmark
+    public void singleZipToPair(Blackhole bh) {
+        RxTuples.singleZipToPair(single, single).subscribe(new SingleConsumer(bh));
+    }
+
+    @Benchmark
+    public void singleZipQuartet(Blackhole bh) {
+        Single.zip(single, single, single, single,
+                RxTuples.<Integer, Integer, Integer, Integer> toQuartet()).subscribe(
+                new SingleConsumer(bh));
+    }
+
+    @Benchmark
+    public void singleZipToQuartet(Blackhole bh) {
+        RxTuples.singleZipToQuartet(single, single, single, single).subscribe(
+                new SingleConsumer(bh));
+    }
+
+    @Benchmark
+    public void singleZipOctet(Blackhole bh) {
+        Single.zip(single, single, single, single, single, single, single, single,
+                RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctet())
+                .subscribe(new SingleConsumer(bh));
+    }
+
+    @Benchmark
+    public void singleZipToOctet(Blackhole bh) {
+        RxTuples.singleZipToOctet(single, single, single, single, single, single, single, single)
+                .subscribe(new SingleConsumer(bh));
+    }
+
+    @Benchmark
+    public void maybeZipPair(Blackhole bh) {
+        Maybe.zip(maybe, maybe, RxTuples.<Integer, Integer> toPair()).subscribe(
+                new MaybeConsumer(bh));
+    }
+
+    @Benchmark
+    public void maybeZipToPair(Blackhole bh) {
+        RxTuples.maybeZipToPair(maybe, maybe).subscribe(new MaybeConsumer(bh));
+    }
+
+    static final class SingleConsumer implements SingleObserver<Object> {
+        private final Blackhole bh;
+
+        SingleConsumer(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+        }
+
+        @Override
+        public void onSuccess(Object value) {
+            bh.consume(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    static final class MaybeConsumer implements MaybeObserver<Object> {
+        private final Blackhole bh;
+
+        MaybeConsumer(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+        }
+
+        @Override
+        public void onSuccess(Object value) {
+            bh.consume(value);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            e.printStackTrace();
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
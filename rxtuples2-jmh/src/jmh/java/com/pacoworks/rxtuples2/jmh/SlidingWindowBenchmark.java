@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+/**
+ * Single-subscription pairwise and sliding windows against zipping a source with its skipped
+ * self. Scores are per source element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(SlidingWindowBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class SlidingWindowBenchmark {
+    static final int COUNT = 1000;
+
+    final Observable<Integer> o = Observable.range(0, COUNT);
+
+    final Flowable<Integer> f = Flowable.range(0, COUNT);
+
+    @Benchmark
+    public void observableZipSkipPair(Blackhole bh) {
+        Observable.zip(o, o.skip(1),
+                RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observablePairwise(Blackhole bh) {
+        o.compose(RxTuples.<Integer> pairwise()).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableZipSkipQuartet(Blackhole bh) {
+        Observable.zip(o, o.skip(1), o.skip(2), o.skip(3),
+                RxTuples.<Integer, Integer, Integer, Integer> toQuartet())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void observableSlidingQuartet(Blackhole bh) {
+        o.compose(RxTuples.<Integer> slidingQuartet()).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowableZipSkipPair(Blackhole bh) {
+        Flowable.zip(f, f.skip(1),
+                RxTuples.<Integer, Integer> toPair())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void flowablePairwise(Blackhole bh) {
+        f.compose(RxTuples.<Integer> pairwise()).subscribe(new PerfConsumer(bh));
+    }
+}
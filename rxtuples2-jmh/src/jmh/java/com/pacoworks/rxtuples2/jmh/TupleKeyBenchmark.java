@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+import com.pacoworks.rxtuples2.lite.LitePair;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+
+/**
+ * distinct(), groupBy() and HashMap lookups on a high-cardinality stream of pair keys, comparing
+ * javatuples against hash-caching lite tuples and the tuple-aware operators. Half of the keys are
+ * repeats. Scores are per element.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(TupleKeyBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class TupleKeyBenchmark {
+    static final int COUNT = 10000;
+
+    static final int KEYS = COUNT / 2;
+
+    final String[] names = new String[KEYS];
+
+    final Observable<Pair<String, Integer>> pairStream;
+
+    final Observable<LitePair<String, Integer>> litePairStream;
+
+    final Function<Object, Object> identity = new Function<Object, Object>() {
+        @Override
+        public Object apply(Object o) throws Exception {
+            return o;
+        }
+    };
+
+    public TupleKeyBenchmark() {
+        for (int i = 0; i < KEYS; i++) {
+            names[i] = "user-" + i;
+        }
+        // Keys are built per element, as a map() upstream would, so no hash is cached across runs
+        pairStream = Observable.range(0, COUNT).map(
+                new Function<Integer, Pair<String, Integer>>() {
+                    @Override
+                    public Pair<String, Integer> apply(Integer i) throws Exception {
+                        final int key = i % KEYS;
+                        return Pair.with(names[key], key);
+                    }
+                });
+        litePairStream = Observable.range(0, COUNT).map(
+                new Function<Integer, LitePair<String, Integer>>() {
+                    @Override
+                    public LitePair<String, Integer> apply(Integer i) throws Exception {
+                        final int key = i % KEYS;
+                        return LitePair.with(names[key], key);
+                    }
+                });
+    }
+
+    @Benchmark
+    public void pairDistinct(Blackhole bh) {
+        pairStream.distinct().subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void pairDistinctTuples(Blackhole bh) {
+        pairStream.compose(RxTuples.<Pair<String, Integer>> distinctTuples())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void litePairDistinct(Blackhole bh) {
+        litePairStream.distinct().subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void litePairDistinctTuples(Blackhole bh) {
+        litePairStream.compose(RxTuples.<LitePair<String, Integer>> distinctTuples())
+                .subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void pairGroupBy(Blackhole bh) {
+        pairStream.groupBy(identity).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void pairGroupByTuple(Blackhole bh) {
+        pairStream.compose(RxTuples.groupByTuple(identity)).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void litePairGroupByTuple(Blackhole bh) {
+        litePairStream.compose(RxTuples.groupByTuple(identity)).subscribe(new PerfConsumer(bh));
+    }
+
+    @Benchmark
+    public void pairHashMap(Blackhole bh) {
+        final HashMap<Object, Integer> map = new HashMap<Object, Integer>();
+        for (int i = 0; i < COUNT; i++) {
+            final int key = i % KEYS;
+            final Pair<String, Integer> pair = Pair.with(names[key], key);
+            // Lookup then insert hashes every key twice
+            if (!map.containsKey(pair)) {
+                map.put(pair, i);
+            }
+        }
+        bh.consume(map);
+    }
+
+    @Benchmark
+    public void litePairHashMap(Blackhole bh) {
+        final HashMap<Object, Integer> map = new HashMap<Object, Integer>();
+        for (int i = 0; i < COUNT; i++) {
+            final int key = i % KEYS;
+            final LitePair<String, Integer> pair = LitePair.with(names[key], key);
+            if (!map.containsKey(pair)) {
+                map.put(pair, i);
+            }
+        }
+        bh.consume(map);
+    }
+}
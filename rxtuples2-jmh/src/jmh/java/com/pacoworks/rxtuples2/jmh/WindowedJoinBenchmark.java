@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.EvictionPolicy;
+import com.pacoworks.rxtuples2.ObservableWindowedJoin;
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * Windowed hash join in steady state: both indexes are full, so every event evicts an entry and
+ * reuses its node. Keys repeat every {@link #KEYS} events per side. Scores are per event.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(WindowedJoinBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class WindowedJoinBenchmark {
+    static final int COUNT = 1000;
+
+    static final int KEYS = 4096;
+
+    static final int MAX_ENTRIES = 1024;
+
+    final Integer[] keys = new Integer[KEYS];
+
+    final Function<Integer, Integer> identity = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) throws Exception {
+            return value;
+        }
+    };
+
+    PublishSubject<Integer> fifoLeft;
+
+    PublishSubject<Integer> fifoRight;
+
+    PublishSubject<Integer> lruLeft;
+
+    PublishSubject<Integer> lruRight;
+
+    Disposable fifo;
+
+    Disposable lru;
+
+    /* The join emits into a subscriber created at setup, which sinks into the current Blackhole */
+    Blackhole bh;
+
+    int next;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i;
+        }
+        final Consumer<Object> sink = new Consumer<Object>() {
+            @Override
+            public void accept(Object value) throws Exception {
+                WindowedJoinBenchmark.this.bh.consume(value);
+            }
+        };
+        fifoLeft = PublishSubject.create();
+        fifoRight = PublishSubject.create();
+        lruLeft = PublishSubject.create();
+        lruRight = PublishSubject.create();
+        final ObservableWindowedJoin<?> fifoJoin = RxTuples.windowedJoinToPair(fifoLeft,
+                fifoRight, identity, identity, MAX_ENTRIES, EvictionPolicy.FIFO);
+        final ObservableWindowedJoin<?> lruJoin = RxTuples.windowedJoinToPair(lruLeft, lruRight,
+                identity, identity, MAX_ENTRIES, EvictionPolicy.LRU);
+        fifo = fifoJoin.subscribe(sink);
+        lru = lruJoin.subscribe(sink);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fifo.dispose();
+        lru.dispose();
+    }
+
+    @Benchmark
+    public void fifoJoin(Blackhole bh) {
+        this.bh = bh;
+        push(fifoLeft, fifoRight);
+    }
+
+    @Benchmark
+    public void lruJoin(Blackhole bh) {
+        this.bh = bh;
+        push(lruLeft, lruRight);
+    }
+
+    private void push(PublishSubject<Integer> left, PublishSubject<Integer> right) {
+        int n = next;
+        for (int i = 0; i < COUNT; i += 2) {
+            left.onNext(keys[n & (KEYS - 1)]);
+            right.onNext(keys[(n * 7) & (KEYS - 1)]);
+            n++;
+        }
+        next = n;
+    }
+}
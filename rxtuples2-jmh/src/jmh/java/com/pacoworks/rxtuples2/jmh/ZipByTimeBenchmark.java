@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.rxtuples2.RxTuples;
+import com.pacoworks.rxtuples2.TimestampExtractor;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.subjects.PublishSubject;
+
+/**
+ * Two interleaved sensor feeds sampled every 10 time units with 2 units of skew: positional zip
+ * against the time-aligned zip, and the time-aligned zip with one sample in {@link #DROP_EVERY}
+ * missing on one feed. Scores are per sample.
+ *
+ * @author pakoito
+ */
+@BenchmarkMode({
+        Mode.Throughput, Mode.AverageTime
+})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(ZipByTimeBenchmark.COUNT)
+@Fork(3)
+@State(Scope.Thread)
+public class ZipByTimeBenchmark {
+    static final int COUNT = 1000;
+
+    static final int DROP_EVERY = 16;
+
+    static final int BUFFER_SIZE = 64;
+
+    final TimestampExtractor<Long> time = new TimestampExtractor<Long>() {
+        @Override
+        public long timestamp(Long value) throws Exception {
+            return value;
+        }
+    };
+
+    PublishSubject<Long> zipLeft;
+
+    PublishSubject<Long> zipRight;
+
+    PublishSubject<Long> timeLeft;
+
+    PublishSubject<Long> timeRight;
+
+    PublishSubject<Long> dropLeft;
+
+    PublishSubject<Long> dropRight;
+
+    Disposable zip;
+
+    Disposable aligned;
+
+    Disposable dropping;
+
+    /* The zips emit into a subscriber created at setup, which sinks into the current Blackhole */
+    Blackhole bh;
+
+    long now;
+
+    @Setup
+    public void setup() {
+        final Consumer<Object> sink = new Consumer<Object>() {
+            @Override
+            public void accept(Object value) throws Exception {
+                ZipByTimeBenchmark.this.bh.consume(value);
+            }
+        };
+        zipLeft = PublishSubject.create();
+        zipRight = PublishSubject.create();
+        timeLeft = PublishSubject.create();
+        timeRight = PublishSubject.create();
+        dropLeft = PublishSubject.create();
+        dropRight = PublishSubject.create();
+        zip = Observable.zip(zipLeft, zipRight, RxTuples.<Long, Long> toPair()).subscribe(sink);
+        aligned = RxTuples.zipByTimeToPair(timeLeft, timeRight, time, time, 5, BUFFER_SIZE)
+                .subscribe(sink);
+        dropping = RxTuples.zipByTimeToPair(dropLeft, dropRight, time, time, 5, BUFFER_SIZE)
+                .subscribe(sink);
+    }
+
+    @TearDown
+    public void tearDown() {
+        zip.dispose();
+        aligned.dispose();
+        dropping.dispose();
+    }
+
+    @Benchmark
+    public void positionalZip(Blackhole bh) {
+        this.bh = bh;
+        push(zipLeft, zipRight, 0);
+    }
+
+    @Benchmark
+    public void zipByTime(Blackhole bh) {
+        this.bh = bh;
+        push(timeLeft, timeRight, 0);
+    }
+
+    @Benchmark
+    public void zipByTimeWithDrops(Blackhole bh) {
+        this.bh = bh;
+        push(dropLeft, dropRight, DROP_EVERY);
+    }
+
+    private void push(PublishSubject<Long> left, PublishSubject<Long> right, int dropEvery) {
+        long t = now;
+        for (int i = 0; i < COUNT; i += 2) {
+            left.onNext(t);
+            if (dropEvery == 0 || i % (2 * dropEvery) != 0) {
+                right.onNext(t + 2);
+            }
+            t += 10;
+        }
+        now = t;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * A run of tuples stored as one array per slot, so each slot can be processed in a tight loop
+ * instead of one operator call per tuple.
+ * <p>
+ * Only the first {@link #size()} rows of each array are valid, the arrays may be longer. The
+ * arrays are handed out as they are and are not copied, don't modify a batch that is shared with
+ * other subscribers.
+ *
+ * @author pakoito
+ */
+public final class ColumnBatch {
+    private final ColumnType[] types;
+
+    private final Object[] columns;
+
+    private final int size;
+
+    ColumnBatch(ColumnType[] types, Object[] columns, int size) {
+        this.types = types;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * Number of valid rows in every column
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of columns, one per tuple slot
+     */
+    public int arity() {
+        return types.length;
+    }
+
+    public ColumnType type(int slot) {
+        return types[slot];
+    }
+
+    public long[] longs(int slot) {
+        return (long[])column(slot, ColumnType.LONG);
+    }
+
+    public int[] ints(int slot) {
+        return (int[])column(slot, ColumnType.INT);
+    }
+
+    public double[] doubles(int slot) {
+        return (double[])column(slot, ColumnType.DOUBLE);
+    }
+
+    public Object[] objects(int slot) {
+        return (Object[])column(slot, ColumnType.OBJECT);
+    }
+
+    private Object column(int slot, ColumnType type) {
+        if (types[slot] != type) {
+            throw new IllegalArgumentException("slot " + slot + " is " + types[slot] + ", not "
+                    + type);
+        }
+        return columns[slot];
+    }
+
+    /**
+     * Boxes the values of one row back into a javatuple
+     */
+    public Tuple row(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " size " + size);
+        }
+        final Object[] values = new Object[types.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Columns.load(types[i], columns[i], index);
+        }
+        try {
+            return TupleBuilders.ofSize(values.length).build(values);
+        } catch (Exception ex) {
+            throw Exceptions.propagate(ex);
+        }
+    }
+
+    /**
+     * The rows as javatuples, boxed lazily as they are read
+     */
+    public List<Tuple> rows() {
+        return new AbstractList<Tuple>() {
+            @Override
+            public Tuple get(int index) {
+                return row(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * A batch with the given columns in the given order, sharing their arrays with this one
+     */
+    public ColumnBatch select(int... slots) {
+        ObjectHelper.requireNonNull(slots, "slots is null");
+        if (slots.length < 2 || slots.length > 8) {
+            throw new IllegalArgumentException("2 to 8 slots required but it was "
+                    + slots.length);
+        }
+        final ColumnType[] t = new ColumnType[slots.length];
+        final Object[] c = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            t[i] = types[slots[i]];
+            c[i] = columns[slots[i]];
+        }
+        return new ColumnBatch(t, c, size);
+    }
+
+    /**
+     * A batch with the column at {@code slot} replaced by {@code values}, or appended when
+     * {@code slot} is {@link #arity()}. The other columns share their arrays with this one.
+     */
+    public ColumnBatch withColumn(int slot, long[] values) {
+        return withColumn(slot, ColumnType.LONG, values);
+    }
+
+    public ColumnBatch withColumn(int slot, int[] values) {
+        return withColumn(slot, ColumnType.INT, values);
+    }
+
+    public ColumnBatch withColumn(int slot, double[] values) {
+        return withColumn(slot, ColumnType.DOUBLE, values);
+    }
+
+    public ColumnBatch withColumn(int slot, Object[] values) {
+        return withColumn(slot, ColumnType.OBJECT, values);
+    }
+
+    private ColumnBatch withColumn(int slot, ColumnType type, Object values) {
+        ObjectHelper.requireNonNull(values, "values is null");
+        if (slot < 0 || slot > types.length || slot == 8) {
+            throw new IndexOutOfBoundsException("slot " + slot + " arity " + types.length);
+        }
+        if (Columns.length(type, values) < size) {
+            throw new IllegalArgumentException("values.length >= " + size
+                    + " required but it was " + Columns.length(type, values));
+        }
+        final int arity = slot == types.length ? slot + 1 : types.length;
+        final ColumnType[] t = new ColumnType[arity];
+        final Object[] c = new Object[arity];
+        System.arraycopy(types, 0, t, 0, types.length);
+        System.arraycopy(columns, 0, c, 0, columns.length);
+        t[slot] = type;
+        c[slot] = values;
+        return new ColumnBatch(t, c, size);
+    }
+
+    /**
+     * A batch with only the rows flagged in {@code keep}, copied into new arrays
+     */
+    public ColumnBatch filter(boolean[] keep) {
+        ObjectHelper.requireNonNull(keep, "keep is null");
+        if (keep.length < size) {
+            throw new IllegalArgumentException("keep.length >= " + size
+                    + " required but it was " + keep.length);
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                count++;
+            }
+        }
+        if (count == size) {
+            return this;
+        }
+        final Object[] c = new Object[columns.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = Columns.compact(types[i], columns[i], keep, size, count);
+        }
+        return new ColumnBatch(types, c, count);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnBatch" + rows();
+    }
+}
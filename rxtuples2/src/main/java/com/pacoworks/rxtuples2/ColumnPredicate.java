@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * Picks the rows of a {@link ColumnBatch} to keep, one whole batch per call, so the test can run
+ * as a loop over the column arrays
+ *
+ * @author pakoito
+ */
+public interface ColumnPredicate {
+    /**
+     * Sets {@code keep[i]} to true for every row {@code i} below {@code batch.size()} to keep. The
+     * flags start as false.
+     */
+    void test(ColumnBatch batch, boolean[] keep) throws Exception;
+}
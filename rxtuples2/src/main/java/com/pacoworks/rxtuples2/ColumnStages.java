@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+/**
+ * Shared functions behind the columnar batch transformers
+ *
+ * @author pakoito
+ */
+final class ColumnStages {
+    private ColumnStages() {
+        // No instances
+    }
+
+    static final Predicate<ColumnBatch> NOT_EMPTY = new Predicate<ColumnBatch>() {
+        @Override
+        public boolean test(ColumnBatch batch) {
+            return batch.size() != 0;
+        }
+    };
+
+    static final Function<ColumnBatch, Iterable<Tuple>> ROWS = new Function<ColumnBatch, Iterable<Tuple>>() {
+        @Override
+        public Iterable<Tuple> apply(ColumnBatch batch) {
+            return batch.rows();
+        }
+    };
+
+    static final class Filter implements Function<ColumnBatch, ColumnBatch> {
+        private final ColumnPredicate predicate;
+
+        Filter(ColumnPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public ColumnBatch apply(ColumnBatch batch) throws Exception {
+            final boolean[] keep = new boolean[batch.size()];
+            predicate.test(batch, keep);
+            return batch.filter(keep);
+        }
+    }
+
+    static final class Select implements Function<ColumnBatch, ColumnBatch> {
+        private final int[] slots;
+
+        Select(int[] slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public ColumnBatch apply(ColumnBatch batch) {
+            return batch.select(slots);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * How a {@link ColumnBatch} stores one tuple slot
+ *
+ * @author pakoito
+ */
+public enum ColumnType {
+    /**
+     * Unboxed into a long[], the slot must hold non-null Longs
+     */
+    LONG,
+    /**
+     * Unboxed into an int[], the slot must hold non-null Integers
+     */
+    INT,
+    /**
+     * Unboxed into a double[], the slot must hold non-null Doubles
+     */
+    DOUBLE,
+    /**
+     * Kept as references in an Object[]
+     */
+    OBJECT
+}
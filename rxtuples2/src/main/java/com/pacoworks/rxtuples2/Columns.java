@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Tuple;
+
+/**
+ * Allocation, access and copies of the arrays backing each {@link ColumnType}
+ *
+ * @author pakoito
+ */
+final class Columns {
+    private Columns() {
+        // No instances
+    }
+
+    static int length(ColumnType type, Object column) {
+        switch (type) {
+            case LONG:
+                return ((long[])column).length;
+            case INT:
+                return ((int[])column).length;
+            case DOUBLE:
+                return ((double[])column).length;
+            default:
+                return ((Object[])column).length;
+        }
+    }
+
+    /**
+     * Unboxes {@code slot} of the first {@code size} tuples into a new column, one loop per type,
+     * throwing ClassCastException or NullPointerException when a value doesn't fit
+     */
+    static Object fill(ColumnType type, int capacity, Tuple[] rows, int size, int slot) {
+        switch (type) {
+            case LONG: {
+                final long[] out = new long[capacity];
+                for (int i = 0; i < size; i++) {
+                    out[i] = (Long)rows[i].getValue(slot);
+                }
+                return out;
+            }
+            case INT: {
+                final int[] out = new int[capacity];
+                for (int i = 0; i < size; i++) {
+                    out[i] = (Integer)rows[i].getValue(slot);
+                }
+                return out;
+            }
+            case DOUBLE: {
+                final double[] out = new double[capacity];
+                for (int i = 0; i < size; i++) {
+                    out[i] = (Double)rows[i].getValue(slot);
+                }
+                return out;
+            }
+            default: {
+                final Object[] out = new Object[capacity];
+                for (int i = 0; i < size; i++) {
+                    out[i] = rows[i].getValue(slot);
+                }
+                return out;
+            }
+        }
+    }
+
+    static Object load(ColumnType type, Object column, int index) {
+        switch (type) {
+            case LONG:
+                return ((long[])column)[index];
+            case INT:
+                return ((int[])column)[index];
+            case DOUBLE:
+                return ((double[])column)[index];
+            default:
+                return ((Object[])column)[index];
+        }
+    }
+
+    /**
+     * Copies the rows flagged in {@code keep} into a new column of {@code count} rows
+     */
+    static Object compact(ColumnType type, Object column, boolean[] keep, int size, int count) {
+        int j = 0;
+        switch (type) {
+            case LONG: {
+                final long[] in = (long[])column;
+                final long[] out = new long[count];
+                for (int i = 0; i < size; i++) {
+                    if (keep[i]) {
+                        out[j++] = in[i];
+                    }
+                }
+                return out;
+            }
+            case INT: {
+                final int[] in = (int[])column;
+                final int[] out = new int[count];
+                for (int i = 0; i < size; i++) {
+                    if (keep[i]) {
+                        out[j++] = in[i];
+                    }
+                }
+                return out;
+            }
+            case DOUBLE: {
+                final double[] in = (double[])column;
+                final double[] out = new double[count];
+                for (int i = 0; i < size; i++) {
+                    if (keep[i]) {
+                        out[j++] = in[i];
+                    }
+                }
+                return out;
+            }
+            default: {
+                final Object[] in = (Object[])column;
+                final Object[] out = new Object[count];
+                for (int i = 0; i < size; i++) {
+                    if (keep[i]) {
+                        out[j++] = in[i];
+                    }
+                }
+                return out;
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableOperator;
+import io.reactivex.Observable;
+import io.reactivex.ObservableOperator;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * {@code distinct()} keyed on the tuples themselves, backed by a {@link TupleKeySet} per
+ * subscription instead of a {@link java.util.HashSet}.
+ *
+ * @author pakoito
+ */
+final class DistinctTupleOperator<T> implements TupleTransformer<T, T>, ObservableOperator<T, T>,
+        FlowableOperator<T, T> {
+    @Override
+    public ObservableSource<T> apply(Observable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Publisher<T> apply(Flowable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Observer<? super T> apply(Observer<? super T> observer) {
+        return new DistinctObserver<T>(observer);
+    }
+
+    @Override
+    public Subscriber<? super T> apply(Subscriber<? super T> subscriber) {
+        return new DistinctSubscriber<T>(subscriber);
+    }
+
+    static final class DistinctObserver<T> implements Observer<T>, Disposable {
+        private final Observer<? super T> actual;
+
+        private final TupleKeySet seen = new TupleKeySet(16);
+
+        private Disposable d;
+
+        private boolean done;
+
+        DistinctObserver(Observer<? super T> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(this.d, d)) {
+                this.d = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (!done && seen.putIfAbsent(t) == null) {
+                actual.onNext(t);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            seen.clear();
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            seen.clear();
+            actual.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            d.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return d.isDisposed();
+        }
+    }
+
+    static final class DistinctSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super T> actual;
+
+        private final TupleKeySet seen = new TupleKeySet(16);
+
+        private Subscription s;
+
+        private boolean done;
+
+        DistinctSubscriber(Subscriber<? super T> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            if (seen.putIfAbsent(t) == null) {
+                actual.onNext(t);
+            } else {
+                // Duplicates don't use up downstream demand
+                s.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            seen.clear();
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            seen.clear();
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Backpressured combineLatest without locks. An emission that finds no other one in progress, an
+ * empty {@link LatestEvents} queue and outstanding demand updates the latest row and emits its
+ * tuple right on the emitting thread. Otherwise it is queued as source index and value and
+ * applied in queue order once there is demand, and each source is replenished as its values are
+ * applied.
+ * <p>
+ * When conflating, sources are consumed unbounded, emissions only mark the {@link LatestSlots} as
+ * dirty and the subscriber receives a tuple with the newest values whenever it has outstanding
+ * demand.
+ *
+ * @author pakoito
+ */
+final class FlowableCombineLatestTuple<R> extends Flowable<R> {
+    private final Publisher<?>[] sources;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final int prefetch;
+
+    private final boolean conflate;
+
+    FlowableCombineLatestTuple(Publisher<?>[] sources, TupleBuilder<? extends R> builder,
+            int prefetch, boolean conflate) {
+        this.sources = sources;
+        this.builder = builder;
+        this.prefetch = prefetch;
+        this.conflate = conflate;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super R> s) {
+        new LatestCoordinator<R>(s, builder, sources.length, prefetch, conflate).subscribe(sources);
+    }
+
+    static final class LatestCoordinator<R> extends AtomicInteger implements Subscription {
+        private static final long serialVersionUID = 1L;
+
+        private final Subscriber<? super R> actual;
+
+        private final TupleBuilder<? extends R> builder;
+
+        private final boolean conflate;
+
+        private final LatestSubscriber[] subscribers;
+
+        /* Latest values when conflating */
+        private final LatestSlots slots;
+
+        /* Latest values applied by the emitting thread, or the scratch row when conflating */
+        private final Object[] row;
+
+        private final LatestEvents events = new LatestEvents();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        /* Tuples emitted, emitting thread only */
+        private long emitted;
+
+        /* Row slots holding a value, emitting thread only */
+        private int present;
+
+        /* Sources that have not emitted their first value yet, when conflating */
+        private final AtomicInteger missing;
+
+        /* Sources that have not completed yet */
+        private final AtomicInteger active;
+
+        private final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+        private volatile boolean done;
+
+        private volatile boolean dirty;
+
+        private volatile boolean cancelled;
+
+        LatestCoordinator(Subscriber<? super R> actual, TupleBuilder<? extends R> builder,
+                int count, int prefetch, boolean conflate) {
+            this.actual = actual;
+            this.builder = builder;
+            this.conflate = conflate;
+            this.subscribers = new LatestSubscriber[count];
+            this.slots = conflate ? new LatestSlots(count) : null;
+            this.row = new Object[count];
+            this.missing = new AtomicInteger(count);
+            this.active = new AtomicInteger(count);
+            for (int i = 0; i < count; i++) {
+                subscribers[i] = new LatestSubscriber(this, i, conflate ? Integer.MAX_VALUE
+                        : prefetch);
+            }
+        }
+
+        void subscribe(Publisher<?>[] sources) {
+            actual.onSubscribe(this);
+            for (int i = 0; i < subscribers.length; i++) {
+                if (cancelled || done) {
+                    return;
+                }
+                sources[i].subscribe(subscribers[i]);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        void cancelAll() {
+            for (LatestSubscriber subscriber : subscribers) {
+                subscriber.cancel();
+            }
+        }
+
+        void clear() {
+            events.clear();
+            if (slots != null) {
+                slots.clear();
+            }
+            Arrays.fill(row, null);
+        }
+
+        void innerNext(LatestSubscriber inner, Object value) {
+            if (conflate) {
+                slots.set(inner.index, value);
+                if (!inner.hasValue) {
+                    inner.hasValue = true;
+                    if (missing.decrementAndGet() != 0) {
+                        return;
+                    }
+                } else if (missing.get() != 0) {
+                    return;
+                }
+                dirty = true;
+                drain();
+                return;
+            }
+            inner.hasValue = true;
+            if (get() == 0 && compareAndSet(0, 1)) {
+                if (events.isEmpty() && canApply(inner.index)) {
+                    if (!cancelled) {
+                        apply(inner.index, value);
+                        inner.consumed();
+                    }
+                    // A failed build left an error that only the drain loop delivers
+                    if (error.get() == null && decrementAndGet() == 0) {
+                        return;
+                    }
+                } else {
+                    events.offer(inner.index, value);
+                }
+            } else {
+                events.offer(inner.index, value);
+                if (getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        /**
+         * Whether a value for the slot can be applied now, either because there is demand or
+         * because it won't complete the row, emitting thread only
+         */
+        private boolean canApply(int index) {
+            return emitted != requested.get()
+                    || present + (row[index] == null ? 1 : 0) != row.length;
+        }
+
+        /**
+         * Stores the value in the row and emits a tuple once every source has a value, emitting
+         * thread only
+         */
+        private void apply(int index, Object value) {
+            final Object[] values = row;
+            if (values[index] == null) {
+                present++;
+            }
+            values[index] = value;
+            if (present == values.length && error.get() == null) {
+                final R tuple;
+                try {
+                    tuple = builder.build(values);
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    error.compareAndSet(null, ex);
+                    return;
+                }
+                actual.onNext(tuple);
+                emitted++;
+            }
+        }
+
+        void innerError(Throwable e) {
+            if (error.compareAndSet(null, e)) {
+                drain();
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        void innerComplete(LatestSubscriber inner) {
+            if (!inner.hasValue || active.decrementAndGet() == 0) {
+                done = true;
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            drainLoop();
+        }
+
+        private void drainLoop() {
+            final Subscriber<? super R> a = actual;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    final Throwable ex = error.get();
+                    if (ex != null) {
+                        cancelled = true;
+                        cancelAll();
+                        clear();
+                        a.onError(ex);
+                        return;
+                    }
+                    final boolean d = done;
+                    boolean empty;
+                    if (conflate) {
+                        empty = !dirty;
+                        if (!empty) {
+                            if (emitted == requested.get()) {
+                                break;
+                            }
+                            dirty = false;
+                            slots.copyTo(row);
+                            final R tuple;
+                            try {
+                                tuple = builder.build(row);
+                            } catch (Throwable t) {
+                                Exceptions.throwIfFatal(t);
+                                error.compareAndSet(null, t);
+                                continue;
+                            } finally {
+                                Arrays.fill(row, null);
+                            }
+                            a.onNext(tuple);
+                            emitted++;
+                        }
+                    } else {
+                        final LatestEvents.Node event = events.peek();
+                        if (event != null) {
+                            if (!canApply(event.index)) {
+                                break;
+                            }
+                            events.poll();
+                            apply(event.index, event.value);
+                            subscribers[event.index].consumed();
+                        }
+                        empty = event == null;
+                    }
+                    if (empty) {
+                        if (d) {
+                            cancelled = true;
+                            cancelAll();
+                            clear();
+                            a.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    static final class LatestSubscriber implements Subscriber<Object> {
+        final LatestCoordinator<?> parent;
+
+        final int index;
+
+        final AtomicReference<Subscription> upstream = new AtomicReference<Subscription>();
+
+        private final int prefetch;
+
+        private final int limit;
+
+        /* Values applied since the last request, emitting thread only */
+        private int produced;
+
+        /* Whether this source has emitted, its own thread only */
+        boolean hasValue;
+
+        LatestSubscriber(LatestCoordinator<?> parent, int index, int prefetch) {
+            this.parent = parent;
+            this.index = index;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.setOnce(upstream, s)) {
+                s.request(prefetch == Integer.MAX_VALUE ? Long.MAX_VALUE : prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(Object t) {
+            parent.innerNext(this, t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.innerComplete(this);
+        }
+
+        /**
+         * Called by the emitting thread once a value of this source has been applied
+         */
+        void consumed() {
+            final int p = produced + 1;
+            if (p == limit) {
+                produced = 0;
+                upstream.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(upstream);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.flowables.GroupedFlowable;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.queue.MpscLinkedQueue;
+import io.reactivex.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.internal.subscriptions.EmptySubscription;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Backpressured {@code groupBy()} with its groups in a {@link TupleKeySet}, see
+ * {@link ObservableGroupByTuple}. The upstream is prefetched {@code bufferSize} elements ahead and
+ * every element is requested again once its group has emitted or discarded it, so groups that
+ * aren't consumed eventually stop the upstream.
+ *
+ * @author pakoito
+ */
+final class FlowableGroupByTuple<T, K> extends Flowable<GroupedFlowable<K, T>> {
+    private final Publisher<T> source;
+
+    private final Function<? super T, ? extends K> keySelector;
+
+    private final int bufferSize;
+
+    FlowableGroupByTuple(Publisher<T> source, Function<? super T, ? extends K> keySelector,
+            int bufferSize) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super GroupedFlowable<K, T>> s) {
+        source.subscribe(new GroupBySubscriber<T, K>(s, keySelector, bufferSize));
+    }
+
+    static final class GroupBySubscriber<T, K> extends AtomicInteger implements Subscriber<T>,
+            Subscription {
+        private static final long serialVersionUID = 1L;
+
+        static final Object NULL_KEY = new Object();
+
+        private final Subscriber<? super GroupedFlowable<K, T>> actual;
+
+        private final Function<? super T, ? extends K> keySelector;
+
+        private final int bufferSize;
+
+        /* Group states by key, upstream thread only */
+        private final TupleKeySet groups = new TupleKeySet(16);
+
+        /* Disposed groups waiting to leave the set */
+        private final MpscLinkedQueue<GroupState<T, K>> dead = new MpscLinkedQueue<GroupState<T, K>>();
+
+        /* New groups waiting for downstream demand */
+        private final SpscLinkedArrayQueue<Group<K, T>> queue;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        /* Live groups plus one for the main subscriber */
+        private final AtomicInteger groupCount = new AtomicInteger(1);
+
+        private Subscription upstream;
+
+        private boolean done;
+
+        private Throwable error;
+
+        private volatile boolean finished;
+
+        GroupBySubscriber(Subscriber<? super GroupedFlowable<K, T>> actual,
+                Function<? super T, ? extends K> keySelector, int bufferSize) {
+            this.actual = actual;
+            this.keySelector = keySelector;
+            this.bufferSize = bufferSize;
+            this.queue = new SpscLinkedArrayQueue<Group<K, T>>(bufferSize);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(upstream, s)) {
+                upstream = s;
+                actual.onSubscribe(this);
+                s.request(bufferSize);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            final K key;
+            try {
+                key = keySelector.apply(t);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                upstream.cancel();
+                onError(ex);
+                return;
+            }
+            purge();
+            final Object mapKey = key != null ? key : NULL_KEY;
+            GroupState<T, K> state = (GroupState<T, K>)groups.get(mapKey);
+            Group<K, T> group = null;
+            if (state == null) {
+                if (cancelled.get()) {
+                    // Nobody will see this element, keep the upstream flowing for the live groups
+                    upstream.request(1);
+                    return;
+                }
+                group = new Group<K, T>(key, bufferSize, this);
+                state = group.state;
+                groups.put(mapKey, state);
+                groupCount.getAndIncrement();
+            }
+            state.onNext(t);
+            if (group != null) {
+                queue.offer(group);
+                drain();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            for (Object state : groups.values()) {
+                ((GroupState<T, K>)state).onError(e);
+            }
+            groups.clear();
+            dead.clear();
+            error = e;
+            finished = true;
+            drain();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            for (Object state : groups.values()) {
+                ((GroupState<T, K>)state).onComplete();
+            }
+            groups.clear();
+            dead.clear();
+            finished = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            // Groups already handed out keep the upstream alive
+            if (cancelled.compareAndSet(false, true)) {
+                if (groupCount.decrementAndGet() == 0) {
+                    upstream.cancel();
+                }
+                drain();
+            }
+        }
+
+        /**
+         * Called once by a group cancelled on any thread
+         */
+        void cancel(GroupState<T, K> state) {
+            dead.offer(state);
+            if (groupCount.decrementAndGet() == 0) {
+                upstream.cancel();
+            }
+        }
+
+        /**
+         * Called by the groups for the elements they emitted or discarded
+         */
+        void replenish(long n) {
+            upstream.request(n);
+        }
+
+        private void purge() {
+            for (GroupState<T, K> state = dead.poll(); state != null; state = dead.poll()) {
+                groups.remove(state.key != null ? state.key : NULL_KEY, state);
+            }
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            final Subscriber<? super GroupedFlowable<K, T>> a = actual;
+            final SpscLinkedArrayQueue<Group<K, T>> q = queue;
+            int missed = 1;
+            for (;;) {
+                if (cancelled.get()) {
+                    cancelQueued();
+                } else {
+                    final long r = requested.get();
+                    long e = 0L;
+                    while (e != r) {
+                        final boolean d = finished;
+                        final Group<K, T> group = q.poll();
+                        final boolean empty = group == null;
+                        if (d && checkTerminated(empty, a)) {
+                            return;
+                        }
+                        if (empty) {
+                            break;
+                        }
+                        a.onNext(group);
+                        e++;
+                        if (cancelled.get()) {
+                            break;
+                        }
+                    }
+                    if (e == r && finished && checkTerminated(q.isEmpty(), a)) {
+                        return;
+                    }
+                    if (e != 0L && r != Long.MAX_VALUE) {
+                        requested.addAndGet(-e);
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Cancels the groups nobody will receive, so they stop holding the upstream
+         */
+        private void cancelQueued() {
+            for (Group<K, T> group = queue.poll(); group != null; group = queue.poll()) {
+                group.state.cancel();
+            }
+        }
+
+        private boolean checkTerminated(boolean empty, Subscriber<? super GroupedFlowable<K, T>> a) {
+            final Throwable e = error;
+            if (e != null) {
+                cancelQueued();
+                a.onError(e);
+                return true;
+            }
+            if (empty) {
+                a.onComplete();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class Group<K, T> extends GroupedFlowable<K, T> {
+        final GroupState<T, K> state;
+
+        Group(K key, int bufferSize, GroupBySubscriber<T, K> parent) {
+            super(key);
+            this.state = new GroupState<T, K>(key, bufferSize, parent);
+        }
+
+        @Override
+        protected void subscribeActual(Subscriber<? super T> s) {
+            state.subscribe(s);
+        }
+    }
+
+    /**
+     * Unicast buffer of a group, drained to its single subscriber as it requests
+     */
+    static final class GroupState<T, K> extends AtomicInteger implements Subscription,
+            Publisher<T> {
+        private static final long serialVersionUID = 1L;
+
+        final K key;
+
+        private final SpscLinkedArrayQueue<T> queue;
+
+        private final GroupBySubscriber<T, K> parent;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicBoolean once = new AtomicBoolean();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private final AtomicReference<Subscriber<? super T>> actual = new AtomicReference<Subscriber<? super T>>();
+
+        private Throwable error;
+
+        private volatile boolean done;
+
+        GroupState(K key, int bufferSize, GroupBySubscriber<T, K> parent) {
+            this.key = key;
+            this.queue = new SpscLinkedArrayQueue<T>(bufferSize);
+            this.parent = parent;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> s) {
+            if (!once.compareAndSet(false, true)) {
+                EmptySubscription.error(new IllegalStateException(
+                        "Each group allows only one Subscriber"), s);
+                return;
+            }
+            s.onSubscribe(this);
+            actual.lazySet(s);
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                parent.cancel(this);
+                // Discards what is buffered, handing the upstream requests back
+                drain();
+            }
+        }
+
+        void onNext(T t) {
+            queue.offer(t);
+            drain();
+        }
+
+        void onError(Throwable e) {
+            error = e;
+            done = true;
+            drain();
+        }
+
+        void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            final SpscLinkedArrayQueue<T> q = queue;
+            Subscriber<? super T> a = actual.get();
+            int missed = 1;
+            for (;;) {
+                if (cancelled.get()) {
+                    discard();
+                } else if (a != null) {
+                    final long r = requested.get();
+                    long e = 0L;
+                    while (e != r) {
+                        final boolean d = done;
+                        final T v = q.poll();
+                        final boolean empty = v == null;
+                        if (d && checkTerminated(empty, a)) {
+                            return;
+                        }
+                        if (empty) {
+                            break;
+                        }
+                        a.onNext(v);
+                        e++;
+                        if (cancelled.get()) {
+                            break;
+                        }
+                    }
+                    if (e == r && done && checkTerminated(q.isEmpty(), a)) {
+                        return;
+                    }
+                    if (e != 0L) {
+                        if (r != Long.MAX_VALUE) {
+                            requested.addAndGet(-e);
+                        }
+                        parent.replenish(e);
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+                if (a == null) {
+                    a = actual.get();
+                }
+            }
+        }
+
+        /**
+         * Drops the buffered elements of a cancelled group and hands their upstream requests back,
+         * so the other groups keep flowing. A cancelled group keeps discarding until it leaves the
+         * parent's set.
+         */
+        private void discard() {
+            actual.lazySet(null);
+            long n = 0L;
+            while (queue.poll() != null) {
+                n++;
+            }
+            if (n != 0L) {
+                parent.replenish(n);
+            }
+        }
+
+        private boolean checkTerminated(boolean empty, Subscriber<? super T> a) {
+            final Throwable e = error;
+            if (e != null) {
+                queue.clear();
+                actual.lazySet(null);
+                a.onError(e);
+                return true;
+            }
+            if (empty) {
+                actual.lazySet(null);
+                a.onComplete();
+                return true;
+            }
+            return false;
+        }
+    }
+}
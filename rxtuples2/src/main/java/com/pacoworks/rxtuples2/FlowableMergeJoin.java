@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.javatuples.Pair;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.internal.queue.SpscArrayQueue;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+
+/**
+ * Sort-merge join of two Flowables sorted by key. Both sides are walked in step through a prefetch
+ * queue each. Only the right elements sharing the current key are buffered, so the memory used is
+ * bounded by the largest right-side key group. Each left element with that key is paired with
+ * every element of the group.
+ * <p>
+ * Sort order is checked as elements arrive, so an unsorted source fails the join only after the
+ * pairs matched before the offending element have been emitted.
+ *
+ * @author pakoito
+ */
+final class FlowableMergeJoin<L, R, K> extends Flowable<Pair<L, R>> {
+    private final Publisher<? extends L> left;
+
+    private final Publisher<? extends R> right;
+
+    private final Function<? super L, ? extends K> leftKey;
+
+    private final Function<? super R, ? extends K> rightKey;
+
+    private final Comparator<? super K> comparator;
+
+    private final JoinMode mode;
+
+    private final int prefetch;
+
+    FlowableMergeJoin(Publisher<? extends L> left, Publisher<? extends R> right,
+            Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey,
+            Comparator<? super K> comparator, JoinMode mode, int prefetch) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+        this.mode = mode;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super Pair<L, R>> s) {
+        final JoinCoordinator<L, R, K> parent = new JoinCoordinator<L, R, K>(s, leftKey, rightKey,
+                comparator, mode, prefetch);
+        s.onSubscribe(parent);
+        left.subscribe(parent.left);
+        right.subscribe(parent.right);
+    }
+
+    static final class JoinCoordinator<L, R, K> extends AtomicInteger implements Subscription {
+        private static final long serialVersionUID = 1L;
+
+        private final Subscriber<? super Pair<L, R>> actual;
+
+        private final Function<? super L, ? extends K> leftKey;
+
+        private final Function<? super R, ? extends K> rightKey;
+
+        private final Comparator<? super K> comparator;
+
+        private final JoinMode mode;
+
+        final JoinSubscriber left;
+
+        final JoinSubscriber right;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        /* The state below is only touched from the drain loop */
+
+        /* Right elements sharing groupKey, complete once groupClosed */
+        private final ArrayList<R> group = new ArrayList<R>();
+
+        private K groupKey;
+
+        private boolean groupClosed;
+
+        private boolean groupMatched;
+
+        /* Taken from its queue but not yet joined */
+        private L leftHead;
+
+        private K leftHeadKey;
+
+        private R rightHead;
+
+        private K rightHeadKey;
+
+        private K lastLeftKey;
+
+        private K lastRightKey;
+
+        private boolean leftExhausted;
+
+        private boolean rightExhausted;
+
+        /* Left element being paired with the group, or null */
+        private L replaying;
+
+        /* Unmatched group being emitted with null on the left */
+        private boolean flushing;
+
+        private int groupIndex;
+
+        JoinCoordinator(Subscriber<? super Pair<L, R>> actual,
+                Function<? super L, ? extends K> leftKey, Function<? super R, ? extends K> rightKey,
+                Comparator<? super K> comparator, JoinMode mode, int prefetch) {
+            this.actual = actual;
+            this.leftKey = leftKey;
+            this.rightKey = rightKey;
+            this.comparator = comparator;
+            this.mode = mode;
+            this.left = new JoinSubscriber(this, prefetch);
+            this.right = new JoinSubscriber(this, prefetch);
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                left.cancel();
+                right.cancel();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        void clear() {
+            left.queue.clear();
+            right.queue.clear();
+            group.clear();
+            groupKey = null;
+            leftHead = null;
+            leftHeadKey = null;
+            rightHead = null;
+            rightHeadKey = null;
+            lastLeftKey = null;
+            lastRightKey = null;
+            replaying = null;
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                final long r = requested.get();
+                long e = 0L;
+                try {
+                    e = join(r);
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    fail(ex);
+                    return;
+                }
+                if (e < 0L) {
+                    return;
+                }
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Emits up to r pairs
+         *
+         * @return the number of pairs emitted, or -1 once terminated
+         */
+        @SuppressWarnings("unchecked")
+        private long join(long r) throws Exception {
+            final Subscriber<? super Pair<L, R>> a = actual;
+            final ArrayList<R> g = group;
+            long e = 0L;
+            for (;;) {
+                if (cancelled) {
+                    clear();
+                    return -1L;
+                }
+                final Throwable error = left.error != null ? left.error : right.error;
+                if (error != null) {
+                    fail(error);
+                    return -1L;
+                }
+                if (replaying != null) {
+                    if (groupIndex != g.size()) {
+                        if (e == r) {
+                            return e;
+                        }
+                        a.onNext(Pair.<L, R> with(replaying, g.get(groupIndex++)));
+                        e++;
+                    } else {
+                        replaying = null;
+                    }
+                    continue;
+                }
+                if (flushing) {
+                    if (groupIndex != g.size()) {
+                        if (e == r) {
+                            return e;
+                        }
+                        a.onNext(Pair.<L, R> with(null, g.get(groupIndex++)));
+                        e++;
+                    } else {
+                        flushing = false;
+                        resetGroup();
+                    }
+                    continue;
+                }
+                if (rightHead == null && !rightExhausted) {
+                    final boolean done = right.done;
+                    final Object v = right.queue.poll();
+                    if (v != null) {
+                        right.consumed();
+                        rightHead = (R)v;
+                        rightHeadKey = ObjectHelper.requireNonNull(rightKey.apply(rightHead),
+                                "The rightKey function returned a null key");
+                        if (lastRightKey != null
+                                && comparator.compare(rightHeadKey, lastRightKey) < 0) {
+                            throw new IllegalStateException("The right source is not sorted: "
+                                    + rightHeadKey + " after " + lastRightKey);
+                        }
+                        lastRightKey = rightHeadKey;
+                    } else if (done) {
+                        rightExhausted = true;
+                    }
+                }
+                if (!groupClosed) {
+                    if (rightHead != null) {
+                        if (g.isEmpty() || comparator.compare(rightHeadKey, groupKey) == 0) {
+                            if (g.isEmpty()) {
+                                groupKey = rightHeadKey;
+                            }
+                            g.add(rightHead);
+                            rightHead = null;
+                            rightHeadKey = null;
+                        } else {
+                            groupClosed = true;
+                        }
+                        continue;
+                    } else if (rightExhausted) {
+                        groupClosed = true;
+                    } else if (mode != JoinMode.FULL_OUTER && leftHead == null
+                            && (leftExhausted || (left.done && left.queue.isEmpty()))) {
+                        // No left element can match the rest of the right side
+                        complete();
+                        return -1L;
+                    } else {
+                        return e;
+                    }
+                }
+                if (g.isEmpty() && mode == JoinMode.INNER) {
+                    // The right side is exhausted, no left element can match
+                    complete();
+                    return -1L;
+                }
+                if (leftHead == null && !leftExhausted) {
+                    final boolean done = left.done;
+                    final Object v = left.queue.poll();
+                    if (v != null) {
+                        left.consumed();
+                        leftHead = (L)v;
+                        leftHeadKey = ObjectHelper.requireNonNull(leftKey.apply(leftHead),
+                                "The leftKey function returned a null key");
+                        if (lastLeftKey != null
+                                && comparator.compare(leftHeadKey, lastLeftKey) < 0) {
+                            throw new IllegalStateException("The left source is not sorted: "
+                                    + leftHeadKey + " after " + lastLeftKey);
+                        }
+                        lastLeftKey = leftHeadKey;
+                    } else if (done) {
+                        leftExhausted = true;
+                    } else {
+                        return e;
+                    }
+                }
+                if (leftHead == null) {
+                    // Only right elements are left
+                    if (g.isEmpty() || mode != JoinMode.FULL_OUTER) {
+                        complete();
+                        return -1L;
+                    }
+                    closeGroup();
+                    continue;
+                }
+                if (g.isEmpty()) {
+                    // Only left elements are left
+                    if (e == r) {
+                        return e;
+                    }
+                    a.onNext(Pair.<L, R> with(takeLeft(), null));
+                    e++;
+                    continue;
+                }
+                final int c = comparator.compare(leftHeadKey, groupKey);
+                if (c < 0) {
+                    if (mode == JoinMode.INNER) {
+                        takeLeft();
+                    } else {
+                        if (e == r) {
+                            return e;
+                        }
+                        a.onNext(Pair.<L, R> with(takeLeft(), null));
+                        e++;
+                    }
+                } else if (c == 0) {
+                    groupMatched = true;
+                    replaying = takeLeft();
+                    groupIndex = 0;
+                } else {
+                    closeGroup();
+                }
+            }
+        }
+
+        private L takeLeft() {
+            final L l = leftHead;
+            leftHead = null;
+            leftHeadKey = null;
+            return l;
+        }
+
+        /**
+         * Moves past the current group, emitting it first if it never matched in full outer mode
+         */
+        private void closeGroup() {
+            if (mode == JoinMode.FULL_OUTER && !groupMatched) {
+                flushing = true;
+                groupIndex = 0;
+            } else {
+                resetGroup();
+            }
+        }
+
+        private void resetGroup() {
+            group.clear();
+            groupKey = null;
+            groupClosed = false;
+            groupMatched = false;
+        }
+
+        private void complete() {
+            cancelled = true;
+            left.cancel();
+            right.cancel();
+            clear();
+            actual.onComplete();
+        }
+
+        private void fail(Throwable ex) {
+            cancelled = true;
+            left.cancel();
+            right.cancel();
+            clear();
+            actual.onError(ex);
+        }
+    }
+
+    static final class JoinSubscriber implements Subscriber<Object> {
+        final JoinCoordinator<?, ?, ?> parent;
+
+        final SpscArrayQueue<Object> queue;
+
+        final AtomicReference<Subscription> upstream = new AtomicReference<Subscription>();
+
+        private final int prefetch;
+
+        private final int limit;
+
+        private int produced;
+
+        volatile boolean done;
+
+        volatile Throwable error;
+
+        JoinSubscriber(JoinCoordinator<?, ?, ?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<Object>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.setOnce(upstream, s)) {
+                s.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(Object t) {
+            if (!queue.offer(t)) {
+                SubscriptionHelper.cancel(upstream);
+                onError(new MissingBackpressureException("Queue is full?!"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        /**
+         * Called from the drain loop for every value taken from the queue
+         */
+        void consumed() {
+            final int p = produced + 1;
+            if (p == limit) {
+                produced = 0;
+                upstream.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(upstream);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.reactivex.parallel.ParallelFlowable;
+
+/**
+ * Runs the enrichers of every element on the rails of a {@link ParallelFlowable} and puts the
+ * results back in source order through a reorder buffer of {@code capacity} slots.
+ * <p>
+ * A gate in front of the rails only lets an element in while it is less than {@code capacity}
+ * elements ahead of the oldest one not yet emitted, so an element held up on one rail stalls the
+ * source instead of growing the buffer. The occupancy adds up every subscription to this Flowable.
+ *
+ * @author pakoito
+ * @see RxTuples#parallelEnrich(Publisher, int, Function)
+ */
+public final class FlowableParallelEnrich<R> extends Flowable<R> {
+    private final Publisher<?> source;
+
+    private final Function<Object, ?>[] enrichers;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final int parallelism;
+
+    private final Scheduler scheduler;
+
+    private final int capacity;
+
+    private final AtomicLong occupancy = new AtomicLong();
+
+    private final AtomicLong peakOccupancy = new AtomicLong();
+
+    FlowableParallelEnrich(Publisher<?> source, Function<Object, ?>[] enrichers,
+            TupleBuilder<? extends R> builder, int parallelism, Scheduler scheduler, int capacity) {
+        this.source = source;
+        this.enrichers = enrichers;
+        this.builder = builder;
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return enriched elements waiting in the reorder buffers for an earlier element to finish
+     */
+    public long bufferOccupancy() {
+        return occupancy.get();
+    }
+
+    /**
+     * @return highest {@link #bufferOccupancy()} seen so far
+     */
+    public long peakBufferOccupancy() {
+        return peakOccupancy.get();
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super R> s) {
+        final Gate gate = new Gate(source, capacity, enrichers.length + 1);
+        ParallelFlowable.from(gate, parallelism).runOn(scheduler).map(new Enrich(enrichers))
+                .sequential().subscribe(new ReorderSubscriber<R>(s, this, gate));
+    }
+
+    void occupy() {
+        final long o = occupancy.incrementAndGet();
+        for (;;) {
+            final long peak = peakOccupancy.get();
+            if (o <= peak || peakOccupancy.compareAndSet(peak, o)) {
+                return;
+            }
+        }
+    }
+
+    void vacate(long n) {
+        occupancy.addAndGet(-n);
+    }
+
+    /**
+     * One source element on its way through the rails: its position, then the element followed by
+     * one value per enricher
+     */
+    static final class Slot {
+        final long index;
+
+        final Object[] values;
+
+        Slot(long index, Object[] values) {
+            this.index = index;
+            this.values = values;
+        }
+    }
+
+    static final class Enrich implements Function<Slot, Slot> {
+        private final Function<Object, ?>[] enrichers;
+
+        Enrich(Function<Object, ?>[] enrichers) {
+            this.enrichers = enrichers;
+        }
+
+        @Override
+        public Slot apply(Slot slot) throws Exception {
+            final Object[] values = slot.values;
+            for (int i = 0; i < enrichers.length; i++) {
+                values[i + 1] = ObjectHelper.requireNonNull(enrichers[i].apply(values[0]),
+                        "The enricher returned a null value");
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Numbers the source elements and requests them only while the rails and the reorder buffer
+     * together hold less than {@code capacity}
+     */
+    static final class Gate extends Flowable<Slot> implements Subscriber<Object>, Subscription {
+        private final Publisher<?> source;
+
+        private final int capacity;
+
+        private final int arity;
+
+        private Subscriber<? super Slot> actual;
+
+        private Subscription upstream;
+
+        private long index;
+
+        private long requested;
+
+        private long upstreamRequested;
+
+        private long released;
+
+        Gate(Publisher<?> source, int capacity, int arity) {
+            this.source = source;
+            this.capacity = capacity;
+            this.arity = arity;
+        }
+
+        @Override
+        protected void subscribeActual(Subscriber<? super Slot> s) {
+            actual = s;
+            source.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(upstream, s)) {
+                upstream = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(Object t) {
+            final Object[] values = new Object[arity];
+            values[0] = t;
+            actual.onNext(new Slot(index++, values));
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                final long toRequest;
+                synchronized (this) {
+                    requested = BackpressureHelper.addCap(requested, n);
+                    toRequest = allowance();
+                }
+                if (toRequest != 0L) {
+                    upstream.request(toRequest);
+                }
+            }
+        }
+
+        /**
+         * Called by the reorder buffer after emitting {@code n} elements in order
+         */
+        void release(long n) {
+            final long toRequest;
+            synchronized (this) {
+                released += n;
+                toRequest = allowance();
+            }
+            if (toRequest != 0L) {
+                upstream.request(toRequest);
+            }
+        }
+
+        private long allowance() {
+            final long limit = Math.min(requested, released + capacity);
+            final long n = limit - upstreamRequested;
+            if (n <= 0L) {
+                return 0L;
+            }
+            upstreamRequested = limit;
+            return n;
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    static final class ReorderSubscriber<R> extends AtomicInteger implements Subscriber<Slot>,
+            Subscription {
+        private static final long serialVersionUID = 1L;
+
+        private final Subscriber<? super R> actual;
+
+        private final FlowableParallelEnrich<R> parent;
+
+        private final Gate gate;
+
+        private final AtomicReferenceArray<Slot> buffer;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private Subscription upstream;
+
+        private long next;
+
+        private volatile boolean done;
+
+        private Throwable error;
+
+        private volatile boolean cancelled;
+
+        ReorderSubscriber(Subscriber<? super R> actual, FlowableParallelEnrich<R> parent,
+                Gate gate) {
+            this.actual = actual;
+            this.parent = parent;
+            this.gate = gate;
+            this.buffer = new AtomicReferenceArray<Slot>(parent.capacity);
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(upstream, s)) {
+                upstream = s;
+                actual.onSubscribe(this);
+                // The gate already bounds the elements in flight to the buffer capacity
+                s.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(Slot slot) {
+            buffer.lazySet((int)(slot.index % buffer.length()), slot);
+            parent.occupy();
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        void clear() {
+            long cleared = 0L;
+            for (int i = 0; i < buffer.length(); i++) {
+                if (buffer.getAndSet(i, null) != null) {
+                    cleared++;
+                }
+            }
+            parent.vacate(cleared);
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            final AtomicReferenceArray<Slot> b = buffer;
+            final int capacity = b.length();
+            final Subscriber<? super R> a = actual;
+            int missed = 1;
+            for (;;) {
+                final long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    final boolean d = done;
+                    if (d && error != null) {
+                        cancelled = true;
+                        clear();
+                        a.onError(error);
+                        return;
+                    }
+                    final int position = (int)(next % capacity);
+                    final Slot slot = b.get(position);
+                    if (slot == null) {
+                        // Every element let in by the gate arrives before the rails complete
+                        if (d) {
+                            cancelled = true;
+                            a.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+                    if (e == r) {
+                        break;
+                    }
+                    b.lazySet(position, null);
+                    next++;
+                    parent.vacate(1L);
+                    final R tuple;
+                    try {
+                        tuple = parent.builder.build(slot.values);
+                    } catch (Throwable ex) {
+                        Exceptions.throwIfFatal(ex);
+                        cancelled = true;
+                        upstream.cancel();
+                        clear();
+                        a.onError(ex);
+                        return;
+                    }
+                    a.onNext(tuple);
+                    e++;
+                }
+                if (e != 0L) {
+                    if (r != Long.MAX_VALUE) {
+                        requested.addAndGet(-e);
+                    }
+                    gate.release(e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+
+/**
+ * {@link FlowableZipTuple} building its tuples from a {@link TuplePool} owned by each subscription.
+ * With {@link ReleaseMode#AUTO} every tuple is released once the downstream {@code onNext}
+ * returns, so a single tuple serves the whole subscription.
+ *
+ * @author pakoito
+ */
+final class FlowablePooledZip<R extends PooledTuple> extends Flowable<R> {
+    private static final int MANUAL_POOL_SIZE = 16;
+
+    private final Publisher<?>[] sources;
+
+    private final ReleaseMode mode;
+
+    private final boolean debug;
+
+    FlowablePooledZip(Publisher<?>[] sources, ReleaseMode mode, boolean debug) {
+        this.sources = sources;
+        this.mode = mode;
+        this.debug = debug;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Subscriber<? super R> s) {
+        final TuplePool pool = new TuplePool(sources.length, mode == ReleaseMode.AUTO ? 1
+                : MANUAL_POOL_SIZE, debug);
+        final Flowable<R> zip = new FlowableZipTuple<R>(sources,
+                (TupleBuilder<R>)(TupleBuilder)pool, Flowable.bufferSize());
+        if (mode == ReleaseMode.AUTO) {
+            zip.subscribe(new AutoReleaseSubscriber<R>(s));
+        } else {
+            zip.subscribe(s);
+        }
+    }
+
+    static final class AutoReleaseSubscriber<R extends PooledTuple> implements Subscriber<R>,
+            Subscription {
+        private final Subscriber<? super R> actual;
+
+        private Subscription upstream;
+
+        AutoReleaseSubscriber(Subscriber<? super R> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(upstream, s)) {
+                upstream = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(R t) {
+            actual.onNext(t);
+            // The consumer may have released it already, even on another thread
+            t.tryRelease();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
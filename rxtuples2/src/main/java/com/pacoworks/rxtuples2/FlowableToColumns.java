@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.javatuples.Tuple;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.internal.disposables.SequentialDisposable;
+import io.reactivex.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+
+/**
+ * Gathers tuples into {@link ColumnBatch}es. The tuples of a batch are kept in an array until it is
+ * due and then unboxed one column at a time, so each column is filled by a loop over a single type
+ * instead of a switch per value. Each batch requested downstream requests {@code batchSize} tuples
+ * upstream.
+ * <p>
+ * With a timeout a worker of the scheduler also flushes the batch being filled when the timeout
+ * passes without filling one. Tuples and flushes are then serialized on the subscriber, and the
+ * batches queue up until they are requested.
+ *
+ * @author pakoito
+ */
+final class FlowableToColumns extends Flowable<ColumnBatch> {
+    private final Publisher<? extends Tuple> source;
+
+    private final ColumnType[] types;
+
+    private final int batchSize;
+
+    private final long timeout;
+
+    private final TimeUnit unit;
+
+    private final Scheduler scheduler;
+
+    /**
+     * @param scheduler null to only emit full batches and the last one
+     */
+    FlowableToColumns(Publisher<? extends Tuple> source, ColumnType[] types, int batchSize,
+            long timeout, TimeUnit unit, Scheduler scheduler) {
+        this.source = source;
+        this.types = types;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super ColumnBatch> s) {
+        if (scheduler == null) {
+            source.subscribe(new ColumnsSubscriber(s, types, batchSize));
+        } else {
+            source.subscribe(new TimedColumnsSubscriber(s, types, batchSize, timeout, unit,
+                    scheduler.createWorker()));
+        }
+    }
+
+    static IllegalArgumentException wrongSize(ColumnType[] types, Tuple tuple) {
+        return new IllegalArgumentException("tuple of " + types.length
+                + " values required but it was " + tuple);
+    }
+
+    /**
+     * The first {@code size} rows as a batch, throwing ClassCastException or NullPointerException
+     * when a value doesn't fit its column
+     */
+    static ColumnBatch batch(ColumnType[] types, Tuple[] rows, int size) {
+        final Object[] columns = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            columns[i] = Columns.fill(types[i], size, rows, size, i);
+        }
+        return new ColumnBatch(types, columns, size);
+    }
+
+    static final class ColumnsSubscriber implements Subscriber<Tuple>, Subscription {
+        private final Subscriber<? super ColumnBatch> actual;
+
+        private final ColumnType[] types;
+
+        private final int batchSize;
+
+        /**
+         * Rows of the batch being gathered, earlier rows are only dropped as they are overwritten
+         */
+        private final Tuple[] rows;
+
+        private Subscription upstream;
+
+        private int size;
+
+        private boolean done;
+
+        ColumnsSubscriber(Subscriber<? super ColumnBatch> actual, ColumnType[] types,
+                int batchSize) {
+            this.actual = actual;
+            this.types = types;
+            this.batchSize = batchSize;
+            this.rows = new Tuple[batchSize];
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(upstream, s)) {
+                upstream = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(Tuple t) {
+            if (done) {
+                return;
+            }
+            if (t.getSize() != types.length) {
+                upstream.cancel();
+                onError(wrongSize(types, t));
+                return;
+            }
+            rows[size] = t;
+            if (++size == batchSize) {
+                final ColumnBatch batch;
+                try {
+                    batch = batch(types, rows, size);
+                } catch (RuntimeException ex) {
+                    upstream.cancel();
+                    onError(ex);
+                    return;
+                }
+                size = 0;
+                actual.onNext(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            actual.onError(t);
+        }
+
+        /**
+         * The last batch is always requested: it holds fewer tuples than were requested for it
+         */
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (size != 0) {
+                final ColumnBatch batch;
+                try {
+                    batch = batch(types, rows, size);
+                } catch (RuntimeException ex) {
+                    actual.onError(ex);
+                    return;
+                }
+                actual.onNext(batch);
+            }
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                upstream.request(BackpressureHelper.multiplyCap(n, batchSize));
+            }
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    static final class TimedColumnsSubscriber extends AtomicInteger implements
+            Subscriber<Tuple>, Subscription, Runnable {
+        private static final long serialVersionUID = 1L;
+
+        private final Subscriber<? super ColumnBatch> actual;
+
+        private final ColumnType[] types;
+
+        private final int batchSize;
+
+        private final long timeout;
+
+        private final TimeUnit unit;
+
+        private final Scheduler.Worker worker;
+
+        private final SequentialDisposable timer = new SequentialDisposable();
+
+        /**
+         * Offered to while holding the lock on this subscriber, polled by the drain
+         */
+        private final SpscLinkedArrayQueue<ColumnBatch> queue = new SpscLinkedArrayQueue<ColumnBatch>(
+                Flowable.bufferSize());
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private Subscription upstream;
+
+        /**
+         * Guarded by the lock on this subscriber, like {@link #size}
+         */
+        private final Tuple[] rows;
+
+        private int size;
+
+        private volatile boolean done;
+
+        private Throwable error;
+
+        private volatile boolean cancelled;
+
+        TimedColumnsSubscriber(Subscriber<? super ColumnBatch> actual, ColumnType[] types,
+                int batchSize, long timeout, TimeUnit unit, Scheduler.Worker worker) {
+            this.actual = actual;
+            this.types = types;
+            this.batchSize = batchSize;
+            this.timeout = timeout;
+            this.unit = unit;
+            this.worker = worker;
+            this.rows = new Tuple[batchSize];
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(upstream, s)) {
+                upstream = s;
+                // Before any tuple can restart it
+                timer.replace(worker.schedulePeriodically(this, timeout, timeout, unit));
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(Tuple t) {
+            boolean full = false;
+            RuntimeException failure = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (t.getSize() != types.length) {
+                    failure = wrongSize(types, t);
+                } else {
+                    rows[size] = t;
+                    if (++size == batchSize) {
+                        try {
+                            flush();
+                            full = true;
+                        } catch (RuntimeException ex) {
+                            failure = ex;
+                        }
+                    }
+                }
+            }
+            if (failure != null) {
+                upstream.cancel();
+                onError(failure);
+                return;
+            }
+            if (full) {
+                // A full batch restarts the timeout
+                timer.update(worker.schedulePeriodically(this, timeout, timeout, unit));
+            }
+            drain();
+        }
+
+        /**
+         * Called holding the lock on this subscriber
+         */
+        private void flush() {
+            final ColumnBatch batch = batch(types, rows, size);
+            size = 0;
+            queue.offer(batch);
+        }
+
+        /**
+         * The timeout passed
+         */
+        @Override
+        public void run() {
+            RuntimeException failure = null;
+            synchronized (this) {
+                if (done || size == 0) {
+                    return;
+                }
+                try {
+                    flush();
+                } catch (RuntimeException ex) {
+                    failure = ex;
+                }
+            }
+            if (failure != null) {
+                upstream.cancel();
+                onError(failure);
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                error = t;
+                done = true;
+            }
+            worker.dispose();
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (size != 0) {
+                    try {
+                        flush();
+                    } catch (RuntimeException ex) {
+                        error = ex;
+                    }
+                }
+                done = true;
+            }
+            worker.dispose();
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                upstream.request(BackpressureHelper.multiplyCap(n, batchSize));
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                worker.dispose();
+                if (getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            final Subscriber<? super ColumnBatch> a = actual;
+            int missed = 1;
+            for (;;) {
+                final long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    final boolean d = done;
+                    final ColumnBatch batch = e != r ? queue.poll() : null;
+                    if (checkTerminated(d, batch == null && queue.isEmpty(), a)) {
+                        return;
+                    }
+                    if (batch == null) {
+                        break;
+                    }
+                    a.onNext(batch);
+                    e++;
+                }
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean d, boolean empty,
+                Subscriber<? super ColumnBatch> a) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (d) {
+                final Throwable e = error;
+                if (e != null) {
+                    queue.clear();
+                    a.onError(e);
+                    return true;
+                } else if (empty) {
+                    a.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.javatuples.Tuple;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.internal.queue.SpscArrayQueue;
+import io.reactivex.internal.subscriptions.EmptySubscription;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+
+/**
+ * Splits a tuple stream into one Flowable per slot over a single upstream subscription. The
+ * upstream is subscribed to once every branch has a subscriber, and each branch can only be
+ * subscribed to once.
+ * <p>
+ * Every branch buffers up to {@code bufferSize} values. With no overflow strategy the branches
+ * advance in lockstep and the upstream is consumed at the pace of the slowest one. With a strategy
+ * the upstream is consumed at the pace of the fastest branch and the strategy decides what happens
+ * to a branch whose buffer is full.
+ *
+ * @author pakoito
+ */
+final class FlowableUnzip extends AtomicInteger implements Subscriber<Tuple> {
+    private static final long serialVersionUID = 1L;
+
+    private final Publisher<? extends Tuple> source;
+
+    private final Branch[] branches;
+
+    private final BackpressureOverflowStrategy strategy;
+
+    private final SpscArrayQueue<Tuple> queue;
+
+    private final int prefetch;
+
+    private final int limit;
+
+    private final AtomicReference<Subscription> upstream = new AtomicReference<Subscription>();
+
+    /* Branches that received a subscriber */
+    private final AtomicInteger subscribed = new AtomicInteger();
+
+    /* Branches that have not been cancelled or overflowed */
+    private final AtomicInteger active;
+
+    private int consumed;
+
+    private volatile boolean done;
+
+    private Throwable error;
+
+    FlowableUnzip(Publisher<? extends Tuple> source, int count, int bufferSize,
+            BackpressureOverflowStrategy strategy) {
+        this.source = source;
+        this.strategy = strategy;
+        this.prefetch = bufferSize;
+        this.limit = bufferSize - (bufferSize >> 2);
+        this.queue = new SpscArrayQueue<Tuple>(bufferSize);
+        this.active = new AtomicInteger(count);
+        this.branches = new Branch[count];
+        for (int i = 0; i < count; i++) {
+            branches[i] = new Branch(this, i, bufferSize);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Flowable<T> branch(int index) {
+        return (Flowable<T>)branches[index];
+    }
+
+    void branchSubscribed() {
+        if (subscribed.incrementAndGet() == branches.length) {
+            source.subscribe(this);
+        }
+    }
+
+    void branchCancelled() {
+        if (active.decrementAndGet() == 0) {
+            SubscriptionHelper.cancel(upstream);
+        }
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (SubscriptionHelper.setOnce(upstream, s)) {
+            s.request(prefetch);
+        }
+    }
+
+    @Override
+    public void onNext(Tuple t) {
+        if (!queue.offer(t)) {
+            SubscriptionHelper.cancel(upstream);
+            onError(new MissingBackpressureException("Queue is full?!"));
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        error = e;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    void drain() {
+        if (getAndIncrement() != 0) {
+            return;
+        }
+        final Branch[] bs = branches;
+        int missed = 1;
+        for (;;) {
+            for (Branch b : bs) {
+                b.emit();
+            }
+            if (active.get() == 0) {
+                queue.clear();
+            } else if (distribute()) {
+                continue;
+            }
+            if (done && queue.isEmpty()) {
+                final Throwable ex = error;
+                for (Branch b : bs) {
+                    b.terminate(ex);
+                }
+            }
+            missed = addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves tuples from the upstream queue into the branch buffers while the demand target allows
+     *
+     * @return whether any tuple was moved
+     */
+    private boolean distribute() {
+        final Branch[] bs = branches;
+        boolean moved = false;
+        for (;;) {
+            int space = strategy == null ? Integer.MAX_VALUE : 0;
+            for (Branch b : bs) {
+                if (b.isLive()) {
+                    space = strategy == null ? Math.min(space, b.space())
+                            : Math.max(space, b.space());
+                }
+            }
+            if (space == 0 || space == Integer.MAX_VALUE) {
+                return moved;
+            }
+            final Tuple t = queue.poll();
+            if (t == null) {
+                return moved;
+            }
+            for (Branch b : bs) {
+                if (b.isLive()) {
+                    b.offer(t.getValue(b.index), strategy);
+                }
+            }
+            moved = true;
+            final int c = consumed + 1;
+            if (c == limit) {
+                consumed = 0;
+                upstream.get().request(c);
+            } else {
+                consumed = c;
+            }
+        }
+    }
+
+    static final class Branch extends Flowable<Object> implements Subscription {
+        final FlowableUnzip parent;
+
+        final int index;
+
+        private final AtomicBoolean once = new AtomicBoolean();
+
+        private final AtomicLong requested = new AtomicLong();
+
+        /* Set once the branch stops counting towards the parent's active branches */
+        private final AtomicBoolean retired = new AtomicBoolean();
+
+        /* Ring buffer, only touched inside the parent's drain loop */
+        private final Object[] ring;
+
+        private int head;
+
+        private int count;
+
+        private boolean terminated;
+
+        private Throwable overflow;
+
+        private volatile Subscriber<? super Object> actual;
+
+        private volatile boolean cancelled;
+
+        Branch(FlowableUnzip parent, int index, int bufferSize) {
+            this.parent = parent;
+            this.index = index;
+            this.ring = new Object[bufferSize];
+        }
+
+        @Override
+        protected void subscribeActual(Subscriber<? super Object> s) {
+            if (!once.compareAndSet(false, true)) {
+                EmptySubscription.error(new IllegalStateException(
+                        "Each unzipped branch allows only one Subscriber"), s);
+                return;
+            }
+            actual = s;
+            s.onSubscribe(this);
+            parent.branchSubscribed();
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                parent.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            retire();
+        }
+
+        /**
+         * Releases this branch from the shared upstream once, whether it was cancelled, possibly
+         * concurrently, or overflowed
+         */
+        private void retire() {
+            if (retired.compareAndSet(false, true)) {
+                parent.branchCancelled();
+            }
+        }
+
+        boolean isLive() {
+            return !cancelled && overflow == null;
+        }
+
+        int space() {
+            return ring.length - count;
+        }
+
+        void offer(Object value, BackpressureOverflowStrategy strategy) {
+            final Object[] r = ring;
+            if (count == r.length) {
+                if (strategy == BackpressureOverflowStrategy.DROP_LATEST) {
+                    return;
+                } else if (strategy == BackpressureOverflowStrategy.DROP_OLDEST) {
+                    poll();
+                } else {
+                    overflow = new MissingBackpressureException(
+                            "Unzipped branch " + index + " could not keep up");
+                    retire();
+                    return;
+                }
+            }
+            int tail = head + count;
+            if (tail >= r.length) {
+                tail -= r.length;
+            }
+            r[tail] = value;
+            count++;
+        }
+
+        private Object poll() {
+            final Object[] r = ring;
+            final Object v = r[head];
+            r[head] = null;
+            head = head + 1 == r.length ? 0 : head + 1;
+            count--;
+            return v;
+        }
+
+        void emit() {
+            if (terminated) {
+                return;
+            }
+            if (cancelled) {
+                terminated = true;
+                clear();
+                return;
+            }
+            if (overflow != null) {
+                terminated = true;
+                clear();
+                actual.onError(overflow);
+                return;
+            }
+            final long r = requested.get();
+            long e = 0L;
+            while (e != r && count != 0) {
+                actual.onNext(poll());
+                e++;
+                if (cancelled) {
+                    return;
+                }
+            }
+            if (e != 0L && r != Long.MAX_VALUE) {
+                requested.addAndGet(-e);
+            }
+        }
+
+        void terminate(Throwable error) {
+            if (!terminated && count == 0 && isLive()) {
+                terminated = true;
+                if (error != null) {
+                    actual.onError(error);
+                } else {
+                    actual.onComplete();
+                }
+            }
+        }
+
+        private void clear() {
+            while (count != 0) {
+                poll();
+            }
+        }
+    }
+}
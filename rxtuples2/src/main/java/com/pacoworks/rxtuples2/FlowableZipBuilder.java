@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Fluent Flowable zip collecting sources with {@code and()} and building the final tuple with
+ * a single N-way zip. Each stage is an immutable value that can be shared and extended from.
+ *
+ * @author pakoito
+ * @see RxTuples#zipBuilder(Publisher)
+ */
+public final class FlowableZipBuilder {
+    private FlowableZipBuilder() {
+        // No instances
+    }
+
+    static <A> Zip1<A> start(Publisher<? extends A> a) {
+        ObjectHelper.requireNonNull(a, "source 0 is null");
+        return new Zip1<A>(new Publisher<?>[] {
+                a
+        });
+    }
+
+    static Publisher<?>[] append(Publisher<?>[] sources, Publisher<?> source) {
+        RxTuples.requireNonNull(source, "source", sources.length);
+        final Publisher<?>[] next = new Publisher<?>[sources.length + 1];
+        System.arraycopy(sources, 0, next, 0, sources.length);
+        next[sources.length] = source;
+        return next;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> Flowable<R> zip(Publisher<?>[] sources, TupleBuilder<?> builder) {
+        return RxJavaPlugins.onAssembly(new FlowableZipTuple<R>(sources,
+                (TupleBuilder<R>)builder, Flowable.bufferSize()));
+    }
+
+    public static final class Zip1<A> {
+        private final Publisher<?>[] sources;
+
+        Zip1(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <B> Zip2<A, B> and(Publisher<? extends B> b) {
+            return new Zip2<A, B>(append(sources, b));
+        }
+    }
+
+    public static final class Zip2<A, B> {
+        private final Publisher<?>[] sources;
+
+        Zip2(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <C> Zip3<A, B, C> and(Publisher<? extends C> c) {
+            return new Zip3<A, B, C>(append(sources, c));
+        }
+
+        public Flowable<Pair<A, B>> toPair() {
+            return zip(sources, TupleBuilders.PAIR);
+        }
+
+        /**
+         * Zips straight into a Pair of the given slots, e.g. {@code select(1, 0)} to swap them,
+         * without building the full tuple first. The result types are not checked and must match
+         * the selected sources.
+         */
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 2));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 2));
+        }
+    }
+
+    public static final class Zip3<A, B, C> {
+        private final Publisher<?>[] sources;
+
+        Zip3(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <D> Zip4<A, B, C, D> and(Publisher<? extends D> d) {
+            return new Zip4<A, B, C, D>(append(sources, d));
+        }
+
+        public Flowable<Triplet<A, B, C>> toTriplet() {
+            return zip(sources, TupleBuilders.TRIPLET);
+        }
+
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 3));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 3));
+        }
+    }
+
+    public static final class Zip4<A, B, C, D> {
+        private final Publisher<?>[] sources;
+
+        Zip4(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <E> Zip5<A, B, C, D, E> and(Publisher<? extends E> e) {
+            return new Zip5<A, B, C, D, E>(append(sources, e));
+        }
+
+        public Flowable<Quartet<A, B, C, D>> toQuartet() {
+            return zip(sources, TupleBuilders.QUARTET);
+        }
+
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 4));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 4));
+        }
+    }
+
+    public static final class Zip5<A, B, C, D, E> {
+        private final Publisher<?>[] sources;
+
+        Zip5(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <F> Zip6<A, B, C, D, E, F> and(Publisher<? extends F> f) {
+            return new Zip6<A, B, C, D, E, F>(append(sources, f));
+        }
+
+        public Flowable<Quintet<A, B, C, D, E>> toQuintet() {
+            return zip(sources, TupleBuilders.QUINTET);
+        }
+
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 5));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 5));
+        }
+    }
+
+    public static final class Zip6<A, B, C, D, E, F> {
+        private final Publisher<?>[] sources;
+
+        Zip6(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <G> Zip7<A, B, C, D, E, F, G> and(Publisher<? extends G> g) {
+            return new Zip7<A, B, C, D, E, F, G>(append(sources, g));
+        }
+
+        public Flowable<Sextet<A, B, C, D, E, F>> toSextet() {
+            return zip(sources, TupleBuilders.SEXTET);
+        }
+
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 6));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 6));
+        }
+    }
+
+    public static final class Zip7<A, B, C, D, E, F, G> {
+        private final Publisher<?>[] sources;
+
+        Zip7(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <H> Zip8<A, B, C, D, E, F, G, H> and(Publisher<? extends H> h) {
+            return new Zip8<A, B, C, D, E, F, G, H>(append(sources, h));
+        }
+
+        public Flowable<Septet<A, B, C, D, E, F, G>> toSeptet() {
+            return zip(sources, TupleBuilders.SEPTET);
+        }
+
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 7));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 7));
+        }
+    }
+
+    public static final class Zip8<A, B, C, D, E, F, G, H> {
+        private final Publisher<?>[] sources;
+
+        Zip8(Publisher<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public Flowable<Octet<A, B, C, D, E, F, G, H>> toOctet() {
+            return zip(sources, TupleBuilders.OCTET);
+        }
+
+        public <X, Y> Flowable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 8));
+        }
+
+        public <X, Y, Z> Flowable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 8));
+        }
+    }
+}
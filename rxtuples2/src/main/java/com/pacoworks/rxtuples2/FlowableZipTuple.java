@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.internal.fuseable.QueueSubscription;
+import io.reactivex.internal.fuseable.SimpleQueue;
+import io.reactivex.internal.queue.SpscArrayQueue;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.internal.util.BackpressureHelper;
+
+/**
+ * Backpressured zip that drains one prefetch queue per source and hands the values straight to a
+ * {@link TupleBuilder}, without the Object[] copy and function adapter of {@link Flowable#zip}.
+ * <p>
+ * Sources that support queue fusion are drained in place: synchronous ones are polled with no
+ * requests or onNext calls, asynchronous ones signal into their own queue instead of a copy.
+ *
+ * @author pakoito
+ */
+final class FlowableZipTuple<R> extends Flowable<R> {
+    private final Publisher<?>[] sources;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final int prefetch;
+
+    FlowableZipTuple(Publisher<?>[] sources, TupleBuilder<? extends R> builder, int prefetch) {
+        this.sources = sources;
+        this.builder = builder;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<? super R> s) {
+        new ZipCoordinator<R>(s, builder, sources.length, prefetch).subscribe(sources);
+    }
+
+    static final class ZipCoordinator<R> extends AtomicInteger implements Subscription {
+        private static final long serialVersionUID = 1L;
+
+        private final Subscriber<? super R> actual;
+
+        private final TupleBuilder<? extends R> builder;
+
+        private final ZipSubscriber[] subscribers;
+
+        private final Object[] row;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        /**
+         * Sources fused synchronously, all of them subscribed on the subscribing thread
+         */
+        int syncSources;
+
+        ZipCoordinator(Subscriber<? super R> actual, TupleBuilder<? extends R> builder, int count,
+                int prefetch) {
+            this.actual = actual;
+            this.builder = builder;
+            this.subscribers = new ZipSubscriber[count];
+            this.row = new Object[count];
+            for (int i = 0; i < count; i++) {
+                subscribers[i] = new ZipSubscriber(this, prefetch);
+            }
+        }
+
+        void subscribe(Publisher<?>[] sources) {
+            actual.onSubscribe(this);
+            for (int i = 0; i < subscribers.length; i++) {
+                if (cancelled) {
+                    return;
+                }
+                sources[i].subscribe(subscribers[i]);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (SubscriptionHelper.validate(n)) {
+                BackpressureHelper.add(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        void cancelAll() {
+            for (ZipSubscriber subscriber : subscribers) {
+                subscriber.cancel();
+            }
+        }
+
+        void clear() {
+            Arrays.fill(row, null);
+            for (ZipSubscriber subscriber : subscribers) {
+                final SimpleQueue<Object> q = subscriber.queue;
+                if (q != null) {
+                    q.clear();
+                }
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            if (syncSources == subscribers.length) {
+                drainSync();
+                return;
+            }
+            final ZipSubscriber[] zs = subscribers;
+            final Object[] values = row;
+            final Subscriber<? super R> a = actual;
+            int missed = 1;
+            for (;;) {
+                final long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    int emptyCount = 0;
+                    for (int i = 0; i < zs.length; i++) {
+                        final ZipSubscriber z = zs[i];
+                        if (values[i] == null) {
+                            final boolean done = z.done;
+                            final SimpleQueue<Object> q = z.queue;
+                            final Object v;
+                            try {
+                                v = q != null ? q.poll() : null;
+                            } catch (Throwable ex) {
+                                Exceptions.throwIfFatal(ex);
+                                cancelled = true;
+                                cancelAll();
+                                clear();
+                                a.onError(ex);
+                                return;
+                            }
+                            final boolean empty = v == null;
+                            if (checkTerminated(done, empty, a, z)) {
+                                return;
+                            }
+                            if (empty) {
+                                emptyCount++;
+                            } else {
+                                values[i] = v;
+                            }
+                        } else if (z.done && z.error != null) {
+                            checkTerminated(true, false, a, z);
+                            return;
+                        }
+                    }
+                    if (emptyCount != 0 || e == r) {
+                        break;
+                    }
+                    final R tuple;
+                    try {
+                        tuple = builder.build(values);
+                    } catch (Throwable ex) {
+                        Exceptions.throwIfFatal(ex);
+                        cancelled = true;
+                        cancelAll();
+                        clear();
+                        a.onError(ex);
+                        return;
+                    }
+                    Arrays.fill(values, null);
+                    a.onNext(tuple);
+                    e++;
+                    for (ZipSubscriber z : zs) {
+                        z.consumed();
+                    }
+                }
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Drain for sources that are all fused synchronously: they never signal, so a tuple only
+         * needs a poll per source, and the first empty source completes the zip
+         */
+        private void drainSync() {
+            final ZipSubscriber[] zs = subscribers;
+            final Object[] values = row;
+            final Subscriber<? super R> a = actual;
+            int missed = 1;
+            for (;;) {
+                final long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    final R tuple;
+                    try {
+                        for (int i = 0; i < zs.length; i++) {
+                            if (values[i] == null) {
+                                final Object v = zs[i].queue.poll();
+                                if (v == null) {
+                                    cancelled = true;
+                                    cancelAll();
+                                    clear();
+                                    a.onComplete();
+                                    return;
+                                }
+                                values[i] = v;
+                            }
+                        }
+                        if (e == r) {
+                            break;
+                        }
+                        tuple = builder.build(values);
+                    } catch (Throwable ex) {
+                        Exceptions.throwIfFatal(ex);
+                        cancelled = true;
+                        cancelAll();
+                        clear();
+                        a.onError(ex);
+                        return;
+                    }
+                    Arrays.fill(values, null);
+                    a.onNext(tuple);
+                    e++;
+                }
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean done, boolean empty, Subscriber<? super R> a,
+                ZipSubscriber source) {
+            if (cancelled) {
+                clear();
+                return true;
+            }
+            if (done) {
+                final Throwable e = source.error;
+                if (e != null) {
+                    cancelled = true;
+                    cancelAll();
+                    clear();
+                    a.onError(e);
+                    return true;
+                } else if (empty) {
+                    cancelled = true;
+                    cancelAll();
+                    clear();
+                    a.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final class ZipSubscriber implements Subscriber<Object> {
+        final ZipCoordinator<?> parent;
+
+        final AtomicReference<Subscription> upstream = new AtomicReference<Subscription>();
+
+        private final int prefetch;
+
+        private final int limit;
+
+        private int produced;
+
+        /**
+         * The fused upstream or a prefetch queue, set on subscription
+         */
+        SimpleQueue<Object> queue;
+
+        private int sourceMode;
+
+        volatile boolean done;
+
+        Throwable error;
+
+        ZipSubscriber(ZipCoordinator<?> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.setOnce(upstream, s)) {
+                if (s instanceof QueueSubscription) {
+                    final QueueSubscription<Object> qs = (QueueSubscription<Object>)s;
+                    final int mode = qs.requestFusion(QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        done = true;
+                        parent.syncSources++;
+                        parent.drain();
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        s.request(prefetch);
+                        return;
+                    }
+                }
+                queue = new SpscArrayQueue<Object>(prefetch);
+                s.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(Object t) {
+            // An asynchronous fused source only signals that its queue has elements
+            if (sourceMode != QueueSubscription.ASYNC && !queue.offer(t)) {
+                SubscriptionHelper.cancel(upstream);
+                onError(new MissingBackpressureException("Queue is full?!"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        /**
+         * Called from the drain loop once the value taken from this source has been emitted
+         */
+        void consumed() {
+            if (sourceMode == QueueSubscription.SYNC) {
+                return;
+            }
+            final int p = produced + 1;
+            if (p == limit) {
+                produced = 0;
+                upstream.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancel() {
+            SubscriptionHelper.cancel(upstream);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.ObservableTransformer;
+import io.reactivex.flowables.GroupedFlowable;
+import io.reactivex.functions.Function;
+import io.reactivex.observables.GroupedObservable;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * {@code groupBy()} on tuple keys for both Observable and Flowable, with the groups of each
+ * subscription in a {@link TupleKeySet}.
+ *
+ * @author pakoito
+ */
+public final class GroupByTupleTransformer<T, K> implements
+        ObservableTransformer<T, GroupedObservable<K, T>>,
+        FlowableTransformer<T, GroupedFlowable<K, T>> {
+    private final Function<? super T, ? extends K> keySelector;
+
+    GroupByTupleTransformer(Function<? super T, ? extends K> keySelector) {
+        this.keySelector = keySelector;
+    }
+
+    @Override
+    public ObservableSource<GroupedObservable<K, T>> apply(Observable<T> upstream) {
+        return RxJavaPlugins.onAssembly(new ObservableGroupByTuple<T, K>(upstream, keySelector,
+                Observable.bufferSize()));
+    }
+
+    @Override
+    public Publisher<GroupedFlowable<K, T>> apply(Flowable<T> upstream) {
+        return RxJavaPlugins.onAssembly(new FlowableGroupByTuple<T, K>(upstream, keySelector,
+                Flowable.bufferSize()));
+    }
+}
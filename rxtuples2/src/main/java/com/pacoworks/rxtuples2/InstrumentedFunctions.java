@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Tuple;
+
+import com.pacoworks.rxtuples2.lite.LiteTuple;
+import com.pacoworks.rxtuples2.metrics.TupleMetrics;
+import com.pacoworks.rxtuples2.metrics.TupleMetricsSink;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+
+/**
+ * Wrappers timing every call of a tuple function and reporting it to the installed
+ * {@link TupleMetricsSink}, which is read on every call.
+ *
+ * @author pakoito
+ */
+final class InstrumentedFunctions {
+    private InstrumentedFunctions() {
+        // No instances
+    }
+
+    static void record(String site, long start, Object result) {
+        final long latency = System.nanoTime() - start;
+        TupleMetrics.sink().record(site, latency,
+                result instanceof Tuple || result instanceof LiteTuple);
+    }
+
+    static final class Instrumented1<A, R> implements Function<A, R> {
+        private final String site;
+
+        private final Function<A, R> function;
+
+        Instrumented1(String site, Function<A, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented2<A, B, R> implements BiFunction<A, B, R> {
+        private final String site;
+
+        private final BiFunction<A, B, R> function;
+
+        Instrumented2(String site, BiFunction<A, B, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented3<A, B, C, R> implements Function3<A, B, C, R> {
+        private final String site;
+
+        private final Function3<A, B, C, R> function;
+
+        Instrumented3(String site, Function3<A, B, C, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b, C c) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b, c);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented4<A, B, C, D, R> implements Function4<A, B, C, D, R> {
+        private final String site;
+
+        private final Function4<A, B, C, D, R> function;
+
+        Instrumented4(String site, Function4<A, B, C, D, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b, C c, D d) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b, c, d);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented5<A, B, C, D, E, R> implements Function5<A, B, C, D, E, R> {
+        private final String site;
+
+        private final Function5<A, B, C, D, E, R> function;
+
+        Instrumented5(String site, Function5<A, B, C, D, E, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b, C c, D d, E e) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b, c, d, e);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented6<A, B, C, D, E, F, R> implements
+            Function6<A, B, C, D, E, F, R> {
+        private final String site;
+
+        private final Function6<A, B, C, D, E, F, R> function;
+
+        Instrumented6(String site, Function6<A, B, C, D, E, F, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b, C c, D d, E e, F f) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b, c, d, e, f);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented7<A, B, C, D, E, F, G, R> implements
+            Function7<A, B, C, D, E, F, G, R> {
+        private final String site;
+
+        private final Function7<A, B, C, D, E, F, G, R> function;
+
+        Instrumented7(String site, Function7<A, B, C, D, E, F, G, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b, C c, D d, E e, F f, G g) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b, c, d, e, f, g);
+            record(site, start, result);
+            return result;
+        }
+    }
+
+    static final class Instrumented8<A, B, C, D, E, F, G, H, R> implements
+            Function8<A, B, C, D, E, F, G, H, R> {
+        private final String site;
+
+        private final Function8<A, B, C, D, E, F, G, H, R> function;
+
+        Instrumented8(String site, Function8<A, B, C, D, E, F, G, H, R> function) {
+            this.site = site;
+            this.function = function;
+        }
+
+        @Override
+        public R apply(A a, B b, C c, D d, E e, F f, G g, H h) throws Exception {
+            final long start = System.nanoTime();
+            final R result = function.apply(a, b, c, d, e, f, g, h);
+            record(site, start, result);
+            return result;
+        }
+    }
+}
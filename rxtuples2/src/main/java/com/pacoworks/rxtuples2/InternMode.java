@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * How a {@link TupleInterner} decides that a tuple matches a cached one
+ *
+ * @author pakoito
+ */
+public enum InternMode {
+    /**
+     * Every slot holds the same instance. Cheapest, for slots taken from a fixed set such as enums
+     * or cached state objects.
+     */
+    IDENTITY,
+    /**
+     * Every slot holds an equal value, using the values' hashCode and equals
+     */
+    EQUALITY
+}
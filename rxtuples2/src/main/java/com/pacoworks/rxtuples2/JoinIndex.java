@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * Bounded hash index of the recent elements of one join side. Every element lives in a single
+ * intrusive {@link Node}: its bucket chain, its place in arrival order and its place in LRU order
+ * are fields of the node. Chains are appended at the tail so matches are found in arrival order,
+ * and evicted nodes are recycled, so adding an element allocates at most one node and nothing once
+ * the index is full.
+ * <p>
+ * Not thread-safe, the join serializes all access.
+ *
+ * @author pakoito
+ */
+final class JoinIndex {
+    static final class Node {
+        Object value;
+
+        Object key;
+
+        int hash;
+
+        long time;
+
+        Node bucketNext;
+
+        /* Arrival order, for time expiry and FIFO eviction */
+        Node older;
+
+        Node newer;
+
+        /* Use order, only linked with LRU eviction */
+        Node lessRecent;
+
+        Node moreRecent;
+    }
+
+    private static final int MAX_TABLE = 1 << 30;
+
+    private final int maxEntries;
+
+    private final boolean lru;
+
+    private Node[] table = new Node[16];
+
+    /* Last node of each chain, chains are kept in arrival order */
+    private Node[] tails = new Node[16];
+
+    private int size;
+
+    private Node oldest;
+
+    private Node newest;
+
+    private Node leastRecent;
+
+    private Node mostRecent;
+
+    /* Evicted nodes kept for reuse, chained through bucketNext */
+    private Node free;
+
+    JoinIndex(int maxEntries, EvictionPolicy policy) {
+        this.maxEntries = maxEntries;
+        this.lru = policy == EvictionPolicy.LRU;
+    }
+
+    static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the first node of the chain holding hash, matches must be checked with
+     *         {@link #matches(Node, int, Object)} while following {@link Node#bucketNext}
+     */
+    Node chain(int hash) {
+        return table[hash & (table.length - 1)];
+    }
+
+    static boolean matches(Node node, int hash, Object key) {
+        return node.hash == hash && (node.key == key || node.key.equals(key));
+    }
+
+    /**
+     * Marks a node as just used
+     */
+    void touch(Node node) {
+        if (lru && node != mostRecent) {
+            unlinkRecent(node);
+            linkRecent(node);
+        }
+    }
+
+    /**
+     * @return the number of entries evicted to make room
+     */
+    int add(Object value, Object key, int hash, long time) {
+        int evicted = 0;
+        if (size == maxEntries) {
+            remove(lru ? leastRecent : oldest);
+            evicted = 1;
+        }
+        Node node = free;
+        if (node != null) {
+            free = node.bucketNext;
+        } else {
+            node = new Node();
+        }
+        node.value = value;
+        node.key = key;
+        node.hash = hash;
+        node.time = time;
+        if (size >= table.length - (table.length >> 2) && table.length < MAX_TABLE) {
+            resize();
+        }
+        node.bucketNext = null;
+        final int i = hash & (table.length - 1);
+        if (tails[i] == null) {
+            table[i] = node;
+        } else {
+            tails[i].bucketNext = node;
+        }
+        tails[i] = node;
+        node.older = newest;
+        node.newer = null;
+        if (newest != null) {
+            newest.newer = node;
+        } else {
+            oldest = node;
+        }
+        newest = node;
+        if (lru) {
+            linkRecent(node);
+        }
+        size++;
+        return evicted;
+    }
+
+    /**
+     * Drops the entries that arrived before deadline
+     *
+     * @return the number of entries dropped
+     */
+    int expire(long deadline) {
+        int expired = 0;
+        while (oldest != null && oldest.time < deadline) {
+            remove(oldest);
+            expired++;
+        }
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+            tails[i] = null;
+        }
+        oldest = newest = leastRecent = mostRecent = null;
+        free = null;
+        size = 0;
+    }
+
+    private void remove(Node node) {
+        final int i = node.hash & (table.length - 1);
+        Node n = table[i];
+        if (n == node) {
+            table[i] = node.bucketNext;
+            n = null;
+        } else {
+            while (n.bucketNext != node) {
+                n = n.bucketNext;
+            }
+            n.bucketNext = node.bucketNext;
+        }
+        if (tails[i] == node) {
+            tails[i] = n;
+        }
+        if (node.older != null) {
+            node.older.newer = node.newer;
+        } else {
+            oldest = node.newer;
+        }
+        if (node.newer != null) {
+            node.newer.older = node.older;
+        } else {
+            newest = node.older;
+        }
+        if (lru) {
+            unlinkRecent(node);
+        }
+        node.value = null;
+        node.key = null;
+        node.older = null;
+        node.newer = null;
+        node.bucketNext = free;
+        free = node;
+        size--;
+    }
+
+    private void linkRecent(Node node) {
+        node.lessRecent = mostRecent;
+        node.moreRecent = null;
+        if (mostRecent != null) {
+            mostRecent.moreRecent = node;
+        } else {
+            leastRecent = node;
+        }
+        mostRecent = node;
+    }
+
+    private void unlinkRecent(Node node) {
+        if (node.lessRecent != null) {
+            node.lessRecent.moreRecent = node.moreRecent;
+        } else {
+            leastRecent = node.moreRecent;
+        }
+        if (node.moreRecent != null) {
+            node.moreRecent.lessRecent = node.lessRecent;
+        } else {
+            mostRecent = node.lessRecent;
+        }
+        node.lessRecent = null;
+        node.moreRecent = null;
+    }
+
+    /**
+     * Rehashes in arrival order, so every chain stays ordered oldest first
+     */
+    private void resize() {
+        final Node[] t = new Node[table.length << 1];
+        final Node[] ts = new Node[t.length];
+        final int mask = t.length - 1;
+        for (Node n = oldest; n != null; n = n.newer) {
+            final int i = n.hash & mask;
+            n.bucketNext = null;
+            if (ts[i] == null) {
+                t[i] = n;
+            } else {
+                ts[i].bucketNext = n;
+            }
+            ts[i] = n;
+        }
+        table = t;
+        tails = ts;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * Which unmatched elements a join emits. Unmatched elements are paired with null on the missing
+ * side.
+ *
+ * @author pakoito
+ */
+public enum JoinMode {
+    /**
+     * Only matching left and right elements
+     */
+    INNER,
+    /**
+     * Every left element, with null on the right when it has no match
+     */
+    LEFT_OUTER,
+    /**
+     * Every left and right element, with null on the side that has no match
+     */
+    FULL_OUTER
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free multi-producer single-consumer queue of latest-value events, each one the index of a
+ * source and the value it emitted. Producers link a node with a single getAndSet, the consumer
+ * walks the links from a stub node.
+ * <p>
+ * A node whose producer has not linked it yet is not visible to {@link #poll()}, so producers must
+ * signal the consumer after offering.
+ *
+ * @author pakoito
+ */
+final class LatestEvents {
+    private final AtomicReference<Node> tail;
+
+    /* Consumer side, the last node read */
+    private Node head;
+
+    LatestEvents() {
+        final Node stub = new Node(-1, null);
+        this.head = stub;
+        this.tail = new AtomicReference<Node>(stub);
+    }
+
+    void offer(int index, Object value) {
+        final Node node = new Node(index, value);
+        tail.getAndSet(node).lazySet(node);
+    }
+
+    /**
+     * @return the next event without removing it, or null
+     */
+    Node peek() {
+        return head.get();
+    }
+
+    /**
+     * @return the next event, its value must be read before the following poll, or null
+     */
+    Node poll() {
+        final Node next = head.get();
+        if (next == null) {
+            return null;
+        }
+        head.value = null;
+        head = next;
+        return next;
+    }
+
+    /**
+     * @return whether no event has been offered or is being offered, consumer side only
+     */
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    void clear() {
+        while (poll() != null) {
+            // Dropping the events
+        }
+        head.value = null;
+    }
+
+    static final class Node extends AtomicReference<Node> {
+        private static final long serialVersionUID = 1L;
+
+        final int index;
+
+        Object value;
+
+        Node(int index, Object value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free latest value per source. Writers publish with release semantics, readers may run on
+ * any thread.
+ *
+ * @author pakoito
+ */
+final class LatestSlots {
+    private final AtomicReferenceArray<Object> values;
+
+    LatestSlots(int size) {
+        this.values = new AtomicReferenceArray<Object>(size);
+    }
+
+    void set(int index, Object value) {
+        values.lazySet(index, value);
+    }
+
+    Object get(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * Copies the current values into a scratch row for a {@link TupleBuilder}
+     */
+    void copyTo(Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            row[i] = values.get(i);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < values.length(); i++) {
+            values.lazySet(i, null);
+        }
+    }
+}
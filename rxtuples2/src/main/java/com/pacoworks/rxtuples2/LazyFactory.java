@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Builds lazy tuples whose first slots are set up front, either the source itself or the values
+ * of a source tuple, and whose remaining slots each apply a function to the source
+ *
+ * @author pakoito
+ */
+final class LazyFactory implements Function<Object, LazyTuple> {
+    private final Function<Object, ?>[] functions;
+
+    private final int strict;
+
+    private final boolean fromTuple;
+
+    /**
+     * @param size number of slots of the built tuples
+     * @param fromTuple whether the source is a tuple of {@code size - lazy.length} values to copy
+     *            or a single value for slot 0
+     */
+    @SuppressWarnings({
+            "unchecked", "rawtypes"
+    })
+    LazyFactory(int size, boolean fromTuple, Function<?, ?>... lazy) {
+        this.functions = new Function[size];
+        this.strict = size - lazy.length;
+        this.fromTuple = fromTuple;
+        System.arraycopy(lazy, 0, functions, strict, lazy.length);
+    }
+
+    @Override
+    public LazyTuple apply(Object source) {
+        final Function<Object, ?>[] f = functions;
+        final Object[] values = new Object[f.length];
+        if (fromTuple) {
+            final Tuple tuple = (Tuple)source;
+            for (int i = 0; i < strict; i++) {
+                values[i] = tuple.getValue(i);
+            }
+        } else {
+            values[0] = source;
+        }
+        final int evaluated = (1 << strict) - 1;
+        switch (f.length) {
+            case 2:
+                return new LazyPair<Object, Object>(source, f, values, evaluated);
+            case 3:
+                return new LazyTriplet<Object, Object, Object>(source, f, values, evaluated);
+            case 4:
+                return new LazyQuartet<Object, Object, Object, Object>(source, f, values,
+                        evaluated);
+            case 5:
+                return new LazyQuintet<Object, Object, Object, Object, Object>(source, f, values,
+                        evaluated);
+            case 6:
+                return new LazySextet<Object, Object, Object, Object, Object, Object>(source, f,
+                        values, evaluated);
+            case 7:
+                return new LazySeptet<Object, Object, Object, Object, Object, Object, Object>(
+                        source, f, values, evaluated);
+            default:
+                return new LazyOctet<Object, Object, Object, Object, Object, Object, Object,
+                        Object>(source, f, values, evaluated);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Pair;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Counterpart of {@link Pair} with slots computed on first read
+ *
+ * @author pakoito
+ * @see LazyTuple
+ */
+public final class LazyPair<A, B> extends LazyTuple {
+    LazyPair(Object source, Function<Object, ?>[] functions, Object[] values, int evaluated) {
+        super(source, functions, values, evaluated);
+    }
+
+    @SuppressWarnings("unchecked")
+    public A getValue0() {
+        return (A)value(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public B getValue1() {
+        return (B)value(1);
+    }
+
+    @Override
+    public int getSize() {
+        return 2;
+    }
+
+    @Override
+    public Pair<A, B> toTuple() {
+        return Pair.with(getValue0(), getValue1());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+
+/**
+ * Tuple whose derived slots are computed from a source value the first time they are read, and
+ * then kept. Slots are computed at most once even when read from several threads. A slot whose
+ * function throws is left pending and computed again on the next read, checked exceptions are
+ * wrapped in a RuntimeException.
+ * <p>
+ * Lazy tuples compare by identity so that comparing them doesn't compute every slot, use
+ * {@link #toTuple()} to compare values.
+ *
+ * @author pakoito
+ */
+public abstract class LazyTuple {
+    private final Object source;
+
+    /* One per slot, shared by every tuple of the same factory. Null for the slots set up front. */
+    private final Function<Object, ?>[] functions;
+
+    private final Object[] values;
+
+    /* Bit i is set once values[i] holds the value of slot i */
+    private volatile int evaluated;
+
+    LazyTuple(Object source, Function<Object, ?>[] functions, Object[] values, int evaluated) {
+        this.source = source;
+        this.functions = functions;
+        this.values = values;
+        this.evaluated = evaluated;
+    }
+
+    public abstract int getSize();
+
+    /**
+     * Computes every pending slot and copies them into a new javatuple
+     */
+    public abstract Tuple toTuple();
+
+    public final Object getValue(int pos) {
+        if (pos < 0 || pos >= values.length) {
+            throw new IndexOutOfBoundsException("Invalid slot " + pos + " for a tuple of "
+                    + values.length);
+        }
+        return value(pos);
+    }
+
+    /**
+     * @return whether slot {@code pos} has been computed, or was set up front
+     */
+    public final boolean isEvaluated(int pos) {
+        return (evaluated & (1 << pos)) != 0;
+    }
+
+    final Object value(int slot) {
+        final int bit = 1 << slot;
+        if ((evaluated & bit) != 0) {
+            return values[slot];
+        }
+        synchronized (this) {
+            if ((evaluated & bit) == 0) {
+                try {
+                    values[slot] = functions[slot].apply(source);
+                } catch (Throwable ex) {
+                    throw Exceptions.propagate(ex);
+                }
+                evaluated |= bit;
+            }
+            return values[slot];
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(isEvaluated(i) ? String.valueOf(values[i]) : "?");
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * CombineLatest without locks. An emission that finds no other one in progress updates the latest
+ * row and builds its tuple right on the emitting thread, without queueing or copying. Emissions
+ * racing with it are queued in {@link LatestEvents} as source index and value, and applied in
+ * queue order by whichever thread is emitting, so the last tuple delivered always holds the last
+ * value of every source.
+ * <p>
+ * When conflating, emissions only mark the {@link LatestSlots} as dirty and the observer receives
+ * a single tuple with the newest values for every burst that arrived while it was busy.
+ *
+ * @author pakoito
+ */
+final class ObservableCombineLatestTuple<R> extends Observable<R> {
+    private final ObservableSource<?>[] sources;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final boolean conflate;
+
+    ObservableCombineLatestTuple(ObservableSource<?>[] sources, TupleBuilder<? extends R> builder,
+            boolean conflate) {
+        this.sources = sources;
+        this.builder = builder;
+        this.conflate = conflate;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> observer) {
+        new LatestCoordinator<R>(observer, builder, sources.length, conflate).subscribe(sources);
+    }
+
+    static final class LatestCoordinator<R> extends AtomicInteger implements Disposable {
+        private static final long serialVersionUID = 1L;
+
+        private final Observer<? super R> actual;
+
+        private final TupleBuilder<? extends R> builder;
+
+        private final boolean conflate;
+
+        private final LatestObserver[] observers;
+
+        /* Latest values when conflating */
+        private final LatestSlots slots;
+
+        /* Latest values applied by the emitting thread, or the scratch row when conflating */
+        private final Object[] row;
+
+        private final LatestEvents events = new LatestEvents();
+
+        /* Row slots holding a value, emitting thread only */
+        private int present;
+
+        /* Sources that have not emitted their first value yet, when conflating */
+        private final AtomicInteger missing;
+
+        /* Sources that have not completed yet */
+        private final AtomicInteger active;
+
+        private final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+        private volatile boolean done;
+
+        private volatile boolean dirty;
+
+        private volatile boolean cancelled;
+
+        LatestCoordinator(Observer<? super R> actual, TupleBuilder<? extends R> builder, int count,
+                boolean conflate) {
+            this.actual = actual;
+            this.builder = builder;
+            this.conflate = conflate;
+            this.observers = new LatestObserver[count];
+            this.slots = conflate ? new LatestSlots(count) : null;
+            this.row = new Object[count];
+            this.missing = new AtomicInteger(count);
+            this.active = new AtomicInteger(count);
+            for (int i = 0; i < count; i++) {
+                observers[i] = new LatestObserver(this, i);
+            }
+        }
+
+        void subscribe(ObservableSource<?>[] sources) {
+            actual.onSubscribe(this);
+            for (int i = 0; i < observers.length; i++) {
+                if (cancelled || done) {
+                    return;
+                }
+                sources[i].subscribe(observers[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+
+        void cancelAll() {
+            for (LatestObserver observer : observers) {
+                observer.dispose();
+            }
+        }
+
+        void clear() {
+            events.clear();
+            if (slots != null) {
+                slots.clear();
+            }
+            Arrays.fill(row, null);
+        }
+
+        void innerNext(LatestObserver inner, Object value) {
+            if (conflate) {
+                slots.set(inner.index, value);
+                if (!inner.hasValue) {
+                    inner.hasValue = true;
+                    if (missing.decrementAndGet() != 0) {
+                        return;
+                    }
+                } else if (missing.get() != 0) {
+                    return;
+                }
+                dirty = true;
+                drain();
+                return;
+            }
+            inner.hasValue = true;
+            if (get() == 0 && compareAndSet(0, 1)) {
+                if (events.isEmpty()) {
+                    if (!cancelled) {
+                        apply(inner.index, value);
+                    }
+                    // A failed build left an error that only the drain loop delivers
+                    if (error.get() == null && decrementAndGet() == 0) {
+                        return;
+                    }
+                } else {
+                    events.offer(inner.index, value);
+                }
+            } else {
+                events.offer(inner.index, value);
+                if (getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        /**
+         * Stores the value in the row and emits a tuple once every source has a value, emitting
+         * thread only
+         */
+        private void apply(int index, Object value) {
+            final Object[] values = row;
+            if (values[index] == null) {
+                present++;
+            }
+            values[index] = value;
+            if (present == values.length && error.get() == null) {
+                final R tuple;
+                try {
+                    tuple = builder.build(values);
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    error.compareAndSet(null, ex);
+                    return;
+                }
+                actual.onNext(tuple);
+            }
+        }
+
+        void innerError(Throwable e) {
+            if (error.compareAndSet(null, e)) {
+                drain();
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        void innerComplete(LatestObserver inner) {
+            if (!inner.hasValue || active.decrementAndGet() == 0) {
+                done = true;
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            drainLoop();
+        }
+
+        private void drainLoop() {
+            final Observer<? super R> a = actual;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    final Throwable ex = error.get();
+                    if (ex != null) {
+                        cancelled = true;
+                        cancelAll();
+                        clear();
+                        a.onError(ex);
+                        return;
+                    }
+                    final boolean d = done;
+                    boolean empty;
+                    if (conflate) {
+                        empty = !dirty;
+                        if (!empty) {
+                            dirty = false;
+                            slots.copyTo(row);
+                            final R tuple;
+                            try {
+                                tuple = builder.build(row);
+                            } catch (Throwable e) {
+                                Exceptions.throwIfFatal(e);
+                                error.compareAndSet(null, e);
+                                continue;
+                            } finally {
+                                Arrays.fill(row, null);
+                            }
+                            a.onNext(tuple);
+                        }
+                    } else {
+                        final LatestEvents.Node event = events.poll();
+                        empty = event == null;
+                        if (!empty) {
+                            apply(event.index, event.value);
+                        }
+                    }
+                    if (empty) {
+                        if (d) {
+                            cancelled = true;
+                            cancelAll();
+                            clear();
+                            a.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    static final class LatestObserver implements Observer<Object> {
+        final LatestCoordinator<?> parent;
+
+        final int index;
+
+        final AtomicReference<Disposable> upstream = new AtomicReference<Disposable>();
+
+        /* Whether this source has emitted, emitting thread only */
+        boolean hasValue;
+
+        LatestObserver(LatestCoordinator<?> parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(Object t) {
+            parent.innerNext(this, t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.innerComplete(this);
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(upstream);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.disposables.EmptyDisposable;
+import io.reactivex.internal.queue.MpscLinkedQueue;
+import io.reactivex.internal.queue.SpscLinkedArrayQueue;
+import io.reactivex.observables.GroupedObservable;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * {@code groupBy()} with its groups in a {@link TupleKeySet} instead of a
+ * {@link java.util.concurrent.ConcurrentHashMap}, so each element finds its group through the
+ * key's cached hash and a slot by slot comparison. The set belongs to the upstream thread: groups
+ * disposed on other threads are queued and removed from it before the next lookup.
+ *
+ * @author pakoito
+ */
+final class ObservableGroupByTuple<T, K> extends Observable<GroupedObservable<K, T>> {
+    private final ObservableSource<T> source;
+
+    private final Function<? super T, ? extends K> keySelector;
+
+    private final int bufferSize;
+
+    ObservableGroupByTuple(ObservableSource<T> source, Function<? super T, ? extends K> keySelector,
+            int bufferSize) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super GroupedObservable<K, T>> observer) {
+        source.subscribe(new GroupByObserver<T, K>(observer, keySelector, bufferSize));
+    }
+
+    /**
+     * Counts the live groups plus one for the main observer, the upstream is disposed once all of
+     * them are gone
+     */
+    static final class GroupByObserver<T, K> extends AtomicInteger implements Observer<T>,
+            Disposable {
+        private static final long serialVersionUID = 1L;
+
+        static final Object NULL_KEY = new Object();
+
+        private final Observer<? super GroupedObservable<K, T>> actual;
+
+        private final Function<? super T, ? extends K> keySelector;
+
+        private final int bufferSize;
+
+        /* Group states by key, upstream thread only */
+        private final TupleKeySet groups = new TupleKeySet(16);
+
+        /* Disposed groups waiting to leave the set */
+        private final MpscLinkedQueue<GroupState<T, K>> dead = new MpscLinkedQueue<GroupState<T, K>>();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Disposable d;
+
+        private boolean done;
+
+        GroupByObserver(Observer<? super GroupedObservable<K, T>> actual,
+                Function<? super T, ? extends K> keySelector, int bufferSize) {
+            this.actual = actual;
+            this.keySelector = keySelector;
+            this.bufferSize = bufferSize;
+            lazySet(1);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(this.d, d)) {
+                this.d = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            final K key;
+            try {
+                key = keySelector.apply(t);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                d.dispose();
+                onError(ex);
+                return;
+            }
+            purge();
+            final Object mapKey = key != null ? key : NULL_KEY;
+            GroupState<T, K> state = (GroupState<T, K>)groups.get(mapKey);
+            if (state == null) {
+                if (cancelled.get()) {
+                    return;
+                }
+                final Group<K, T> group = new Group<K, T>(key, bufferSize, this);
+                state = group.state;
+                groups.put(mapKey, state);
+                getAndIncrement();
+                actual.onNext(group);
+            }
+            state.onNext(t);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            for (Object state : groups.values()) {
+                ((GroupState<T, K>)state).onError(e);
+            }
+            groups.clear();
+            dead.clear();
+            actual.onError(e);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            for (Object state : groups.values()) {
+                ((GroupState<T, K>)state).onComplete();
+            }
+            groups.clear();
+            dead.clear();
+            actual.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            // Groups already handed out keep the upstream alive
+            if (cancelled.compareAndSet(false, true) && decrementAndGet() == 0) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled.get();
+        }
+
+        /**
+         * Called once by a group disposed on any thread
+         */
+        void cancel(GroupState<T, K> state) {
+            dead.offer(state);
+            if (decrementAndGet() == 0) {
+                d.dispose();
+            }
+        }
+
+        private void purge() {
+            for (GroupState<T, K> state = dead.poll(); state != null; state = dead.poll()) {
+                groups.remove(state.key != null ? state.key : NULL_KEY, state);
+            }
+        }
+    }
+
+    static final class Group<K, T> extends GroupedObservable<K, T> {
+        final GroupState<T, K> state;
+
+        Group(K key, int bufferSize, GroupByObserver<T, K> parent) {
+            super(key);
+            this.state = new GroupState<T, K>(key, bufferSize, parent);
+        }
+
+        @Override
+        protected void subscribeActual(Observer<? super T> observer) {
+            state.subscribe(observer);
+        }
+    }
+
+    /**
+     * Unbounded unicast buffer of a group, drained to its single observer
+     */
+    static final class GroupState<T, K> extends AtomicInteger implements Disposable,
+            ObservableSource<T> {
+        private static final long serialVersionUID = 1L;
+
+        final K key;
+
+        private final SpscLinkedArrayQueue<T> queue;
+
+        private final GroupByObserver<T, K> parent;
+
+        private final AtomicBoolean once = new AtomicBoolean();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private final AtomicReference<Observer<? super T>> actual = new AtomicReference<Observer<? super T>>();
+
+        private Throwable error;
+
+        private volatile boolean done;
+
+        GroupState(K key, int bufferSize, GroupByObserver<T, K> parent) {
+            this.key = key;
+            this.queue = new SpscLinkedArrayQueue<T>(bufferSize);
+            this.parent = parent;
+        }
+
+        @Override
+        public void subscribe(Observer<? super T> observer) {
+            if (!once.compareAndSet(false, true)) {
+                EmptyDisposable.error(new IllegalStateException(
+                        "Each group allows only one Observer"), observer);
+                return;
+            }
+            observer.onSubscribe(this);
+            actual.lazySet(observer);
+            if (cancelled.get()) {
+                actual.lazySet(null);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (cancelled.compareAndSet(false, true)) {
+                parent.cancel(this);
+                // Discards what is buffered, or leaves it to the drain in progress
+                drain();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled.get();
+        }
+
+        void onNext(T t) {
+            queue.offer(t);
+            drain();
+        }
+
+        void onError(Throwable e) {
+            error = e;
+            done = true;
+            drain();
+        }
+
+        void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            final SpscLinkedArrayQueue<T> q = queue;
+            Observer<? super T> a = actual.get();
+            int missed = 1;
+            for (;;) {
+                if (cancelled.get()) {
+                    // A cancelled group keeps discarding until it leaves the parent's set
+                    q.clear();
+                    actual.lazySet(null);
+                } else if (a != null) {
+                    for (;;) {
+                        final boolean d = done;
+                        final T v = q.poll();
+                        final boolean empty = v == null;
+                        if (d && checkTerminated(empty, a)) {
+                            return;
+                        }
+                        if (empty) {
+                            break;
+                        }
+                        a.onNext(v);
+                        if (cancelled.get()) {
+                            break;
+                        }
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+                if (a == null) {
+                    a = actual.get();
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean empty, Observer<? super T> a) {
+            final Throwable e = error;
+            if (e != null) {
+                queue.clear();
+                actual.lazySet(null);
+                a.onError(e);
+                return true;
+            }
+            if (empty) {
+                actual.lazySet(null);
+                a.onComplete();
+                return true;
+            }
+            return false;
+        }
+    }
+}
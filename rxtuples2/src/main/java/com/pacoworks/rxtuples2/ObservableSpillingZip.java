@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pacoworks.rxtuples2.ObservableZipTuple.ZipCoordinator;
+import com.pacoworks.rxtuples2.ObservableZipTuple.ZipObserver;
+import com.pacoworks.rxtuples2.codec.ElementCodec;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.exceptions.Exceptions;
+
+/**
+ * Zip to tuple that keeps a bounded number of elements per source in memory and spills the
+ * overflow of a source running ahead to a memory-mapped temporary file, reading it back in order
+ * as the other sources catch up. It shares the coordinator of {@link ObservableZipTuple}, with a
+ * {@link SpillQueue} per source.
+ * <p>
+ * The spill counters add up every subscription to this Observable.
+ *
+ * @author pakoito
+ * @see RxTuples#spillingZipToPair(ObservableSource, ObservableSource, ElementCodec,
+ *      ElementCodec, int)
+ */
+public final class ObservableSpillingZip<R> extends Observable<R> {
+    private final ObservableSource<?>[] sources;
+
+    private final ElementCodec<Object>[] codecs;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final int memoryCapacity;
+
+    private final File directory;
+
+    private final AtomicLong spilledBytes = new AtomicLong();
+
+    private final AtomicLong spillCount = new AtomicLong();
+
+    ObservableSpillingZip(ObservableSource<?>[] sources, ElementCodec<Object>[] codecs,
+            TupleBuilder<? extends R> builder, int memoryCapacity, File directory) {
+        this.sources = sources;
+        this.codecs = codecs;
+        this.builder = builder;
+        this.memoryCapacity = memoryCapacity;
+        this.directory = directory;
+    }
+
+    /**
+     * @return bytes written to spill files so far
+     */
+    public long spilledBytes() {
+        return spilledBytes.get();
+    }
+
+    /**
+     * @return elements written to spill files so far
+     */
+    public long spillCount() {
+        return spillCount.get();
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> observer) {
+        final ZipObserver[] observers = new ZipObserver[sources.length];
+        final ZipCoordinator<R> parent = new ZipCoordinator<R>(observer, builder, observers);
+        for (int i = 0; i < observers.length; i++) {
+            observers[i] = new SpillObserver(parent, new SpillQueue(codecs[i], memoryCapacity,
+                    directory, spilledBytes, spillCount));
+        }
+        parent.subscribe(sources);
+    }
+
+    static final class SpillObserver extends ZipObserver {
+        final SpillQueue spill;
+
+        SpillObserver(ZipCoordinator<?> parent, SpillQueue spill) {
+            super(parent, spill);
+            this.spill = spill;
+        }
+
+        @Override
+        public void onNext(Object t) {
+            if (done) {
+                return;
+            }
+            try {
+                spill.write(t);
+            } catch (Throwable ex) {
+                // Also covers a user codec failing or writing past its maxSize
+                Exceptions.throwIfFatal(ex);
+                dispose();
+                onError(ex);
+                return;
+            }
+            parent.drain();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.disposables.EmptyDisposable;
+
+/**
+ * Splits a tuple stream into one Observable per slot over a single upstream subscription. The
+ * upstream is subscribed to once every branch has an observer, and each branch can only be
+ * observed once. Values are handed to every branch as they arrive, without buffering.
+ *
+ * @author pakoito
+ */
+final class ObservableUnzip implements Observer<Tuple> {
+    private final ObservableSource<? extends Tuple> source;
+
+    private final Branch[] branches;
+
+    private final AtomicReference<Disposable> upstream = new AtomicReference<Disposable>();
+
+    /* Branches that received an observer */
+    private final AtomicInteger subscribed = new AtomicInteger();
+
+    /* Branches that have not been disposed */
+    private final AtomicInteger active;
+
+    ObservableUnzip(ObservableSource<? extends Tuple> source, int count) {
+        this.source = source;
+        this.active = new AtomicInteger(count);
+        this.branches = new Branch[count];
+        for (int i = 0; i < count; i++) {
+            branches[i] = new Branch(this, i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Observable<T> branch(int index) {
+        return (Observable<T>)branches[index];
+    }
+
+    void branchSubscribed() {
+        if (subscribed.incrementAndGet() == branches.length) {
+            source.subscribe(this);
+        }
+    }
+
+    void branchDisposed() {
+        if (active.decrementAndGet() == 0) {
+            DisposableHelper.dispose(upstream);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(upstream, d);
+    }
+
+    @Override
+    public void onNext(Tuple t) {
+        for (Branch b : branches) {
+            if (!b.disposed.get()) {
+                b.actual.onNext(t.getValue(b.index));
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        for (Branch b : branches) {
+            if (!b.disposed.get()) {
+                b.actual.onError(e);
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        for (Branch b : branches) {
+            if (!b.disposed.get()) {
+                b.actual.onComplete();
+            }
+        }
+    }
+
+    static final class Branch extends Observable<Object> implements Disposable {
+        final ObservableUnzip parent;
+
+        final int index;
+
+        private final AtomicBoolean once = new AtomicBoolean();
+
+        final AtomicBoolean disposed = new AtomicBoolean();
+
+        Observer<? super Object> actual;
+
+        Branch(ObservableUnzip parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        @Override
+        protected void subscribeActual(Observer<? super Object> observer) {
+            if (!once.compareAndSet(false, true)) {
+                EmptyDisposable.error(new IllegalStateException(
+                        "Each unzipped branch allows only one Observer"), observer);
+                return;
+            }
+            actual = observer;
+            observer.onSubscribe(this);
+            parent.branchSubscribed();
+        }
+
+        @Override
+        public void dispose() {
+            // Concurrent disposes must only release one branch from the shared upstream
+            if (disposed.compareAndSet(false, true)) {
+                parent.branchDisposed();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed.get();
+        }
+    }
+}
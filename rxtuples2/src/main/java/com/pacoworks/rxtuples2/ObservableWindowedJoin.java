@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.functions.Function;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Equi-join of unsorted sources over a window of recent elements. Each source keeps a
+ * {@link JoinIndex} of its recent elements by key. Every new element is matched against the
+ * indexes of the other sources, emitting one tuple per combination of matches, and is then added
+ * to its own index.
+ * <p>
+ * Entries expire once they are older than the time window, checked whenever an element arrives,
+ * and each index holds at most {@code maxEntries}, evicting by {@link EvictionPolicy}. The counters
+ * add up every subscription to this Observable.
+ *
+ * @author pakoito
+ * @see RxTuples#windowedJoinToPair(ObservableSource, ObservableSource, Function, Function, int,
+ *      EvictionPolicy)
+ */
+public final class ObservableWindowedJoin<R> extends Observable<R> {
+    private final ObservableSource<?>[] sources;
+
+    private final Function<Object, ?>[] keySelectors;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final long window;
+
+    private final TimeUnit unit;
+
+    private final Scheduler scheduler;
+
+    private final int maxEntries;
+
+    private final EvictionPolicy policy;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * A negative window, with a null unit and scheduler, only evicts by entry count
+     */
+    ObservableWindowedJoin(ObservableSource<?>[] sources, Function<Object, ?>[] keySelectors,
+            TupleBuilder<? extends R> builder, long window, TimeUnit unit, Scheduler scheduler,
+            int maxEntries, EvictionPolicy policy) {
+        this.sources = sources;
+        this.keySelectors = keySelectors;
+        this.builder = builder;
+        this.window = window;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.maxEntries = maxEntries;
+        this.policy = policy;
+    }
+
+    /**
+     * @return elements that matched at least one element of every other source
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return elements that found no match on some other source
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return entries dropped from the indexes, either expired or evicted to make room
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> observer) {
+        final JoinIndex[] indexes = new JoinIndex[sources.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = new JoinIndex(maxEntries, policy);
+        }
+        new JoinCoordinator<R>(observer, this, indexes).subscribe(sources);
+    }
+
+    static final class JoinCoordinator<R> implements Disposable {
+        private final Observer<? super R> actual;
+
+        private final ObservableWindowedJoin<R> parent;
+
+        private final JoinIndex[] indexes;
+
+        private final JoinObserver[] observers;
+
+        private final Object[] row;
+
+        private int active;
+
+        private boolean done;
+
+        private volatile boolean disposed;
+
+        JoinCoordinator(Observer<? super R> actual, ObservableWindowedJoin<R> parent,
+                JoinIndex[] indexes) {
+            this.actual = actual;
+            this.parent = parent;
+            this.indexes = indexes;
+            this.observers = new JoinObserver[indexes.length];
+            this.row = new Object[indexes.length];
+            this.active = indexes.length;
+            for (int i = 0; i < observers.length; i++) {
+                observers[i] = new JoinObserver(this, i);
+            }
+        }
+
+        void subscribe(ObservableSource<?>[] sources) {
+            actual.onSubscribe(this);
+            for (int i = 0; i < observers.length; i++) {
+                if (disposed) {
+                    return;
+                }
+                sources[i].subscribe(observers[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                disposeAll();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        void disposeAll() {
+            for (JoinObserver observer : observers) {
+                DisposableHelper.dispose(observer);
+            }
+        }
+
+        synchronized void next(int side, Object value) {
+            if (done || disposed) {
+                return;
+            }
+            final ObservableWindowedJoin<R> p = parent;
+            final JoinIndex[] ixs = indexes;
+            try {
+                final Object key = ObjectHelper.requireNonNull(p.keySelectors[side].apply(value),
+                        "The key selector returned a null key");
+                final int hash = JoinIndex.spread(key.hashCode());
+                long now = 0L;
+                int evicted = 0;
+                if (p.window >= 0L) {
+                    now = p.scheduler.now(p.unit);
+                    final long deadline = now - p.window;
+                    for (JoinIndex index : ixs) {
+                        evicted += index.expire(deadline);
+                    }
+                }
+                row[side] = value;
+                final boolean hit = emit(side, 0, key, hash);
+                row[side] = null;
+                if (done || disposed) {
+                    return;
+                }
+                if (hit) {
+                    p.hits.incrementAndGet();
+                } else {
+                    p.misses.incrementAndGet();
+                }
+                evicted += ixs[side].add(value, key, hash, now);
+                if (evicted != 0) {
+                    p.evictions.addAndGet(evicted);
+                }
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                error(ex);
+            }
+        }
+
+        /**
+         * Walks the matches of every source after j, the arriving side keeps its own value
+         *
+         * @return true if at least one tuple was emitted
+         */
+        private boolean emit(int side, int j, Object key, int hash) throws Exception {
+            final Object[] r = row;
+            if (j == r.length) {
+                final R tuple = parent.builder.build(r);
+                actual.onNext(tuple);
+                return true;
+            }
+            if (j == side) {
+                return emit(side, j + 1, key, hash);
+            }
+            final JoinIndex index = indexes[j];
+            boolean hit = false;
+            for (JoinIndex.Node n = index.chain(hash); n != null && !disposed; n = n.bucketNext) {
+                if (JoinIndex.matches(n, hash, key)) {
+                    index.touch(n);
+                    r[j] = n.value;
+                    hit |= emit(side, j + 1, key, hash);
+                }
+            }
+            r[j] = null;
+            return hit;
+        }
+
+        synchronized void error(Throwable e) {
+            if (done || disposed) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            disposeAll();
+            clear();
+            actual.onError(e);
+        }
+
+        synchronized void complete() {
+            if (done || disposed) {
+                return;
+            }
+            if (--active == 0) {
+                done = true;
+                clear();
+                actual.onComplete();
+            }
+        }
+
+        private void clear() {
+            for (JoinIndex index : indexes) {
+                index.clear();
+            }
+        }
+    }
+
+    static final class JoinObserver extends AtomicReference<Disposable> implements
+            Observer<Object> {
+        private static final long serialVersionUID = 1L;
+
+        private final JoinCoordinator<?> parent;
+
+        private final int side;
+
+        JoinObserver(JoinCoordinator<?> parent, int side) {
+            this.parent = parent;
+            this.side = side;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(Object t) {
+            parent.next(side, t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.error(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.complete();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Fluent Observable zip collecting sources with {@code and()} and building the final tuple with
+ * a single N-way zip. Each stage is an immutable value that can be shared and extended from.
+ *
+ * @author pakoito
+ * @see RxTuples#zipBuilder(ObservableSource)
+ */
+public final class ObservableZipBuilder {
+    private ObservableZipBuilder() {
+        // No instances
+    }
+
+    static <A> Zip1<A> start(ObservableSource<? extends A> a) {
+        ObjectHelper.requireNonNull(a, "source 0 is null");
+        return new Zip1<A>(new ObservableSource<?>[] {
+                a
+        });
+    }
+
+    static ObservableSource<?>[] append(ObservableSource<?>[] sources,
+            ObservableSource<?> source) {
+        RxTuples.requireNonNull(source, "source", sources.length);
+        final ObservableSource<?>[] next = new ObservableSource<?>[sources.length + 1];
+        System.arraycopy(sources, 0, next, 0, sources.length);
+        next[sources.length] = source;
+        return next;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> Observable<R> zip(ObservableSource<?>[] sources, TupleBuilder<?> builder) {
+        return RxJavaPlugins.onAssembly(new ObservableZipTuple<R>(sources,
+                (TupleBuilder<R>)builder, Observable.bufferSize()));
+    }
+
+    public static final class Zip1<A> {
+        private final ObservableSource<?>[] sources;
+
+        Zip1(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <B> Zip2<A, B> and(ObservableSource<? extends B> b) {
+            return new Zip2<A, B>(append(sources, b));
+        }
+    }
+
+    public static final class Zip2<A, B> {
+        private final ObservableSource<?>[] sources;
+
+        Zip2(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <C> Zip3<A, B, C> and(ObservableSource<? extends C> c) {
+            return new Zip3<A, B, C>(append(sources, c));
+        }
+
+        public Observable<Pair<A, B>> toPair() {
+            return zip(sources, TupleBuilders.PAIR);
+        }
+
+        /**
+         * Zips straight into a Pair of the given slots, e.g. {@code select(1, 0)} to swap them,
+         * without building the full tuple first. The result types are not checked and must match
+         * the selected sources.
+         */
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 2));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 2));
+        }
+    }
+
+    public static final class Zip3<A, B, C> {
+        private final ObservableSource<?>[] sources;
+
+        Zip3(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <D> Zip4<A, B, C, D> and(ObservableSource<? extends D> d) {
+            return new Zip4<A, B, C, D>(append(sources, d));
+        }
+
+        public Observable<Triplet<A, B, C>> toTriplet() {
+            return zip(sources, TupleBuilders.TRIPLET);
+        }
+
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 3));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 3));
+        }
+    }
+
+    public static final class Zip4<A, B, C, D> {
+        private final ObservableSource<?>[] sources;
+
+        Zip4(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <E> Zip5<A, B, C, D, E> and(ObservableSource<? extends E> e) {
+            return new Zip5<A, B, C, D, E>(append(sources, e));
+        }
+
+        public Observable<Quartet<A, B, C, D>> toQuartet() {
+            return zip(sources, TupleBuilders.QUARTET);
+        }
+
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 4));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 4));
+        }
+    }
+
+    public static final class Zip5<A, B, C, D, E> {
+        private final ObservableSource<?>[] sources;
+
+        Zip5(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <F> Zip6<A, B, C, D, E, F> and(ObservableSource<? extends F> f) {
+            return new Zip6<A, B, C, D, E, F>(append(sources, f));
+        }
+
+        public Observable<Quintet<A, B, C, D, E>> toQuintet() {
+            return zip(sources, TupleBuilders.QUINTET);
+        }
+
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 5));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 5));
+        }
+    }
+
+    public static final class Zip6<A, B, C, D, E, F> {
+        private final ObservableSource<?>[] sources;
+
+        Zip6(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <G> Zip7<A, B, C, D, E, F, G> and(ObservableSource<? extends G> g) {
+            return new Zip7<A, B, C, D, E, F, G>(append(sources, g));
+        }
+
+        public Observable<Sextet<A, B, C, D, E, F>> toSextet() {
+            return zip(sources, TupleBuilders.SEXTET);
+        }
+
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 6));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 6));
+        }
+    }
+
+    public static final class Zip7<A, B, C, D, E, F, G> {
+        private final ObservableSource<?>[] sources;
+
+        Zip7(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public <H> Zip8<A, B, C, D, E, F, G, H> and(ObservableSource<? extends H> h) {
+            return new Zip8<A, B, C, D, E, F, G, H>(append(sources, h));
+        }
+
+        public Observable<Septet<A, B, C, D, E, F, G>> toSeptet() {
+            return zip(sources, TupleBuilders.SEPTET);
+        }
+
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 7));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 7));
+        }
+    }
+
+    public static final class Zip8<A, B, C, D, E, F, G, H> {
+        private final ObservableSource<?>[] sources;
+
+        Zip8(ObservableSource<?>[] sources) {
+            this.sources = sources;
+        }
+
+        public Observable<Octet<A, B, C, D, E, F, G, H>> toOctet() {
+            return zip(sources, TupleBuilders.OCTET);
+        }
+
+        public <X, Y> Observable<Pair<X, Y>> select(int first, int second) {
+            return zip(sources, Projections.selectPair(first, second, 8));
+        }
+
+        public <X, Y, Z> Observable<Triplet<X, Y, Z>> select(int first, int second, int third) {
+            return zip(sources, Projections.selectTriplet(first, second, third, 8));
+        }
+    }
+}
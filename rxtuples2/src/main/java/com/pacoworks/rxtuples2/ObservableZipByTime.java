@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Zip that pairs elements by their timestamps instead of their position, so a dropped or extra
+ * element on one source only loses itself. Each source buffers its pending elements in a
+ * {@link TimeRing}, expected in timestamp order.
+ * <p>
+ * The anchor is the latest of the oldest pending timestamps. Pending elements more than
+ * {@code tolerance} before it can't be part of any tuple anymore and are dropped as unmatched.
+ * Once every source has a pending element within the tolerance, each source contributes the
+ * pending element closest to the anchor, the ones before it are dropped as unmatched, and the
+ * tuple is emitted. Every element is buffered, scanned and removed once, so the cost per element
+ * stays constant whatever the rate.
+ * <p>
+ * A full buffer drops its oldest element as unmatched. The counters add up every subscription to
+ * this Observable.
+ *
+ * @author pakoito
+ * @see RxTuples#zipByTimeToPair(ObservableSource, ObservableSource, TimestampExtractor,
+ *      TimestampExtractor, long, int)
+ */
+public final class ObservableZipByTime<R> extends Observable<R> {
+    private final ObservableSource<?>[] sources;
+
+    private final TimestampExtractor<Object>[] extractors;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final long tolerance;
+
+    private final int bufferSize;
+
+    private final UnmatchedHandler handler;
+
+    private final AtomicLong matched = new AtomicLong();
+
+    private final AtomicLong unmatched = new AtomicLong();
+
+    /**
+     * A null handler only counts the unmatched elements
+     */
+    ObservableZipByTime(ObservableSource<?>[] sources, TimestampExtractor<Object>[] extractors,
+            TupleBuilder<? extends R> builder, long tolerance, int bufferSize,
+            UnmatchedHandler handler) {
+        this.sources = sources;
+        this.extractors = extractors;
+        this.builder = builder;
+        this.tolerance = tolerance;
+        this.bufferSize = bufferSize;
+        this.handler = handler;
+    }
+
+    /**
+     * @return tuples emitted
+     */
+    public long matched() {
+        return matched.get();
+    }
+
+    /**
+     * @return elements dropped without being part of a tuple
+     */
+    public long unmatched() {
+        return unmatched.get();
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> observer) {
+        final TimeRing[] rings = new TimeRing[sources.length];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new TimeRing(bufferSize);
+        }
+        new TimeZipCoordinator<R>(observer, this, rings).subscribe(sources);
+    }
+
+    static final class TimeZipCoordinator<R> implements Disposable {
+        private final Observer<? super R> actual;
+
+        private final ObservableZipByTime<R> parent;
+
+        private final TimeRing[] rings;
+
+        private final TimeZipObserver[] observers;
+
+        private final boolean[] completed;
+
+        private final Object[] row;
+
+        private boolean done;
+
+        private volatile boolean disposed;
+
+        TimeZipCoordinator(Observer<? super R> actual, ObservableZipByTime<R> parent,
+                TimeRing[] rings) {
+            this.actual = actual;
+            this.parent = parent;
+            this.rings = rings;
+            this.observers = new TimeZipObserver[rings.length];
+            this.completed = new boolean[rings.length];
+            this.row = new Object[rings.length];
+            for (int i = 0; i < observers.length; i++) {
+                observers[i] = new TimeZipObserver(this, i);
+            }
+        }
+
+        void subscribe(ObservableSource<?>[] sources) {
+            actual.onSubscribe(this);
+            for (int i = 0; i < observers.length; i++) {
+                if (disposed) {
+                    return;
+                }
+                sources[i].subscribe(observers[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                disposeAll();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        void disposeAll() {
+            for (TimeZipObserver observer : observers) {
+                DisposableHelper.dispose(observer);
+            }
+        }
+
+        synchronized void next(int side, Object value) {
+            if (done || disposed) {
+                return;
+            }
+            try {
+                final long time = parent.extractors[side].timestamp(value);
+                final TimeRing ring = rings[side];
+                if (ring.isFull()) {
+                    drop(side, ring.poll());
+                }
+                ring.offer(time, value);
+                match();
+                if (!done && !disposed) {
+                    completeIfExhausted();
+                }
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                error(ex);
+            }
+        }
+
+        private void match() throws Exception {
+            final TimeRing[] rs = rings;
+            final Object[] r = row;
+            final long tolerance = parent.tolerance;
+            for (;;) {
+                long anchor = Long.MIN_VALUE;
+                for (TimeRing ring : rs) {
+                    if (ring.isEmpty()) {
+                        return;
+                    }
+                    anchor = Math.max(anchor, ring.time(0));
+                }
+                boolean stale = false;
+                for (int j = 0; j < rs.length; j++) {
+                    final TimeRing ring = rs[j];
+                    while (!ring.isEmpty() && anchor - ring.time(0) > tolerance) {
+                        drop(j, ring.poll());
+                        stale = true;
+                    }
+                }
+                if (stale) {
+                    continue;
+                }
+                for (int j = 0; j < rs.length; j++) {
+                    final TimeRing ring = rs[j];
+                    while (ring.size() > 1
+                            && Math.abs(ring.time(1) - anchor) < Math.abs(ring.time(0) - anchor)) {
+                        drop(j, ring.poll());
+                    }
+                    r[j] = ring.poll();
+                }
+                final R tuple;
+                try {
+                    tuple = parent.builder.build(r);
+                } finally {
+                    Arrays.fill(r, null);
+                }
+                parent.matched.incrementAndGet();
+                actual.onNext(tuple);
+                if (done || disposed) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Once a completed source has nothing pending no more tuples can be built
+         */
+        private void completeIfExhausted() throws Exception {
+            for (int j = 0; j < rings.length; j++) {
+                if (completed[j] && rings[j].isEmpty()) {
+                    for (int k = 0; k < rings.length; k++) {
+                        final TimeRing ring = rings[k];
+                        while (!ring.isEmpty()) {
+                            drop(k, ring.poll());
+                        }
+                    }
+                    done = true;
+                    disposeAll();
+                    actual.onComplete();
+                    return;
+                }
+            }
+        }
+
+        private void drop(int side, Object value) throws Exception {
+            parent.unmatched.incrementAndGet();
+            final UnmatchedHandler handler = parent.handler;
+            if (handler != null) {
+                handler.unmatched(side, value);
+            }
+        }
+
+        synchronized void error(Throwable e) {
+            if (done || disposed) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            disposeAll();
+            clear();
+            actual.onError(e);
+        }
+
+        synchronized void complete(int side) {
+            if (done || disposed) {
+                return;
+            }
+            completed[side] = true;
+            try {
+                completeIfExhausted();
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                error(ex);
+            }
+        }
+
+        private void clear() {
+            for (TimeRing ring : rings) {
+                ring.clear();
+            }
+        }
+    }
+
+    static final class TimeZipObserver extends AtomicReference<Disposable> implements
+            Observer<Object> {
+        private static final long serialVersionUID = 1L;
+
+        private final TimeZipCoordinator<?> parent;
+
+        private final int side;
+
+        TimeZipObserver(TimeZipCoordinator<?> parent, int side) {
+            this.parent = parent;
+            this.side = side;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(Object t) {
+            parent.next(side, t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.error(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.complete(side);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.fuseable.QueueDisposable;
+import io.reactivex.internal.fuseable.SimpleQueue;
+import io.reactivex.internal.queue.SpscLinkedArrayQueue;
+
+/**
+ * Zip that drains one queue per source and hands the values straight to a {@link TupleBuilder},
+ * without the Object[] copy and function adapter of {@link Observable#zip}.
+ * <p>
+ * The coordinator takes an element from the queues only once every queue has one, so elements
+ * wait in their queue until their tuple is built. Other zips reuse it with their own queues.
+ * Sources that support queue fusion are drained in place instead, polled into the row as their
+ * queue can't tell ahead whether a poll will yield an element.
+ *
+ * @author pakoito
+ */
+final class ObservableZipTuple<R> extends Observable<R> {
+    private final ObservableSource<?>[] sources;
+
+    private final TupleBuilder<? extends R> builder;
+
+    private final int bufferSize;
+
+    ObservableZipTuple(ObservableSource<?>[] sources, TupleBuilder<? extends R> builder,
+            int bufferSize) {
+        this.sources = sources;
+        this.builder = builder;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<? super R> observer) {
+        final ZipObserver[] observers = new ZipObserver[sources.length];
+        final ZipCoordinator<R> parent = new ZipCoordinator<R>(observer, builder, observers);
+        for (int i = 0; i < observers.length; i++) {
+            observers[i] = new ZipObserver(parent, bufferSize);
+        }
+        parent.subscribe(sources);
+    }
+
+    static final class ZipCoordinator<R> extends AtomicInteger implements Disposable {
+        private static final long serialVersionUID = 1L;
+
+        private final Observer<? super R> actual;
+
+        private final TupleBuilder<? extends R> builder;
+
+        private final ZipObserver[] observers;
+
+        private final Object[] row;
+
+        private volatile boolean cancelled;
+
+        /**
+         * The observers are filled in by the caller before subscribing
+         */
+        ZipCoordinator(Observer<? super R> actual, TupleBuilder<? extends R> builder,
+                ZipObserver[] observers) {
+            this.actual = actual;
+            this.builder = builder;
+            this.observers = observers;
+            this.row = new Object[observers.length];
+        }
+
+        void subscribe(ObservableSource<?>[] sources) {
+            actual.onSubscribe(this);
+            for (int i = 0; i < observers.length; i++) {
+                if (cancelled) {
+                    return;
+                }
+                sources[i].subscribe(observers[i]);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+
+        void cancelAll() {
+            for (ZipObserver observer : observers) {
+                observer.dispose();
+            }
+        }
+
+        void clear() {
+            Arrays.fill(row, null);
+            for (ZipObserver observer : observers) {
+                final SimpleQueue<Object> q = observer.queue;
+                if (q != null) {
+                    q.clear();
+                }
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            final ZipObserver[] zs = observers;
+            final Object[] values = row;
+            final Observer<? super R> a = actual;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    boolean ready = true;
+                    final R tuple;
+                    try {
+                        for (int i = 0; i < zs.length; i++) {
+                            final ZipObserver z = zs[i];
+                            final boolean done = z.done;
+                            final SimpleQueue<Object> q = z.queue;
+                            final boolean empty;
+                            if (values[i] != null) {
+                                empty = false;
+                            } else if (q == null) {
+                                empty = true;
+                            } else if (z.fused) {
+                                values[i] = q.poll();
+                                empty = values[i] == null;
+                            } else {
+                                empty = q.isEmpty();
+                            }
+                            if (checkTerminated(done, empty, a, z)) {
+                                return;
+                            }
+                            ready &= !empty;
+                        }
+                        for (int i = 0; ready && i < zs.length; i++) {
+                            if (values[i] == null) {
+                                values[i] = zs[i].queue.poll();
+                                ready = values[i] != null;
+                            }
+                        }
+                        if (!ready) {
+                            break;
+                        }
+                        tuple = builder.build(values);
+                    } catch (Throwable ex) {
+                        Exceptions.throwIfFatal(ex);
+                        cancelled = true;
+                        cancelAll();
+                        clear();
+                        a.onError(ex);
+                        return;
+                    }
+                    Arrays.fill(values, null);
+                    a.onNext(tuple);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean done, boolean empty, Observer<? super R> a,
+                ZipObserver source) {
+            if (cancelled) {
+                clear();
+                return true;
+            }
+            if (done) {
+                final Throwable e = source.error;
+                if (e != null) {
+                    cancelled = true;
+                    cancelAll();
+                    clear();
+                    a.onError(e);
+                    return true;
+                } else if (empty) {
+                    cancelled = true;
+                    cancelAll();
+                    clear();
+                    a.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static class ZipObserver implements Observer<Object> {
+        final ZipCoordinator<?> parent;
+
+        final AtomicReference<Disposable> upstream = new AtomicReference<Disposable>();
+
+        private final int bufferSize;
+
+        /**
+         * The fused upstream or a queue of bufferSize links, set on subscription unless given
+         */
+        SimpleQueue<Object> queue;
+
+        boolean fused;
+
+        volatile boolean done;
+
+        Throwable error;
+
+        ZipObserver(ZipCoordinator<?> parent, int bufferSize) {
+            this.parent = parent;
+            this.bufferSize = bufferSize;
+        }
+
+        /**
+         * Keeps every element in the given queue, never fusing with the source
+         */
+        ZipObserver(ZipCoordinator<?> parent, SimpleQueue<Object> queue) {
+            this.parent = parent;
+            this.bufferSize = 0;
+            this.queue = queue;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.setOnce(upstream, d) && queue == null) {
+                if (d instanceof QueueDisposable) {
+                    final QueueDisposable<Object> qd = (QueueDisposable<Object>)d;
+                    final int mode = qd.requestFusion(QueueDisposable.ANY);
+                    if (mode == QueueDisposable.SYNC) {
+                        fused = true;
+                        queue = qd;
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                    if (mode == QueueDisposable.ASYNC) {
+                        fused = true;
+                        queue = qd;
+                        return;
+                    }
+                }
+                queue = new SpscLinkedArrayQueue<Object>(bufferSize);
+            }
+        }
+
+        @Override
+        public void onNext(Object t) {
+            // An asynchronous fused source only signals that its queue has elements
+            if (!fused) {
+                queue.offer(t);
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            error = e;
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(upstream);
+        }
+    }
+}
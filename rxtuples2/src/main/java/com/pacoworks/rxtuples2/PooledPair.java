@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Pair;
+
+/**
+ * Mutable, recycled counterpart of {@link Pair} emitted by the pooled zips
+ *
+ * @author pakoito
+ * @see PooledTuple
+ */
+public final class PooledPair<A, B> extends PooledTuple {
+    private A value0;
+
+    private B value1;
+
+    PooledPair(TuplePool pool, boolean debug) {
+        super(pool, debug);
+    }
+
+    public A getValue0() {
+        checkLive();
+        return value0;
+    }
+
+    public B getValue1() {
+        checkLive();
+        return value1;
+    }
+
+    @Override
+    public int getSize() {
+        return 2;
+    }
+
+    @Override
+    public Pair<A, B> toTuple() {
+        checkLive();
+        return Pair.with(value0, value1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void fill(Object[] values) {
+        value0 = (A)values[0];
+        value1 = (B)values[1];
+    }
+
+    @Override
+    public String toString() {
+        return "[" + value0 + ", " + value1 + "]";
+    }
+}
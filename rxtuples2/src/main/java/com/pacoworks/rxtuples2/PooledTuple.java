@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.javatuples.Tuple;
+
+/**
+ * Mutable tuple that a pooled zip fills in and emits again for later elements once it has been
+ * released. Read it before it is released and call {@link #toTuple()} to keep its values any
+ * longer.
+ * <p>
+ * Pooled tuples compare by identity, don't use them as keys. In debug mode released tuples are
+ * never reused and reading or releasing one throws {@link IllegalStateException}.
+ *
+ * @author pakoito
+ */
+public abstract class PooledTuple {
+    private static final AtomicIntegerFieldUpdater<PooledTuple> STATE = AtomicIntegerFieldUpdater
+            .newUpdater(PooledTuple.class, "state");
+
+    private static final int LIVE = 0;
+
+    private static final int RELEASED = 1;
+
+    private final TuplePool pool;
+
+    private final boolean debug;
+
+    private volatile int state;
+
+    PooledTuple(TuplePool pool, boolean debug) {
+        this.pool = pool;
+        this.debug = debug;
+    }
+
+    public abstract int getSize();
+
+    /**
+     * Copies the values into a new immutable javatuple that can outlive this one
+     */
+    public abstract Tuple toTuple();
+
+    abstract void fill(Object[] values);
+
+    /**
+     * Hands the tuple back to its pool, it must not be read afterwards
+     */
+    public final void release() {
+        if (!tryRelease()) {
+            throw new IllegalStateException("Tuple released twice");
+        }
+    }
+
+    /**
+     * Hands the tuple back to its pool unless it has been released already
+     *
+     * @return whether this call released it
+     */
+    final boolean tryRelease() {
+        if (!STATE.compareAndSet(this, LIVE, RELEASED)) {
+            return false;
+        }
+        if (!debug) {
+            pool.recycle(this);
+        }
+        return true;
+    }
+
+    public final boolean isReleased() {
+        return state == RELEASED;
+    }
+
+    final void acquire() {
+        STATE.lazySet(this, LIVE);
+    }
+
+    /**
+     * Called by every getter, only checks the state in debug mode
+     */
+    final void checkLive() {
+        if (debug && state == RELEASED) {
+            throw new IllegalStateException("Tuple read after release");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+import org.javatuples.valueintf.IValue0;
+import org.javatuples.valueintf.IValue1;
+import org.javatuples.valueintf.IValue2;
+import org.javatuples.valueintf.IValue3;
+import org.javatuples.valueintf.IValue4;
+import org.javatuples.valueintf.IValue5;
+import org.javatuples.valueintf.IValue6;
+import org.javatuples.valueintf.IValue7;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Shared projection functions over tuple slots. The selections are also {@link TupleBuilder}s, so
+ * a zip can build the projection straight from its values instead of the full tuple.
+ *
+ * @author pakoito
+ */
+final class Projections {
+    static final int MAX_SLOTS = 8;
+
+    private Projections() {
+        // No instances
+    }
+
+    static final ValueAt[] VALUES = new ValueAt[MAX_SLOTS];
+
+    private static final SelectPair[] PAIRS = new SelectPair[MAX_SLOTS * MAX_SLOTS];
+
+    /* 512 combinations, created on first use */
+    private static final AtomicReferenceArray<SelectTriplet> TRIPLETS = new AtomicReferenceArray<SelectTriplet>(
+            MAX_SLOTS * MAX_SLOTS * MAX_SLOTS);
+
+    static {
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            VALUES[i] = new ValueAt(i);
+            for (int j = 0; j < MAX_SLOTS; j++) {
+                PAIRS[i * MAX_SLOTS + j] = new SelectPair(i, j);
+            }
+        }
+    }
+
+    static final Function<Pair<Object, Object>, Pair<Object, Object>> SWAP = new Function<Pair<Object, Object>, Pair<Object, Object>>() {
+        @Override
+        public Pair<Object, Object> apply(Pair<Object, Object> pair) {
+            return Pair.with(pair.getValue1(), pair.getValue0());
+        }
+    };
+
+    static final Function<Triplet<Object, Object, Object>, Pair<Object, Object>> DROP_LAST_FROM_TRIPLET = new Function<Triplet<Object, Object, Object>, Pair<Object, Object>>() {
+        @Override
+        public Pair<Object, Object> apply(Triplet<Object, Object, Object> tuple) {
+            return tuple.removeFrom2();
+        }
+    };
+
+    static final Function<Quartet<Object, Object, Object, Object>, Triplet<Object, Object, Object>> DROP_LAST_FROM_QUARTET = new Function<Quartet<Object, Object, Object, Object>, Triplet<Object, Object, Object>>() {
+        @Override
+        public Triplet<Object, Object, Object> apply(Quartet<Object, Object, Object, Object> tuple) {
+            return tuple.removeFrom3();
+        }
+    };
+
+    static final Function<Quintet<Object, Object, Object, Object, Object>, Quartet<Object, Object, Object, Object>> DROP_LAST_FROM_QUINTET = new Function<Quintet<Object, Object, Object, Object, Object>, Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> apply(Quintet<Object, Object, Object, Object, Object> tuple) {
+            return tuple.removeFrom4();
+        }
+    };
+
+    static final Function<Sextet<Object, Object, Object, Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>> DROP_LAST_FROM_SEXTET = new Function<Sextet<Object, Object, Object, Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(Sextet<Object, Object, Object, Object, Object, Object> tuple) {
+            return tuple.removeFrom5();
+        }
+    };
+
+    static final Function<Septet<Object, Object, Object, Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>> DROP_LAST_FROM_SEPTET = new Function<Septet<Object, Object, Object, Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Septet<Object, Object, Object, Object, Object, Object, Object> tuple) {
+            return tuple.removeFrom6();
+        }
+    };
+
+    static final Function<Octet<Object, Object, Object, Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> DROP_LAST_FROM_OCTET = new Function<Octet<Object, Object, Object, Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Octet<Object, Object, Object, Object, Object, Object, Object, Object> tuple) {
+            return tuple.removeFrom7();
+        }
+    };
+
+    static SelectPair selectPair(int first, int second, int size) {
+        checkSlot(first, size);
+        checkSlot(second, size);
+        return PAIRS[first * MAX_SLOTS + second];
+    }
+
+    static SelectTriplet selectTriplet(int first, int second, int third, int size) {
+        checkSlot(first, size);
+        checkSlot(second, size);
+        checkSlot(third, size);
+        final int index = (first * MAX_SLOTS + second) * MAX_SLOTS + third;
+        SelectTriplet select = TRIPLETS.get(index);
+        if (select == null) {
+            // Racing threads may each create one, any of them will do
+            select = new SelectTriplet(first, second, third);
+            TRIPLETS.lazySet(index, select);
+        }
+        return select;
+    }
+
+    static void checkSlot(int slot, int size) {
+        if (slot < 0 || slot >= size) {
+            throw new IllegalArgumentException("slot in [0, " + size + ") required but it was "
+                    + slot);
+        }
+    }
+
+    static final class ValueAt implements Function<Object, Object> {
+        private final int index;
+
+        ValueAt(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Object apply(Object tuple) {
+            switch (index) {
+            case 0:
+                return ((IValue0<?>)tuple).getValue0();
+            case 1:
+                return ((IValue1<?>)tuple).getValue1();
+            case 2:
+                return ((IValue2<?>)tuple).getValue2();
+            case 3:
+                return ((IValue3<?>)tuple).getValue3();
+            case 4:
+                return ((IValue4<?>)tuple).getValue4();
+            case 5:
+                return ((IValue5<?>)tuple).getValue5();
+            case 6:
+                return ((IValue6<?>)tuple).getValue6();
+            case 7:
+                return ((IValue7<?>)tuple).getValue7();
+            default:
+                throw new IndexOutOfBoundsException("Invalid slot " + index);
+            }
+        }
+    }
+
+    static final class SelectPair implements Function<Tuple, Pair<Object, Object>>,
+            TupleBuilder<Pair<Object, Object>> {
+        private final int first;
+
+        private final int second;
+
+        SelectPair(int first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public Pair<Object, Object> apply(Tuple tuple) {
+            return Pair.with(tuple.getValue(first), tuple.getValue(second));
+        }
+
+        @Override
+        public Pair<Object, Object> build(Object[] values) {
+            return Pair.with(values[first], values[second]);
+        }
+    }
+
+    static final class SelectTriplet implements Function<Tuple, Triplet<Object, Object, Object>>,
+            TupleBuilder<Triplet<Object, Object, Object>> {
+        private final int first;
+
+        private final int second;
+
+        private final int third;
+
+        SelectTriplet(int first, int second, int third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public Triplet<Object, Object, Object> apply(Tuple tuple) {
+            return Triplet.with(tuple.getValue(first), tuple.getValue(second),
+                    tuple.getValue(third));
+        }
+
+        @Override
+        public Triplet<Object, Object, Object> build(Object[] values) {
+            return Triplet.with(values[first], values[second], values[third]);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * When a {@link PooledTuple} goes back to its pool to be reused for a later element
+ *
+ * @author pakoito
+ */
+public enum ReleaseMode {
+    /**
+     * As soon as the {@code onNext} call that delivered it returns. Only for synchronous consumers
+     * that are done with each tuple before asking for the next one.
+     */
+    AUTO,
+    /**
+     * When the consumer calls {@link PooledTuple#release()}. Tuples that are never released are
+     * left to the garbage collector and the pool allocates new ones.
+     */
+    MANUAL
+}
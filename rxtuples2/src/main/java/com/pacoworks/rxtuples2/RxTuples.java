@@ -16,6 +16,10 @@
 
 package com.pacoworks.rxtuples2;
 
+import java.io.File;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
 import org.javatuples.Octet;
 import org.javatuples.Pair;
 import org.javatuples.Quartet;
@@ -23,17 +27,48 @@ import org.javatuples.Quintet;
 import org.javatuples.Septet;
 import org.javatuples.Sextet;
 import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+import org.javatuples.valueintf.IValue0;
+import org.javatuples.valueintf.IValue1;
+import org.javatuples.valueintf.IValue2;
+import org.javatuples.valueintf.IValue3;
+import org.javatuples.valueintf.IValue4;
+import org.javatuples.valueintf.IValue5;
+import org.javatuples.valueintf.IValue6;
+import org.javatuples.valueintf.IValue7;
+import org.reactivestreams.Publisher;
+
+import com.pacoworks.rxtuples2.codec.ElementCodec;
+import com.pacoworks.rxtuples2.metrics.TupleMetrics;
+import com.pacoworks.rxtuples2.metrics.TupleMetricsSink;
 
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.Maybe;
+import io.reactivex.MaybeSource;
+import io.reactivex.Observable;
+import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.SingleSource;
 import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
 import io.reactivex.functions.Function3;
 import io.reactivex.functions.Function4;
 import io.reactivex.functions.Function5;
 import io.reactivex.functions.Function6;
 import io.reactivex.functions.Function7;
 import io.reactivex.functions.Function8;
+import io.reactivex.internal.functions.ObjectHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.Schedulers;
 
 /**
  * Helper class to create Tuples
+ * <p>
+ * Every factory returns a shared stateless instance, so calling them inside hot operators such as
+ * flatMap or switchMap does not allocate.
  *
  * @author pakoito
  */
@@ -44,381 +79,2246 @@ public final class RxTuples {
 
     // region Pair
 
+    private static final BiFunction<Object, Object, Pair<Object, Object>> TO_PAIR = new BiFunction<Object, Object, Pair<Object, Object>>() {
+        @Override
+        public Pair<Object, Object> apply(Object t, Object t2) {
+            return Pair.with(t, t2);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <T, U> BiFunction<T, U, Pair<T, U>> toPair() {
-        return new BiFunction<T, U, Pair<T, U>>() {
-            @Override
-            public Pair<T, U> apply(T t, U t2) {
-                return Pair.with(t, t2);
-            }
-        };
+        return (BiFunction) TO_PAIR;
     }
 
     // endregion
 
     // region Triplet
+    private static final Function3<Object, Object, Object, Triplet<Object, Object, Object>> TO_TRIPLET = new Function3<Object, Object, Object, Triplet<Object, Object, Object>>() {
+        @Override
+        public Triplet<Object, Object, Object> apply(Object a, Object b, Object c) {
+            return Triplet.with(a, b, c);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C> Function3<A, B, C, Triplet<A, B, C>> toTriplet() {
-        return new Function3<A, B, C, Triplet<A, B, C>>() {
-            @Override
-            public Triplet<A, B, C> apply(A a, B b, C c) {
-                return Triplet.with(a, b, c);
-            }
-        };
+        return (Function3) TO_TRIPLET;
     }
 
+    private static final BiFunction<Object, Pair<Object, Object>, Triplet<Object, Object, Object>> TO_TRIPLET_FROM_SINGLE = new BiFunction<Object, Pair<Object, Object>, Triplet<Object, Object, Object>>() {
+        @Override
+        public Triplet<Object, Object, Object> apply(Object t, Pair<Object, Object> objects) {
+            return Triplet.with(t, objects.getValue0(), objects.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, T> io.reactivex.functions.BiFunction<T, Pair<A, B>, Triplet<T, A, B>> toTripletFromSingle() {
-        return new BiFunction<T, Pair<A, B>, Triplet<T, A, B>>() {
-            @Override
-            public Triplet<T, A, B> apply(T t, Pair<A, B> objects) {
-                return Triplet.with(t, objects.getValue0(), objects.getValue1());
-            }
-        };
+        return (BiFunction) TO_TRIPLET_FROM_SINGLE;
     }
 
+    private static final BiFunction<Pair<Object, Object>, Object, Triplet<Object, Object, Object>> TO_TRIPLET_FROM_PAIR = new BiFunction<Pair<Object, Object>, Object, Triplet<Object, Object, Object>>() {
+        @Override
+        public Triplet<Object, Object, Object> apply(Pair<Object, Object> objects, Object t) {
+            return Triplet.with(objects.getValue0(), objects.getValue1(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, T> BiFunction<Pair<A, B>, T, Triplet<A, B, T>> toTripletFromPair() {
-        return new BiFunction<Pair<A, B>, T, Triplet<A, B, T>>() {
-            @Override
-            public Triplet<A, B, T> apply(Pair<A, B> objects, T t) {
-                return Triplet.with(objects.getValue0(), objects.getValue1(), t);
-            }
-        };
+        return (BiFunction) TO_TRIPLET_FROM_PAIR;
     }
 
     // endregion
 
     // region Quartet
 
+    private static final Function4<Object, Object, Object, Object, Quartet<Object, Object, Object, Object>> TO_QUARTET = new Function4<Object, Object, Object, Object, Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d) {
+            return Quartet.with(a, b, c, d);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D> Function4<A, B, C, D, Quartet<A, B, C, D>> toQuartet() {
-        return new Function4<A, B, C, D, Quartet<A, B, C, D>>() {
-            @Override
-            public Quartet<A, B, C, D> apply(A a, B b, C c, D d) {
-                return Quartet.with(a, b, c, d);
-            }
-        };
+        return (Function4) TO_QUARTET;
     }
 
+    private static final BiFunction<Object, Triplet<Object, Object, Object>, Quartet<Object, Object, Object, Object>> TO_QUARTET_FROM_SINGLE = new BiFunction<Object, Triplet<Object, Object, Object>, Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> apply(Object t, Triplet<Object, Object, Object> objects) {
+            return Quartet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, T> BiFunction<T, Triplet<A, B, C>, Quartet<T, A, B, C>> toQuartetFromSingle() {
-        return new BiFunction<T, Triplet<A, B, C>, Quartet<T, A, B, C>>() {
-            @Override
-            public Quartet<T, A, B, C> apply(T t, Triplet<A, B, C> objects) {
-                return Quartet.with(t, objects.getValue0(), objects.getValue1(),
-                        objects.getValue2());
-            }
-        };
+        return (BiFunction) TO_QUARTET_FROM_SINGLE;
     }
 
+    private static final BiFunction<Pair<Object, Object>, Pair<Object, Object>, Quartet<Object, Object, Object, Object>> TO_QUARTET_FROM_PAIR = new BiFunction<Pair<Object, Object>, Pair<Object, Object>, Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> apply(Pair<Object, Object> objects, Pair<Object, Object> objects2) {
+            return Quartet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D> BiFunction<Pair<A, B>, Pair<C, D>, Quartet<A, B, C, D>> toQuartetFromPair() {
-        return new BiFunction<Pair<A, B>, Pair<C, D>, Quartet<A, B, C, D>>() {
-            @Override
-            public Quartet<A, B, C, D> apply(Pair<A, B> objects, Pair<C, D> objects2) {
-                return Quartet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
-                        objects2.getValue1());
-            }
-        };
+        return (BiFunction) TO_QUARTET_FROM_PAIR;
     }
 
+    private static final BiFunction<Triplet<Object, Object, Object>, Object, Quartet<Object, Object, Object, Object>> TO_QUARTET_FROM_TRIPLET = new BiFunction<Triplet<Object, Object, Object>, Object, Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> apply(Triplet<Object, Object, Object> objects, Object t) {
+            return Quartet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, T> BiFunction<Triplet<A, B, C>, T, Quartet<A, B, C, T>> toQuartetFromTriplet() {
-        return new BiFunction<Triplet<A, B, C>, T, Quartet<A, B, C, T>>() {
-            @Override
-            public Quartet<A, B, C, T> apply(Triplet<A, B, C> objects, T t) {
-                return Quartet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        t);
-            }
-        };
+        return (BiFunction) TO_QUARTET_FROM_TRIPLET;
     }
 
     // endregion
 
     // region Quintet
 
+    private static final Function5<Object, Object, Object, Object, Object, Quintet<Object, Object, Object, Object, Object>> TO_QUINTET = new Function5<Object, Object, Object, Object, Object, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e) {
+            return Quintet.with(a, b, c, d, e);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E> Function5<A, B, C, D, E, Quintet<A, B, C, D, E>> toQuintet() {
-        return new Function5<A, B, C, D, E, Quintet<A, B, C, D, E>>() {
-            @Override
-            public Quintet<A, B, C, D, E> apply(A a, B b, C c, D d, E e) {
-                return Quintet.with(a, b, c, d, e);
-            }
-        };
+        return (Function5) TO_QUINTET;
     }
 
+    private static final BiFunction<Object, Quartet<Object, Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_SINGLE = new BiFunction<Object, Quartet<Object, Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(Object t, Quartet<Object, Object, Object, Object> objects) {
+            return Quintet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2(), objects.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, T> BiFunction<T, Quartet<A, B, C, D>, Quintet<T, A, B, C, D>> toQuintetFromSingle() {
-        return new BiFunction<T, Quartet<A, B, C, D>, Quintet<T, A, B, C, D>>() {
-            @Override
-            public Quintet<T, A, B, C, D> apply(T t, Quartet<A, B, C, D> objects) {
-                return Quintet.with(t, objects.getValue0(), objects.getValue1(),
-                        objects.getValue2(), objects.getValue3());
-            }
-        };
+        return (BiFunction) TO_QUINTET_FROM_SINGLE;
     }
 
+    private static final BiFunction<Pair<Object, Object>, Triplet<Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_PAIR = new BiFunction<Pair<Object, Object>, Triplet<Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(Pair<Object, Object> objects, Triplet<Object, Object, Object> objects2) {
+            return Quintet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E> BiFunction<Pair<A, B>, Triplet<C, D, E>, Quintet<A, B, C, D, E>> toQuintetFromPair() {
-        return new BiFunction<Pair<A, B>, Triplet<C, D, E>, Quintet<A, B, C, D, E>>() {
-            @Override
-            public Quintet<A, B, C, D, E> apply(Pair<A, B> objects, Triplet<C, D, E> objects2) {
-                return Quintet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
-                        objects2.getValue1(), objects2.getValue2());
-            }
-        };
+        return (BiFunction) TO_QUINTET_FROM_PAIR;
     }
 
+    private static final BiFunction<Triplet<Object, Object, Object>, Pair<Object, Object>, Quintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_TRIPLET = new BiFunction<Triplet<Object, Object, Object>, Pair<Object, Object>, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(Triplet<Object, Object, Object> objects, Pair<Object, Object> objects2) {
+            return Quintet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E> BiFunction<Triplet<A, B, C>, Pair<D, E>, Quintet<A, B, C, D, E>> toQuintetFromTriplet() {
-        return new BiFunction<Triplet<A, B, C>, Pair<D, E>, Quintet<A, B, C, D, E>>() {
-            @Override
-            public Quintet<A, B, C, D, E> apply(Triplet<A, B, C> objects, Pair<D, E> objects2) {
-                return Quintet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects2.getValue0(), objects2.getValue1());
-            }
-        };
+        return (BiFunction) TO_QUINTET_FROM_TRIPLET;
     }
 
+    private static final BiFunction<Quartet<Object, Object, Object, Object>, Object, Quintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_QUARTET = new BiFunction<Quartet<Object, Object, Object, Object>, Object, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(Quartet<Object, Object, Object, Object> objects, Object t) {
+            return Quintet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, T> BiFunction<Quartet<A, B, C, D>, T, Quintet<A, B, C, D, T>> toQuintetFromQuartet() {
-        return new BiFunction<Quartet<A, B, C, D>, T, Quintet<A, B, C, D, T>>() {
-            @Override
-            public Quintet<A, B, C, D, T> apply(Quartet<A, B, C, D> objects, T t) {
-                return Quintet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), t);
-            }
-        };
+        return (BiFunction) TO_QUINTET_FROM_QUARTET;
     }
 
     // endregion
 
     // region Sextet
 
+    private static final Function6<Object, Object, Object, Object, Object, Object, Sextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET = new Function6<Object, Object, Object, Object, Object, Object, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e, Object f) {
+            return Sextet.with(a, b, c, d, e, f);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F> Function6<A, B, C, D, E, F, Sextet<A, B, C, D, E, F>> toSextet() {
-        return new Function6<A, B, C, D, E, F, Sextet<A, B, C, D, E, F>>() {
-            @Override
-            public Sextet<A, B, C, D, E, F> apply(A a, B b, C c, D d, E e, F f) {
-                return Sextet.with(a, b, c, d, e, f);
-            }
-        };
+        return (Function6) TO_SEXTET;
     }
 
+    private static final BiFunction<Object, Quintet<Object, Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_SINGLE = new BiFunction<Object, Quintet<Object, Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Object t, Quintet<Object, Object, Object, Object, Object> objects) {
+            return Sextet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2(), objects.getValue3(), objects.getValue4());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, T> BiFunction<T, Quintet<A, B, C, D, E>, Sextet<T, A, B, C, D, E>> toSextetFromSingle() {
-        return new BiFunction<T, Quintet<A, B, C, D, E>, Sextet<T, A, B, C, D, E>>() {
-            @Override
-            public Sextet<T, A, B, C, D, E> apply(T t, Quintet<A, B, C, D, E> objects) {
-                return Sextet.with(t, objects.getValue0(), objects.getValue1(),
-                        objects.getValue2(), objects.getValue3(), objects.getValue4());
-            }
-        };
+        return (BiFunction) TO_SEXTET_FROM_SINGLE;
     }
 
+    private static final BiFunction<Pair<Object, Object>, Quartet<Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_PAIR = new BiFunction<Pair<Object, Object>, Quartet<Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Pair<Object, Object> objects, Quartet<Object, Object, Object, Object> objects2) {
+            return Sextet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2(), objects2.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F> BiFunction<Pair<A, B>, Quartet<C, D, E, F>, Sextet<A, B, C, D, E, F>> toSextetFromPair() {
-        return new BiFunction<Pair<A, B>, Quartet<C, D, E, F>, Sextet<A, B, C, D, E, F>>() {
-            @Override
-            public Sextet<A, B, C, D, E, F> apply(Pair<A, B> objects, Quartet<C, D, E, F> objects2) {
-                return Sextet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
-                        objects2.getValue1(), objects2.getValue2(), objects2.getValue3());
-            }
-        };
+        return (BiFunction) TO_SEXTET_FROM_PAIR;
     }
 
+    private static final BiFunction<Triplet<Object, Object, Object>, Triplet<Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_TRIPLET = new BiFunction<Triplet<Object, Object, Object>, Triplet<Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Triplet<Object, Object, Object> objects, Triplet<Object, Object, Object> objects2) {
+            return Sextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1(), objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F> BiFunction<Triplet<A, B, C>, Triplet<D, E, F>, Sextet<A, B, C, D, E, F>> toSextetFromTriplet() {
-        return new BiFunction<Triplet<A, B, C>, Triplet<D, E, F>, Sextet<A, B, C, D, E, F>>() {
-            @Override
-            public Sextet<A, B, C, D, E, F> apply(Triplet<A, B, C> objects, Triplet<D, E, F> objects2) {
-                return Sextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects2.getValue0(), objects2.getValue1(), objects2.getValue2());
-            }
-        };
+        return (BiFunction) TO_SEXTET_FROM_TRIPLET;
     }
 
+    private static final BiFunction<Quartet<Object, Object, Object, Object>, Pair<Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_QUARTET = new BiFunction<Quartet<Object, Object, Object, Object>, Pair<Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Quartet<Object, Object, Object, Object> objects, Pair<Object, Object> objects2) {
+            return Sextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects2.getValue0(), objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F> BiFunction<Quartet<A, B, C, D>, Pair<E, F>, Sextet<A, B, C, D, E, F>> toSextetFromQuartet() {
-        return new BiFunction<Quartet<A, B, C, D>, Pair<E, F>, Sextet<A, B, C, D, E, F>>() {
-            @Override
-            public Sextet<A, B, C, D, E, F> apply(Quartet<A, B, C, D> objects, Pair<E, F> objects2) {
-                return Sextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects2.getValue0(), objects2.getValue1());
-            }
-        };
+        return (BiFunction) TO_SEXTET_FROM_QUARTET;
     }
 
+    private static final BiFunction<Quintet<Object, Object, Object, Object, Object>, Object, Sextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_QUINTET = new BiFunction<Quintet<Object, Object, Object, Object, Object>, Object, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(Quintet<Object, Object, Object, Object, Object> objects, Object t) {
+            return Sextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, T> BiFunction<Quintet<A, B, C, D, E>, T, Sextet<A, B, C, D, E, T>> toSextetFromQuintet() {
-        return new BiFunction<Quintet<A, B, C, D, E>, T, Sextet<A, B, C, D, E, T>>() {
-            @Override
-            public Sextet<A, B, C, D, E, T> apply(Quintet<A, B, C, D, E> objects, T t) {
-                return Sextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), t);
-            }
-        };
+        return (BiFunction) TO_SEXTET_FROM_QUINTET;
     }
 
     // endregion
 
     // region Septet
 
+    private static final Function7<Object, Object, Object, Object, Object, Object, Object, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET = new Function7<Object, Object, Object, Object, Object, Object, Object, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e, Object f, Object g) {
+            return Septet.with(a, b, c, d, e, f, g);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G> Function7<A, B, C, D, E, F, G, Septet<A, B, C, D, E, F, G>> toSeptet() {
-        return new Function7<A, B, C, D, E, F, G, Septet<A, B, C, D, E, F, G>>() {
-            @Override
-            public Septet<A, B, C, D, E, F, G> apply(A a, B b, C c, D d, E e, F f, G g) {
-                return Septet.with(a, b, c, d, e, f, g);
-            }
-        };
+        return (Function7) TO_SEPTET;
     }
 
+    private static final BiFunction<Object, Sextet<Object, Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_SINGLE = new BiFunction<Object, Sextet<Object, Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Object t, Sextet<Object, Object, Object, Object, Object, Object> objects) {
+            return Septet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2(), objects.getValue3(), objects.getValue4(),
+                    objects.getValue5());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, T> BiFunction<T, Sextet<A, B, C, D, E, F>, Septet<T, A, B, C, D, E, F>> toSeptetFromSingle() {
-        return new BiFunction<T, Sextet<A, B, C, D, E, F>, Septet<T, A, B, C, D, E, F>>() {
-            @Override
-            public Septet<T, A, B, C, D, E, F> apply(T t, Sextet<A, B, C, D, E, F> objects) {
-                return Septet.with(t, objects.getValue0(), objects.getValue1(),
-                        objects.getValue2(), objects.getValue3(), objects.getValue4(),
-                        objects.getValue5());
-            }
-        };
+        return (BiFunction) TO_SEPTET_FROM_SINGLE;
     }
 
+    private static final BiFunction<Pair<Object, Object>, Quintet<Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_PAIR = new BiFunction<Pair<Object, Object>, Quintet<Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Pair<Object, Object> objects,
+                                                Quintet<Object, Object, Object, Object, Object> objects2) {
+            return Septet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2(), objects2.getValue3(),
+                    objects2.getValue4());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G> BiFunction<Pair<A, B>, Quintet<C, D, E, F, G>, Septet<A, B, C, D, E, F, G>> toSeptetFromPair() {
-        return new BiFunction<Pair<A, B>, Quintet<C, D, E, F, G>, Septet<A, B, C, D, E, F, G>>() {
-            @Override
-            public Septet<A, B, C, D, E, F, G> apply(Pair<A, B> objects,
-                                                    Quintet<C, D, E, F, G> objects2) {
-                return Septet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
-                        objects2.getValue1(), objects2.getValue2(), objects2.getValue3(),
-                        objects2.getValue4());
-            }
-        };
+        return (BiFunction) TO_SEPTET_FROM_PAIR;
     }
 
+    private static final BiFunction<Triplet<Object, Object, Object>, Quartet<Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_TRIPLET = new BiFunction<Triplet<Object, Object, Object>, Quartet<Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Triplet<Object, Object, Object> objects,
+                                                Quartet<Object, Object, Object, Object> objects2) {
+            return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1(), objects2.getValue2(),
+                    objects2.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G> BiFunction<Triplet<A, B, C>, Quartet<D, E, F, G>, Septet<A, B, C, D, E, F, G>> toSeptetFromTriplet() {
-        return new BiFunction<Triplet<A, B, C>, Quartet<D, E, F, G>, Septet<A, B, C, D, E, F, G>>() {
-            @Override
-            public Septet<A, B, C, D, E, F, G> apply(Triplet<A, B, C> objects,
-                                                    Quartet<D, E, F, G> objects2) {
-                return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects2.getValue0(), objects2.getValue1(), objects2.getValue2(),
-                        objects2.getValue3());
-            }
-        };
+        return (BiFunction) TO_SEPTET_FROM_TRIPLET;
     }
 
+    private static final BiFunction<Quartet<Object, Object, Object, Object>, Triplet<Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_QUARTET = new BiFunction<Quartet<Object, Object, Object, Object>, Triplet<Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Quartet<Object, Object, Object, Object> objects,
+                                                Triplet<Object, Object, Object> objects2) {
+            return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects2.getValue0(), objects2.getValue1(),
+                    objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G> BiFunction<Quartet<A, B, C, D>, Triplet<E, F, G>, Septet<A, B, C, D, E, F, G>> toSeptetFromQuartet() {
-        return new BiFunction<Quartet<A, B, C, D>, Triplet<E, F, G>, Septet<A, B, C, D, E, F, G>>() {
-            @Override
-            public Septet<A, B, C, D, E, F, G> apply(Quartet<A, B, C, D> objects,
-                                                    Triplet<E, F, G> objects2) {
-                return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects2.getValue0(), objects2.getValue1(),
-                        objects2.getValue2());
-            }
-        };
+        return (BiFunction) TO_SEPTET_FROM_QUARTET;
     }
 
+    private static final BiFunction<Quintet<Object, Object, Object, Object, Object>, Pair<Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_QUINTET = new BiFunction<Quintet<Object, Object, Object, Object, Object>, Pair<Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Quintet<Object, Object, Object, Object, Object> objects,
+                                                Pair<Object, Object> objects2) {
+            return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects2.getValue0(),
+                    objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G> BiFunction<Quintet<A, B, C, D, E>, Pair<F, G>, Septet<A, B, C, D, E, F, G>> toSeptetFromQuintet() {
-        return new BiFunction<Quintet<A, B, C, D, E>, Pair<F, G>, Septet<A, B, C, D, E, F, G>>() {
-            @Override
-            public Septet<A, B, C, D, E, F, G> apply(Quintet<A, B, C, D, E> objects,
-                                                    Pair<F, G> objects2) {
-                return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), objects2.getValue0(),
-                        objects2.getValue1());
-            }
-        };
+        return (BiFunction) TO_SEPTET_FROM_QUINTET;
     }
 
+    private static final BiFunction<Sextet<Object, Object, Object, Object, Object, Object>, Object, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_SEXTET = new BiFunction<Sextet<Object, Object, Object, Object, Object, Object>, Object, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(Sextet<Object, Object, Object, Object, Object, Object> objects, Object t) {
+            return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, T> BiFunction<Sextet<A, B, C, D, E, F>, T, Septet<A, B, C, D, E, F, T>> toSeptetFromSextet() {
-        return new BiFunction<Sextet<A, B, C, D, E, F>, T, Septet<A, B, C, D, E, F, T>>() {
-            @Override
-            public Septet<A, B, C, D, E, F, T> apply(Sextet<A, B, C, D, E, F> objects, T t) {
-                return Septet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), objects.getValue5(), t);
-            }
-        };
+        return (BiFunction) TO_SEPTET_FROM_SEXTET;
     }
 
     // endregion
 
     // region Octet
 
+    private static final Function8<Object, Object, Object, Object, Object, Object, Object, Object, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET = new Function8<Object, Object, Object, Object, Object, Object, Object, Object, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e, Object f, Object g, Object h) {
+            return Octet.with(a, b, c, d, e, f, g, h);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> Function8<A, B, C, D, E, F, G, H, Octet<A, B, C, D, E, F, G, H>> toOctet() {
-        return new Function8<A, B, C, D, E, F, G, H, Octet<A, B, C, D, E, F, G, H>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, H> apply(A a, B b, C c, D d, E e, F f, G g, H h) {
-                return Octet.with(a, b, c, d, e, f, g, h);
-            }
-        };
+        return (Function8) TO_OCTET;
     }
 
 
+    private static final BiFunction<Object, Septet<Object, Object, Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_SINGLE = new BiFunction<Object, Septet<Object, Object, Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Object t, Septet<Object, Object, Object, Object, Object, Object, Object> objects) {
+            return Octet.with(t, objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(),
+                    objects.getValue6());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, T> BiFunction<T, Septet<A, B, C, D, E, F, G>, Octet<T, A, B, C, D, E, F, G>> toOctetFromSingle() {
-        return new BiFunction<T, Septet<A, B, C, D, E, F, G>, Octet<T, A, B, C, D, E, F, G>>() {
-            @Override
-            public Octet<T, A, B, C, D, E, F, G> apply(T t, Septet<A, B, C, D, E, F, G> objects) {
-                return Octet.with(t, objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), objects.getValue5(),
-                        objects.getValue6());
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_SINGLE;
     }
 
+    private static final BiFunction<Pair<Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_PAIR = new BiFunction<Pair<Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Pair<Object, Object> objects,
+                                                  Sextet<Object, Object, Object, Object, Object, Object> objects2) {
+            return Octet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2(), objects2.getValue3(),
+                    objects2.getValue4(), objects2.getValue5());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> BiFunction<Pair<A, B>, Sextet<C, D, E, F, G, H>, Octet<A, B, C, D, E, F, G, H>> toOctetFromPair() {
-        return new BiFunction<Pair<A, B>, Sextet<C, D, E, F, G, H>, Octet<A, B, C, D, E, F, G, H>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, H> apply(Pair<A, B> objects,
-                                                      Sextet<C, D, E, F, G, H> objects2) {
-                return Octet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
-                        objects2.getValue1(), objects2.getValue2(), objects2.getValue3(),
-                        objects2.getValue4(), objects2.getValue5());
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_PAIR;
     }
 
+    private static final BiFunction<Triplet<Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_TRIPLET = new BiFunction<Triplet<Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Triplet<Object, Object, Object> objects,
+                                                  Quintet<Object, Object, Object, Object, Object> objects2) {
+            return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1(), objects2.getValue2(),
+                    objects2.getValue3(), objects2.getValue4());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> BiFunction<Triplet<A, B, C>, Quintet<D, E, F, G, H>, Octet<A, B, C, D, E, F, G, H>> toOctetFromTriplet() {
-        return new BiFunction<Triplet<A, B, C>, Quintet<D, E, F, G, H>, Octet<A, B, C, D, E, F, G, H>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, H> apply(Triplet<A, B, C> objects,
-                                                      Quintet<D, E, F, G, H> objects2) {
-                return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects2.getValue0(), objects2.getValue1(), objects2.getValue2(),
-                        objects2.getValue3(), objects2.getValue4());
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_TRIPLET;
     }
 
+    private static final BiFunction<Quartet<Object, Object, Object, Object>, Quartet<Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_QUARTET = new BiFunction<Quartet<Object, Object, Object, Object>, Quartet<Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Quartet<Object, Object, Object, Object> objects,
+                                                  Quartet<Object, Object, Object, Object> objects2) {
+            return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects2.getValue0(), objects2.getValue1(),
+                    objects2.getValue2(), objects2.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> BiFunction<Quartet<A, B, C, D>, Quartet<E, F, G, H>, Octet<A, B, C, D, E, F, G, H>> toOctetFromQuartet() {
-        return new BiFunction<Quartet<A, B, C, D>, Quartet<E, F, G, H>, Octet<A, B, C, D, E, F, G, H>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, H> apply(Quartet<A, B, C, D> objects,
-                                                      Quartet<E, F, G, H> objects2) {
-                return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects2.getValue0(), objects2.getValue1(),
-                        objects2.getValue2(), objects2.getValue3());
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_QUARTET;
     }
 
+    private static final BiFunction<Quintet<Object, Object, Object, Object, Object>, Triplet<Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_QUINTET = new BiFunction<Quintet<Object, Object, Object, Object, Object>, Triplet<Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Quintet<Object, Object, Object, Object, Object> objects,
+                                                  Triplet<Object, Object, Object> objects2) {
+            return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> BiFunction<Quintet<A, B, C, D, E>, Triplet<F, G, H>, Octet<A, B, C, D, E, F, G, H>> toOctetFromQuintet() {
-        return new BiFunction<Quintet<A, B, C, D, E>, Triplet<F, G, H>, Octet<A, B, C, D, E, F, G, H>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, H> apply(Quintet<A, B, C, D, E> objects,
-                                                      Triplet<F, G, H> objects2) {
-                return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), objects2.getValue0(),
-                        objects2.getValue1(), objects2.getValue2());
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_QUINTET;
     }
 
+    private static final BiFunction<Sextet<Object, Object, Object, Object, Object, Object>, Pair<Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_SEXTET = new BiFunction<Sextet<Object, Object, Object, Object, Object, Object>, Pair<Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Sextet<Object, Object, Object, Object, Object, Object> objects,
+                                                  Pair<Object, Object> objects2) {
+            return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(),
+                    objects2.getValue0(), objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> BiFunction<Sextet<A, B, C, D, E, F>, Pair<G, H>, Octet<A, B, C, D, E, F, G, H>> toOctetFromSextet() {
-        return new BiFunction<Sextet<A, B, C, D, E, F>, Pair<G, H>, Octet<A, B, C, D, E, F, G, H>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, H> apply(Sextet<A, B, C, D, E, F> objects,
-                                                      Pair<G, H> objects2) {
-                return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), objects.getValue5(),
-                        objects2.getValue0(), objects2.getValue1());
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_SEXTET;
     }
 
+    private static final BiFunction<Septet<Object, Object, Object, Object, Object, Object, Object>, Object, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_SEPTET = new BiFunction<Septet<Object, Object, Object, Object, Object, Object, Object>, Object, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Septet<Object, Object, Object, Object, Object, Object, Object> objects, Object t) {
+            return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(),
+                    objects.getValue6(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, T> BiFunction<Septet<A, B, C, D, E, F, G>, T, Octet<A, B, C, D, E, F, G, T>> toOctetFromSeptet() {
-        return new BiFunction<Septet<A, B, C, D, E, F, G>, T, Octet<A, B, C, D, E, F, G, T>>() {
-            @Override
-            public Octet<A, B, C, D, E, F, G, T> apply(Septet<A, B, C, D, E, F, G> objects, T t) {
-                return Octet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
-                        objects.getValue3(), objects.getValue4(), objects.getValue5(),
-                        objects.getValue6(), t);
-            }
-        };
+        return (BiFunction) TO_OCTET_FROM_SEPTET;
+    }
+
+    // endregion
+
+    // region Null checks
+
+    /**
+     * Checks every element of an operator's arguments, only building the message for a null one
+     * so that assembling an operator doesn't concatenate a string per argument
+     */
+    static void requireNonNull(Object[] values, String name) {
+        for (int i = 0; i < values.length; i++) {
+            requireNonNull(values[i], name, i);
+        }
+    }
+
+    static <T> T requireNonNull(T value, String name, int index) {
+        if (value == null) {
+            throw new NullPointerException(name + " " + index + " is null");
+        }
+        return value;
+    }
+    // endregion
+
+    // region Fused zip
+
+    @SuppressWarnings("unchecked")
+    private static <R> Observable<R> zipTuple(TupleBuilder<?> builder,
+            ObservableSource<?>... sources) {
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new ObservableZipTuple<R>(sources,
+                (TupleBuilder<R>)builder, Observable.bufferSize()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Flowable<R> zipTuple(TupleBuilder<?> builder, Publisher<?>... sources) {
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new FlowableZipTuple<R>(sources, (TupleBuilder<R>)builder,
+                Flowable.bufferSize()));
+    }
+
+    /**
+     * Same as {@code Observable.zip(a, b, RxTuples.<A, B>toPair())} but the zip builds the tuple
+     * directly, skipping the intermediate Object[] and function adapter.
+     */
+    public static <A, B> Observable<Pair<A, B>> zipToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b) {
+        return zipTuple(TupleBuilders.PAIR, a, b);
+    }
+
+    /**
+     * Same as {@code Flowable.zip(a, b, RxTuples.<A, B>toPair())} but the zip builds the tuple
+     * directly, skipping the intermediate Object[] and function adapter.
+     */
+    public static <A, B> Flowable<Pair<A, B>> zipToPair(Publisher<? extends A> a,
+            Publisher<? extends B> b) {
+        return zipTuple(TupleBuilders.PAIR, a, b);
+    }
+
+    public static <A, B, C> Observable<Triplet<A, B, C>> zipToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c) {
+        return zipTuple(TupleBuilders.TRIPLET, a, b, c);
+    }
+
+    public static <A, B, C> Flowable<Triplet<A, B, C>> zipToTriplet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c) {
+        return zipTuple(TupleBuilders.TRIPLET, a, b, c);
+    }
+
+    public static <A, B, C, D> Observable<Quartet<A, B, C, D>> zipToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d) {
+        return zipTuple(TupleBuilders.QUARTET, a, b, c, d);
+    }
+
+    public static <A, B, C, D> Flowable<Quartet<A, B, C, D>> zipToQuartet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d) {
+        return zipTuple(TupleBuilders.QUARTET, a, b, c, d);
+    }
+
+    public static <A, B, C, D, E> Observable<Quintet<A, B, C, D, E>> zipToQuintet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e) {
+        return zipTuple(TupleBuilders.QUINTET, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E> Flowable<Quintet<A, B, C, D, E>> zipToQuintet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e) {
+        return zipTuple(TupleBuilders.QUINTET, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E, F> Observable<Sextet<A, B, C, D, E, F>> zipToSextet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f) {
+        return zipTuple(TupleBuilders.SEXTET, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F> Flowable<Sextet<A, B, C, D, E, F>> zipToSextet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f) {
+        return zipTuple(TupleBuilders.SEXTET, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F, G> Observable<Septet<A, B, C, D, E, F, G>> zipToSeptet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, ObservableSource<? extends G> g) {
+        return zipTuple(TupleBuilders.SEPTET, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G> Flowable<Septet<A, B, C, D, E, F, G>> zipToSeptet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, Publisher<? extends G> g) {
+        return zipTuple(TupleBuilders.SEPTET, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Observable<Octet<A, B, C, D, E, F, G, H>> zipToOctet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, ObservableSource<? extends G> g,
+            ObservableSource<? extends H> h) {
+        return zipTuple(TupleBuilders.OCTET, a, b, c, d, e, f, g, h);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Flowable<Octet<A, B, C, D, E, F, G, H>> zipToOctet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, Publisher<? extends G> g,
+            Publisher<? extends H> h) {
+        return zipTuple(TupleBuilders.OCTET, a, b, c, d, e, f, g, h);
+    }
+
+    // endregion
+
+    // region Fused combineLatest
+
+    @SuppressWarnings("unchecked")
+    private static <R> Observable<R> combineLatestTuple(TupleBuilder<?> builder, boolean conflate,
+            ObservableSource<?>... sources) {
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new ObservableCombineLatestTuple<R>(sources,
+                (TupleBuilder<R>)builder, conflate));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Flowable<R> combineLatestTuple(TupleBuilder<?> builder, boolean conflate,
+            Publisher<?>... sources) {
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new FlowableCombineLatestTuple<R>(sources,
+                (TupleBuilder<R>)builder, Flowable.bufferSize(), conflate));
+    }
+
+    /**
+     * Same as {@code Observable.combineLatest(a, b, RxTuples.<A, B>toPair())} but lock-free, with
+     * tuples built on the emitting thread without the intermediate Object[] and function adapter.
+     */
+    public static <A, B> Observable<Pair<A, B>> combineLatestToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b) {
+        return combineLatestTuple(TupleBuilders.PAIR, false, a, b);
+    }
+
+    /**
+     * Same as {@link #combineLatestToPair(ObservableSource, ObservableSource)}. When
+     * {@code conflate} is true emissions arriving while the downstream is busy collapse into a
+     * single tuple holding the newest value of every source.
+     */
+    public static <A, B> Observable<Pair<A, B>> combineLatestToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.PAIR, conflate, a, b);
+    }
+
+    /**
+     * Same as {@code Flowable.combineLatest(a, b, RxTuples.<A, B>toPair())} but lock-free, with
+     * tuples built on the emitting thread without the intermediate Object[] and function adapter.
+     */
+    public static <A, B> Flowable<Pair<A, B>> combineLatestToPair(Publisher<? extends A> a,
+            Publisher<? extends B> b) {
+        return combineLatestTuple(TupleBuilders.PAIR, false, a, b);
+    }
+
+    /**
+     * Same as {@link #combineLatestToPair(Publisher, Publisher)}. When {@code conflate} is true
+     * emissions arriving while the downstream is busy collapse into a single tuple holding the
+     * newest value of every source.
+     */
+    public static <A, B> Flowable<Pair<A, B>> combineLatestToPair(Publisher<? extends A> a,
+            Publisher<? extends B> b, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.PAIR, conflate, a, b);
+    }
+
+    public static <A, B, C> Observable<Triplet<A, B, C>> combineLatestToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c) {
+        return combineLatestTuple(TupleBuilders.TRIPLET, false, a, b, c);
+    }
+
+    public static <A, B, C> Observable<Triplet<A, B, C>> combineLatestToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.TRIPLET, conflate, a, b, c);
+    }
+
+    public static <A, B, C> Flowable<Triplet<A, B, C>> combineLatestToTriplet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c) {
+        return combineLatestTuple(TupleBuilders.TRIPLET, false, a, b, c);
+    }
+
+    public static <A, B, C> Flowable<Triplet<A, B, C>> combineLatestToTriplet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.TRIPLET, conflate, a, b, c);
+    }
+
+    public static <A, B, C, D> Observable<Quartet<A, B, C, D>> combineLatestToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d) {
+        return combineLatestTuple(TupleBuilders.QUARTET, false, a, b, c, d);
+    }
+
+    public static <A, B, C, D> Observable<Quartet<A, B, C, D>> combineLatestToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.QUARTET, conflate, a, b, c, d);
+    }
+
+    public static <A, B, C, D> Flowable<Quartet<A, B, C, D>> combineLatestToQuartet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d) {
+        return combineLatestTuple(TupleBuilders.QUARTET, false, a, b, c, d);
+    }
+
+    public static <A, B, C, D> Flowable<Quartet<A, B, C, D>> combineLatestToQuartet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            boolean conflate) {
+        return combineLatestTuple(TupleBuilders.QUARTET, conflate, a, b, c, d);
+    }
+
+    public static <A, B, C, D, E> Observable<Quintet<A, B, C, D, E>> combineLatestToQuintet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e) {
+        return combineLatestTuple(TupleBuilders.QUINTET, false, a, b, c, d, e);
     }
 
+    public static <A, B, C, D, E> Observable<Quintet<A, B, C, D, E>> combineLatestToQuintet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.QUINTET, conflate, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E> Flowable<Quintet<A, B, C, D, E>> combineLatestToQuintet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e) {
+        return combineLatestTuple(TupleBuilders.QUINTET, false, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E> Flowable<Quintet<A, B, C, D, E>> combineLatestToQuintet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.QUINTET, conflate, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E, F> Observable<Sextet<A, B, C, D, E, F>> combineLatestToSextet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f) {
+        return combineLatestTuple(TupleBuilders.SEXTET, false, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F> Observable<Sextet<A, B, C, D, E, F>> combineLatestToSextet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.SEXTET, conflate, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F> Flowable<Sextet<A, B, C, D, E, F>> combineLatestToSextet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f) {
+        return combineLatestTuple(TupleBuilders.SEXTET, false, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F> Flowable<Sextet<A, B, C, D, E, F>> combineLatestToSextet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.SEXTET, conflate, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F, G> Observable<Septet<A, B, C, D, E, F, G>> combineLatestToSeptet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, ObservableSource<? extends G> g) {
+        return combineLatestTuple(TupleBuilders.SEPTET, false, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G> Observable<Septet<A, B, C, D, E, F, G>> combineLatestToSeptet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, ObservableSource<? extends G> g, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.SEPTET, conflate, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G> Flowable<Septet<A, B, C, D, E, F, G>> combineLatestToSeptet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, Publisher<? extends G> g) {
+        return combineLatestTuple(TupleBuilders.SEPTET, false, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G> Flowable<Septet<A, B, C, D, E, F, G>> combineLatestToSeptet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, Publisher<? extends G> g,
+            boolean conflate) {
+        return combineLatestTuple(TupleBuilders.SEPTET, conflate, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Observable<Octet<A, B, C, D, E, F, G, H>> combineLatestToOctet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, ObservableSource<? extends G> g,
+            ObservableSource<? extends H> h) {
+        return combineLatestTuple(TupleBuilders.OCTET, false, a, b, c, d, e, f, g, h);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Observable<Octet<A, B, C, D, E, F, G, H>> combineLatestToOctet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ObservableSource<? extends E> e,
+            ObservableSource<? extends F> f, ObservableSource<? extends G> g,
+            ObservableSource<? extends H> h, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.OCTET, conflate, a, b, c, d, e, f, g, h);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Flowable<Octet<A, B, C, D, E, F, G, H>> combineLatestToOctet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, Publisher<? extends G> g,
+            Publisher<? extends H> h) {
+        return combineLatestTuple(TupleBuilders.OCTET, false, a, b, c, d, e, f, g, h);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Flowable<Octet<A, B, C, D, E, F, G, H>> combineLatestToOctet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            Publisher<? extends E> e, Publisher<? extends F> f, Publisher<? extends G> g,
+            Publisher<? extends H> h, boolean conflate) {
+        return combineLatestTuple(TupleBuilders.OCTET, conflate, a, b, c, d, e, f, g, h);
+    }
+    // endregion
+
+    // region Sliding windows
+
+    private static final TupleTransformer<Object, Pair<Object, Object>> PAIRWISE = new SlidingWindowOperator<Object, Pair<Object, Object>>(2, 1, TupleBuilders.PAIR);
+
+    private static final TupleTransformer<Object, Triplet<Object, Object, Object>> SLIDING_TRIPLET = new SlidingWindowOperator<Object, Triplet<Object, Object, Object>>(3, 1, TupleBuilders.TRIPLET);
+
+    private static final TupleTransformer<Object, Quartet<Object, Object, Object, Object>> SLIDING_QUARTET = new SlidingWindowOperator<Object, Quartet<Object, Object, Object, Object>>(4, 1, TupleBuilders.QUARTET);
+
+    private static final TupleTransformer<Object, Quintet<Object, Object, Object, Object, Object>> SLIDING_QUINTET = new SlidingWindowOperator<Object, Quintet<Object, Object, Object, Object, Object>>(5, 1, TupleBuilders.QUINTET);
+
+    private static final TupleTransformer<Object, Sextet<Object, Object, Object, Object, Object, Object>> SLIDING_SEXTET = new SlidingWindowOperator<Object, Sextet<Object, Object, Object, Object, Object, Object>>(6, 1, TupleBuilders.SEXTET);
+
+    private static final TupleTransformer<Object, Septet<Object, Object, Object, Object, Object, Object, Object>> SLIDING_SEPTET = new SlidingWindowOperator<Object, Septet<Object, Object, Object, Object, Object, Object, Object>>(7, 1, TupleBuilders.SEPTET);
+
+    private static final TupleTransformer<Object, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> SLIDING_OCTET = new SlidingWindowOperator<Object, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>(8, 1, TupleBuilders.OCTET);
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> TupleTransformer<T, R> sliding(int size, int every,
+            TupleBuilder<?> builder) {
+        if (every <= 0) {
+            throw new IllegalArgumentException("every > 0 required but it was " + every);
+        }
+        return new SlidingWindowOperator<T, R>(size, every, (TupleBuilder<R>)builder);
+    }
+
+    /**
+     * Pairs every element with the one before it on a single subscription to the upstream.
+     * <p>
+     * Replaces {@code zip(source, source.skip(1), RxTuples.toPair())}, which subscribes twice.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Pair<T, T>> pairwise() {
+        return (TupleTransformer) PAIRWISE;
+    }
+
+    /**
+     * Same as {@link #pairwise()} but emits only every {@code every}-th pair, starting with the
+     * first one. {@code pairwise(2)} emits non-overlapping pairs.
+     */
+    public static <T> TupleTransformer<T, Pair<T, T>> pairwise(int every) {
+        return sliding(2, every, TupleBuilders.PAIR);
+    }
+
+    /**
+     * Emits the last 3 elements as a Triplet for every new element, on a single subscription to
+     * the upstream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Triplet<T, T, T>> slidingTriplet() {
+        return (TupleTransformer) SLIDING_TRIPLET;
+    }
+
+    public static <T> TupleTransformer<T, Triplet<T, T, T>> slidingTriplet(int every) {
+        return sliding(3, every, TupleBuilders.TRIPLET);
+    }
+
+    /**
+     * Emits the last 4 elements as a Quartet for every new element, on a single subscription to
+     * the upstream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Quartet<T, T, T, T>> slidingQuartet() {
+        return (TupleTransformer) SLIDING_QUARTET;
+    }
+
+    public static <T> TupleTransformer<T, Quartet<T, T, T, T>> slidingQuartet(int every) {
+        return sliding(4, every, TupleBuilders.QUARTET);
+    }
+
+    /**
+     * Emits the last 5 elements as a Quintet for every new element, on a single subscription to
+     * the upstream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Quintet<T, T, T, T, T>> slidingQuintet() {
+        return (TupleTransformer) SLIDING_QUINTET;
+    }
+
+    public static <T> TupleTransformer<T, Quintet<T, T, T, T, T>> slidingQuintet(int every) {
+        return sliding(5, every, TupleBuilders.QUINTET);
+    }
+
+    /**
+     * Emits the last 6 elements as a Sextet for every new element, on a single subscription to
+     * the upstream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Sextet<T, T, T, T, T, T>> slidingSextet() {
+        return (TupleTransformer) SLIDING_SEXTET;
+    }
+
+    public static <T> TupleTransformer<T, Sextet<T, T, T, T, T, T>> slidingSextet(int every) {
+        return sliding(6, every, TupleBuilders.SEXTET);
+    }
+
+    /**
+     * Emits the last 7 elements as a Septet for every new element, on a single subscription to
+     * the upstream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Septet<T, T, T, T, T, T, T>> slidingSeptet() {
+        return (TupleTransformer) SLIDING_SEPTET;
+    }
+
+    public static <T> TupleTransformer<T, Septet<T, T, T, T, T, T, T>> slidingSeptet(int every) {
+        return sliding(7, every, TupleBuilders.SEPTET);
+    }
+
+    /**
+     * Emits the last 8 elements as a Octet for every new element, on a single subscription to
+     * the upstream.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, Octet<T, T, T, T, T, T, T, T>> slidingOctet() {
+        return (TupleTransformer) SLIDING_OCTET;
+    }
+
+    public static <T> TupleTransformer<T, Octet<T, T, T, T, T, T, T, T>> slidingOctet(int every) {
+        return sliding(8, every, TupleBuilders.OCTET);
+    }
+    // endregion
+
+    // region Zip builder
+
+    /**
+     * Starts a fluent zip, e.g. {@code RxTuples.zipBuilder(a).and(b).and(c).toTriplet()}.
+     * <p>
+     * All sources are zipped at once and only the final tuple is built, unlike chaining
+     * {@link #toPair()}, {@link #toTripletFromPair()} and so on, which adds one zip and one
+     * intermediate tuple per stage.
+     */
+    public static <A> ObservableZipBuilder.Zip1<A> zipBuilder(ObservableSource<? extends A> a) {
+        return ObservableZipBuilder.start(a);
+    }
+
+    /**
+     * Same as {@link #zipBuilder(ObservableSource)} for Flowable sources.
+     */
+    public static <A> FlowableZipBuilder.Zip1<A> zipBuilder(Publisher<? extends A> a) {
+        return FlowableZipBuilder.start(a);
+    }
+
+    // endregion
+
+    // region Unzip
+
+    private static ObservableUnzip unzip(ObservableSource<? extends Tuple> source, int count) {
+        ObjectHelper.requireNonNull(source, "source is null");
+        return new ObservableUnzip(source, count);
+    }
+
+    private static FlowableUnzip unzip(Publisher<? extends Tuple> source, int count,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        ObjectHelper.requireNonNull(source, "source is null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        return new FlowableUnzip(source, count, bufferSize, strategy);
+    }
+
+    /**
+     * Splits a stream of pairs into one stream per slot. The upstream is subscribed to once, when
+     * both returned streams have been subscribed to, and each of them can only be subscribed to
+     * once.
+     * <p>
+     * Replaces mapping the same upstream once per slot, which subscribes to it once per slot.
+     */
+    public static <A, B> Pair<Observable<A>, Observable<B>> unzipPair(
+            ObservableSource<? extends Pair<A, B>> source) {
+        final ObservableUnzip unzip = unzip(source, 2);
+        return Pair.with(unzip.<A> branch(0), unzip.<B> branch(1));
+    }
+
+    /**
+     * Same as {@link #unzipPair(ObservableSource)} for Flowable. The streams advance in lockstep:
+     * each buffers up to {@link Flowable#bufferSize()} values and the upstream is consumed at the
+     * pace of the slowest one.
+     */
+    public static <A, B> Pair<Flowable<A>, Flowable<B>> unzipPair(
+            Publisher<? extends Pair<A, B>> source) {
+        return unzipPair(source, Flowable.bufferSize(), null);
+    }
+
+    /**
+     * Same as {@link #unzipPair(Publisher)} with {@code bufferSize} values buffered per stream. A
+     * null {@code strategy} keeps the streams in lockstep. Otherwise the upstream is consumed at the
+     * pace of the fastest stream and {@code strategy} decides what a stream with a full buffer
+     * does: drop its oldest or latest value, or fail with a MissingBackpressureException without
+     * affecting the others.
+     */
+    public static <A, B> Pair<Flowable<A>, Flowable<B>> unzipPair(
+            Publisher<? extends Pair<A, B>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 2, bufferSize, strategy);
+        return Pair.with(unzip.<A> branch(0), unzip.<B> branch(1));
+    }
+
+    public static <A, B, C> Triplet<Observable<A>, Observable<B>, Observable<C>> unzipTriplet(
+            ObservableSource<? extends Triplet<A, B, C>> source) {
+        final ObservableUnzip unzip = unzip(source, 3);
+        return Triplet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2));
+    }
+
+    public static <A, B, C> Triplet<Flowable<A>, Flowable<B>, Flowable<C>> unzipTriplet(
+            Publisher<? extends Triplet<A, B, C>> source) {
+        return unzipTriplet(source, Flowable.bufferSize(), null);
+    }
+
+    public static <A, B, C> Triplet<Flowable<A>, Flowable<B>, Flowable<C>> unzipTriplet(
+            Publisher<? extends Triplet<A, B, C>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 3, bufferSize, strategy);
+        return Triplet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2));
+    }
+
+    public static <A, B, C, D> Quartet<Observable<A>, Observable<B>, Observable<C>, Observable<D>> unzipQuartet(
+            ObservableSource<? extends Quartet<A, B, C, D>> source) {
+        final ObservableUnzip unzip = unzip(source, 4);
+        return Quartet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3));
+    }
+
+    public static <A, B, C, D> Quartet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>> unzipQuartet(
+            Publisher<? extends Quartet<A, B, C, D>> source) {
+        return unzipQuartet(source, Flowable.bufferSize(), null);
+    }
+
+    public static <A, B, C, D> Quartet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>> unzipQuartet(
+            Publisher<? extends Quartet<A, B, C, D>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 4, bufferSize, strategy);
+        return Quartet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3));
+    }
+
+    public static <A, B, C, D, E> Quintet<Observable<A>, Observable<B>, Observable<C>, Observable<D>, Observable<E>> unzipQuintet(
+            ObservableSource<? extends Quintet<A, B, C, D, E>> source) {
+        final ObservableUnzip unzip = unzip(source, 5);
+        return Quintet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4));
+    }
+
+    public static <A, B, C, D, E> Quintet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>> unzipQuintet(
+            Publisher<? extends Quintet<A, B, C, D, E>> source) {
+        return unzipQuintet(source, Flowable.bufferSize(), null);
+    }
+
+    public static <A, B, C, D, E> Quintet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>> unzipQuintet(
+            Publisher<? extends Quintet<A, B, C, D, E>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 5, bufferSize, strategy);
+        return Quintet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4));
+    }
+
+    public static <A, B, C, D, E, F> Sextet<Observable<A>, Observable<B>, Observable<C>, Observable<D>, Observable<E>, Observable<F>> unzipSextet(
+            ObservableSource<? extends Sextet<A, B, C, D, E, F>> source) {
+        final ObservableUnzip unzip = unzip(source, 6);
+        return Sextet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4), unzip.<F> branch(5));
+    }
+
+    public static <A, B, C, D, E, F> Sextet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>, Flowable<F>> unzipSextet(
+            Publisher<? extends Sextet<A, B, C, D, E, F>> source) {
+        return unzipSextet(source, Flowable.bufferSize(), null);
+    }
+
+    public static <A, B, C, D, E, F> Sextet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>, Flowable<F>> unzipSextet(
+            Publisher<? extends Sextet<A, B, C, D, E, F>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 6, bufferSize, strategy);
+        return Sextet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4), unzip.<F> branch(5));
+    }
+
+    public static <A, B, C, D, E, F, G> Septet<Observable<A>, Observable<B>, Observable<C>, Observable<D>, Observable<E>, Observable<F>, Observable<G>> unzipSeptet(
+            ObservableSource<? extends Septet<A, B, C, D, E, F, G>> source) {
+        final ObservableUnzip unzip = unzip(source, 7);
+        return Septet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4), unzip.<F> branch(5), unzip.<G> branch(6));
+    }
+
+    public static <A, B, C, D, E, F, G> Septet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>, Flowable<F>, Flowable<G>> unzipSeptet(
+            Publisher<? extends Septet<A, B, C, D, E, F, G>> source) {
+        return unzipSeptet(source, Flowable.bufferSize(), null);
+    }
+
+    public static <A, B, C, D, E, F, G> Septet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>, Flowable<F>, Flowable<G>> unzipSeptet(
+            Publisher<? extends Septet<A, B, C, D, E, F, G>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 7, bufferSize, strategy);
+        return Septet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4), unzip.<F> branch(5), unzip.<G> branch(6));
+    }
+
+    public static <A, B, C, D, E, F, G, H> Octet<Observable<A>, Observable<B>, Observable<C>, Observable<D>, Observable<E>, Observable<F>, Observable<G>, Observable<H>> unzipOctet(
+            ObservableSource<? extends Octet<A, B, C, D, E, F, G, H>> source) {
+        final ObservableUnzip unzip = unzip(source, 8);
+        return Octet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4), unzip.<F> branch(5), unzip.<G> branch(6),
+                unzip.<H> branch(7));
+    }
+
+    public static <A, B, C, D, E, F, G, H> Octet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>, Flowable<F>, Flowable<G>, Flowable<H>> unzipOctet(
+            Publisher<? extends Octet<A, B, C, D, E, F, G, H>> source) {
+        return unzipOctet(source, Flowable.bufferSize(), null);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Octet<Flowable<A>, Flowable<B>, Flowable<C>, Flowable<D>, Flowable<E>, Flowable<F>, Flowable<G>, Flowable<H>> unzipOctet(
+            Publisher<? extends Octet<A, B, C, D, E, F, G, H>> source,
+            int bufferSize, BackpressureOverflowStrategy strategy) {
+        final FlowableUnzip unzip = unzip(source, 8, bufferSize, strategy);
+        return Octet.with(unzip.<A> branch(0), unzip.<B> branch(1), unzip.<C> branch(2),
+                unzip.<D> branch(3), unzip.<E> branch(4), unzip.<F> branch(5), unzip.<G> branch(6),
+                unzip.<H> branch(7));
+    }
+    // endregion
+
+    // region Spilling zip
+
+    @SuppressWarnings("unchecked")
+    private static <R> ObservableSpillingZip<R> spillingZip(TupleBuilder<?> builder,
+            int memoryCapacity, File directory, ObservableSource<?>[] sources,
+            ElementCodec<?>[] codecs) {
+        if (memoryCapacity <= 0) {
+            throw new IllegalArgumentException("memoryCapacity > 0 required but it was "
+                    + memoryCapacity);
+        }
+        requireNonNull(sources, "source");
+        requireNonNull(codecs, "codec");
+        return new ObservableSpillingZip<R>(sources, (ElementCodec<Object>[])codecs,
+                (TupleBuilder<R>)builder, memoryCapacity, directory);
+    }
+
+    /**
+     * Same as {@link #zipToPair(ObservableSource, ObservableSource)} keeping at most
+     * {@code memoryCapacity} elements per source in memory. When a source runs ahead, its overflow
+     * is written with its codec to a memory-mapped file in the default temporary directory and read
+     * back in order as the other source catches up. Spill files are deleted on termination.
+     */
+    public static <A, B> ObservableSpillingZip<Pair<A, B>> spillingZipToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ElementCodec<A> codecA, ElementCodec<B> codecB,
+            int memoryCapacity) {
+        return spillingZip(TupleBuilders.PAIR, memoryCapacity, null, new ObservableSource<?>[] {
+                a, b
+        }, new ElementCodec<?>[] {
+                codecA, codecB
+        });
+    }
+
+    /**
+     * Same as
+     * {@link #spillingZipToPair(ObservableSource, ObservableSource, ElementCodec, ElementCodec, int)}
+     * with the spill files created in {@code directory}.
+     */
+    public static <A, B> ObservableSpillingZip<Pair<A, B>> spillingZipToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ElementCodec<A> codecA, ElementCodec<B> codecB,
+            int memoryCapacity, File directory) {
+        return spillingZip(TupleBuilders.PAIR, memoryCapacity, directory,
+                new ObservableSource<?>[] {
+                        a, b
+                }, new ElementCodec<?>[] {
+                        codecA, codecB
+                });
+    }
+
+    public static <A, B, C> ObservableSpillingZip<Triplet<A, B, C>> spillingZipToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ElementCodec<A> codecA, ElementCodec<B> codecB, ElementCodec<C> codecC,
+            int memoryCapacity) {
+        return spillingZip(TupleBuilders.TRIPLET, memoryCapacity, null, new ObservableSource<?>[] {
+                a, b, c
+        }, new ElementCodec<?>[] {
+                codecA, codecB, codecC
+        });
+    }
+
+    public static <A, B, C> ObservableSpillingZip<Triplet<A, B, C>> spillingZipToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ElementCodec<A> codecA, ElementCodec<B> codecB, ElementCodec<C> codecC,
+            int memoryCapacity, File directory) {
+        return spillingZip(TupleBuilders.TRIPLET, memoryCapacity, directory,
+                new ObservableSource<?>[] {
+                        a, b, c
+                }, new ElementCodec<?>[] {
+                        codecA, codecB, codecC
+                });
+    }
+
+    public static <A, B, C, D> ObservableSpillingZip<Quartet<A, B, C, D>> spillingZipToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ElementCodec<A> codecA, ElementCodec<B> codecB,
+            ElementCodec<C> codecC, ElementCodec<D> codecD, int memoryCapacity) {
+        return spillingZip(TupleBuilders.QUARTET, memoryCapacity, null, new ObservableSource<?>[] {
+                a, b, c, d
+        }, new ElementCodec<?>[] {
+                codecA, codecB, codecC, codecD
+        });
+    }
+
+    public static <A, B, C, D> ObservableSpillingZip<Quartet<A, B, C, D>> spillingZipToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, ElementCodec<A> codecA, ElementCodec<B> codecB,
+            ElementCodec<C> codecC, ElementCodec<D> codecD, int memoryCapacity, File directory) {
+        return spillingZip(TupleBuilders.QUARTET, memoryCapacity, directory,
+                new ObservableSource<?>[] {
+                        a, b, c, d
+                }, new ElementCodec<?>[] {
+                        codecA, codecB, codecC, codecD
+                });
+    }
+    // endregion
+
+    // region Tuple keys
+
+    private static final TupleTransformer<Object, Object> DISTINCT_TUPLES = new DistinctTupleOperator<Object>();
+
+    /**
+     * Same as {@code distinct()} for streams of tuples. Seen tuples live in an open-addressing set
+     * indexed by their hashes, without a node per key, and are compared slot by slot, which pays off
+     * with high-cardinality keys. Lite tuples hash once and reuse it, javatuples are hashed again on
+     * every element.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, T> distinctTuples() {
+        return (TupleTransformer) DISTINCT_TUPLES;
+    }
+
+    /**
+     * Same as {@code groupBy(keySelector)} for tuple keys, usable on both Observable and Flowable.
+     * Groups live in the same open-addressing table as {@link #distinctTuples()}, so each element
+     * finds its group by the key's hash and a slot by slot comparison instead of going through
+     * hashCode() and equals(). Select lite tuples to hash each key only once.
+     */
+    public static <T, K> GroupByTupleTransformer<T, K> groupByTuple(
+            Function<? super T, ? extends K> keySelector) {
+        return new GroupByTupleTransformer<T, K>(ObjectHelper.requireNonNull(keySelector,
+                "keySelector is null"));
+    }
+    // endregion
+
+    // region Merge join
+
+    /**
+     * Joins two Flowables sorted by key into a Pair per matching left and right element, walking
+     * both sides in step. Each side is requested in batches of {@link Flowable#bufferSize()} and
+     * only the right elements sharing the current key are buffered, so a left element with that
+     * key is paired with each of them.
+     * <p>
+     * Keys must be non-null and both sources sorted in ascending {@code comparator} order, otherwise
+     * the join fails with an {@link IllegalStateException} when it reaches the first element out of
+     * order. The pairs matched before that element have already been emitted.
+     */
+    public static <L, R, K> Flowable<Pair<L, R>> mergeJoin(Publisher<? extends L> left,
+            Publisher<? extends R> right, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey, Comparator<? super K> comparator) {
+        return mergeJoin(left, right, leftKey, rightKey, comparator, JoinMode.INNER);
+    }
+
+    /**
+     * Same as {@link #mergeJoin(Publisher, Publisher, Function, Function, Comparator)} emitting the
+     * unmatched elements of one or both sides as well, paired with null.
+     */
+    public static <L, R, K> Flowable<Pair<L, R>> mergeJoin(Publisher<? extends L> left,
+            Publisher<? extends R> right, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey, Comparator<? super K> comparator,
+            JoinMode mode) {
+        ObjectHelper.requireNonNull(left, "left is null");
+        ObjectHelper.requireNonNull(right, "right is null");
+        ObjectHelper.requireNonNull(leftKey, "leftKey is null");
+        ObjectHelper.requireNonNull(rightKey, "rightKey is null");
+        ObjectHelper.requireNonNull(comparator, "comparator is null");
+        ObjectHelper.requireNonNull(mode, "mode is null");
+        return RxJavaPlugins.onAssembly(new FlowableMergeJoin<L, R, K>(left, right, leftKey,
+                rightKey, comparator, mode, Flowable.bufferSize()));
+    }
+    // endregion
+
+    // region Windowed join
+
+    @SuppressWarnings("unchecked")
+    private static <R> ObservableWindowedJoin<R> windowedJoin(TupleBuilder<?> builder, long window,
+            TimeUnit unit, Scheduler scheduler, int maxEntries, EvictionPolicy policy,
+            ObservableSource<?>[] sources, Function<?, ?>[] keySelectors) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries > 0 required but it was " + maxEntries);
+        }
+        if (unit != null) {
+            if (window < 0L) {
+                throw new IllegalArgumentException("window >= 0 required but it was " + window);
+            }
+            ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        }
+        ObjectHelper.requireNonNull(policy, "policy is null");
+        requireNonNull(sources, "source");
+        requireNonNull(keySelectors, "keySelector");
+        return new ObservableWindowedJoin<R>(sources, (Function<Object, ?>[])keySelectors,
+                (TupleBuilder<R>)builder, unit != null ? window : -1L, unit, scheduler,
+                maxEntries, policy);
+    }
+
+    /**
+     * Joins two unsorted sources on equal keys into a Pair for every left and right element that
+     * meet while both are among the last {@code maxEntries} elements of their side. Each side keeps
+     * a hash index of its recent elements, and the oldest or least recently matched entry is
+     * dropped when it is full.
+     * <p>
+     * The returned Observable counts hits, misses and evictions across its subscriptions.
+     */
+    public static <A, B, K> ObservableWindowedJoin<Pair<A, B>> windowedJoinToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, Function<? super A, ? extends K> keyA,
+            Function<? super B, ? extends K> keyB, int maxEntries, EvictionPolicy policy) {
+        return windowedJoin(TupleBuilders.PAIR, -1L, null, null, maxEntries, policy,
+                new ObservableSource<?>[] {
+                        a, b
+                }, new Function<?, ?>[] {
+                        keyA, keyB
+                });
+    }
+
+    /**
+     * Same as
+     * {@link #windowedJoinToPair(ObservableSource, ObservableSource, Function, Function, int, EvictionPolicy)}
+     * also expiring the entries older than {@code window}, measured with the computation
+     * scheduler's clock whenever an element arrives.
+     */
+    public static <A, B, K> ObservableWindowedJoin<Pair<A, B>> windowedJoinToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, Function<? super A, ? extends K> keyA,
+            Function<? super B, ? extends K> keyB, long window, TimeUnit unit, int maxEntries,
+            EvictionPolicy policy) {
+        return windowedJoinToPair(a, b, keyA, keyB, window, unit, Schedulers.computation(),
+                maxEntries, policy);
+    }
+
+    public static <A, B, K> ObservableWindowedJoin<Pair<A, B>> windowedJoinToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, Function<? super A, ? extends K> keyA,
+            Function<? super B, ? extends K> keyB, long window, TimeUnit unit,
+            Scheduler scheduler, int maxEntries, EvictionPolicy policy) {
+        return windowedJoin(TupleBuilders.PAIR, window, ObjectHelper.requireNonNull(unit,
+                "unit is null"), scheduler, maxEntries, policy, new ObservableSource<?>[] {
+                        a, b
+                }, new Function<?, ?>[] {
+                        keyA, keyB
+                });
+    }
+
+    /**
+     * Three-way version of
+     * {@link #windowedJoinToPair(ObservableSource, ObservableSource, Function, Function, int, EvictionPolicy)},
+     * emitting a Triplet for every combination of matching elements.
+     */
+    public static <A, B, C, K> ObservableWindowedJoin<Triplet<A, B, C>> windowedJoinToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            Function<? super A, ? extends K> keyA, Function<? super B, ? extends K> keyB,
+            Function<? super C, ? extends K> keyC, int maxEntries, EvictionPolicy policy) {
+        return windowedJoin(TupleBuilders.TRIPLET, -1L, null, null, maxEntries, policy,
+                new ObservableSource<?>[] {
+                        a, b, c
+                }, new Function<?, ?>[] {
+                        keyA, keyB, keyC
+                });
+    }
+
+    public static <A, B, C, K> ObservableWindowedJoin<Triplet<A, B, C>> windowedJoinToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            Function<? super A, ? extends K> keyA, Function<? super B, ? extends K> keyB,
+            Function<? super C, ? extends K> keyC, long window, TimeUnit unit, int maxEntries,
+            EvictionPolicy policy) {
+        return windowedJoinToTriplet(a, b, c, keyA, keyB, keyC, window, unit,
+                Schedulers.computation(), maxEntries, policy);
+    }
+
+    public static <A, B, C, K> ObservableWindowedJoin<Triplet<A, B, C>> windowedJoinToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            Function<? super A, ? extends K> keyA, Function<? super B, ? extends K> keyB,
+            Function<? super C, ? extends K> keyC, long window, TimeUnit unit,
+            Scheduler scheduler, int maxEntries, EvictionPolicy policy) {
+        return windowedJoin(TupleBuilders.TRIPLET, window, ObjectHelper.requireNonNull(unit,
+                "unit is null"), scheduler, maxEntries, policy, new ObservableSource<?>[] {
+                        a, b, c
+                }, new Function<?, ?>[] {
+                        keyA, keyB, keyC
+                });
+    }
+    // endregion
+
+    // region Instrumentation
+
+    /**
+     * Wraps a tuple function so every call reports its latency, and whether it built a tuple, to
+     * the {@link TupleMetricsSink} installed in {@link TupleMetrics} under the name {@code site}.
+     * <p>
+     * With metrics disabled when this is called, {@code function} itself is returned and adds no
+     * overhead, so call sites can be instrumented unconditionally:
+     * {@code zip(a, b, RxTuples.instrumented("orders", RxTuples.<A, B> toPair()))}.
+     */
+    public static <A, R> Function<A, R> instrumented(String site, Function<A, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented1<A, R>(site, function);
+    }
+
+    public static <A, B, R> BiFunction<A, B, R> instrumented(String site,
+            BiFunction<A, B, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented2<A, B, R>(site, function);
+    }
+
+    public static <A, B, C, R> Function3<A, B, C, R> instrumented(String site,
+            Function3<A, B, C, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented3<A, B, C, R>(site, function);
+    }
+
+    public static <A, B, C, D, R> Function4<A, B, C, D, R> instrumented(String site,
+            Function4<A, B, C, D, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented4<A, B, C, D, R>(site, function);
+    }
+
+    public static <A, B, C, D, E, R> Function5<A, B, C, D, E, R> instrumented(String site,
+            Function5<A, B, C, D, E, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented5<A, B, C, D, E, R>(site, function);
+    }
+
+    public static <A, B, C, D, E, F, R> Function6<A, B, C, D, E, F, R> instrumented(String site,
+            Function6<A, B, C, D, E, F, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented6<A, B, C, D, E, F, R>(site, function);
+    }
+
+    public static <A, B, C, D, E, F, G, R> Function7<A, B, C, D, E, F, G, R> instrumented(String site,
+            Function7<A, B, C, D, E, F, G, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented7<A, B, C, D, E, F, G, R>(site, function);
+    }
+
+    public static <A, B, C, D, E, F, G, H, R> Function8<A, B, C, D, E, F, G, H, R> instrumented(String site,
+            Function8<A, B, C, D, E, F, G, H, R> function) {
+        ObjectHelper.requireNonNull(site, "site is null");
+        ObjectHelper.requireNonNull(function, "function is null");
+        if (!TupleMetrics.isEnabled()) {
+            return function;
+        }
+        return new InstrumentedFunctions.Instrumented8<A, B, C, D, E, F, G, H, R>(site, function);
+    }
+    // endregion
+
+    // region Projections
+
+    /**
+     * Reads the first slot of any tuple, {@code valueN()} reads slot N. Use it instead of
+     * {@code map(pair -> pair.getValue0())}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue0<X>, X> value0() {
+        return (Function) Projections.VALUES[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue1<X>, X> value1() {
+        return (Function) Projections.VALUES[1];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue2<X>, X> value2() {
+        return (Function) Projections.VALUES[2];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue3<X>, X> value3() {
+        return (Function) Projections.VALUES[3];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue4<X>, X> value4() {
+        return (Function) Projections.VALUES[4];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue5<X>, X> value5() {
+        return (Function) Projections.VALUES[5];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue6<X>, X> value6() {
+        return (Function) Projections.VALUES[6];
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X> Function<IValue7<X>, X> value7() {
+        return (Function) Projections.VALUES[7];
+    }
+
+    /**
+     * Builds a Pair out of two slots of any tuple, e.g. {@code select(2, 0)} on an Octet. The
+     * result types are not checked and must match the selected slots.
+     *
+     * @throws IllegalArgumentException if a slot is not in [0, 8)
+     */
+    @SuppressWarnings("unchecked")
+    public static <X, Y> Function<Tuple, Pair<X, Y>> select(int first, int second) {
+        return (Function) Projections.selectPair(first, second, Projections.MAX_SLOTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <X, Y, Z> Function<Tuple, Triplet<X, Y, Z>> select(int first, int second,
+            int third) {
+        return (Function) Projections.selectTriplet(first, second, third, Projections.MAX_SLOTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> Function<Pair<A, B>, Pair<B, A>> swap() {
+        return (Function) Projections.SWAP;
+    }
+
+    /**
+     * Drops the last slot of a tuple, {@code Triplet<A, B, C>} to {@code Pair<A, B>}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C> Function<Triplet<A, B, C>, Pair<A, B>> dropLastFromTriplet() {
+        return (Function) Projections.DROP_LAST_FROM_TRIPLET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> Function<Quartet<A, B, C, D>, Triplet<A, B, C>> dropLastFromQuartet() {
+        return (Function) Projections.DROP_LAST_FROM_QUARTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> Function<Quintet<A, B, C, D, E>, Quartet<A, B, C, D>> dropLastFromQuintet() {
+        return (Function) Projections.DROP_LAST_FROM_QUINTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> Function<Sextet<A, B, C, D, E, F>, Quintet<A, B, C, D, E>> dropLastFromSextet() {
+        return (Function) Projections.DROP_LAST_FROM_SEXTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> Function<Septet<A, B, C, D, E, F, G>, Sextet<A, B, C, D, E, F>> dropLastFromSeptet() {
+        return (Function) Projections.DROP_LAST_FROM_SEPTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> Function<Octet<A, B, C, D, E, F, G, H>, Septet<A, B, C, D, E, F, G>> dropLastFromOctet() {
+        return (Function) Projections.DROP_LAST_FROM_OCTET;
+    }
+    // endregion
+
+    // region Single and Maybe zip
+
+    @SuppressWarnings("unchecked")
+    private static <R> Single<R> singleZipTuple(TupleBuilder<?> builder,
+            SingleSource<?>... sources) {
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new SingleZipTuple<R>(sources, (TupleBuilder<R>)builder));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Maybe<R> maybeZipTuple(TupleBuilder<?> builder, MaybeSource<?>... sources) {
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new MaybeZipTuple<R>(sources, (TupleBuilder<R>)builder));
+    }
+
+    /**
+     * Same as {@code Single.zip(a, b, RxTuples.<A, B>toPair())} with one compact coordinator per
+     * subscription that builds the tuple straight from the values. The first error disposes the
+     * other sources.
+     */
+    public static <A, B> Single<Pair<A, B>> singleZipToPair(SingleSource<? extends A> a,
+            SingleSource<? extends B> b) {
+        return singleZipTuple(TupleBuilders.PAIR, a, b);
+    }
+
+    /**
+     * Same as {@code Maybe.zip(a, b, RxTuples.<A, B>toPair())} with one compact coordinator per
+     * subscription that builds the tuple straight from the values. The first error or empty source
+     * disposes the other sources.
+     */
+    public static <A, B> Maybe<Pair<A, B>> maybeZipToPair(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b) {
+        return maybeZipTuple(TupleBuilders.PAIR, a, b);
+    }
+
+    public static <A, B, C> Single<Triplet<A, B, C>> singleZipToTriplet(SingleSource<? extends A> a,
+            SingleSource<? extends B> b, SingleSource<? extends C> c) {
+        return singleZipTuple(TupleBuilders.TRIPLET, a, b, c);
+    }
+
+    public static <A, B, C> Maybe<Triplet<A, B, C>> maybeZipToTriplet(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b, MaybeSource<? extends C> c) {
+        return maybeZipTuple(TupleBuilders.TRIPLET, a, b, c);
+    }
+
+    public static <A, B, C, D> Single<Quartet<A, B, C, D>> singleZipToQuartet(SingleSource<? extends A> a,
+            SingleSource<? extends B> b, SingleSource<? extends C> c, SingleSource<? extends D> d) {
+        return singleZipTuple(TupleBuilders.QUARTET, a, b, c, d);
+    }
+
+    public static <A, B, C, D> Maybe<Quartet<A, B, C, D>> maybeZipToQuartet(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b, MaybeSource<? extends C> c, MaybeSource<? extends D> d) {
+        return maybeZipTuple(TupleBuilders.QUARTET, a, b, c, d);
+    }
+
+    public static <A, B, C, D, E> Single<Quintet<A, B, C, D, E>> singleZipToQuintet(SingleSource<? extends A> a,
+            SingleSource<? extends B> b, SingleSource<? extends C> c, SingleSource<? extends D> d,
+            SingleSource<? extends E> e) {
+        return singleZipTuple(TupleBuilders.QUINTET, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E> Maybe<Quintet<A, B, C, D, E>> maybeZipToQuintet(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b, MaybeSource<? extends C> c, MaybeSource<? extends D> d,
+            MaybeSource<? extends E> e) {
+        return maybeZipTuple(TupleBuilders.QUINTET, a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E, F> Single<Sextet<A, B, C, D, E, F>> singleZipToSextet(SingleSource<? extends A> a,
+            SingleSource<? extends B> b, SingleSource<? extends C> c, SingleSource<? extends D> d,
+            SingleSource<? extends E> e, SingleSource<? extends F> f) {
+        return singleZipTuple(TupleBuilders.SEXTET, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F> Maybe<Sextet<A, B, C, D, E, F>> maybeZipToSextet(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b, MaybeSource<? extends C> c, MaybeSource<? extends D> d,
+            MaybeSource<? extends E> e, MaybeSource<? extends F> f) {
+        return maybeZipTuple(TupleBuilders.SEXTET, a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F, G> Single<Septet<A, B, C, D, E, F, G>> singleZipToSeptet(SingleSource<? extends A> a,
+            SingleSource<? extends B> b, SingleSource<? extends C> c, SingleSource<? extends D> d,
+            SingleSource<? extends E> e, SingleSource<? extends F> f, SingleSource<? extends G> g) {
+        return singleZipTuple(TupleBuilders.SEPTET, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G> Maybe<Septet<A, B, C, D, E, F, G>> maybeZipToSeptet(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b, MaybeSource<? extends C> c, MaybeSource<? extends D> d,
+            MaybeSource<? extends E> e, MaybeSource<? extends F> f, MaybeSource<? extends G> g) {
+        return maybeZipTuple(TupleBuilders.SEPTET, a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Single<Octet<A, B, C, D, E, F, G, H>> singleZipToOctet(SingleSource<? extends A> a,
+            SingleSource<? extends B> b, SingleSource<? extends C> c, SingleSource<? extends D> d,
+            SingleSource<? extends E> e, SingleSource<? extends F> f, SingleSource<? extends G> g,
+            SingleSource<? extends H> h) {
+        return singleZipTuple(TupleBuilders.OCTET, a, b, c, d, e, f, g, h);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Maybe<Octet<A, B, C, D, E, F, G, H>> maybeZipToOctet(MaybeSource<? extends A> a,
+            MaybeSource<? extends B> b, MaybeSource<? extends C> c, MaybeSource<? extends D> d,
+            MaybeSource<? extends E> e, MaybeSource<? extends F> f, MaybeSource<? extends G> g,
+            MaybeSource<? extends H> h) {
+        return maybeZipTuple(TupleBuilders.OCTET, a, b, c, d, e, f, g, h);
+    }
+    // endregion
+
+    // region Columnar batches
+
+    private static final FlowableTransformer<ColumnBatch, Tuple> FROM_COLUMNS = new FlowableTransformer<ColumnBatch, Tuple>() {
+        @Override
+        public Publisher<Tuple> apply(Flowable<ColumnBatch> upstream) {
+            return upstream.concatMapIterable(ColumnStages.ROWS);
+        }
+    };
+
+    private static ColumnType[] columnTypes(int batchSize, ColumnType[] types) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize > 0 required but it was " + batchSize);
+        }
+        ObjectHelper.requireNonNull(types, "types is null");
+        if (types.length < 2 || types.length > 8) {
+            throw new IllegalArgumentException("2 to 8 types required but it was "
+                    + types.length);
+        }
+        final ColumnType[] copy = types.clone();
+        requireNonNull(copy, "type");
+        return copy;
+    }
+
+    /**
+     * Gathers up to {@code batchSize} tuples into each {@link ColumnBatch}, storing each slot in a
+     * column of the matching type in {@code types}. Works on Pair to Octet, with one type per slot.
+     * The last batch may be smaller.
+     * <p>
+     * A tuple of a different size fails the stream, a value that doesn't fit its column fails it
+     * once its batch is filled.
+     * <p>
+     * Reading and unboxing every value into its column costs more than a fused {@code filter()} and
+     * {@code map()} over the same tuples, so this only pays off when each batch then goes through
+     * several column passes or is consumed as a whole. For one or two cheap stages keep the
+     * per-element operators.
+     */
+    public static <T extends Tuple> FlowableTransformer<T, ColumnBatch> toColumns(final int batchSize,
+            ColumnType... types) {
+        final ColumnType[] columns = columnTypes(batchSize, types);
+        return new FlowableTransformer<T, ColumnBatch>() {
+            @Override
+            public Publisher<ColumnBatch> apply(Flowable<T> upstream) {
+                return RxJavaPlugins.onAssembly(new FlowableToColumns(upstream, columns,
+                        batchSize, 0L, null, null));
+            }
+        };
+    }
+
+    /**
+     * Same as {@link #toColumns(int, ColumnType...)} also emitting a smaller batch when
+     * {@code timeout} passes on the computation scheduler without filling one.
+     */
+    public static <T extends Tuple> FlowableTransformer<T, ColumnBatch> toColumns(int batchSize,
+            long timeout, TimeUnit unit, ColumnType... types) {
+        return toColumns(batchSize, timeout, unit, Schedulers.computation(), types);
+    }
+
+    public static <T extends Tuple> FlowableTransformer<T, ColumnBatch> toColumns(final int batchSize,
+            final long timeout, final TimeUnit unit, final Scheduler scheduler,
+            ColumnType... types) {
+        final ColumnType[] columns = columnTypes(batchSize, types);
+        ObjectHelper.requireNonNull(unit, "unit is null");
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        return new FlowableTransformer<T, ColumnBatch>() {
+            @Override
+            public Publisher<ColumnBatch> apply(Flowable<T> upstream) {
+                return RxJavaPlugins.onAssembly(new FlowableToColumns(upstream, columns,
+                        batchSize, timeout, unit, scheduler));
+            }
+        };
+    }
+
+    /**
+     * Boxes every row of the batches back into a javatuple, the inverse of
+     * {@link #toColumns(int, ColumnType...)}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Tuple> FlowableTransformer<ColumnBatch, T> fromColumns() {
+        return (FlowableTransformer) FROM_COLUMNS;
+    }
+
+    /**
+     * Keeps the rows picked by {@code predicate}, one call per batch, and drops the batches left
+     * empty
+     */
+    public static FlowableTransformer<ColumnBatch, ColumnBatch> filterColumns(ColumnPredicate predicate) {
+        final Function<ColumnBatch, ColumnBatch> filter = new ColumnStages.Filter(
+                ObjectHelper.requireNonNull(predicate, "predicate is null"));
+        return new FlowableTransformer<ColumnBatch, ColumnBatch>() {
+            @Override
+            public Publisher<ColumnBatch> apply(Flowable<ColumnBatch> upstream) {
+                return upstream.map(filter).filter(ColumnStages.NOT_EMPTY);
+            }
+        };
+    }
+
+    /**
+     * Keeps and reorders columns without copying them, see {@link ColumnBatch#select(int...)}
+     */
+    public static FlowableTransformer<ColumnBatch, ColumnBatch> selectColumns(int... slots) {
+        ObjectHelper.requireNonNull(slots, "slots is null");
+        if (slots.length < 2 || slots.length > 8) {
+            throw new IllegalArgumentException("2 to 8 slots required but it was "
+                    + slots.length);
+        }
+        final Function<ColumnBatch, ColumnBatch> select = new ColumnStages.Select(slots.clone());
+        return new FlowableTransformer<ColumnBatch, ColumnBatch>() {
+            @Override
+            public Publisher<ColumnBatch> apply(Flowable<ColumnBatch> upstream) {
+                return upstream.map(select);
+            }
+        };
+    }
+
+    // endregion
+
+    // region Parallel enrich
+
+    @SuppressWarnings("unchecked")
+    private static <R> FlowableParallelEnrich<R> parallelEnrich(TupleBuilder<?> builder,
+            Publisher<?> source, int parallelism, Scheduler scheduler, int capacity,
+            Function<?, ?>... enrichers) {
+        ObjectHelper.requireNonNull(source, "source is null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was "
+                    + parallelism);
+        }
+        ObjectHelper.requireNonNull(scheduler, "scheduler is null");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity > 0 required but it was " + capacity);
+        }
+        requireNonNull(enrichers, "enricher");
+        return new FlowableParallelEnrich<R>(source, (Function<Object, ?>[])enrichers,
+                (TupleBuilder<R>)builder, parallelism, scheduler, capacity);
+    }
+
+    /**
+     * Pairs every element with the result of {@code enricher}, running the enricher on
+     * {@code parallelism} rails of the computation scheduler. The pairs are emitted in source
+     * order, through a reorder buffer holding up to {@link Flowable#bufferSize()} elements.
+     * <p>
+     * Replaces {@code flatMap()} and {@code zip()} with {@code toPair()}, which either lose the
+     * order or run one enricher at a time.
+     */
+    public static <T, A> FlowableParallelEnrich<Pair<T, A>> parallelEnrich(Publisher<? extends T> source,
+            int parallelism, Function<? super T, ? extends A> enricher) {
+        return parallelEnrich(source, parallelism, Schedulers.computation(), Flowable.bufferSize(),
+                enricher);
+    }
+
+    /**
+     * Same as {@link #parallelEnrich(Publisher, int, Function)} on the rails of
+     * {@code scheduler}, letting at most {@code capacity} elements past the oldest one not yet
+     * emitted
+     */
+    public static <T, A> FlowableParallelEnrich<Pair<T, A>> parallelEnrich(Publisher<? extends T> source,
+            int parallelism, Scheduler scheduler, int capacity,
+            Function<? super T, ? extends A> enricher) {
+        return parallelEnrich(TupleBuilders.PAIR, source, parallelism, scheduler, capacity,
+                enricher);
+    }
+
+    public static <T, A, B> FlowableParallelEnrich<Triplet<T, A, B>> parallelEnrich(Publisher<? extends T> source,
+            int parallelism, Function<? super T, ? extends A> enricherA,
+            Function<? super T, ? extends B> enricherB) {
+        return parallelEnrich(source, parallelism, Schedulers.computation(), Flowable.bufferSize(),
+                enricherA, enricherB);
+    }
+
+    public static <T, A, B> FlowableParallelEnrich<Triplet<T, A, B>> parallelEnrich(Publisher<? extends T> source,
+            int parallelism, Scheduler scheduler, int capacity,
+            Function<? super T, ? extends A> enricherA,
+            Function<? super T, ? extends B> enricherB) {
+        return parallelEnrich(TupleBuilders.TRIPLET, source, parallelism, scheduler, capacity,
+                enricherA, enricherB);
+    }
+
+    public static <T, A, B, C> FlowableParallelEnrich<Quartet<T, A, B, C>> parallelEnrich(Publisher<? extends T> source,
+            int parallelism, Function<? super T, ? extends A> enricherA,
+            Function<? super T, ? extends B> enricherB,
+            Function<? super T, ? extends C> enricherC) {
+        return parallelEnrich(source, parallelism, Schedulers.computation(), Flowable.bufferSize(),
+                enricherA, enricherB, enricherC);
+    }
+
+    public static <T, A, B, C> FlowableParallelEnrich<Quartet<T, A, B, C>> parallelEnrich(Publisher<? extends T> source,
+            int parallelism, Scheduler scheduler, int capacity,
+            Function<? super T, ? extends A> enricherA, Function<? super T, ? extends B> enricherB,
+            Function<? super T, ? extends C> enricherC) {
+        return parallelEnrich(TupleBuilders.QUARTET, source, parallelism, scheduler, capacity,
+                enricherA, enricherB, enricherC);
+    }
+
+    // endregion
+
+    // region Pooled zip
+
+    private static <R extends PooledTuple> Flowable<R> pooledZip(ReleaseMode mode, boolean debug,
+            Publisher<?>... sources) {
+        ObjectHelper.requireNonNull(mode, "mode is null");
+        requireNonNull(sources, "source");
+        return RxJavaPlugins.onAssembly(new FlowablePooledZip<R>(sources, mode, debug));
+    }
+
+    /**
+     * Same as {@link #zipToPair(Publisher, Publisher)} emitting one mutable {@link PooledPair}
+     * that is refilled for every element, for synchronous consumers that are done with each pair
+     * when {@code onNext} returns. Call {@link PooledPair#toTuple()} to keep a pair.
+     */
+    public static <A, B> Flowable<PooledPair<A, B>> zipToPooledPair(Publisher<? extends A> a,
+            Publisher<? extends B> b) {
+        return zipToPooledPair(a, b, ReleaseMode.AUTO, false);
+    }
+
+    /**
+     * Same as {@link #zipToPooledPair(Publisher, Publisher)} with pairs taken from a small pool
+     * per subscription and released by {@code mode}. In {@code debug} mode released pairs are
+     * never reused, and reading or releasing one again throws.
+     */
+    public static <A, B> Flowable<PooledPair<A, B>> zipToPooledPair(Publisher<? extends A> a,
+            Publisher<? extends B> b, ReleaseMode mode, boolean debug) {
+        return pooledZip(mode, debug, a, b);
+    }
+
+    public static <A, B, C> Flowable<PooledTriplet<A, B, C>> zipToPooledTriplet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c) {
+        return zipToPooledTriplet(a, b, c, ReleaseMode.AUTO, false);
+    }
+
+    public static <A, B, C> Flowable<PooledTriplet<A, B, C>> zipToPooledTriplet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, ReleaseMode mode, boolean debug) {
+        return pooledZip(mode, debug, a, b, c);
+    }
+
+    public static <A, B, C, D> Flowable<PooledQuartet<A, B, C, D>> zipToPooledQuartet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d) {
+        return zipToPooledQuartet(a, b, c, d, ReleaseMode.AUTO, false);
+    }
+
+    public static <A, B, C, D> Flowable<PooledQuartet<A, B, C, D>> zipToPooledQuartet(Publisher<? extends A> a,
+            Publisher<? extends B> b, Publisher<? extends C> c, Publisher<? extends D> d,
+            ReleaseMode mode, boolean debug) {
+        return pooledZip(mode, debug, a, b, c, d);
+    }
+
+    // endregion
+
+    // region Interning
+
+    /**
+     * Same as {@link #toPair()} returning the canonical Pair from {@code interner}, so repeated
+     * combinations of values cost a lookup instead of an allocation
+     */
+    public static <A, B> BiFunction<A, B, Pair<A, B>> toInternedPair(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new BiFunction<A, B, Pair<A, B>>() {
+            @Override
+            public Pair<A, B> apply(A a, B b) {
+                return interner.pair(a, b);
+            }
+        };
+    }
+
+    public static <A, B, C> Function3<A, B, C, Triplet<A, B, C>> toInternedTriplet(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function3<A, B, C, Triplet<A, B, C>>() {
+            @Override
+            public Triplet<A, B, C> apply(A a, B b, C c) {
+                return interner.triplet(a, b, c);
+            }
+        };
+    }
+
+    public static <A, B, C, D> Function4<A, B, C, D, Quartet<A, B, C, D>> toInternedQuartet(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function4<A, B, C, D, Quartet<A, B, C, D>>() {
+            @Override
+            public Quartet<A, B, C, D> apply(A a, B b, C c, D d) {
+                return interner.quartet(a, b, c, d);
+            }
+        };
+    }
+
+    public static <A, B, C, D, E> Function5<A, B, C, D, E, Quintet<A, B, C, D, E>> toInternedQuintet(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function5<A, B, C, D, E, Quintet<A, B, C, D, E>>() {
+            @Override
+            public Quintet<A, B, C, D, E> apply(A a, B b, C c, D d, E e) {
+                return interner.quintet(a, b, c, d, e);
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F> Function6<A, B, C, D, E, F, Sextet<A, B, C, D, E, F>> toInternedSextet(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function6<A, B, C, D, E, F, Sextet<A, B, C, D, E, F>>() {
+            @Override
+            public Sextet<A, B, C, D, E, F> apply(A a, B b, C c, D d, E e, F f) {
+                return interner.sextet(a, b, c, d, e, f);
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F, G> Function7<A, B, C, D, E, F, G, Septet<A, B, C, D, E, F, G>> toInternedSeptet(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function7<A, B, C, D, E, F, G, Septet<A, B, C, D, E, F, G>>() {
+            @Override
+            public Septet<A, B, C, D, E, F, G> apply(A a, B b, C c, D d, E e, F f, G g) {
+                return interner.septet(a, b, c, d, e, f, g);
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F, G, H> Function8<A, B, C, D, E, F, G, H, Octet<A, B, C, D, E, F, G, H>> toInternedOctet(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function8<A, B, C, D, E, F, G, H, Octet<A, B, C, D, E, F, G, H>>() {
+            @Override
+            public Octet<A, B, C, D, E, F, G, H> apply(A a, B b, C c, D d, E e, F f, G g, H h) {
+                return interner.octet(a, b, c, d, e, f, g, h);
+            }
+        };
+    }
+
+    /**
+     * Replaces every tuple with its canonical instance from {@code interner}, for the output of
+     * operators that build tuples themselves. Use it inside {@code map()}.
+     */
+    public static <T extends Tuple> Function<T, T> intern(final TupleInterner interner) {
+        ObjectHelper.requireNonNull(interner, "interner is null");
+        return new Function<T, T>() {
+            @Override
+            public T apply(T tuple) {
+                return interner.intern(tuple);
+            }
+        };
+    }
+
+    // endregion
+
+    // region Lazy tuples
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> Function<T, R> lazyTuple(int size, boolean fromTuple,
+            Function<?, ?>... lazy) {
+        requireNonNull(lazy, "function");
+        return (Function)new LazyFactory(size, fromTuple, lazy);
+    }
+
+    /**
+     * Pairs every element with a value derived from it by {@code b}, which only runs the first
+     * time {@link LazyPair#getValue1()} is read and is then kept. Use it inside {@code map()}.
+     */
+    public static <A, B> Function<A, LazyPair<A, B>> toLazyPair(Function<? super A, ? extends B> b) {
+        return lazyTuple(2, false, b);
+    }
+
+    public static <A, B, C> Function<A, LazyTriplet<A, B, C>> toLazyTriplet(Function<? super A, ? extends B> b,
+            Function<? super A, ? extends C> c) {
+        return lazyTuple(3, false, b, c);
+    }
+
+    public static <A, B, C, D> Function<A, LazyQuartet<A, B, C, D>> toLazyQuartet(Function<? super A, ? extends B> b,
+            Function<? super A, ? extends C> c, Function<? super A, ? extends D> d) {
+        return lazyTuple(4, false, b, c, d);
+    }
+
+    public static <A, B, C, D, E> Function<A, LazyQuintet<A, B, C, D, E>> toLazyQuintet(Function<? super A, ? extends B> b,
+            Function<? super A, ? extends C> c, Function<? super A, ? extends D> d,
+            Function<? super A, ? extends E> e) {
+        return lazyTuple(5, false, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E, F> Function<A, LazySextet<A, B, C, D, E, F>> toLazySextet(Function<? super A, ? extends B> b,
+            Function<? super A, ? extends C> c, Function<? super A, ? extends D> d,
+            Function<? super A, ? extends E> e, Function<? super A, ? extends F> f) {
+        return lazyTuple(6, false, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F, G> Function<A, LazySeptet<A, B, C, D, E, F, G>> toLazySeptet(Function<? super A, ? extends B> b,
+            Function<? super A, ? extends C> c, Function<? super A, ? extends D> d,
+            Function<? super A, ? extends E> e, Function<? super A, ? extends F> f,
+            Function<? super A, ? extends G> g) {
+        return lazyTuple(7, false, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Function<A, LazyOctet<A, B, C, D, E, F, G, H>> toLazyOctet(Function<? super A, ? extends B> b,
+            Function<? super A, ? extends C> c, Function<? super A, ? extends D> d,
+            Function<? super A, ? extends E> e, Function<? super A, ? extends F> f,
+            Function<? super A, ? extends G> g, Function<? super A, ? extends H> h) {
+        return lazyTuple(8, false, b, c, d, e, f, g, h);
+    }
+
+    /**
+     * Same as {@link #toTripletFromPair()} where the new slot is derived from the Pair by
+     * {@code c} the first time it is read
+     */
+    public static <A, B, C> Function<Pair<A, B>, LazyTriplet<A, B, C>> toLazyTripletFromPair(
+            Function<? super Pair<A, B>, ? extends C> c) {
+        return lazyTuple(3, true, c);
+    }
+
+    public static <A, B, C, D> Function<Triplet<A, B, C>, LazyQuartet<A, B, C, D>> toLazyQuartetFromTriplet(
+            Function<? super Triplet<A, B, C>, ? extends D> d) {
+        return lazyTuple(4, true, d);
+    }
+
+    public static <A, B, C, D, E> Function<Quartet<A, B, C, D>, LazyQuintet<A, B, C, D, E>> toLazyQuintetFromQuartet(
+            Function<? super Quartet<A, B, C, D>, ? extends E> e) {
+        return lazyTuple(5, true, e);
+    }
+
+    public static <A, B, C, D, E, F> Function<Quintet<A, B, C, D, E>, LazySextet<A, B, C, D, E, F>> toLazySextetFromQuintet(
+            Function<? super Quintet<A, B, C, D, E>, ? extends F> f) {
+        return lazyTuple(6, true, f);
+    }
+
+    public static <A, B, C, D, E, F, G> Function<Sextet<A, B, C, D, E, F>, LazySeptet<A, B, C, D, E, F, G>> toLazySeptetFromSextet(
+            Function<? super Sextet<A, B, C, D, E, F>, ? extends G> g) {
+        return lazyTuple(7, true, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Function<Septet<A, B, C, D, E, F, G>, LazyOctet<A, B, C, D, E, F, G, H>> toLazyOctetFromSeptet(
+            Function<? super Septet<A, B, C, D, E, F, G>, ? extends H> h) {
+        return lazyTuple(8, true, h);
+    }
+
+    // endregion
+
+    // region Time-aligned zip
+
+    @SuppressWarnings("unchecked")
+    private static <R> ObservableZipByTime<R> zipByTime(TupleBuilder<?> builder, long tolerance,
+            int bufferSize, UnmatchedHandler handler, ObservableSource<?>[] sources,
+            TimestampExtractor<?>[] extractors) {
+        if (tolerance < 0L) {
+            throw new IllegalArgumentException("tolerance >= 0 required but it was " + tolerance);
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        requireNonNull(sources, "source");
+        requireNonNull(extractors, "extractor");
+        return new ObservableZipByTime<R>(sources, (TimestampExtractor<Object>[])extractors,
+                (TupleBuilder<R>)builder, tolerance, bufferSize, handler);
+    }
+
+    /**
+     * Zips two sources into a Pair of the elements whose timestamps are at most {@code tolerance}
+     * apart, instead of by position, so a sample missing on one source doesn't shift every later
+     * Pair. Each source must emit in timestamp order and keeps up to {@code bufferSize} pending
+     * elements. When several pending elements qualify the closest one is used.
+     * <p>
+     * Elements that can't be paired anymore are dropped and counted by the returned Observable.
+     */
+    public static <A, B> ObservableZipByTime<Pair<A, B>> zipByTimeToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, TimestampExtractor<? super A> timeA,
+            TimestampExtractor<? super B> timeB, long tolerance, int bufferSize) {
+        return zipByTime(TupleBuilders.PAIR, tolerance, bufferSize, null,
+                new ObservableSource<?>[] {
+                        a, b
+                }, new TimestampExtractor<?>[] {
+                        timeA, timeB
+                });
+    }
+
+    /**
+     * Same as
+     * {@link #zipByTimeToPair(ObservableSource, ObservableSource, TimestampExtractor, TimestampExtractor, long, int)}
+     * also passing every dropped element to {@code unmatched}.
+     */
+    public static <A, B> ObservableZipByTime<Pair<A, B>> zipByTimeToPair(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, TimestampExtractor<? super A> timeA,
+            TimestampExtractor<? super B> timeB, long tolerance, int bufferSize,
+            UnmatchedHandler unmatched) {
+        return zipByTime(TupleBuilders.PAIR, tolerance, bufferSize, ObjectHelper.requireNonNull(
+                unmatched, "unmatched is null"), new ObservableSource<?>[] {
+                        a, b
+                }, new TimestampExtractor<?>[] {
+                        timeA, timeB
+                });
+    }
+
+    /**
+     * Three-way version of
+     * {@link #zipByTimeToPair(ObservableSource, ObservableSource, TimestampExtractor, TimestampExtractor, long, int)},
+     * where every element of the Triplet is within {@code tolerance} of the latest oldest pending
+     * timestamp.
+     */
+    public static <A, B, C> ObservableZipByTime<Triplet<A, B, C>> zipByTimeToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            TimestampExtractor<? super A> timeA, TimestampExtractor<? super B> timeB,
+            TimestampExtractor<? super C> timeC, long tolerance, int bufferSize) {
+        return zipByTime(TupleBuilders.TRIPLET, tolerance, bufferSize, null,
+                new ObservableSource<?>[] {
+                        a, b, c
+                }, new TimestampExtractor<?>[] {
+                        timeA, timeB, timeC
+                });
+    }
+
+    public static <A, B, C> ObservableZipByTime<Triplet<A, B, C>> zipByTimeToTriplet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            TimestampExtractor<? super A> timeA, TimestampExtractor<? super B> timeB,
+            TimestampExtractor<? super C> timeC, long tolerance, int bufferSize,
+            UnmatchedHandler unmatched) {
+        return zipByTime(TupleBuilders.TRIPLET, tolerance, bufferSize, ObjectHelper.requireNonNull(
+                unmatched, "unmatched is null"), new ObservableSource<?>[] {
+                        a, b, c
+                }, new TimestampExtractor<?>[] {
+                        timeA, timeB, timeC
+                });
+    }
+
+    public static <A, B, C, D> ObservableZipByTime<Quartet<A, B, C, D>> zipByTimeToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, TimestampExtractor<? super A> timeA,
+            TimestampExtractor<? super B> timeB, TimestampExtractor<? super C> timeC,
+            TimestampExtractor<? super D> timeD, long tolerance, int bufferSize) {
+        return zipByTime(TupleBuilders.QUARTET, tolerance, bufferSize, null,
+                new ObservableSource<?>[] {
+                        a, b, c, d
+                }, new TimestampExtractor<?>[] {
+                        timeA, timeB, timeC, timeD
+                });
+    }
+
+    public static <A, B, C, D> ObservableZipByTime<Quartet<A, B, C, D>> zipByTimeToQuartet(ObservableSource<? extends A> a,
+            ObservableSource<? extends B> b, ObservableSource<? extends C> c,
+            ObservableSource<? extends D> d, TimestampExtractor<? super A> timeA,
+            TimestampExtractor<? super B> timeB, TimestampExtractor<? super C> timeC,
+            TimestampExtractor<? super D> timeD, long tolerance, int bufferSize,
+            UnmatchedHandler unmatched) {
+        return zipByTime(TupleBuilders.QUARTET, tolerance, bufferSize, ObjectHelper.requireNonNull(
+                unmatched, "unmatched is null"), new ObservableSource<?>[] {
+                        a, b, c, d
+                }, new TimestampExtractor<?>[] {
+                        timeA, timeB, timeC, timeD
+                });
+    }
     // endregion
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.SingleSource;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Zip of Singles that hands the values straight to a {@link TupleBuilder}. A single coordinator
+ * holds the countdown, the values and the per-source observers, and the first error disposes the
+ * remaining sources.
+ *
+ * @author pakoito
+ */
+final class SingleZipTuple<R> extends Single<R> {
+    private final SingleSource<?>[] sources;
+
+    private final TupleBuilder<? extends R> builder;
+
+    SingleZipTuple(SingleSource<?>[] sources, TupleBuilder<? extends R> builder) {
+        this.sources = sources;
+        this.builder = builder;
+    }
+
+    @Override
+    protected void subscribeActual(SingleObserver<? super R> observer) {
+        final ZipCoordinator<R> parent = new ZipCoordinator<R>(observer, builder, sources.length);
+        observer.onSubscribe(parent);
+        for (int i = 0; i < sources.length; i++) {
+            if (parent.isDisposed()) {
+                return;
+            }
+            sources[i].subscribe(parent.observers[i]);
+        }
+    }
+
+    /**
+     * Counts down the sources still to succeed, 0 once terminated or disposed
+     */
+    static final class ZipCoordinator<R> extends AtomicInteger implements Disposable {
+        private static final long serialVersionUID = 1L;
+
+        private final SingleObserver<? super R> actual;
+
+        private final TupleBuilder<? extends R> builder;
+
+        final ZipObserver[] observers;
+
+        private final Object[] values;
+
+        ZipCoordinator(SingleObserver<? super R> actual, TupleBuilder<? extends R> builder,
+                int count) {
+            super(count);
+            this.actual = actual;
+            this.builder = builder;
+            this.observers = new ZipObserver[count];
+            this.values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                observers[i] = new ZipObserver(this, i);
+            }
+        }
+
+        void innerSuccess(Object value, int index) {
+            values[index] = value;
+            if (decrementAndGet() == 0) {
+                final R tuple;
+                try {
+                    tuple = builder.build(values);
+                } catch (Throwable ex) {
+                    Exceptions.throwIfFatal(ex);
+                    actual.onError(ex);
+                    return;
+                } finally {
+                    Arrays.fill(values, null);
+                }
+                actual.onSuccess(tuple);
+            }
+        }
+
+        void innerError(Throwable e, int index) {
+            if (getAndSet(0) > 0) {
+                disposeExcept(index);
+                actual.onError(e);
+            } else {
+                RxJavaPlugins.onError(e);
+            }
+        }
+
+        private void disposeExcept(int index) {
+            for (int i = 0; i < observers.length; i++) {
+                if (i != index) {
+                    DisposableHelper.dispose(observers[i]);
+                }
+            }
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        public void dispose() {
+            if (getAndSet(0) > 0) {
+                for (ZipObserver observer : observers) {
+                    DisposableHelper.dispose(observer);
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() <= 0;
+        }
+    }
+
+    static final class ZipObserver extends AtomicReference<Disposable> implements
+            SingleObserver<Object> {
+        private static final long serialVersionUID = 1L;
+
+        private final ZipCoordinator<?> parent;
+
+        private final int index;
+
+        ZipObserver(ZipCoordinator<?> parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onSuccess(Object value) {
+            parent.innerSuccess(value, index);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.innerError(e, index);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableOperator;
+import io.reactivex.Observable;
+import io.reactivex.ObservableOperator;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.Exceptions;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+import io.reactivex.plugins.RxJavaPlugins;
+
+/**
+ * Emits the last {@code size} elements as a tuple on a single subscription, keeping them in a ring
+ * buffer. Only every {@code every}-th complete window is emitted.
+ *
+ * @author pakoito
+ */
+final class SlidingWindowOperator<T, R> implements TupleTransformer<T, R>,
+        ObservableOperator<R, T>, FlowableOperator<R, T> {
+    private final int size;
+
+    private final int every;
+
+    private final TupleBuilder<? extends R> builder;
+
+    SlidingWindowOperator(int size, int every, TupleBuilder<? extends R> builder) {
+        this.size = size;
+        this.every = every;
+        this.builder = builder;
+    }
+
+    @Override
+    public ObservableSource<R> apply(Observable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Publisher<R> apply(Flowable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Observer<? super T> apply(Observer<? super R> observer) {
+        return new WindowObserver<T, R>(observer, new Ring<R>(size, every, builder));
+    }
+
+    @Override
+    public Subscriber<? super T> apply(Subscriber<? super R> subscriber) {
+        return new WindowSubscriber<T, R>(subscriber, new Ring<R>(size, every, builder));
+    }
+
+    /**
+     * Per-subscription window state, shared by the Observable and Flowable paths
+     */
+    static final class Ring<R> {
+        private final Object[] values;
+
+        private final Object[] row;
+
+        private final int every;
+
+        private final TupleBuilder<? extends R> builder;
+
+        /* Next slot to write, which is also the oldest value once the ring is full */
+        private int head;
+
+        private int filled;
+
+        /* Complete windows left to suppress before the next emission */
+        private int skip;
+
+        Ring(int size, int every, TupleBuilder<? extends R> builder) {
+            this.values = new Object[size];
+            this.row = new Object[size];
+            this.every = every;
+            this.builder = builder;
+        }
+
+        /**
+         * @return the window ending in value, or null if it is incomplete or suppressed
+         */
+        R offer(Object value) throws Exception {
+            final Object[] vs = values;
+            final int size = vs.length;
+            int h = head;
+            vs[h] = value;
+            h = h + 1 == size ? 0 : h + 1;
+            head = h;
+            if (filled != size) {
+                if (++filled != size) {
+                    return null;
+                }
+            }
+            if (skip != 0) {
+                skip--;
+                return null;
+            }
+            skip = every - 1;
+            final Object[] r = row;
+            for (int i = 0; i < size; i++) {
+                r[i] = vs[h];
+                h = h + 1 == size ? 0 : h + 1;
+            }
+            try {
+                return builder.build(r);
+            } finally {
+                Arrays.fill(r, null);
+            }
+        }
+
+        void clear() {
+            Arrays.fill(values, null);
+        }
+    }
+
+    static final class WindowObserver<T, R> implements Observer<T>, Disposable {
+        private final Observer<? super R> actual;
+
+        private final Ring<R> ring;
+
+        private Disposable d;
+
+        private boolean done;
+
+        WindowObserver(Observer<? super R> actual, Ring<R> ring) {
+            this.actual = actual;
+            this.ring = ring;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(this.d, d)) {
+                this.d = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            final R window;
+            try {
+                window = ring.offer(t);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                d.dispose();
+                onError(ex);
+                return;
+            }
+            if (window != null) {
+                actual.onNext(window);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            ring.clear();
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            ring.clear();
+            actual.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            d.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return d.isDisposed();
+        }
+    }
+
+    static final class WindowSubscriber<T, R> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super R> actual;
+
+        private final Ring<R> ring;
+
+        private Subscription s;
+
+        private boolean done;
+
+        WindowSubscriber(Subscriber<? super R> actual, Ring<R> ring) {
+            this.actual = actual;
+            this.ring = ring;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            final R window;
+            try {
+                window = ring.offer(t);
+            } catch (Throwable ex) {
+                Exceptions.throwIfFatal(ex);
+                s.cancel();
+                onError(ex);
+                return;
+            }
+            if (window != null) {
+                actual.onNext(window);
+            } else {
+                // Incomplete or suppressed windows don't use up downstream demand
+                s.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                RxJavaPlugins.onError(e);
+                return;
+            }
+            done = true;
+            ring.clear();
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            ring.clear();
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.pacoworks.rxtuples2.codec.ElementCodec;
+
+import io.reactivex.internal.fuseable.SimpleQueue;
+
+/**
+ * FIFO queue keeping up to {@code memoryCapacity} elements on the heap and writing the rest to a
+ * memory-mapped temporary file. Once something is spilled every new element goes to the file
+ * too, until the file has been read back completely, so elements always leave in arrival order.
+ * <p>
+ * Regions of the file that have been read back are reused for later spills, and the file is cut
+ * down to its first region whenever it is read back completely, so its size follows the largest
+ * backlog rather than the number of elements ever spilled. {@link #clear()} deletes the file.
+ * <p>
+ * Offers and polls may come from different threads.
+ *
+ * @author pakoito
+ */
+final class SpillQueue implements SimpleQueue<Object> {
+    private static final int SEGMENT_SIZE = 1 << 20;
+
+    private final ElementCodec<Object> codec;
+
+    private final int memoryCapacity;
+
+    private final File directory;
+
+    private final AtomicLong spilledBytes;
+
+    private final AtomicLong spillCount;
+
+    private final ArrayDeque<Object> memory = new ArrayDeque<Object>();
+
+    /* Mapped regions of the file in write order, the head is the one being read */
+    private final ArrayDeque<Segment> segments = new ArrayDeque<Segment>();
+
+    /* Mapped regions that have been read back and can be written again */
+    private final ArrayDeque<Segment> free = new ArrayDeque<Segment>();
+
+    /* Elements written to the file and not read back yet */
+    private int spilled;
+
+    private File path;
+
+    private RandomAccessFile file;
+
+    private long fileEnd;
+
+    private boolean closed;
+
+    SpillQueue(ElementCodec<Object> codec, int memoryCapacity, File directory,
+            AtomicLong spilledBytes, AtomicLong spillCount) {
+        this.codec = codec;
+        this.memoryCapacity = memoryCapacity;
+        this.directory = directory;
+        this.spilledBytes = spilledBytes;
+        this.spillCount = spillCount;
+    }
+
+    /**
+     * @return false if the element could not be written to the spill file, see {@link #write}
+     */
+    @Override
+    public boolean offer(Object value) {
+        try {
+            write(value);
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean offer(Object v1, Object v2) {
+        return offer(v1) && offer(v2);
+    }
+
+    synchronized void write(Object value) throws IOException {
+        if (closed) {
+            return;
+        }
+        if (spilled == 0 && memory.size() < memoryCapacity) {
+            memory.offer(value);
+            return;
+        }
+        final int size = codec.maxSize(value);
+        Segment tail = segments.peekLast();
+        if (tail == null || tail.write.remaining() < size) {
+            tail = segment(Math.max(SEGMENT_SIZE, size));
+        }
+        final int start = tail.write.position();
+        boolean encoded = false;
+        try {
+            codec.encode(value, tail.write);
+            encoded = true;
+        } finally {
+            if (!encoded) {
+                // Drop the partial record so the next one is read from where this one started
+                tail.write.position(start);
+            }
+        }
+        spilled++;
+        spilledBytes.addAndGet(tail.write.position() - start);
+        spillCount.incrementAndGet();
+    }
+
+    @Override
+    public synchronized Object poll() {
+        final Object value = memory.poll();
+        if (value != null || spilled == 0) {
+            return value;
+        }
+        Segment head = segments.peekFirst();
+        while (!head.hasUnread()) {
+            recycle(segments.pollFirst());
+            head = segments.peekFirst();
+        }
+        final Object spill = codec.decode(head.read);
+        if (--spilled == 0) {
+            while (!segments.isEmpty()) {
+                recycle(segments.pollFirst());
+            }
+            shrink();
+        }
+        return spill;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return memory.isEmpty() && spilled == 0;
+    }
+
+    @Override
+    public synchronized void clear() {
+        closed = true;
+        memory.clear();
+        segments.clear();
+        free.clear();
+        spilled = 0;
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException ignored) {
+                // Nothing left to read from it
+            }
+            path.delete();
+            file = null;
+        }
+    }
+
+    /**
+     * @return current length of the spill file in bytes
+     */
+    synchronized long fileSize() {
+        return fileEnd;
+    }
+
+    private Segment segment(int size) throws IOException {
+        Segment segment = null;
+        for (Iterator<Segment> it = free.iterator(); it.hasNext();) {
+            final Segment candidate = it.next();
+            if (candidate.write.capacity() >= size) {
+                it.remove();
+                segment = candidate;
+                break;
+            }
+        }
+        if (segment == null) {
+            segment = map(size);
+        }
+        segments.offer(segment);
+        return segment;
+    }
+
+    private Segment map(int size) throws IOException {
+        if (file == null) {
+            path = File.createTempFile("rxtuples-spill", ".bin", directory);
+            path.deleteOnExit();
+            file = new RandomAccessFile(path, "rw");
+        }
+        final Segment segment = new Segment(fileEnd, file.getChannel().map(
+                FileChannel.MapMode.READ_WRITE, fileEnd, size));
+        fileEnd += size;
+        return segment;
+    }
+
+    private void recycle(Segment segment) {
+        segment.clear();
+        free.offer(segment);
+    }
+
+    /**
+     * Drops every region but the first one and truncates the file after it, the dropped
+     * buffers are unmapped once they are collected
+     */
+    private void shrink() {
+        Segment first = null;
+        for (Segment segment : free) {
+            if (segment.offset == 0) {
+                first = segment;
+                break;
+            }
+        }
+        final long size = first.write.capacity();
+        if (fileEnd == size) {
+            return;
+        }
+        try {
+            file.setLength(size);
+        } catch (IOException ignored) {
+            // Keep reusing the regions we have
+            return;
+        }
+        fileEnd = size;
+        free.clear();
+        free.offer(first);
+    }
+
+    static final class Segment {
+        final long offset;
+
+        final MappedByteBuffer write;
+
+        final ByteBuffer read;
+
+        Segment(long offset, MappedByteBuffer write) {
+            this.offset = offset;
+            this.write = write;
+            this.read = write.duplicate();
+        }
+
+        boolean hasUnread() {
+            return read.position() < write.position();
+        }
+
+        void clear() {
+            write.clear();
+            read.clear();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Arrays;
+
+/**
+ * Fixed capacity ring of elements with their timestamps, for one source of a time-aligned zip.
+ * Timestamps live in a primitive array so scanning them doesn't touch the elements.
+ * <p>
+ * Not thread-safe, the zip serializes all access.
+ *
+ * @author pakoito
+ */
+final class TimeRing {
+    private final long[] times;
+
+    private final Object[] values;
+
+    private int head;
+
+    private int size;
+
+    TimeRing(int capacity) {
+        this.times = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isFull() {
+        return size == values.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return timestamp of the element {@code offset} positions after the oldest one
+     */
+    long time(int offset) {
+        return times[index(offset)];
+    }
+
+    void offer(long time, Object value) {
+        final int i = index(size);
+        times[i] = time;
+        values[i] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the oldest element
+     */
+    Object poll() {
+        final Object value = values[head];
+        values[head] = null;
+        head = index(1);
+        size--;
+        return value;
+    }
+
+    void clear() {
+        Arrays.fill(values, null);
+        head = 0;
+        size = 0;
+    }
+
+    private int index(int offset) {
+        final int i = head + offset;
+        return i < values.length ? i : i - values.length;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * Builds a tuple from the current values of a fused operator. The array is scratch space owned
+ * by the operator and is reused for the next tuple, implementations must not keep it.
+ *
+ * @author pakoito
+ */
+interface TupleBuilder<R> {
+    R build(Object[] values) throws Exception;
+}
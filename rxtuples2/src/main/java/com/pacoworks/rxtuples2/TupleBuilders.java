@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+
+/**
+ * Shared builders creating each javatuple straight from an operator's values
+ *
+ * @author pakoito
+ */
+final class TupleBuilders {
+    private TupleBuilders() {
+        // No instances
+    }
+
+    static final TupleBuilder<Pair<Object, Object>> PAIR = new TupleBuilder<Pair<Object, Object>>() {
+        @Override
+        public Pair<Object, Object> build(Object[] values) {
+            return Pair.with(values[0], values[1]);
+        }
+    };
+
+    static final TupleBuilder<Triplet<Object, Object, Object>> TRIPLET = new TupleBuilder<Triplet<Object, Object, Object>>() {
+        @Override
+        public Triplet<Object, Object, Object> build(Object[] values) {
+            return Triplet.with(values[0], values[1], values[2]);
+        }
+    };
+
+    static final TupleBuilder<Quartet<Object, Object, Object, Object>> QUARTET = new TupleBuilder<Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> build(Object[] values) {
+            return Quartet.with(values[0], values[1], values[2], values[3]);
+        }
+    };
+
+    static final TupleBuilder<Quintet<Object, Object, Object, Object, Object>> QUINTET = new TupleBuilder<Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> build(Object[] values) {
+            return Quintet.with(values[0], values[1], values[2], values[3], values[4]);
+        }
+    };
+
+    static final TupleBuilder<Sextet<Object, Object, Object, Object, Object, Object>> SEXTET = new TupleBuilder<Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> build(Object[] values) {
+            return Sextet.with(values[0], values[1], values[2], values[3], values[4], values[5]);
+        }
+    };
+
+    static final TupleBuilder<Septet<Object, Object, Object, Object, Object, Object, Object>> SEPTET = new TupleBuilder<Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> build(Object[] values) {
+            return Septet.with(values[0], values[1], values[2], values[3],
+                    values[4], values[5], values[6]);
+        }
+    };
+
+    static final TupleBuilder<Octet<Object, Object, Object, Object, Object, Object, Object, Object>> OCTET = new TupleBuilder<Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> build(Object[] values) {
+            return Octet.with(values[0], values[1], values[2], values[3], values[4],
+                    values[5], values[6], values[7]);
+        }
+    };
+
+    /**
+     * The builder for tuples of {@code size} values, from Pair to Octet
+     */
+    static TupleBuilder<? extends Tuple> ofSize(int size) {
+        switch (size) {
+            case 2:
+                return PAIR;
+            case 3:
+                return TRIPLET;
+            case 4:
+                return QUARTET;
+            case 5:
+                return QUINTET;
+            case 6:
+                return SEXTET;
+            case 7:
+                return SEPTET;
+            case 8:
+                return OCTET;
+            default:
+                throw new IllegalArgumentException("2 to 8 values required but it was " + size);
+        }
+    }
+}
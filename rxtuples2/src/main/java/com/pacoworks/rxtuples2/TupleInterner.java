@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * Bounded cache of canonical tuples, so streams that keep emitting the same few combinations of
+ * values reuse one instance per combination instead of allocating an equal tuple every time.
+ * Canonical tuples can then be compared by reference.
+ * <p>
+ * The cache is direct-mapped: each combination hashes to a single entry, and a miss replaces
+ * whatever tuple held it. Lookups are lock-free and safe from any thread, racing misses may briefly
+ * hand out different but equal tuples. The statistics add up every lookup.
+ *
+ * @author pakoito
+ */
+public final class TupleInterner {
+    private final AtomicReferenceArray<Tuple> table;
+
+    private final int mask;
+
+    private final InternMode mode;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param capacity number of entries, rounded up to a power of two
+     */
+    public TupleInterner(int capacity, InternMode mode) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("0 < capacity <= 2^30 required but it was "
+                    + capacity);
+        }
+        ObjectHelper.requireNonNull(mode, "mode is null");
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<Tuple>(Math.max(size, 1));
+        this.mask = table.length() - 1;
+        this.mode = mode;
+    }
+
+    public InternMode mode() {
+        return mode;
+    }
+
+    /**
+     * @return lookups that returned a cached tuple
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return lookups that had to cache a new tuple
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return misses that replaced another cached tuple
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return hits over all lookups, 0 before the first lookup
+     */
+    public double hitRate() {
+        final long h = hits.get();
+        final long total = h + misses.get();
+        return total == 0L ? 0.0 : (double)h / total;
+    }
+
+    /**
+     * Drops every cached tuple, keeping the statistics
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.lazySet(i, null);
+        }
+    }
+
+    /**
+     * The cached tuple matching {@code tuple}, of the same class with matching slots, or
+     * {@code tuple} itself after caching it
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T intern(T tuple) {
+        final int size = tuple.getSize();
+        int h = 0;
+        for (int i = 0; i < size; i++) {
+            h = hash(h, tuple.getValue(i));
+        }
+        final int index = index(h);
+        final Tuple cached = table.get(index);
+        if (cached != null && cached.getClass() == tuple.getClass()) {
+            int i = 0;
+            while (i < size && same(cached.getValue(i), tuple.getValue(i))) {
+                i++;
+            }
+            if (i == size) {
+                hits.incrementAndGet();
+                return (T)cached;
+            }
+        }
+        return store(index, cached, tuple);
+    }
+
+    /**
+     * The cached Pair of the given values, or a new one that replaces whatever shared its entry
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Pair<A, B> pair(A a, B b) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Pair && same(cached.getValue(0), a) && same(cached.getValue(1), b)) {
+            hits.incrementAndGet();
+            return (Pair<A, B>)cached;
+        }
+        return store(index, cached, Pair.with(a, b));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C> Triplet<A, B, C> triplet(A a, B b, C c) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        code = hash(code, c);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Triplet && same(cached.getValue(0), a)
+                && same(cached.getValue(1), b) && same(cached.getValue(2), c)) {
+            hits.incrementAndGet();
+            return (Triplet<A, B, C>)cached;
+        }
+        return store(index, cached, Triplet.with(a, b, c));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D> Quartet<A, B, C, D> quartet(A a, B b, C c, D d) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        code = hash(code, c);
+        code = hash(code, d);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Quartet && same(cached.getValue(0), a)
+                && same(cached.getValue(1), b) && same(cached.getValue(2), c)
+                && same(cached.getValue(3), d)) {
+            hits.incrementAndGet();
+            return (Quartet<A, B, C, D>)cached;
+        }
+        return store(index, cached, Quartet.with(a, b, c, d));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D, E> Quintet<A, B, C, D, E> quintet(A a, B b, C c, D d, E e) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        code = hash(code, c);
+        code = hash(code, d);
+        code = hash(code, e);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Quintet && same(cached.getValue(0), a)
+                && same(cached.getValue(1), b) && same(cached.getValue(2), c)
+                && same(cached.getValue(3), d) && same(cached.getValue(4), e)) {
+            hits.incrementAndGet();
+            return (Quintet<A, B, C, D, E>)cached;
+        }
+        return store(index, cached, Quintet.with(a, b, c, d, e));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D, E, F> Sextet<A, B, C, D, E, F> sextet(A a, B b, C c, D d, E e, F f) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        code = hash(code, c);
+        code = hash(code, d);
+        code = hash(code, e);
+        code = hash(code, f);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Sextet && same(cached.getValue(0), a) && same(cached.getValue(1), b)
+                && same(cached.getValue(2), c) && same(cached.getValue(3), d)
+                && same(cached.getValue(4), e) && same(cached.getValue(5), f)) {
+            hits.incrementAndGet();
+            return (Sextet<A, B, C, D, E, F>)cached;
+        }
+        return store(index, cached, Sextet.with(a, b, c, d, e, f));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D, E, F, G> Septet<A, B, C, D, E, F, G> septet(A a, B b, C c, D d, E e, F f,
+            G g) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        code = hash(code, c);
+        code = hash(code, d);
+        code = hash(code, e);
+        code = hash(code, f);
+        code = hash(code, g);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Septet && same(cached.getValue(0), a) && same(cached.getValue(1), b)
+                && same(cached.getValue(2), c) && same(cached.getValue(3), d)
+                && same(cached.getValue(4), e) && same(cached.getValue(5), f)
+                && same(cached.getValue(6), g)) {
+            hits.incrementAndGet();
+            return (Septet<A, B, C, D, E, F, G>)cached;
+        }
+        return store(index, cached, Septet.with(a, b, c, d, e, f, g));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D, E, F, G, H> Octet<A, B, C, D, E, F, G, H> octet(A a, B b, C c, D d, E e,
+            F f, G g, H h) {
+        int code = hash(0, a);
+        code = hash(code, b);
+        code = hash(code, c);
+        code = hash(code, d);
+        code = hash(code, e);
+        code = hash(code, f);
+        code = hash(code, g);
+        code = hash(code, h);
+        final int index = index(code);
+        final Tuple cached = table.get(index);
+        if (cached instanceof Octet && same(cached.getValue(0), a) && same(cached.getValue(1), b)
+                && same(cached.getValue(2), c) && same(cached.getValue(3), d)
+                && same(cached.getValue(4), e) && same(cached.getValue(5), f)
+                && same(cached.getValue(6), g) && same(cached.getValue(7), h)) {
+            hits.incrementAndGet();
+            return (Octet<A, B, C, D, E, F, G, H>)cached;
+        }
+        return store(index, cached, Octet.with(a, b, c, d, e, f, g, h));
+    }
+
+    private int hash(int h, Object value) {
+        final int v;
+        if (value == null) {
+            v = 0;
+        } else if (mode == InternMode.IDENTITY) {
+            v = System.identityHashCode(value);
+        } else {
+            v = value.hashCode();
+        }
+        return 31 * h + v;
+    }
+
+    private int index(int h) {
+        h *= 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private boolean same(Object cached, Object value) {
+        if (cached == value) {
+            return true;
+        }
+        return mode == InternMode.EQUALITY && cached != null && cached.equals(value);
+    }
+
+    private <T extends Tuple> T store(int index, Tuple previous, T tuple) {
+        misses.incrementAndGet();
+        if (previous != null) {
+            evictions.incrementAndGet();
+        }
+        table.lazySet(index, tuple);
+        return tuple;
+    }
+}
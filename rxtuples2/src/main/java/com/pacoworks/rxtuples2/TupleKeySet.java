@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.javatuples.Tuple;
+
+import com.pacoworks.rxtuples2.lite.LiteTuple;
+
+/**
+ * Open-addressing set of tuple keys for a single subscription. Hashes are stored next to the keys,
+ * so a probe only calls equals on a hash match, and tuples are compared slot by slot instead of
+ * through their list views.
+ * <p>
+ * Slots are indexed by the raw hash: tuples of sequential values land in sequential slots, so a
+ * stream that repeats its keys in order walks the table in order too. Once a probe runs longer than
+ * {@link #MAX_PROBES} the hashes are assumed to collide in their low bits and the table is rebuilt
+ * with spread hashes for the rest of the subscription.
+ * <p>
+ * Keys can carry a value, which makes the set a map for lookups such as the groups of
+ * {@code groupByTuple()}. Removing a key shifts back the keys that probed past it.
+ * <p>
+ * Lite tuples cache their hash, javatuples get theirs from the slots on every lookup.
+ *
+ * @author pakoito
+ */
+final class TupleKeySet {
+    static final int MAX_PROBES = 32;
+
+    private Object[] keys;
+
+    private int[] hashes;
+
+    private int size;
+
+    private int threshold;
+
+    private boolean spread;
+
+    /* Values stored with the keys, created by the first put() so plain sets don't carry them */
+    private Object[] values;
+
+    TupleKeySet(int capacity) {
+        int length = 16;
+        while (length - (length >> 2) < capacity) {
+            length <<= 1;
+        }
+        this.keys = new Object[length];
+        this.hashes = new int[length];
+        this.threshold = length - (length >> 2);
+    }
+
+    /**
+     * @return the key already in the set that is equal to {@code key}, or null after adding it
+     */
+    Object putIfAbsent(Object key) {
+        final int h = hash(key);
+        final int i = slot(key, h);
+        if (i >= 0) {
+            return keys[i];
+        }
+        insert(~i, key, h, null);
+        return null;
+    }
+
+    /**
+     * @return the value stored with a key equal to {@code key}, or null
+     */
+    Object get(Object key) {
+        if (values == null) {
+            return null;
+        }
+        final int i = slot(key, hash(key));
+        return i >= 0 ? values[i] : null;
+    }
+
+    /**
+     * Stores {@code value} with the key, replacing the value of an equal key already in the set
+     */
+    void put(Object key, Object value) {
+        if (values == null) {
+            values = new Object[keys.length];
+        }
+        final int h = hash(key);
+        final int i = slot(key, h);
+        if (i >= 0) {
+            values[i] = value;
+        } else {
+            insert(~i, key, h, value);
+        }
+    }
+
+    /**
+     * Removes the key if it is still stored with {@code value}, shifting back the keys that probed
+     * past it so that no lookup needs a tombstone
+     *
+     * @return whether the key was removed
+     */
+    boolean remove(Object key, Object value) {
+        if (values == null) {
+            return false;
+        }
+        int i = slot(key, hash(key));
+        if (i < 0 || values[i] != value) {
+            return false;
+        }
+        final Object[] ks = keys;
+        final int[] hs = hashes;
+        final Object[] vs = values;
+        final int mask = ks.length - 1;
+        int j = i;
+        for (;;) {
+            j = (j + 1) & mask;
+            final Object k = ks[j];
+            if (k == null) {
+                break;
+            }
+            final int home = index(hs[j]) & mask;
+            // Keys whose home lies cyclically in (i, j] are still reachable, the rest move up
+            if (i <= j ? (i < home && home <= j) : (i < home || home <= j)) {
+                continue;
+            }
+            ks[i] = k;
+            hs[i] = hs[j];
+            vs[i] = vs[j];
+            i = j;
+        }
+        ks[i] = null;
+        vs[i] = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return a copy of the values stored with {@link #put}, in table order
+     */
+    List<Object> values() {
+        final List<Object> list = new ArrayList<Object>(size);
+        if (values != null) {
+            for (Object v : values) {
+                if (v != null) {
+                    list.add(v);
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @return the slot holding a key equal to {@code key}, or the complement of the empty slot it
+     *         belongs in
+     */
+    private int slot(Object key, int h) {
+        final Object[] ks = keys;
+        final int[] hs = hashes;
+        final int mask = ks.length - 1;
+        int i = index(h) & mask;
+        for (int probes = 0;; probes++) {
+            final Object k = ks[i];
+            if (k == null) {
+                if (probes > MAX_PROBES && !spread) {
+                    spread = true;
+                    rehash(ks.length);
+                    return slot(key, h);
+                }
+                return ~i;
+            }
+            if (hs[i] == h && equal(k, key)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void insert(int i, Object key, int h, Object value) {
+        keys[i] = key;
+        hashes[i] = h;
+        if (values != null) {
+            values[i] = value;
+        }
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isSpread() {
+        return spread;
+    }
+
+    void clear() {
+        Arrays.fill(keys, null);
+        if (values != null) {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    private void rehash(int length) {
+        final Object[] oldKeys = keys;
+        final int[] oldHashes = hashes;
+        final Object[] oldValues = values;
+        final int mask = length - 1;
+        final Object[] ks = new Object[length];
+        final int[] hs = new int[length];
+        final Object[] vs = oldValues != null ? new Object[length] : null;
+        for (int j = 0; j < oldKeys.length; j++) {
+            final Object k = oldKeys[j];
+            if (k != null) {
+                final int h = oldHashes[j];
+                int i = index(h) & mask;
+                while (ks[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                ks[i] = k;
+                hs[i] = h;
+                if (vs != null) {
+                    vs[i] = oldValues[j];
+                }
+            }
+        }
+        keys = ks;
+        hashes = hs;
+        values = vs;
+        threshold = length - (length >> 2);
+    }
+
+    private int index(int h) {
+        if (spread) {
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+        return h;
+    }
+
+    static int hash(Object key) {
+        if (key instanceof Tuple) {
+            final Tuple tuple = (Tuple)key;
+            final int size = tuple.getSize();
+            int result = 1;
+            for (int i = 0; i < size; i++) {
+                final Object value = tuple.getValue(i);
+                result = 31 * result + (value == null ? 0 : value.hashCode());
+            }
+            return result;
+        }
+        return key.hashCode();
+    }
+
+    static boolean equal(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a.getClass() != b.getClass()) {
+            return false;
+        }
+        if (a instanceof Tuple) {
+            final Tuple x = (Tuple)a;
+            final Tuple y = (Tuple)b;
+            for (int i = 0, size = x.getSize(); i < size; i++) {
+                if (!slotEqual(x.getValue(i), y.getValue(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    private static boolean slotEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+}
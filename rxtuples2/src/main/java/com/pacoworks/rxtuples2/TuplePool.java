@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Small pool of {@link PooledTuple}s of one arity, owned by a single subscription. Tuples are taken
+ * by the emitting thread and may be released from any thread, each slot is claimed with a CAS.
+ * <p>
+ * When the pool is empty a new tuple is allocated, and a released tuple that finds the pool full
+ * is dropped. In debug mode nothing is recycled.
+ *
+ * @author pakoito
+ */
+final class TuplePool implements TupleBuilder<PooledTuple> {
+    private final AtomicReferenceArray<PooledTuple> slots;
+
+    private final int arity;
+
+    private final boolean debug;
+
+    TuplePool(int arity, int size, boolean debug) {
+        this.slots = new AtomicReferenceArray<PooledTuple>(size);
+        this.arity = arity;
+        this.debug = debug;
+    }
+
+    @Override
+    public PooledTuple build(Object[] values) {
+        final PooledTuple tuple = acquire();
+        tuple.fill(values);
+        return tuple;
+    }
+
+    private PooledTuple acquire() {
+        final AtomicReferenceArray<PooledTuple> s = slots;
+        for (int i = 0; i < s.length(); i++) {
+            final PooledTuple tuple = s.get(i);
+            if (tuple != null && s.compareAndSet(i, tuple, null)) {
+                tuple.acquire();
+                return tuple;
+            }
+        }
+        return create();
+    }
+
+    private PooledTuple create() {
+        switch (arity) {
+        case 2:
+            return new PooledPair<Object, Object>(this, debug);
+        case 3:
+            return new PooledTriplet<Object, Object, Object>(this, debug);
+        case 4:
+            return new PooledQuartet<Object, Object, Object, Object>(this, debug);
+        default:
+            throw new IllegalArgumentException("2 <= arity <= 4 required but it was " + arity);
+        }
+    }
+
+    void recycle(PooledTuple tuple) {
+        final AtomicReferenceArray<PooledTuple> s = slots;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.get(i) == null && s.compareAndSet(i, null, tuple)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import io.reactivex.FlowableTransformer;
+import io.reactivex.ObservableTransformer;
+
+/**
+ * Transformer usable with both {@link io.reactivex.Observable#compose} and
+ * {@link io.reactivex.Flowable#compose}
+ *
+ * @author pakoito
+ */
+public interface TupleTransformer<Upstream, Downstream> extends
+        ObservableTransformer<Upstream, Downstream>, FlowableTransformer<Upstream, Downstream> {
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+/**
+ * Side channel for the elements a time-aligned zip drops without pairing them
+ *
+ * @author pakoito
+ */
+public interface UnmatchedHandler {
+    /**
+     * Called in order, on the thread the zip runs on, for every element that can no longer be
+     * part of a tuple: stale, pushed out of a full buffer or left over at completion.
+     *
+     * @param source position of the element's source in the zip, starting at 0
+     */
+    void unmatched(int source, Object value) throws Exception;
+}
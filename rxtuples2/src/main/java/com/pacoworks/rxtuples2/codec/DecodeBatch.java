@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Decodes every tuple of a batch written by {@link EncodeBatch}, consuming the buffer
+ *
+ * @author pakoito
+ */
+final class DecodeBatch<T extends Tuple> implements Function<ByteBuffer, List<T>> {
+    private final TupleCodec<T> codec;
+
+    DecodeBatch(TupleCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public List<T> apply(ByteBuffer buffer) {
+        final int count = buffer.getInt();
+        final List<T> batch = new ArrayList<T>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(codec.decode(buffer));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads a single non-null tuple slot to and from a {@link ByteBuffer}, starting at its
+ * position. Implementations must be stateless so they can be shared between codecs and threads.
+ *
+ * @author pakoito
+ * @see ElementCodecs
+ */
+public interface ElementCodec<T> {
+    /**
+     * @return an upper bound of the bytes {@link #encode(Object, ByteBuffer)} writes for value
+     */
+    int maxSize(T value);
+
+    void encode(T value, ByteBuffer buffer);
+
+    T decode(ByteBuffer buffer);
+}
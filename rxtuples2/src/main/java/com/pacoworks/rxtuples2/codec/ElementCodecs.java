@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Shared {@link ElementCodec} instances for boxed primitives, strings and byte arrays
+ * <p>
+ * Primitives are written with their fixed width in the buffer's byte order. Strings and byte arrays
+ * are prefixed with their length, and strings made only of ASCII characters are copied one byte per
+ * char without going through a charset encoder.
+ *
+ * @author pakoito
+ */
+public final class ElementCodecs {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final byte ASCII = 0;
+
+    private static final byte UTF8 = 1;
+
+    private ElementCodecs() {
+        // No instances
+    }
+
+    // region Primitives
+
+    private static final ElementCodec<Boolean> BOOLEAN = new ElementCodec<Boolean>() {
+        @Override
+        public int maxSize(Boolean value) {
+            return 1;
+        }
+
+        @Override
+        public void encode(Boolean value, ByteBuffer buffer) {
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Boolean decode(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    };
+
+    private static final ElementCodec<Byte> BYTE = new ElementCodec<Byte>() {
+        @Override
+        public int maxSize(Byte value) {
+            return 1;
+        }
+
+        @Override
+        public void encode(Byte value, ByteBuffer buffer) {
+            buffer.put(value);
+        }
+
+        @Override
+        public Byte decode(ByteBuffer buffer) {
+            return buffer.get();
+        }
+    };
+
+    private static final ElementCodec<Short> SHORT = new ElementCodec<Short>() {
+        @Override
+        public int maxSize(Short value) {
+            return 2;
+        }
+
+        @Override
+        public void encode(Short value, ByteBuffer buffer) {
+            buffer.putShort(value);
+        }
+
+        @Override
+        public Short decode(ByteBuffer buffer) {
+            return buffer.getShort();
+        }
+    };
+
+    private static final ElementCodec<Character> CHAR = new ElementCodec<Character>() {
+        @Override
+        public int maxSize(Character value) {
+            return 2;
+        }
+
+        @Override
+        public void encode(Character value, ByteBuffer buffer) {
+            buffer.putChar(value);
+        }
+
+        @Override
+        public Character decode(ByteBuffer buffer) {
+            return buffer.getChar();
+        }
+    };
+
+    private static final ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public int maxSize(Integer value) {
+            return 4;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    private static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int maxSize(Long value) {
+            return 8;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    private static final ElementCodec<Float> FLOAT = new ElementCodec<Float>() {
+        @Override
+        public int maxSize(Float value) {
+            return 4;
+        }
+
+        @Override
+        public void encode(Float value, ByteBuffer buffer) {
+            buffer.putFloat(value);
+        }
+
+        @Override
+        public Float decode(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+    };
+
+    private static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int maxSize(Double value) {
+            return 8;
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    public static ElementCodec<Boolean> booleans() {
+        return BOOLEAN;
+    }
+
+    public static ElementCodec<Byte> bytes() {
+        return BYTE;
+    }
+
+    public static ElementCodec<Short> shorts() {
+        return SHORT;
+    }
+
+    public static ElementCodec<Character> chars() {
+        return CHAR;
+    }
+
+    public static ElementCodec<Integer> ints() {
+        return INT;
+    }
+
+    public static ElementCodec<Long> longs() {
+        return LONG;
+    }
+
+    public static ElementCodec<Float> floats() {
+        return FLOAT;
+    }
+
+    public static ElementCodec<Double> doubles() {
+        return DOUBLE;
+    }
+
+    // endregion
+
+    // region Variable length
+
+    private static final ElementCodec<String> STRING = new ElementCodec<String>() {
+        @Override
+        public int maxSize(String value) {
+            // A UTF-16 char never takes more than 3 bytes in UTF-8
+            return 5 + 3 * value.length();
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            final int start = buffer.position();
+            final int length = value.length();
+            buffer.put(ASCII).putInt(length);
+            for (int i = 0; i < length; i++) {
+                final char c = value.charAt(i);
+                if (c >= 0x80) {
+                    buffer.position(start);
+                    final byte[] bytes = value.getBytes(UTF_8);
+                    buffer.put(UTF8).putInt(bytes.length).put(bytes);
+                    return;
+                }
+                buffer.put((byte)c);
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            final byte encoding = buffer.get();
+            final int length = buffer.getInt();
+            if (encoding == ASCII) {
+                final char[] chars = new char[length];
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char)buffer.get();
+                }
+                return new String(chars);
+            }
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+    };
+
+    private static final ElementCodec<byte[]> BYTE_ARRAY = new ElementCodec<byte[]>() {
+        @Override
+        public int maxSize(byte[] value) {
+            return 4 + value.length;
+        }
+
+        @Override
+        public void encode(byte[] value, ByteBuffer buffer) {
+            buffer.putInt(value.length).put(value);
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    };
+
+    public static ElementCodec<String> strings() {
+        return STRING;
+    }
+
+    public static ElementCodec<byte[]> byteArrays() {
+        return BYTE_ARRAY;
+    }
+
+    // endregion
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.javatuples.Tuple;
+
+import io.reactivex.functions.Function;
+
+/**
+ * Encodes a batch of tuples into a direct buffer reused for every batch of a subscription, growing
+ * it when a batch doesn't fit
+ *
+ * @author pakoito
+ */
+final class EncodeBatch<T extends Tuple> implements Function<List<T>, ByteBuffer> {
+    private final TupleCodec<T> codec;
+
+    private ByteBuffer buffer;
+
+    EncodeBatch(TupleCodec<T> codec, int capacity) {
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    @Override
+    public ByteBuffer apply(List<T> batch) {
+        for (;;) {
+            final ByteBuffer b = buffer;
+            b.clear();
+            try {
+                b.putInt(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    codec.encode(batch.get(i), b);
+                }
+                b.flip();
+                return b;
+            } catch (BufferOverflowException ex) {
+                buffer = ByteBuffer.allocateDirect(b.capacity() * 2);
+            }
+        }
+    }
+}
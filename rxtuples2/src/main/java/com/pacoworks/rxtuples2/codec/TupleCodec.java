@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.nio.ByteBuffer;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+
+/**
+ * Binary codec for one tuple type, with an {@link ElementCodec} per slot.
+ * <p>
+ * A tuple is written as one byte flagging its non-null slots followed by each non-null slot in
+ * order, with no class descriptors or field names. Codecs are immutable and can be shared.
+ *
+ * @author pakoito
+ * @see TupleCodecs
+ */
+public final class TupleCodec<T extends Tuple> {
+    private final ElementCodec<Object>[] codecs;
+
+    TupleCodec(ElementCodec<Object>[] codecs) {
+        this.codecs = codecs;
+    }
+
+    public int getSize() {
+        return codecs.length;
+    }
+
+    /**
+     * @return an upper bound of the bytes {@link #encode(Tuple, ByteBuffer)} writes for tuple
+     */
+    public int maxSize(T tuple) {
+        int size = 1;
+        for (int i = 0; i < codecs.length; i++) {
+            final Object value = tuple.getValue(i);
+            if (value != null) {
+                size += codecs[i].maxSize(value);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes tuple at the buffer's position.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has no room left for the tuple
+     */
+    public void encode(T tuple, ByteBuffer buffer) {
+        final ElementCodec<Object>[] cs = codecs;
+        final int start = buffer.position();
+        buffer.put((byte)0);
+        int present = 0;
+        for (int i = 0; i < cs.length; i++) {
+            final Object value = tuple.getValue(i);
+            if (value != null) {
+                present |= 1 << i;
+                cs[i].encode(value, buffer);
+            }
+        }
+        buffer.put(start, (byte)present);
+    }
+
+    /**
+     * Reads a tuple from the buffer's position.
+     *
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the tuple does
+     */
+    @SuppressWarnings("unchecked")
+    public T decode(ByteBuffer buffer) {
+        final int present = buffer.get();
+        final Tuple tuple;
+        switch (codecs.length) {
+            case 2:
+                tuple = Pair.with(read(present, 0, buffer), read(present, 1, buffer));
+                break;
+            case 3:
+                tuple = Triplet.with(read(present, 0, buffer), read(present, 1, buffer),
+                        read(present, 2, buffer));
+                break;
+            case 4:
+                tuple = Quartet.with(read(present, 0, buffer), read(present, 1, buffer),
+                        read(present, 2, buffer), read(present, 3, buffer));
+                break;
+            case 5:
+                tuple = Quintet.with(read(present, 0, buffer), read(present, 1, buffer),
+                        read(present, 2, buffer), read(present, 3, buffer),
+                        read(present, 4, buffer));
+                break;
+            case 6:
+                tuple = Sextet.with(read(present, 0, buffer), read(present, 1, buffer),
+                        read(present, 2, buffer), read(present, 3, buffer),
+                        read(present, 4, buffer), read(present, 5, buffer));
+                break;
+            case 7:
+                tuple = Septet.with(read(present, 0, buffer), read(present, 1, buffer),
+                        read(present, 2, buffer), read(present, 3, buffer),
+                        read(present, 4, buffer), read(present, 5, buffer),
+                        read(present, 6, buffer));
+                break;
+            default:
+                tuple = Octet.with(read(present, 0, buffer), read(present, 1, buffer),
+                        read(present, 2, buffer), read(present, 3, buffer),
+                        read(present, 4, buffer), read(present, 5, buffer),
+                        read(present, 6, buffer), read(present, 7, buffer));
+                break;
+        }
+        return (T)tuple;
+    }
+
+    private Object read(int present, int index, ByteBuffer buffer) {
+        return (present & (1 << index)) == 0 ? null : codecs[index].decode(buffer);
+    }
+}
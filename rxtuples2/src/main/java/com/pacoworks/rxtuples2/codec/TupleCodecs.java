@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+import org.reactivestreams.Publisher;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableTransformer;
+import io.reactivex.internal.functions.Functions;
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * Helper class to create {@link TupleCodec}s and the Flowable stages that ship tuples as binary
+ * batches
+ *
+ * @author pakoito
+ */
+public final class TupleCodecs {
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private TupleCodecs() {
+        // No instances
+    }
+
+    // region Codecs
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Tuple> TupleCodec<T> codec(ElementCodec<?>... codecs) {
+        for (int i = 0; i < codecs.length; i++) {
+            // Only builds the message for a null codec
+            if (codecs[i] == null) {
+                throw new NullPointerException("codec " + i + " is null");
+            }
+        }
+        return new TupleCodec<T>((ElementCodec<Object>[])codecs);
+    }
+
+    public static <A, B> TupleCodec<Pair<A, B>> pair(ElementCodec<A> a, ElementCodec<B> b) {
+        return codec(a, b);
+    }
+
+    public static <A, B, C> TupleCodec<Triplet<A, B, C>> triplet(ElementCodec<A> a,
+            ElementCodec<B> b, ElementCodec<C> c) {
+        return codec(a, b, c);
+    }
+
+    public static <A, B, C, D> TupleCodec<Quartet<A, B, C, D>> quartet(ElementCodec<A> a,
+            ElementCodec<B> b, ElementCodec<C> c, ElementCodec<D> d) {
+        return codec(a, b, c, d);
+    }
+
+    public static <A, B, C, D, E> TupleCodec<Quintet<A, B, C, D, E>> quintet(ElementCodec<A> a,
+            ElementCodec<B> b, ElementCodec<C> c, ElementCodec<D> d, ElementCodec<E> e) {
+        return codec(a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E, F> TupleCodec<Sextet<A, B, C, D, E, F>> sextet(ElementCodec<A> a,
+            ElementCodec<B> b, ElementCodec<C> c, ElementCodec<D> d, ElementCodec<E> e,
+            ElementCodec<F> f) {
+        return codec(a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F, G> TupleCodec<Septet<A, B, C, D, E, F, G>> septet(ElementCodec<A> a,
+            ElementCodec<B> b, ElementCodec<C> c, ElementCodec<D> d, ElementCodec<E> e,
+            ElementCodec<F> f, ElementCodec<G> g) {
+        return codec(a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> TupleCodec<Octet<A, B, C, D, E, F, G, H>> octet(ElementCodec<A> a,
+            ElementCodec<B> b, ElementCodec<C> c, ElementCodec<D> d, ElementCodec<E> e,
+            ElementCodec<F> f, ElementCodec<G> g, ElementCodec<H> h) {
+        return codec(a, b, c, d, e, f, g, h);
+    }
+
+    // endregion
+
+    // region Flowable stages
+
+    /**
+     * Same as {@link #encoder(TupleCodec, int, int)} starting with a 64KB buffer.
+     */
+    public static <T extends Tuple> FlowableTransformer<T, ByteBuffer> encoder(TupleCodec<T> codec,
+            int batchSize) {
+        return encoder(codec, batchSize, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Encodes up to {@code batchSize} tuples into each emitted buffer: an int with the tuple count
+     * followed by the tuples. The last batch may be smaller.
+     * <p>
+     * Each subscription writes every batch into the same direct buffer, doubling it when a batch
+     * doesn't fit in {@code capacity} bytes. The emitted buffer is only valid until
+     * {@code onNext} returns, so write it out or copy it there and don't move it to another thread.
+     */
+    public static <T extends Tuple> FlowableTransformer<T, ByteBuffer> encoder(
+            final TupleCodec<T> codec, final int batchSize, final int capacity) {
+        ObjectHelper.requireNonNull(codec, "codec is null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize > 0 required but it was " + batchSize);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity > 0 required but it was " + capacity);
+        }
+        return new FlowableTransformer<T, ByteBuffer>() {
+            @Override
+            public Publisher<ByteBuffer> apply(final Flowable<T> upstream) {
+                return Flowable.defer(new Callable<Publisher<ByteBuffer>>() {
+                    @Override
+                    public Publisher<ByteBuffer> call() {
+                        return upstream.buffer(batchSize).map(
+                                new EncodeBatch<T>(codec, capacity));
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Decodes the batches written by {@link #encoder(TupleCodec, int)}. Each buffer is read
+     * completely as it arrives, so it can be reused as soon as {@code onNext} returns.
+     */
+    public static <T extends Tuple> FlowableTransformer<ByteBuffer, T> decoder(
+            final TupleCodec<T> codec) {
+        ObjectHelper.requireNonNull(codec, "codec is null");
+        return new FlowableTransformer<ByteBuffer, T>() {
+            @Override
+            public Publisher<T> apply(Flowable<ByteBuffer> upstream) {
+                return upstream.map(new DecodeBatch<T>(codec)).concatMapIterable(
+                        Functions.<List<T>> identity());
+            }
+        };
+    }
+
+    // endregion
+}
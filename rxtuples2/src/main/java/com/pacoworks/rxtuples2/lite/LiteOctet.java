@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.lite;
+
+import java.io.Serializable;
+
+import org.javatuples.Octet;
+
+/**
+ * Flat-field counterpart of {@link Octet}: one final field per slot, no backing array or list.
+ * <p>
+ * The hash code is computed on first use and cached, so slot values must keep a stable hash.
+ *
+ * @author pakoito
+ */
+public final class LiteOctet<A, B, C, D, E, F, G, H> implements LiteTuple, Comparable<LiteOctet<A, B, C, D, E, F, G, H>>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final A value0;
+
+    private final B value1;
+
+    private final C value2;
+
+    private final D value3;
+
+    private final E value4;
+
+    private final F value5;
+
+    private final G value6;
+
+    private final H value7;
+
+    /* Computed on first use, 0 until then */
+    private transient int hash;
+
+    private LiteOctet(A value0, B value1, C value2, D value3, E value4, F value5, G value6, H value7) {
+        this.value0 = value0;
+        this.value1 = value1;
+        this.value2 = value2;
+        this.value3 = value3;
+        this.value4 = value4;
+        this.value5 = value5;
+        this.value6 = value6;
+        this.value7 = value7;
+    }
+
+    public static <A, B, C, D, E, F, G, H> LiteOctet<A, B, C, D, E, F, G, H> with(A value0, B value1, C value2, D value3, E value4, F value5, G value6, H value7) {
+        return new LiteOctet<A, B, C, D, E, F, G, H>(value0, value1, value2, value3, value4, value5, value6, value7);
+    }
+
+    public static <A, B, C, D, E, F, G, H> LiteOctet<A, B, C, D, E, F, G, H> from(Octet<A, B, C, D, E, F, G, H> tuple) {
+        return new LiteOctet<A, B, C, D, E, F, G, H>(tuple.getValue0(), tuple.getValue1(), tuple.getValue2(), tuple.getValue3(), tuple.getValue4(), tuple.getValue5(), tuple.getValue6(), tuple.getValue7());
+    }
+
+    public Octet<A, B, C, D, E, F, G, H> toTuple() {
+        return Octet.with(value0, value1, value2, value3, value4, value5, value6, value7);
+    }
+
+    public A getValue0() {
+        return value0;
+    }
+
+    public B getValue1() {
+        return value1;
+    }
+
+    public C getValue2() {
+        return value2;
+    }
+
+    public D getValue3() {
+        return value3;
+    }
+
+    public E getValue4() {
+        return value4;
+    }
+
+    public F getValue5() {
+        return value5;
+    }
+
+    public G getValue6() {
+        return value6;
+    }
+
+    public H getValue7() {
+        return value7;
+    }
+
+    @Override
+    public int getSize() {
+        return 8;
+    }
+
+    @Override
+    public Object getValue(int pos) {
+        switch (pos) {
+            case 0:
+                return value0;
+            case 1:
+                return value1;
+            case 2:
+                return value2;
+            case 3:
+                return value3;
+            case 4:
+                return value4;
+            case 5:
+                return value5;
+            case 6:
+                return value6;
+            case 7:
+                return value7;
+            default:
+                throw new IndexOutOfBoundsException("Invalid slot " + pos + " for an octet");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LiteOctet)) {
+            return false;
+        }
+        final LiteOctet<?, ?, ?, ?, ?, ?, ?, ?> other = (LiteOctet<?, ?, ?, ?, ?, ?, ?, ?>)o;
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            return false;
+        }
+        return Slots.equal(value0, other.value0) && Slots.equal(value1, other.value1)
+                && Slots.equal(value2, other.value2) && Slots.equal(value3, other.value3)
+                && Slots.equal(value4, other.value4) && Slots.equal(value5, other.value5)
+                && Slots.equal(value6, other.value6) && Slots.equal(value7, other.value7);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Slots.hash(value0);
+            result = 31 * result + Slots.hash(value1);
+            result = 31 * result + Slots.hash(value2);
+            result = 31 * result + Slots.hash(value3);
+            result = 31 * result + Slots.hash(value4);
+            result = 31 * result + Slots.hash(value5);
+            result = 31 * result + Slots.hash(value6);
+            result = 31 * result + Slots.hash(value7);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int compareTo(LiteOctet<A, B, C, D, E, F, G, H> other) {
+        int result = Slots.compare(value0, other.value0);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value1, other.value1);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value2, other.value2);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value3, other.value3);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value4, other.value4);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value5, other.value5);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value6, other.value6);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value7, other.value7);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + value0 + ", " + value1 + ", " + value2 + ", " + value3 + ", " + value4
+                + ", " + value5 + ", " + value6 + ", " + value7 + "]";
+    }
+}
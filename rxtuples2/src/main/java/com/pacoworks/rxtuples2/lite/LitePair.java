@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.lite;
+
+import java.io.Serializable;
+
+import org.javatuples.Pair;
+
+/**
+ * Flat-field counterpart of {@link Pair}: one final field per slot, no backing array or list.
+ * <p>
+ * The hash code is computed on first use and cached, so slot values must keep a stable hash.
+ *
+ * @author pakoito
+ */
+public final class LitePair<A, B> implements LiteTuple, Comparable<LitePair<A, B>>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final A value0;
+
+    private final B value1;
+
+    /* Computed on first use, 0 until then */
+    private transient int hash;
+
+    private LitePair(A value0, B value1) {
+        this.value0 = value0;
+        this.value1 = value1;
+    }
+
+    public static <A, B> LitePair<A, B> with(A value0, B value1) {
+        return new LitePair<A, B>(value0, value1);
+    }
+
+    public static <A, B> LitePair<A, B> from(Pair<A, B> tuple) {
+        return new LitePair<A, B>(tuple.getValue0(), tuple.getValue1());
+    }
+
+    public Pair<A, B> toTuple() {
+        return Pair.with(value0, value1);
+    }
+
+    public A getValue0() {
+        return value0;
+    }
+
+    public B getValue1() {
+        return value1;
+    }
+
+    @Override
+    public int getSize() {
+        return 2;
+    }
+
+    @Override
+    public Object getValue(int pos) {
+        switch (pos) {
+            case 0:
+                return value0;
+            case 1:
+                return value1;
+            default:
+                throw new IndexOutOfBoundsException("Invalid slot " + pos + " for a pair");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LitePair)) {
+            return false;
+        }
+        final LitePair<?, ?> other = (LitePair<?, ?>)o;
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            return false;
+        }
+        return Slots.equal(value0, other.value0) && Slots.equal(value1, other.value1);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Slots.hash(value0);
+            result = 31 * result + Slots.hash(value1);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int compareTo(LitePair<A, B> other) {
+        int result = Slots.compare(value0, other.value0);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value1, other.value1);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + value0 + ", " + value1 + "]";
+    }
+}
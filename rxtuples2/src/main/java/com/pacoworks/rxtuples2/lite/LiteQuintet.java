@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.lite;
+
+import java.io.Serializable;
+
+import org.javatuples.Quintet;
+
+/**
+ * Flat-field counterpart of {@link Quintet}: one final field per slot, no backing array or list.
+ * <p>
+ * The hash code is computed on first use and cached, so slot values must keep a stable hash.
+ *
+ * @author pakoito
+ */
+public final class LiteQuintet<A, B, C, D, E> implements LiteTuple, Comparable<LiteQuintet<A, B, C, D, E>>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final A value0;
+
+    private final B value1;
+
+    private final C value2;
+
+    private final D value3;
+
+    private final E value4;
+
+    /* Computed on first use, 0 until then */
+    private transient int hash;
+
+    private LiteQuintet(A value0, B value1, C value2, D value3, E value4) {
+        this.value0 = value0;
+        this.value1 = value1;
+        this.value2 = value2;
+        this.value3 = value3;
+        this.value4 = value4;
+    }
+
+    public static <A, B, C, D, E> LiteQuintet<A, B, C, D, E> with(A value0, B value1, C value2, D value3, E value4) {
+        return new LiteQuintet<A, B, C, D, E>(value0, value1, value2, value3, value4);
+    }
+
+    public static <A, B, C, D, E> LiteQuintet<A, B, C, D, E> from(Quintet<A, B, C, D, E> tuple) {
+        return new LiteQuintet<A, B, C, D, E>(tuple.getValue0(), tuple.getValue1(), tuple.getValue2(), tuple.getValue3(), tuple.getValue4());
+    }
+
+    public Quintet<A, B, C, D, E> toTuple() {
+        return Quintet.with(value0, value1, value2, value3, value4);
+    }
+
+    public A getValue0() {
+        return value0;
+    }
+
+    public B getValue1() {
+        return value1;
+    }
+
+    public C getValue2() {
+        return value2;
+    }
+
+    public D getValue3() {
+        return value3;
+    }
+
+    public E getValue4() {
+        return value4;
+    }
+
+    @Override
+    public int getSize() {
+        return 5;
+    }
+
+    @Override
+    public Object getValue(int pos) {
+        switch (pos) {
+            case 0:
+                return value0;
+            case 1:
+                return value1;
+            case 2:
+                return value2;
+            case 3:
+                return value3;
+            case 4:
+                return value4;
+            default:
+                throw new IndexOutOfBoundsException("Invalid slot " + pos + " for a quintet");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LiteQuintet)) {
+            return false;
+        }
+        final LiteQuintet<?, ?, ?, ?, ?> other = (LiteQuintet<?, ?, ?, ?, ?>)o;
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            return false;
+        }
+        return Slots.equal(value0, other.value0) && Slots.equal(value1, other.value1)
+                && Slots.equal(value2, other.value2) && Slots.equal(value3, other.value3)
+                && Slots.equal(value4, other.value4);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Slots.hash(value0);
+            result = 31 * result + Slots.hash(value1);
+            result = 31 * result + Slots.hash(value2);
+            result = 31 * result + Slots.hash(value3);
+            result = 31 * result + Slots.hash(value4);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int compareTo(LiteQuintet<A, B, C, D, E> other) {
+        int result = Slots.compare(value0, other.value0);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value1, other.value1);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value2, other.value2);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value3, other.value3);
+        if (result != 0) {
+            return result;
+        }
+        result = Slots.compare(value4, other.value4);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + value0 + ", " + value1 + ", " + value2 + ", " + value3 + ", " + value4 + "]";
+    }
+}
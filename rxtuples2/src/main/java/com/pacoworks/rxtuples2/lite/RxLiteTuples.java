@@ -0,0 +1,702 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.lite;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Quintet;
+import org.javatuples.Septet;
+import org.javatuples.Sextet;
+import org.javatuples.Triplet;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Function3;
+import io.reactivex.functions.Function4;
+import io.reactivex.functions.Function5;
+import io.reactivex.functions.Function6;
+import io.reactivex.functions.Function7;
+import io.reactivex.functions.Function8;
+
+/**
+ * Mirror of {@link com.pacoworks.rxtuples2.RxTuples} building the flat-field tuples in this
+ * package, plus conversions from and to javatuples.
+ * <p>
+ * Every factory returns a shared stateless instance.
+ *
+ * @author pakoito
+ */
+public final class RxLiteTuples {
+    private RxLiteTuples() {
+        // No instances
+    }
+
+    // region Pair
+
+    private static final BiFunction<Object, Object, LitePair<Object, Object>> TO_PAIR = new BiFunction<Object, Object, LitePair<Object, Object>>() {
+        @Override
+        public LitePair<Object, Object> apply(Object t, Object t2) {
+            return LitePair.with(t, t2);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <T, U> BiFunction<T, U, LitePair<T, U>> toPair() {
+        return (BiFunction) TO_PAIR;
+    }
+
+    // endregion
+
+    // region Triplet
+    private static final Function3<Object, Object, Object, LiteTriplet<Object, Object, Object>> TO_TRIPLET = new Function3<Object, Object, Object, LiteTriplet<Object, Object, Object>>() {
+        @Override
+        public LiteTriplet<Object, Object, Object> apply(Object a, Object b, Object c) {
+            return LiteTriplet.with(a, b, c);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C> Function3<A, B, C, LiteTriplet<A, B, C>> toTriplet() {
+        return (Function3) TO_TRIPLET;
+    }
+
+    private static final BiFunction<Object, LitePair<Object, Object>, LiteTriplet<Object, Object, Object>> TO_TRIPLET_FROM_SINGLE = new BiFunction<Object, LitePair<Object, Object>, LiteTriplet<Object, Object, Object>>() {
+        @Override
+        public LiteTriplet<Object, Object, Object> apply(Object t, LitePair<Object, Object> objects) {
+            return LiteTriplet.with(t, objects.getValue0(), objects.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, T> BiFunction<T, LitePair<A, B>, LiteTriplet<T, A, B>> toTripletFromSingle() {
+        return (BiFunction) TO_TRIPLET_FROM_SINGLE;
+    }
+
+    private static final BiFunction<LitePair<Object, Object>, Object, LiteTriplet<Object, Object, Object>> TO_TRIPLET_FROM_PAIR = new BiFunction<LitePair<Object, Object>, Object, LiteTriplet<Object, Object, Object>>() {
+        @Override
+        public LiteTriplet<Object, Object, Object> apply(LitePair<Object, Object> objects, Object t) {
+            return LiteTriplet.with(objects.getValue0(), objects.getValue1(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, T> BiFunction<LitePair<A, B>, T, LiteTriplet<A, B, T>> toTripletFromPair() {
+        return (BiFunction) TO_TRIPLET_FROM_PAIR;
+    }
+
+    // endregion
+
+    // region Quartet
+
+    private static final Function4<Object, Object, Object, Object, LiteQuartet<Object, Object, Object, Object>> TO_QUARTET = new Function4<Object, Object, Object, Object, LiteQuartet<Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuartet<Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d) {
+            return LiteQuartet.with(a, b, c, d);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> Function4<A, B, C, D, LiteQuartet<A, B, C, D>> toQuartet() {
+        return (Function4) TO_QUARTET;
+    }
+
+    private static final BiFunction<Object, LiteTriplet<Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>> TO_QUARTET_FROM_SINGLE = new BiFunction<Object, LiteTriplet<Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuartet<Object, Object, Object, Object> apply(Object t, LiteTriplet<Object, Object, Object> objects) {
+            return LiteQuartet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, T> BiFunction<T, LiteTriplet<A, B, C>, LiteQuartet<T, A, B, C>> toQuartetFromSingle() {
+        return (BiFunction) TO_QUARTET_FROM_SINGLE;
+    }
+
+    private static final BiFunction<LitePair<Object, Object>, LitePair<Object, Object>, LiteQuartet<Object, Object, Object, Object>> TO_QUARTET_FROM_PAIR = new BiFunction<LitePair<Object, Object>, LitePair<Object, Object>, LiteQuartet<Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuartet<Object, Object, Object, Object> apply(LitePair<Object, Object> objects, LitePair<Object, Object> objects2) {
+            return LiteQuartet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> BiFunction<LitePair<A, B>, LitePair<C, D>, LiteQuartet<A, B, C, D>> toQuartetFromPair() {
+        return (BiFunction) TO_QUARTET_FROM_PAIR;
+    }
+
+    private static final BiFunction<LiteTriplet<Object, Object, Object>, Object, LiteQuartet<Object, Object, Object, Object>> TO_QUARTET_FROM_TRIPLET = new BiFunction<LiteTriplet<Object, Object, Object>, Object, LiteQuartet<Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuartet<Object, Object, Object, Object> apply(LiteTriplet<Object, Object, Object> objects, Object t) {
+            return LiteQuartet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, T> BiFunction<LiteTriplet<A, B, C>, T, LiteQuartet<A, B, C, T>> toQuartetFromTriplet() {
+        return (BiFunction) TO_QUARTET_FROM_TRIPLET;
+    }
+
+    // endregion
+
+    // region Quintet
+
+    private static final Function5<Object, Object, Object, Object, Object, LiteQuintet<Object, Object, Object, Object, Object>> TO_QUINTET = new Function5<Object, Object, Object, Object, Object, LiteQuintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuintet<Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e) {
+            return LiteQuintet.with(a, b, c, d, e);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> Function5<A, B, C, D, E, LiteQuintet<A, B, C, D, E>> toQuintet() {
+        return (Function5) TO_QUINTET;
+    }
+
+    private static final BiFunction<Object, LiteQuartet<Object, Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_SINGLE = new BiFunction<Object, LiteQuartet<Object, Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuintet<Object, Object, Object, Object, Object> apply(Object t, LiteQuartet<Object, Object, Object, Object> objects) {
+            return LiteQuintet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2(), objects.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, T> BiFunction<T, LiteQuartet<A, B, C, D>, LiteQuintet<T, A, B, C, D>> toQuintetFromSingle() {
+        return (BiFunction) TO_QUINTET_FROM_SINGLE;
+    }
+
+    private static final BiFunction<LitePair<Object, Object>, LiteTriplet<Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_PAIR = new BiFunction<LitePair<Object, Object>, LiteTriplet<Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuintet<Object, Object, Object, Object, Object> apply(LitePair<Object, Object> objects, LiteTriplet<Object, Object, Object> objects2) {
+            return LiteQuintet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> BiFunction<LitePair<A, B>, LiteTriplet<C, D, E>, LiteQuintet<A, B, C, D, E>> toQuintetFromPair() {
+        return (BiFunction) TO_QUINTET_FROM_PAIR;
+    }
+
+    private static final BiFunction<LiteTriplet<Object, Object, Object>, LitePair<Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_TRIPLET = new BiFunction<LiteTriplet<Object, Object, Object>, LitePair<Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuintet<Object, Object, Object, Object, Object> apply(LiteTriplet<Object, Object, Object> objects, LitePair<Object, Object> objects2) {
+            return LiteQuintet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> BiFunction<LiteTriplet<A, B, C>, LitePair<D, E>, LiteQuintet<A, B, C, D, E>> toQuintetFromTriplet() {
+        return (BiFunction) TO_QUINTET_FROM_TRIPLET;
+    }
+
+    private static final BiFunction<LiteQuartet<Object, Object, Object, Object>, Object, LiteQuintet<Object, Object, Object, Object, Object>> TO_QUINTET_FROM_QUARTET = new BiFunction<LiteQuartet<Object, Object, Object, Object>, Object, LiteQuintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuintet<Object, Object, Object, Object, Object> apply(LiteQuartet<Object, Object, Object, Object> objects, Object t) {
+            return LiteQuintet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, T> BiFunction<LiteQuartet<A, B, C, D>, T, LiteQuintet<A, B, C, D, T>> toQuintetFromQuartet() {
+        return (BiFunction) TO_QUINTET_FROM_QUARTET;
+    }
+
+    // endregion
+
+    // region Sextet
+
+    private static final Function6<Object, Object, Object, Object, Object, Object, LiteSextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET = new Function6<Object, Object, Object, Object, Object, Object, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e, Object f) {
+            return LiteSextet.with(a, b, c, d, e, f);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> Function6<A, B, C, D, E, F, LiteSextet<A, B, C, D, E, F>> toSextet() {
+        return (Function6) TO_SEXTET;
+    }
+
+    private static final BiFunction<Object, LiteQuintet<Object, Object, Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_SINGLE = new BiFunction<Object, LiteQuintet<Object, Object, Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(Object t, LiteQuintet<Object, Object, Object, Object, Object> objects) {
+            return LiteSextet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2(), objects.getValue3(), objects.getValue4());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, T> BiFunction<T, LiteQuintet<A, B, C, D, E>, LiteSextet<T, A, B, C, D, E>> toSextetFromSingle() {
+        return (BiFunction) TO_SEXTET_FROM_SINGLE;
+    }
+
+    private static final BiFunction<LitePair<Object, Object>, LiteQuartet<Object, Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_PAIR = new BiFunction<LitePair<Object, Object>, LiteQuartet<Object, Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(LitePair<Object, Object> objects, LiteQuartet<Object, Object, Object, Object> objects2) {
+            return LiteSextet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2(), objects2.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> BiFunction<LitePair<A, B>, LiteQuartet<C, D, E, F>, LiteSextet<A, B, C, D, E, F>> toSextetFromPair() {
+        return (BiFunction) TO_SEXTET_FROM_PAIR;
+    }
+
+    private static final BiFunction<LiteTriplet<Object, Object, Object>, LiteTriplet<Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_TRIPLET = new BiFunction<LiteTriplet<Object, Object, Object>, LiteTriplet<Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(LiteTriplet<Object, Object, Object> objects, LiteTriplet<Object, Object, Object> objects2) {
+            return LiteSextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1(), objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> BiFunction<LiteTriplet<A, B, C>, LiteTriplet<D, E, F>, LiteSextet<A, B, C, D, E, F>> toSextetFromTriplet() {
+        return (BiFunction) TO_SEXTET_FROM_TRIPLET;
+    }
+
+    private static final BiFunction<LiteQuartet<Object, Object, Object, Object>, LitePair<Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_QUARTET = new BiFunction<LiteQuartet<Object, Object, Object, Object>, LitePair<Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(LiteQuartet<Object, Object, Object, Object> objects, LitePair<Object, Object> objects2) {
+            return LiteSextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects2.getValue0(), objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> BiFunction<LiteQuartet<A, B, C, D>, LitePair<E, F>, LiteSextet<A, B, C, D, E, F>> toSextetFromQuartet() {
+        return (BiFunction) TO_SEXTET_FROM_QUARTET;
+    }
+
+    private static final BiFunction<LiteQuintet<Object, Object, Object, Object, Object>, Object, LiteSextet<Object, Object, Object, Object, Object, Object>> TO_SEXTET_FROM_QUINTET = new BiFunction<LiteQuintet<Object, Object, Object, Object, Object>, Object, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(LiteQuintet<Object, Object, Object, Object, Object> objects, Object t) {
+            return LiteSextet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, T> BiFunction<LiteQuintet<A, B, C, D, E>, T, LiteSextet<A, B, C, D, E, T>> toSextetFromQuintet() {
+        return (BiFunction) TO_SEXTET_FROM_QUINTET;
+    }
+
+    // endregion
+
+    // region Septet
+
+    private static final Function7<Object, Object, Object, Object, Object, Object, Object, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET = new Function7<Object, Object, Object, Object, Object, Object, Object, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e, Object f, Object g) {
+            return LiteSeptet.with(a, b, c, d, e, f, g);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> Function7<A, B, C, D, E, F, G, LiteSeptet<A, B, C, D, E, F, G>> toSeptet() {
+        return (Function7) TO_SEPTET;
+    }
+
+    private static final BiFunction<Object, LiteSextet<Object, Object, Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_SINGLE = new BiFunction<Object, LiteSextet<Object, Object, Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(Object t, LiteSextet<Object, Object, Object, Object, Object, Object> objects) {
+            return LiteSeptet.with(t, objects.getValue0(), objects.getValue1(),
+                    objects.getValue2(), objects.getValue3(), objects.getValue4(),
+                    objects.getValue5());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, T> BiFunction<T, LiteSextet<A, B, C, D, E, F>, LiteSeptet<T, A, B, C, D, E, F>> toSeptetFromSingle() {
+        return (BiFunction) TO_SEPTET_FROM_SINGLE;
+    }
+
+    private static final BiFunction<LitePair<Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_PAIR = new BiFunction<LitePair<Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(LitePair<Object, Object> objects,
+                                                LiteQuintet<Object, Object, Object, Object, Object> objects2) {
+            return LiteSeptet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2(), objects2.getValue3(),
+                    objects2.getValue4());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> BiFunction<LitePair<A, B>, LiteQuintet<C, D, E, F, G>, LiteSeptet<A, B, C, D, E, F, G>> toSeptetFromPair() {
+        return (BiFunction) TO_SEPTET_FROM_PAIR;
+    }
+
+    private static final BiFunction<LiteTriplet<Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_TRIPLET = new BiFunction<LiteTriplet<Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(LiteTriplet<Object, Object, Object> objects,
+                                                LiteQuartet<Object, Object, Object, Object> objects2) {
+            return LiteSeptet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1(), objects2.getValue2(),
+                    objects2.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> BiFunction<LiteTriplet<A, B, C>, LiteQuartet<D, E, F, G>, LiteSeptet<A, B, C, D, E, F, G>> toSeptetFromTriplet() {
+        return (BiFunction) TO_SEPTET_FROM_TRIPLET;
+    }
+
+    private static final BiFunction<LiteQuartet<Object, Object, Object, Object>, LiteTriplet<Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_QUARTET = new BiFunction<LiteQuartet<Object, Object, Object, Object>, LiteTriplet<Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(LiteQuartet<Object, Object, Object, Object> objects,
+                                                LiteTriplet<Object, Object, Object> objects2) {
+            return LiteSeptet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects2.getValue0(), objects2.getValue1(),
+                    objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> BiFunction<LiteQuartet<A, B, C, D>, LiteTriplet<E, F, G>, LiteSeptet<A, B, C, D, E, F, G>> toSeptetFromQuartet() {
+        return (BiFunction) TO_SEPTET_FROM_QUARTET;
+    }
+
+    private static final BiFunction<LiteQuintet<Object, Object, Object, Object, Object>, LitePair<Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_QUINTET = new BiFunction<LiteQuintet<Object, Object, Object, Object, Object>, LitePair<Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(LiteQuintet<Object, Object, Object, Object, Object> objects,
+                                                LitePair<Object, Object> objects2) {
+            return LiteSeptet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects2.getValue0(),
+                    objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> BiFunction<LiteQuintet<A, B, C, D, E>, LitePair<F, G>, LiteSeptet<A, B, C, D, E, F, G>> toSeptetFromQuintet() {
+        return (BiFunction) TO_SEPTET_FROM_QUINTET;
+    }
+
+    private static final BiFunction<LiteSextet<Object, Object, Object, Object, Object, Object>, Object, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> TO_SEPTET_FROM_SEXTET = new BiFunction<LiteSextet<Object, Object, Object, Object, Object, Object>, Object, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(LiteSextet<Object, Object, Object, Object, Object, Object> objects, Object t) {
+            return LiteSeptet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, T> BiFunction<LiteSextet<A, B, C, D, E, F>, T, LiteSeptet<A, B, C, D, E, F, T>> toSeptetFromSextet() {
+        return (BiFunction) TO_SEPTET_FROM_SEXTET;
+    }
+
+    // endregion
+
+    // region Octet
+
+    private static final Function8<Object, Object, Object, Object, Object, Object, Object, Object, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET = new Function8<Object, Object, Object, Object, Object, Object, Object, Object, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Object a, Object b, Object c, Object d, Object e, Object f, Object g, Object h) {
+            return LiteOctet.with(a, b, c, d, e, f, g, h);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> Function8<A, B, C, D, E, F, G, H, LiteOctet<A, B, C, D, E, F, G, H>> toOctet() {
+        return (Function8) TO_OCTET;
+    }
+
+
+    private static final BiFunction<Object, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_SINGLE = new BiFunction<Object, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Object t, LiteSeptet<Object, Object, Object, Object, Object, Object, Object> objects) {
+            return LiteOctet.with(t, objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(),
+                    objects.getValue6());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, T> BiFunction<T, LiteSeptet<A, B, C, D, E, F, G>, LiteOctet<T, A, B, C, D, E, F, G>> toOctetFromSingle() {
+        return (BiFunction) TO_OCTET_FROM_SINGLE;
+    }
+
+    private static final BiFunction<LitePair<Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_PAIR = new BiFunction<LitePair<Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LitePair<Object, Object> objects,
+                                                  LiteSextet<Object, Object, Object, Object, Object, Object> objects2) {
+            return LiteOctet.with(objects.getValue0(), objects.getValue1(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2(), objects2.getValue3(),
+                    objects2.getValue4(), objects2.getValue5());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> BiFunction<LitePair<A, B>, LiteSextet<C, D, E, F, G, H>, LiteOctet<A, B, C, D, E, F, G, H>> toOctetFromPair() {
+        return (BiFunction) TO_OCTET_FROM_PAIR;
+    }
+
+    private static final BiFunction<LiteTriplet<Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_TRIPLET = new BiFunction<LiteTriplet<Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LiteTriplet<Object, Object, Object> objects,
+                                                  LiteQuintet<Object, Object, Object, Object, Object> objects2) {
+            return LiteOctet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects2.getValue0(), objects2.getValue1(), objects2.getValue2(),
+                    objects2.getValue3(), objects2.getValue4());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> BiFunction<LiteTriplet<A, B, C>, LiteQuintet<D, E, F, G, H>, LiteOctet<A, B, C, D, E, F, G, H>> toOctetFromTriplet() {
+        return (BiFunction) TO_OCTET_FROM_TRIPLET;
+    }
+
+    private static final BiFunction<LiteQuartet<Object, Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_QUARTET = new BiFunction<LiteQuartet<Object, Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LiteQuartet<Object, Object, Object, Object> objects,
+                                                  LiteQuartet<Object, Object, Object, Object> objects2) {
+            return LiteOctet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects2.getValue0(), objects2.getValue1(),
+                    objects2.getValue2(), objects2.getValue3());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> BiFunction<LiteQuartet<A, B, C, D>, LiteQuartet<E, F, G, H>, LiteOctet<A, B, C, D, E, F, G, H>> toOctetFromQuartet() {
+        return (BiFunction) TO_OCTET_FROM_QUARTET;
+    }
+
+    private static final BiFunction<LiteQuintet<Object, Object, Object, Object, Object>, LiteTriplet<Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_QUINTET = new BiFunction<LiteQuintet<Object, Object, Object, Object, Object>, LiteTriplet<Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LiteQuintet<Object, Object, Object, Object, Object> objects,
+                                                  LiteTriplet<Object, Object, Object> objects2) {
+            return LiteOctet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects2.getValue0(),
+                    objects2.getValue1(), objects2.getValue2());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> BiFunction<LiteQuintet<A, B, C, D, E>, LiteTriplet<F, G, H>, LiteOctet<A, B, C, D, E, F, G, H>> toOctetFromQuintet() {
+        return (BiFunction) TO_OCTET_FROM_QUINTET;
+    }
+
+    private static final BiFunction<LiteSextet<Object, Object, Object, Object, Object, Object>, LitePair<Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_SEXTET = new BiFunction<LiteSextet<Object, Object, Object, Object, Object, Object>, LitePair<Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LiteSextet<Object, Object, Object, Object, Object, Object> objects,
+                                                  LitePair<Object, Object> objects2) {
+            return LiteOctet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(),
+                    objects2.getValue0(), objects2.getValue1());
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> BiFunction<LiteSextet<A, B, C, D, E, F>, LitePair<G, H>, LiteOctet<A, B, C, D, E, F, G, H>> toOctetFromSextet() {
+        return (BiFunction) TO_OCTET_FROM_SEXTET;
+    }
+
+    private static final BiFunction<LiteSeptet<Object, Object, Object, Object, Object, Object, Object>, Object, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_OCTET_FROM_SEPTET = new BiFunction<LiteSeptet<Object, Object, Object, Object, Object, Object, Object>, Object, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LiteSeptet<Object, Object, Object, Object, Object, Object, Object> objects, Object t) {
+            return LiteOctet.with(objects.getValue0(), objects.getValue1(), objects.getValue2(),
+                    objects.getValue3(), objects.getValue4(), objects.getValue5(),
+                    objects.getValue6(), t);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, T> BiFunction<LiteSeptet<A, B, C, D, E, F, G>, T, LiteOctet<A, B, C, D, E, F, G, T>> toOctetFromSeptet() {
+        return (BiFunction) TO_OCTET_FROM_SEPTET;
+    }
+
+    // endregion
+
+    // region Conversions
+
+    private static final Function<Pair<Object, Object>, LitePair<Object, Object>> FROM_JAVA_PAIR = new Function<Pair<Object, Object>, LitePair<Object, Object>>() {
+        @Override
+        public LitePair<Object, Object> apply(Pair<Object, Object> tuple) {
+            return LitePair.from(tuple);
+        }
+    };
+
+    private static final Function<LitePair<Object, Object>, Pair<Object, Object>> TO_JAVA_PAIR = new Function<LitePair<Object, Object>, Pair<Object, Object>>() {
+        @Override
+        public Pair<Object, Object> apply(LitePair<Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> Function<Pair<A, B>, LitePair<A, B>> fromJavaPair() {
+        return (Function) FROM_JAVA_PAIR;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> Function<LitePair<A, B>, Pair<A, B>> toJavaPair() {
+        return (Function) TO_JAVA_PAIR;
+    }
+
+    private static final Function<Triplet<Object, Object, Object>, LiteTriplet<Object, Object, Object>> FROM_JAVA_TRIPLET = new Function<Triplet<Object, Object, Object>, LiteTriplet<Object, Object, Object>>() {
+        @Override
+        public LiteTriplet<Object, Object, Object> apply(Triplet<Object, Object, Object> tuple) {
+            return LiteTriplet.from(tuple);
+        }
+    };
+
+    private static final Function<LiteTriplet<Object, Object, Object>, Triplet<Object, Object, Object>> TO_JAVA_TRIPLET = new Function<LiteTriplet<Object, Object, Object>, Triplet<Object, Object, Object>>() {
+        @Override
+        public Triplet<Object, Object, Object> apply(LiteTriplet<Object, Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C> Function<Triplet<A, B, C>, LiteTriplet<A, B, C>> fromJavaTriplet() {
+        return (Function) FROM_JAVA_TRIPLET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C> Function<LiteTriplet<A, B, C>, Triplet<A, B, C>> toJavaTriplet() {
+        return (Function) TO_JAVA_TRIPLET;
+    }
+
+    private static final Function<Quartet<Object, Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>> FROM_JAVA_QUARTET = new Function<Quartet<Object, Object, Object, Object>, LiteQuartet<Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuartet<Object, Object, Object, Object> apply(Quartet<Object, Object, Object, Object> tuple) {
+            return LiteQuartet.from(tuple);
+        }
+    };
+
+    private static final Function<LiteQuartet<Object, Object, Object, Object>, Quartet<Object, Object, Object, Object>> TO_JAVA_QUARTET = new Function<LiteQuartet<Object, Object, Object, Object>, Quartet<Object, Object, Object, Object>>() {
+        @Override
+        public Quartet<Object, Object, Object, Object> apply(LiteQuartet<Object, Object, Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> Function<Quartet<A, B, C, D>, LiteQuartet<A, B, C, D>> fromJavaQuartet() {
+        return (Function) FROM_JAVA_QUARTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> Function<LiteQuartet<A, B, C, D>, Quartet<A, B, C, D>> toJavaQuartet() {
+        return (Function) TO_JAVA_QUARTET;
+    }
+
+    private static final Function<Quintet<Object, Object, Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>> FROM_JAVA_QUINTET = new Function<Quintet<Object, Object, Object, Object, Object>, LiteQuintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteQuintet<Object, Object, Object, Object, Object> apply(Quintet<Object, Object, Object, Object, Object> tuple) {
+            return LiteQuintet.from(tuple);
+        }
+    };
+
+    private static final Function<LiteQuintet<Object, Object, Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>> TO_JAVA_QUINTET = new Function<LiteQuintet<Object, Object, Object, Object, Object>, Quintet<Object, Object, Object, Object, Object>>() {
+        @Override
+        public Quintet<Object, Object, Object, Object, Object> apply(LiteQuintet<Object, Object, Object, Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> Function<Quintet<A, B, C, D, E>, LiteQuintet<A, B, C, D, E>> fromJavaQuintet() {
+        return (Function) FROM_JAVA_QUINTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> Function<LiteQuintet<A, B, C, D, E>, Quintet<A, B, C, D, E>> toJavaQuintet() {
+        return (Function) TO_JAVA_QUINTET;
+    }
+
+    private static final Function<Sextet<Object, Object, Object, Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>> FROM_JAVA_SEXTET = new Function<Sextet<Object, Object, Object, Object, Object, Object>, LiteSextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSextet<Object, Object, Object, Object, Object, Object> apply(Sextet<Object, Object, Object, Object, Object, Object> tuple) {
+            return LiteSextet.from(tuple);
+        }
+    };
+
+    private static final Function<LiteSextet<Object, Object, Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>> TO_JAVA_SEXTET = new Function<LiteSextet<Object, Object, Object, Object, Object, Object>, Sextet<Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Sextet<Object, Object, Object, Object, Object, Object> apply(LiteSextet<Object, Object, Object, Object, Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> Function<Sextet<A, B, C, D, E, F>, LiteSextet<A, B, C, D, E, F>> fromJavaSextet() {
+        return (Function) FROM_JAVA_SEXTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> Function<LiteSextet<A, B, C, D, E, F>, Sextet<A, B, C, D, E, F>> toJavaSextet() {
+        return (Function) TO_JAVA_SEXTET;
+    }
+
+    private static final Function<Septet<Object, Object, Object, Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>> FROM_JAVA_SEPTET = new Function<Septet<Object, Object, Object, Object, Object, Object, Object>, LiteSeptet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteSeptet<Object, Object, Object, Object, Object, Object, Object> apply(Septet<Object, Object, Object, Object, Object, Object, Object> tuple) {
+            return LiteSeptet.from(tuple);
+        }
+    };
+
+    private static final Function<LiteSeptet<Object, Object, Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>> TO_JAVA_SEPTET = new Function<LiteSeptet<Object, Object, Object, Object, Object, Object, Object>, Septet<Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Septet<Object, Object, Object, Object, Object, Object, Object> apply(LiteSeptet<Object, Object, Object, Object, Object, Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> Function<Septet<A, B, C, D, E, F, G>, LiteSeptet<A, B, C, D, E, F, G>> fromJavaSeptet() {
+        return (Function) FROM_JAVA_SEPTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> Function<LiteSeptet<A, B, C, D, E, F, G>, Septet<A, B, C, D, E, F, G>> toJavaSeptet() {
+        return (Function) TO_JAVA_SEPTET;
+    }
+
+    private static final Function<Octet<Object, Object, Object, Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>> FROM_JAVA_OCTET = new Function<Octet<Object, Object, Object, Object, Object, Object, Object, Object>, LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> apply(Octet<Object, Object, Object, Object, Object, Object, Object, Object> tuple) {
+            return LiteOctet.from(tuple);
+        }
+    };
+
+    private static final Function<LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>> TO_JAVA_OCTET = new Function<LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object>, Octet<Object, Object, Object, Object, Object, Object, Object, Object>>() {
+        @Override
+        public Octet<Object, Object, Object, Object, Object, Object, Object, Object> apply(LiteOctet<Object, Object, Object, Object, Object, Object, Object, Object> tuple) {
+            return tuple.toTuple();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> Function<Octet<A, B, C, D, E, F, G, H>, LiteOctet<A, B, C, D, E, F, G, H>> fromJavaOctet() {
+        return (Function) FROM_JAVA_OCTET;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> Function<LiteOctet<A, B, C, D, E, F, G, H>, Octet<A, B, C, D, E, F, G, H>> toJavaOctet() {
+        return (Function) TO_JAVA_OCTET;
+    }
+
+    // endregion
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.lite;
+
+/**
+ * Null-safe slot helpers shared by the tuple implementations
+ *
+ * @author pakoito
+ */
+final class Slots {
+    private Slots() {
+        // No instances
+    }
+
+    static boolean equal(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    static int hash(Object value) {
+        return value == null ? 0 : value.hashCode();
+    }
+
+    /**
+     * Nulls go first, any other slot must be {@link Comparable} against its counterpart.
+     */
+    @SuppressWarnings("unchecked")
+    static int compare(Object a, Object b) {
+        if (a == b) {
+            return 0;
+        } else if (a == null) {
+            return -1;
+        } else if (b == null) {
+            return 1;
+        }
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+}
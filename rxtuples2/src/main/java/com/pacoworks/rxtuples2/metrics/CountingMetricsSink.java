@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.metrics;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sink keeping invocation and tuple counts plus a latency histogram per call site. The histogram
+ * has one bucket per power of two: bucket {@code i} counts latencies below {@code 2^i}
+ * nanoseconds that did not fit bucket {@code i - 1}.
+ *
+ * @author pakoito
+ */
+public final class CountingMetricsSink implements TupleMetricsSink {
+    static final int BUCKETS = 64;
+
+    private final ConcurrentMap<String, Site> sites = new ConcurrentHashMap<String, Site>();
+
+    @Override
+    public void record(String site, long latencyNanos, boolean allocatedTuple) {
+        Site s = sites.get(site);
+        if (s == null) {
+            final Site created = new Site();
+            s = sites.putIfAbsent(site, created);
+            if (s == null) {
+                s = created;
+            }
+        }
+        s.invocations.incrementAndGet();
+        if (allocatedTuple) {
+            s.allocations.incrementAndGet();
+        }
+        s.latencies.incrementAndGet(bucket(latencyNanos));
+    }
+
+    public Set<String> sites() {
+        return Collections.unmodifiableSet(sites.keySet());
+    }
+
+    public long invocations(String site) {
+        final Site s = sites.get(site);
+        return s == null ? 0L : s.invocations.get();
+    }
+
+    public long allocations(String site) {
+        final Site s = sites.get(site);
+        return s == null ? 0L : s.allocations.get();
+    }
+
+    /**
+     * @return a copy of the latency histogram of site, all zeroes if it has no records
+     */
+    public long[] latencyHistogram(String site) {
+        final long[] histogram = new long[BUCKETS];
+        final Site s = sites.get(site);
+        if (s != null) {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = s.latencies.get(i);
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * @return upper bound in nanoseconds of the bucket holding the given percentile, 0 if site has
+     *         no records
+     */
+    public long latencyPercentile(String site, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile in [0, 100] required but it was "
+                    + percentile);
+        }
+        final long[] histogram = latencyHistogram(site);
+        long total = 0L;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long)Math.ceil(total * percentile / 100));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reset() {
+        sites.clear();
+    }
+
+    static int bucket(long latencyNanos) {
+        if (latencyNanos <= 0L) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(latencyNanos));
+    }
+
+    static final class Site {
+        final AtomicLong invocations = new AtomicLong();
+
+        final AtomicLong allocations = new AtomicLong();
+
+        final AtomicLongArray latencies = new AtomicLongArray(BUCKETS);
+    }
+}
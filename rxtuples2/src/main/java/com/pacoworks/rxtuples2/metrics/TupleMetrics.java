@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.metrics;
+
+import io.reactivex.internal.functions.ObjectHelper;
+
+/**
+ * Global switch for tuple function instrumentation. Metrics are disabled until a sink is installed.
+ * <p>
+ * {@code RxTuples.instrumented()} decides when it is called: with metrics disabled it returns the
+ * function it was given, so call sites assembled before {@link #install(TupleMetricsSink)} are
+ * never measured and cost nothing.
+ *
+ * @author pakoito
+ */
+public final class TupleMetrics {
+    /**
+     * Sink that drops every record, installed by default
+     */
+    public static final TupleMetricsSink NOOP = new TupleMetricsSink() {
+        @Override
+        public void record(String site, long latencyNanos, boolean allocatedTuple) {
+            // No-op
+        }
+    };
+
+    private static volatile TupleMetricsSink sink = NOOP;
+
+    private TupleMetrics() {
+        // No instances
+    }
+
+    public static void install(TupleMetricsSink sink) {
+        TupleMetrics.sink = ObjectHelper.requireNonNull(sink, "sink is null");
+    }
+
+    /**
+     * Restores {@link #NOOP}. Functions already instrumented keep calling it.
+     */
+    public static void uninstall() {
+        sink = NOOP;
+    }
+
+    public static boolean isEnabled() {
+        return sink != NOOP;
+    }
+
+    public static TupleMetricsSink sink() {
+        return sink;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.metrics;
+
+/**
+ * Receives one call per invocation of an instrumented tuple function. Called on the thread applying
+ * the function, so implementations must be thread-safe and cheap.
+ *
+ * @author pakoito
+ * @see TupleMetrics#install(TupleMetricsSink)
+ */
+public interface TupleMetricsSink {
+    /**
+     * @param site name given to {@code RxTuples.instrumented()}
+     * @param latencyNanos time spent inside the wrapped function
+     * @param allocatedTuple whether the function returned a tuple
+     */
+    void record(String site, long latencyNanos, boolean allocatedTuple);
+}
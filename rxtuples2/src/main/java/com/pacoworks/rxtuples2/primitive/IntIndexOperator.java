@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.primitive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.pacoworks.rxtuples2.TupleTransformer;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableOperator;
+import io.reactivex.Observable;
+import io.reactivex.ObservableOperator;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+
+/**
+ * Pairs every element with its int position in the sequence, counting per subscription
+ *
+ * @author pakoito
+ */
+final class IntIndexOperator<T> implements TupleTransformer<T, IntObjPair<T>>,
+        ObservableOperator<IntObjPair<T>, T>, FlowableOperator<IntObjPair<T>, T> {
+    static final IntIndexOperator<Object> INSTANCE = new IntIndexOperator<Object>();
+
+    @Override
+    public ObservableSource<IntObjPair<T>> apply(Observable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Publisher<IntObjPair<T>> apply(Flowable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Observer<? super T> apply(Observer<? super IntObjPair<T>> observer) {
+        return new IndexObserver<T>(observer);
+    }
+
+    @Override
+    public Subscriber<? super T> apply(Subscriber<? super IntObjPair<T>> subscriber) {
+        return new IndexSubscriber<T>(subscriber);
+    }
+
+    static final class IndexObserver<T> implements Observer<T>, Disposable {
+        private final Observer<? super IntObjPair<T>> actual;
+
+        private Disposable d;
+
+        private int index;
+
+        IndexObserver(Observer<? super IntObjPair<T>> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(this.d, d)) {
+                this.d = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            actual.onNext(IntObjPair.with(index++, t));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            d.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return d.isDisposed();
+        }
+    }
+
+    static final class IndexSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super IntObjPair<T>> actual;
+
+        private Subscription s;
+
+        private int index;
+
+        IndexSubscriber(Subscriber<? super IntObjPair<T>> actual) {
+            this.actual = actual;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            actual.onNext(IntObjPair.with(index++, t));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.primitive;
+
+import java.io.Serializable;
+
+import org.javatuples.Pair;
+
+/**
+ * Pair of a primitive int and an object stored without boxing
+ *
+ * @author pakoito
+ */
+public final class IntObjPair<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int value0;
+
+    private final T value1;
+
+    private IntObjPair(int value0, T value1) {
+        this.value0 = value0;
+        this.value1 = value1;
+    }
+
+    public static <T> IntObjPair<T> with(int value0, T value1) {
+        return new IntObjPair<T>(value0, value1);
+    }
+
+    public int getValue0() {
+        return value0;
+    }
+
+    public T getValue1() {
+        return value1;
+    }
+
+    /**
+     * Boxes both slots into a javatuples {@link Pair}
+     */
+    public Pair<Integer, T> toTuple() {
+        return Pair.<Integer, T> with(value0, value1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntObjPair)) {
+            return false;
+        }
+        final IntObjPair<?> other = (IntObjPair<?>)o;
+        return value0 == other.value0
+                && (value1 == null ? other.value1 == null : value1.equals(other.value1));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * value0 + (value1 == null ? 0 : value1.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "[" + value0 + ", " + value1 + "]";
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.primitive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.pacoworks.rxtuples2.TupleTransformer;
+
+import io.reactivex.Flowable;
+import io.reactivex.FlowableOperator;
+import io.reactivex.Observable;
+import io.reactivex.ObservableOperator;
+import io.reactivex.ObservableSource;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.DisposableHelper;
+import io.reactivex.internal.subscriptions.SubscriptionHelper;
+
+/**
+ * Pairs every element with either its long position in the sequence, counting per subscription,
+ * or the {@link System#nanoTime()} at which it was received
+ *
+ * @author pakoito
+ */
+final class LongStampOperator<T> implements TupleTransformer<T, LongObjPair<T>>,
+        ObservableOperator<LongObjPair<T>, T>, FlowableOperator<LongObjPair<T>, T> {
+    static final LongStampOperator<Object> INDEX = new LongStampOperator<Object>(false);
+
+    static final LongStampOperator<Object> NANO_TIME = new LongStampOperator<Object>(true);
+
+    private final boolean nanoTime;
+
+    private LongStampOperator(boolean nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public ObservableSource<LongObjPair<T>> apply(Observable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Publisher<LongObjPair<T>> apply(Flowable<T> upstream) {
+        return upstream.lift(this);
+    }
+
+    @Override
+    public Observer<? super T> apply(Observer<? super LongObjPair<T>> observer) {
+        return new StampObserver<T>(observer, nanoTime);
+    }
+
+    @Override
+    public Subscriber<? super T> apply(Subscriber<? super LongObjPair<T>> subscriber) {
+        return new StampSubscriber<T>(subscriber, nanoTime);
+    }
+
+    static final class StampObserver<T> implements Observer<T>, Disposable {
+        private final Observer<? super LongObjPair<T>> actual;
+
+        private final boolean nanoTime;
+
+        private Disposable d;
+
+        private long index;
+
+        StampObserver(Observer<? super LongObjPair<T>> actual, boolean nanoTime) {
+            this.actual = actual;
+            this.nanoTime = nanoTime;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (DisposableHelper.validate(this.d, d)) {
+                this.d = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            actual.onNext(LongObjPair.with(nanoTime ? System.nanoTime() : index++, t));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            d.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return d.isDisposed();
+        }
+    }
+
+    static final class StampSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super LongObjPair<T>> actual;
+
+        private final boolean nanoTime;
+
+        private Subscription s;
+
+        private long index;
+
+        StampSubscriber(Subscriber<? super LongObjPair<T>> actual, boolean nanoTime) {
+            this.actual = actual;
+            this.nanoTime = nanoTime;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (SubscriptionHelper.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            actual.onNext(LongObjPair.with(nanoTime ? System.nanoTime() : index++, t));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            s.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+}
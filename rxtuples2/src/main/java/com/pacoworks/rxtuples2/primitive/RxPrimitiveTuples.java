@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.primitive;
+
+import com.pacoworks.rxtuples2.TupleTransformer;
+
+import io.reactivex.functions.BiFunction;
+
+/**
+ * Helper class to create pairs holding primitive slots without boxing them
+ * <p>
+ * The factories unbox the values a zip already boxed. The transformers never box, use them to pair
+ * a stream with its index or a timestamp instead of zipping it against a range or a clock.
+ * <p>
+ * Every factory and transformer is a shared stateless instance.
+ *
+ * @author pakoito
+ */
+public final class RxPrimitiveTuples {
+    private RxPrimitiveTuples() {
+        // No instances
+    }
+
+    // region Factories
+
+    private static final BiFunction<Integer, Integer, IntIntPair> TO_INT_INT_PAIR = new BiFunction<Integer, Integer, IntIntPair>() {
+        @Override
+        public IntIntPair apply(Integer t, Integer t2) {
+            return IntIntPair.with(t, t2);
+        }
+    };
+
+    private static final BiFunction<Long, Long, LongLongPair> TO_LONG_LONG_PAIR = new BiFunction<Long, Long, LongLongPair>() {
+        @Override
+        public LongLongPair apply(Long t, Long t2) {
+            return LongLongPair.with(t, t2);
+        }
+    };
+
+    private static final BiFunction<Long, Double, LongDoublePair> TO_LONG_DOUBLE_PAIR = new BiFunction<Long, Double, LongDoublePair>() {
+        @Override
+        public LongDoublePair apply(Long t, Double t2) {
+            return LongDoublePair.with(t, t2);
+        }
+    };
+
+    private static final BiFunction<Integer, Object, IntObjPair<Object>> TO_INT_OBJ_PAIR = new BiFunction<Integer, Object, IntObjPair<Object>>() {
+        @Override
+        public IntObjPair<Object> apply(Integer t, Object t2) {
+            return IntObjPair.with(t, t2);
+        }
+    };
+
+    private static final BiFunction<Long, Object, LongObjPair<Object>> TO_LONG_OBJ_PAIR = new BiFunction<Long, Object, LongObjPair<Object>>() {
+        @Override
+        public LongObjPair<Object> apply(Long t, Object t2) {
+            return LongObjPair.with(t, t2);
+        }
+    };
+
+    public static BiFunction<Integer, Integer, IntIntPair> toIntIntPair() {
+        return TO_INT_INT_PAIR;
+    }
+
+    public static BiFunction<Long, Long, LongLongPair> toLongLongPair() {
+        return TO_LONG_LONG_PAIR;
+    }
+
+    public static BiFunction<Long, Double, LongDoublePair> toLongDoublePair() {
+        return TO_LONG_DOUBLE_PAIR;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BiFunction<Integer, T, IntObjPair<T>> toIntObjPair() {
+        return (BiFunction) TO_INT_OBJ_PAIR;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BiFunction<Long, T, LongObjPair<T>> toLongObjPair() {
+        return (BiFunction) TO_LONG_OBJ_PAIR;
+    }
+
+    // endregion
+
+    // region Transformers
+
+    /**
+     * Pairs each element with its position, starting from 0 on every subscription.
+     * <p>
+     * Replaces {@code zip(source, Observable.range(0, size), RxTuples.toPair())}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, IntObjPair<T>> withIndex() {
+        return (TupleTransformer) IntIndexOperator.INSTANCE;
+    }
+
+    /**
+     * Same as {@link #withIndex()} for sequences longer than {@link Integer#MAX_VALUE}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, LongObjPair<T>> withLongIndex() {
+        return (TupleTransformer) LongStampOperator.INDEX;
+    }
+
+    /**
+     * Pairs each element with the {@link System#nanoTime()} at which it was received
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TupleTransformer<T, LongObjPair<T>> withNanoTime() {
+        return (TupleTransformer) LongStampOperator.NANO_TIME;
+    }
+
+    // endregion
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Java 9+ version of the lock-free latest value per source, loaded from the multi-release jar.
+ * Writers publish with release stores and readers take acquire loads on a plain array. That is
+ * all the ordering the combineLatest drain needs, but on x86 and ARMv8 it compiles to the same
+ * instructions as the lazySet and volatile reads of the AtomicReferenceArray version, so it is
+ * not expected to be faster there.
+ *
+ * @author pakoito
+ */
+final class LatestSlots {
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] values;
+
+    LatestSlots(int size) {
+        this.values = new Object[size];
+    }
+
+    void set(int index, Object value) {
+        SLOTS.setRelease(values, index, value);
+    }
+
+    Object get(int index) {
+        return SLOTS.getAcquire(values, index);
+    }
+
+    /**
+     * Copies the current values into a scratch row for a {@link TupleBuilder}
+     */
+    void copyTo(Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            row[i] = SLOTS.getAcquire(values, i);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < values.length; i++) {
+            SLOTS.setRelease(values, i, null);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.javatuples.Tuple;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class ColumnBatchTest {
+    private static final Flowable<Triplet<Long, Double, String>> TRIPLETS = Flowable.just(
+            Triplet.with(1L, 1.5, "a"), Triplet.with(2L, 2.5, "b"), Triplet.with(3L, 3.5, "c"));
+
+    @Test
+    public void testToColumns() throws Exception {
+        final List<ColumnBatch> batches = TRIPLETS.compose(
+                RxTuples.<Triplet<Long, Double, String>> toColumns(2, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT)).toList().blockingGet();
+        Assert.assertEquals(2, batches.size());
+        final ColumnBatch first = batches.get(0);
+        Assert.assertEquals(2, first.size());
+        Assert.assertEquals(3, first.arity());
+        Assert.assertEquals(2L, first.longs(0)[1]);
+        Assert.assertEquals(1.5, first.doubles(1)[0], 0.0);
+        Assert.assertEquals("b", first.objects(2)[1]);
+        Assert.assertEquals(1, batches.get(1).size());
+        Assert.assertEquals(Triplet.with(3L, 3.5, "c"), batches.get(1).row(0));
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        final TestSubscriber<ColumnBatch> subscriber = TRIPLETS.compose(
+                RxTuples.<Triplet<Long, Double, String>> toColumns(2, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT)).test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(1);
+        subscriber.assertValueCount(1).assertNotComplete();
+        Assert.assertEquals(2, subscriber.values().get(0).size());
+        subscriber.requestMore(1);
+        subscriber.assertValueCount(2).assertComplete();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Assert.assertEquals(TRIPLETS.toList().blockingGet(), TRIPLETS
+                .compose(RxTuples.<Triplet<Long, Double, String>> toColumns(2, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT))
+                .compose(RxTuples.<Tuple> fromColumns()).toList().blockingGet());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        final TestScheduler scheduler = new TestScheduler();
+        final PublishProcessor<Pair<Integer, Integer>> source = PublishProcessor.create();
+        final TestSubscriber<ColumnBatch> subscriber = source.compose(
+                RxTuples.<Pair<Integer, Integer>> toColumns(10, 1, TimeUnit.SECONDS, scheduler,
+                        ColumnType.INT, ColumnType.INT)).test();
+        source.onNext(Pair.with(1, 2));
+        subscriber.assertNoValues();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        subscriber.assertValueCount(1);
+        Assert.assertEquals(2, subscriber.values().get(0).ints(1)[0]);
+        scheduler.advanceTimeBy(5, TimeUnit.SECONDS);
+        subscriber.assertValueCount(1);
+    }
+
+    @Test
+    public void testFullBatchRestartsTimeout() throws Exception {
+        final TestScheduler scheduler = new TestScheduler();
+        final PublishProcessor<Pair<Integer, Integer>> source = PublishProcessor.create();
+        final TestSubscriber<ColumnBatch> subscriber = source.compose(
+                RxTuples.<Pair<Integer, Integer>> toColumns(2, 1, TimeUnit.SECONDS, scheduler,
+                        ColumnType.INT, ColumnType.INT)).test();
+        scheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS);
+        source.onNext(Pair.with(1, 2));
+        source.onNext(Pair.with(3, 4));
+        source.onNext(Pair.with(5, 6));
+        subscriber.assertValueCount(1);
+        scheduler.advanceTimeBy(600, TimeUnit.MILLISECONDS);
+        subscriber.assertValueCount(1);
+        scheduler.advanceTimeBy(400, TimeUnit.MILLISECONDS);
+        subscriber.assertValueCount(2);
+        source.onComplete();
+        subscriber.assertValueCount(2).assertComplete();
+        Assert.assertEquals(5, subscriber.values().get(1).ints(0)[0]);
+    }
+
+    @Test
+    public void testFilterColumns() throws Exception {
+        final List<Tuple> rows = TRIPLETS
+                .compose(RxTuples.<Triplet<Long, Double, String>> toColumns(3, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT))
+                .compose(RxTuples.filterColumns(new ColumnPredicate() {
+                    @Override
+                    public void test(ColumnBatch batch, boolean[] keep) {
+                        final double[] values = batch.doubles(1);
+                        for (int i = 0; i < batch.size(); i++) {
+                            keep[i] = values[i] > 2.0;
+                        }
+                    }
+                })).compose(RxTuples.selectColumns(2, 0)).compose(RxTuples.<Tuple> fromColumns())
+                .toList().blockingGet();
+        Assert.assertEquals(2, rows.size());
+        Assert.assertEquals(Pair.with("b", 2L), rows.get(0));
+        Assert.assertEquals(Pair.with("c", 3L), rows.get(1));
+    }
+
+    @Test
+    public void testWithColumn() throws Exception {
+        final ColumnBatch batch = TRIPLETS
+                .compose(RxTuples.<Triplet<Long, Double, String>> toColumns(3, ColumnType.LONG,
+                        ColumnType.DOUBLE, ColumnType.OBJECT)).blockingFirst();
+        final double[] doubled = new double[batch.size()];
+        for (int i = 0; i < doubled.length; i++) {
+            doubled[i] = batch.doubles(1)[i] * 2;
+        }
+        Assert.assertEquals(Triplet.with(1L, 3.0, "a"), batch.withColumn(1, doubled).row(0));
+        Assert.assertEquals(4, batch.withColumn(3, doubled).arity());
+    }
+
+    @Test
+    public void testWrongType() throws Exception {
+        Flowable.just(Pair.with(1, "a"))
+                .compose(RxTuples.<Pair<Integer, String>> toColumns(2, ColumnType.INT,
+                        ColumnType.INT)).test().assertFailure(ClassCastException.class);
+        Flowable.just(Pair.with(1, 2))
+                .compose(RxTuples.<Pair<Integer, Integer>> toColumns(2, ColumnType.INT,
+                        ColumnType.INT, ColumnType.INT)).test()
+                .assertFailure(IllegalArgumentException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongColumn() throws Exception {
+        TRIPLETS.compose(RxTuples.<Triplet<Long, Double, String>> toColumns(3, ColumnType.LONG,
+                ColumnType.DOUBLE, ColumnType.OBJECT)).blockingFirst().ints(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() throws Exception {
+        RxTuples.toColumns(0, ColumnType.INT, ColumnType.INT);
+    }
+}
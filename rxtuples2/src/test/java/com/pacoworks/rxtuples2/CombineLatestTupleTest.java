@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class CombineLatestTupleTest {
+    private static final Observable<Integer> RANGE = Observable.range(1, 10);
+
+    private static final Flowable<Integer> FLOWABLE_RANGE = Flowable.range(1, 10);
+
+    private static final TupleBuilder<Object> FAILING = new TupleBuilder<Object>() {
+        @Override
+        public Object build(Object[] values) throws Exception {
+            throw new IllegalStateException();
+        }
+    };
+
+    @Test
+    public void testObservableMatchesCombineLatest() throws Exception {
+        Assert.assertEquals(
+                Observable.combineLatest(RANGE, RANGE, RANGE,
+                        RxTuples.<Integer, Integer, Integer> toTriplet()).toList().blockingGet(),
+                RxTuples.combineLatestToTriplet(RANGE, RANGE, RANGE).toList().blockingGet());
+    }
+
+    @Test
+    public void testObservableInterleaved() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<String> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, String>> observer = RxTuples.combineLatestToPair(first,
+                second).test();
+        first.onNext(1);
+        first.onNext(2);
+        observer.assertNoValues();
+        second.onNext("a");
+        first.onNext(3);
+        second.onNext("b");
+        first.onComplete();
+        observer.assertValues(Pair.with(2, "a"), Pair.with(3, "a"), Pair.with(3, "b"))
+                .assertNotComplete();
+        second.onComplete();
+        observer.assertComplete();
+    }
+
+    @Test
+    public void testObservableEmptySourceCompletes() throws Exception {
+        RxTuples.combineLatestToPair(Observable.<Integer> empty(), Observable.<String> never())
+                .test().assertResult();
+    }
+
+    @Test
+    public void testObservableErrorDisposesSiblings() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.combineLatestToPair(first,
+                second, true).test();
+        first.onNext(1);
+        second.onNext(2);
+        first.onError(new IllegalStateException());
+        observer.assertFailure(IllegalStateException.class, Pair.with(1, 2));
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testObservableDispose() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.combineLatestToPair(first,
+                second).test();
+        observer.dispose();
+        Assert.assertFalse(first.hasObservers());
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testFlowableMatchesCombineLatest() throws Exception {
+        Assert.assertEquals(
+                Flowable.combineLatest(FLOWABLE_RANGE, FLOWABLE_RANGE,
+                        RxTuples.<Integer, Integer> toPair()).toList().blockingGet(),
+                RxTuples.combineLatestToPair(FLOWABLE_RANGE, FLOWABLE_RANGE).toList()
+                        .blockingGet());
+    }
+
+    @Test
+    public void testFlowableBackpressure() throws Exception {
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples
+                .combineLatestToPair(Flowable.just(0), Flowable.range(1, 10000)).test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(2);
+        subscriber.assertValues(Pair.with(0, 1), Pair.with(0, 2)).assertNotComplete();
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertValueCount(10000).assertComplete();
+    }
+
+    @Test
+    public void testFlowableConflate() throws Exception {
+        final PublishProcessor<Integer> first = PublishProcessor.create();
+        final PublishProcessor<String> second = PublishProcessor.create();
+        final TestSubscriber<Pair<Integer, String>> subscriber = RxTuples.combineLatestToPair(
+                first, second, true).test(0);
+        first.onNext(1);
+        second.onNext("a");
+        first.onNext(2);
+        second.onNext("b");
+        subscriber.assertNoValues();
+        subscriber.requestMore(5);
+        subscriber.assertValues(Pair.with(2, "b"));
+        first.onNext(3);
+        first.onComplete();
+        second.onComplete();
+        subscriber.assertResult(Pair.with(2, "b"), Pair.with(3, "b"));
+    }
+
+    @Test
+    public void testFlowableErrorCancelsSiblings() throws Exception {
+        final PublishProcessor<Integer> first = PublishProcessor.create();
+        final PublishProcessor<Integer> second = PublishProcessor.create();
+        final TestSubscriber<Triplet<Integer, Integer, Integer>> subscriber = RxTuples
+                .combineLatestToTriplet(first, second, Flowable.just(0)).test();
+        second.onError(new IllegalStateException());
+        subscriber.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(first.hasSubscribers());
+    }
+
+    @Test
+    public void testObservableBuilderErrorWithSilentSources() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Object> observer = new ObservableCombineLatestTuple<Object>(
+                new Observable<?>[] {
+                        first, second
+                }, FAILING, false).test();
+        first.onNext(1);
+        second.onNext(2);
+        observer.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(first.hasObservers());
+    }
+
+    @Test
+    public void testFlowableBuilderErrorWithSilentSources() throws Exception {
+        final PublishProcessor<Integer> first = PublishProcessor.create();
+        final PublishProcessor<Integer> second = PublishProcessor.create();
+        final TestSubscriber<Object> subscriber = new FlowableCombineLatestTuple<Object>(
+                new Flowable<?>[] {
+                        first, second
+                }, FAILING, Flowable.bufferSize(), false).test();
+        first.onNext(1);
+        second.onNext(2);
+        subscriber.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(first.hasSubscribers());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSource() throws Exception {
+        RxTuples.combineLatestToPair(RANGE, (Observable<Integer>)null);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatestEventsTest {
+    @Test
+    public void testEventsInOfferOrder() throws Exception {
+        final LatestEvents events = new LatestEvents();
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertNull(events.poll());
+        events.offer(1, "a");
+        events.offer(0, "b");
+        Assert.assertFalse(events.isEmpty());
+        Assert.assertEquals(1, events.peek().index);
+        LatestEvents.Node event = events.poll();
+        Assert.assertEquals(1, event.index);
+        Assert.assertEquals("a", event.value);
+        event = events.poll();
+        Assert.assertEquals(0, event.index);
+        Assert.assertEquals("b", event.value);
+        Assert.assertNull(events.poll());
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        final LatestEvents events = new LatestEvents();
+        events.offer(0, "a");
+        events.offer(0, "b");
+        events.clear();
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertNull(events.poll());
+    }
+}
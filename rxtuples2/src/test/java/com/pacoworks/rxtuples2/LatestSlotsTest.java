@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatestSlotsTest {
+    @Test
+    public void testSetCopyClear() throws Exception {
+        final LatestSlots slots = new LatestSlots(3);
+        slots.set(0, "a");
+        slots.set(2, 1);
+        Assert.assertEquals("a", slots.get(0));
+        Assert.assertNull(slots.get(1));
+        final Object[] row = new Object[3];
+        slots.copyTo(row);
+        Assert.assertArrayEquals(new Object[] {
+                "a", null, 1
+        }, row);
+        slots.clear();
+        slots.copyTo(row);
+        Assert.assertArrayEquals(new Object[3], row);
+    }
+
+    @Test
+    public void testVersionedClassLoaded() throws Exception {
+        final String location = LatestSlots.class.getResource("LatestSlots.class").toString();
+        Assert.assertEquals(location, Boolean.getBoolean("rxtuples2.multiRelease"),
+                location.contains("META-INF/versions/9/"));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Observable;
+import io.reactivex.functions.Function;
+import io.reactivex.functions.Predicate;
+
+public class LazyTupleTest {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Function<Integer, String> name = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer i) throws Exception {
+            calls.incrementAndGet();
+            return "n" + i;
+        }
+    };
+
+    private final Function<Integer, Integer> square = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) throws Exception {
+            calls.incrementAndGet();
+            return i * i;
+        }
+    };
+
+    @Test
+    public void testSlotsComputedOnFirstRead() throws Exception {
+        final LazyTriplet<Integer, String, Integer> triplet = RxTuples.toLazyTriplet(name, square)
+                .apply(3);
+        Assert.assertEquals(Integer.valueOf(3), triplet.getValue0());
+        Assert.assertEquals(0, calls.get());
+        Assert.assertEquals(Integer.valueOf(9), triplet.getValue2());
+        Assert.assertEquals(Integer.valueOf(9), triplet.getValue2());
+        Assert.assertEquals(1, calls.get());
+        Assert.assertTrue(triplet.isEvaluated(2));
+        Assert.assertFalse(triplet.isEvaluated(1));
+    }
+
+    @Test
+    public void testFilteredSlotsNeverComputed() throws Exception {
+        final List<LazyPair<Integer, String>> pairs = Observable.range(1, 100)
+                .map(RxTuples.toLazyPair(name))
+                .filter(new Predicate<LazyPair<Integer, String>>() {
+                    @Override
+                    public boolean test(LazyPair<Integer, String> pair) throws Exception {
+                        return pair.getValue0() % 10 == 0;
+                    }
+                }).toList().blockingGet();
+        Assert.assertEquals(10, pairs.size());
+        Assert.assertEquals(0, calls.get());
+        Assert.assertEquals("n100", pairs.get(9).getValue1());
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testToTuple() throws Exception {
+        Assert.assertEquals(Triplet.with(2, "n2", 4), RxTuples.toLazyTriplet(name, square)
+                .apply(2).toTuple());
+    }
+
+    @Test
+    public void testFromPair() throws Exception {
+        final LazyTriplet<Integer, String, String> triplet = RxTuples.toLazyTripletFromPair(
+                new Function<Pair<Integer, String>, String>() {
+                    @Override
+                    public String apply(Pair<Integer, String> pair) throws Exception {
+                        return pair.getValue1() + pair.getValue0();
+                    }
+                }).apply(Pair.with(1, "a"));
+        Assert.assertTrue(triplet.isEvaluated(1));
+        Assert.assertFalse(triplet.isEvaluated(2));
+        Assert.assertEquals(Triplet.with(1, "a", "a1"), triplet.toTuple());
+    }
+
+    @Test
+    public void testComputedOnceAcrossThreads() throws Exception {
+        final LazyPair<Integer, String> pair = RxTuples.toLazyPair(name).apply(1);
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    pair.getValue1();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testFailedSlotRetried() throws Exception {
+        final LazyPair<Integer, String> pair = RxTuples.toLazyPair(
+                new Function<Integer, String>() {
+                    @Override
+                    public String apply(Integer i) throws Exception {
+                        if (calls.getAndIncrement() == 0) {
+                            throw new IllegalStateException();
+                        }
+                        return "ok";
+                    }
+                }).apply(1);
+        try {
+            pair.getValue1();
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+            Assert.assertFalse(pair.isEvaluated(1));
+        }
+        Assert.assertEquals("ok", pair.getValue1());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.Comparator;
+
+import org.javatuples.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class MergeJoinTest {
+    private static final Function<Integer, Integer> TENS = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) throws Exception {
+            return value / 10;
+        }
+    };
+
+    private static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    private static final Flowable<Integer> LEFT = Flowable.fromArray(10, 20, 21, 40, 50, 51);
+
+    private static final Flowable<Integer> RIGHT = Flowable.fromArray(20, 22, 30, 50, 60);
+
+    @Test
+    public void testInner() throws Exception {
+        RxTuples.mergeJoin(LEFT, RIGHT, TENS, TENS, NATURAL).test().assertResult(
+                Pair.with(20, 20), Pair.with(20, 22), Pair.with(21, 20), Pair.with(21, 22),
+                Pair.with(50, 50), Pair.with(51, 50));
+    }
+
+    @Test
+    public void testLeftOuter() throws Exception {
+        RxTuples.mergeJoin(LEFT, RIGHT, TENS, TENS, NATURAL, JoinMode.LEFT_OUTER).test()
+                .assertResult(Pair.<Integer, Integer> with(10, null), Pair.with(20, 20),
+                        Pair.with(20, 22), Pair.with(21, 20), Pair.with(21, 22),
+                        Pair.<Integer, Integer> with(40, null), Pair.with(50, 50),
+                        Pair.with(51, 50));
+    }
+
+    @Test
+    public void testFullOuter() throws Exception {
+        RxTuples.mergeJoin(LEFT, RIGHT, TENS, TENS, NATURAL, JoinMode.FULL_OUTER).test()
+                .assertResult(Pair.<Integer, Integer> with(10, null), Pair.with(20, 20),
+                        Pair.with(20, 22), Pair.with(21, 20), Pair.with(21, 22),
+                        Pair.<Integer, Integer> with(null, 30),
+                        Pair.<Integer, Integer> with(40, null), Pair.with(50, 50),
+                        Pair.with(51, 50), Pair.<Integer, Integer> with(null, 60));
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples
+                .mergeJoin(LEFT, RIGHT, TENS, TENS, NATURAL, JoinMode.FULL_OUTER).test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(3);
+        subscriber.assertValueCount(3).assertNotComplete();
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertValueCount(10).assertComplete();
+    }
+
+    @Test
+    public void testLongSources() throws Exception {
+        final Function<Integer, Integer> identity = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) throws Exception {
+                return value;
+            }
+        };
+        Assert.assertEquals(Long.valueOf(5000), RxTuples.mergeJoin(Flowable.range(0, 10000),
+                Flowable.range(0, 5000).map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) throws Exception {
+                        return value * 2;
+                    }
+                }), identity, identity, NATURAL).count().blockingGet());
+    }
+
+    @Test
+    public void testInnerCompletesWhenOneSideEnds() throws Exception {
+        final PublishProcessor<Integer> right = PublishProcessor.create();
+        RxTuples.mergeJoin(Flowable.<Integer> empty(), right, TENS, TENS, NATURAL).test()
+                .assertResult();
+        Assert.assertFalse(right.hasSubscribers());
+    }
+
+    @Test
+    public void testUnsortedSourceFails() throws Exception {
+        // The pairs for 20 are emitted before 10 shows the left side is unsorted
+        RxTuples.mergeJoin(Flowable.just(20, 10), RIGHT, TENS, TENS, NATURAL).test()
+                .assertValues(Pair.with(20, 20), Pair.with(20, 22))
+                .assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void testErrorCancelsOtherSide() throws Exception {
+        final PublishProcessor<Integer> left = PublishProcessor.create();
+        final PublishProcessor<Integer> right = PublishProcessor.create();
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples
+                .mergeJoin(left, right, TENS, TENS, NATURAL).test();
+        right.onError(new IllegalArgumentException());
+        subscriber.assertFailure(IllegalArgumentException.class);
+        Assert.assertFalse(left.hasSubscribers());
+    }
+}
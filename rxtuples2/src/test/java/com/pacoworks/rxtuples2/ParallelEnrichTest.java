@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class ParallelEnrichTest {
+    private static final Function<Integer, String> SLOW_NAME = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer i) throws Exception {
+            // Early elements finish last, so they overtake each other on the rails
+            if (i % 7 == 0) {
+                Thread.sleep(2);
+            }
+            return "n" + i;
+        }
+    };
+
+    private static final Function<Integer, Integer> SQUARE = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer i) throws Exception {
+            return i * i;
+        }
+    };
+
+    @Test
+    public void testKeepsSourceOrder() throws Exception {
+        final FlowableParallelEnrich<Pair<Integer, String>> enrich = RxTuples.parallelEnrich(
+                Flowable.range(0, 500), 4, SLOW_NAME);
+        final List<Pair<Integer, String>> pairs = enrich.toList().blockingGet();
+        Assert.assertEquals(500, pairs.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            Assert.assertEquals(Pair.with(i, "n" + i), pairs.get(i));
+        }
+        Assert.assertEquals(0, enrich.bufferOccupancy());
+    }
+
+    @Test
+    public void testSeveralEnrichers() throws Exception {
+        Assert.assertEquals(Triplet.with(9, "n9", 81),
+                RxTuples.parallelEnrich(Flowable.range(0, 10), 2, SLOW_NAME, SQUARE)
+                        .blockingLast());
+    }
+
+    @Test
+    public void testBoundedBuffer() throws Exception {
+        final FlowableParallelEnrich<Pair<Integer, String>> enrich = RxTuples.parallelEnrich(
+                Flowable.range(0, 500), 4, Schedulers.computation(), 8, SLOW_NAME);
+        Assert.assertEquals(500, enrich.count().blockingGet().intValue());
+        Assert.assertTrue(enrich.peakBufferOccupancy() <= 8);
+        Assert.assertEquals(0, enrich.bufferOccupancy());
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        final TestSubscriber<Pair<Integer, String>> subscriber = RxTuples
+                .parallelEnrich(Flowable.range(0, 100), 4, SLOW_NAME).test(0);
+        subscriber.requestMore(3);
+        Thread.sleep(100);
+        subscriber.assertValues(Pair.with(0, "n0"), Pair.with(1, "n1"), Pair.with(2, "n2"))
+                .assertNotComplete();
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        subscriber.assertValueCount(100).assertComplete();
+    }
+
+    @Test
+    public void testEnricherError() throws Exception {
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples.parallelEnrich(
+                Flowable.range(0, 100), 4, new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer i) throws Exception {
+                        if (i == 50) {
+                            throw new IllegalStateException();
+                        }
+                        return i;
+                    }
+                }).test();
+        subscriber.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        subscriber.assertError(IllegalStateException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() throws Exception {
+        RxTuples.parallelEnrich(Flowable.range(0, 10), 0, SQUARE);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+
+public class PooledZipTest {
+    private static final Flowable<Integer> RANGE = Flowable.range(1, 10);
+
+    @Test
+    public void testAutoReleaseReusesTuple() throws Exception {
+        final List<PooledPair<Integer, Integer>> seen =
+                new ArrayList<PooledPair<Integer, Integer>>();
+        final List<Pair<Integer, Integer>> values = new ArrayList<Pair<Integer, Integer>>();
+        RxTuples.zipToPooledPair(RANGE, RANGE.map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer i) throws Exception {
+                return i * 10;
+            }
+        })).subscribe(new Consumer<PooledPair<Integer, Integer>>() {
+            @Override
+            public void accept(PooledPair<Integer, Integer> pair) throws Exception {
+                seen.add(pair);
+                values.add(pair.toTuple());
+            }
+        });
+        Assert.assertEquals(10, values.size());
+        Assert.assertEquals(Pair.with(1, 10), values.get(0));
+        Assert.assertEquals(Pair.with(10, 100), values.get(9));
+        Assert.assertSame(seen.get(0), seen.get(9));
+        Assert.assertTrue(seen.get(0).isReleased());
+    }
+
+    @Test
+    public void testManualRelease() throws Exception {
+        final List<PooledQuartet<Integer, Integer, Integer, Integer>> quartets = RxTuples
+                .zipToPooledQuartet(RANGE, RANGE, RANGE, RANGE, ReleaseMode.MANUAL, false)
+                .toList().blockingGet();
+        Assert.assertEquals(10, quartets.size());
+        Assert.assertEquals(Quartet.with(10, 10, 10, 10), quartets.get(9).toTuple());
+        Assert.assertFalse(quartets.get(0).isReleased());
+        quartets.get(0).release();
+        Assert.assertTrue(quartets.get(0).isReleased());
+    }
+
+    @Test
+    public void testAutoReleaseAfterConsumerRelease() throws Exception {
+        final List<Integer> values = new ArrayList<Integer>();
+        RxTuples.zipToPooledPair(RANGE, RANGE).subscribe(
+                new Consumer<PooledPair<Integer, Integer>>() {
+                    @Override
+                    public void accept(PooledPair<Integer, Integer> pair) throws Exception {
+                        values.add(pair.getValue0());
+                        pair.release();
+                    }
+                });
+        Assert.assertEquals(10, values.size());
+    }
+
+    @Test
+    public void testTryReleaseOnce() throws Exception {
+        final PooledPair<Integer, Integer> pair = RxTuples
+                .zipToPooledPair(RANGE, RANGE, ReleaseMode.MANUAL, false).blockingFirst();
+        Assert.assertTrue(pair.tryRelease());
+        Assert.assertFalse(pair.tryRelease());
+    }
+
+    @Test
+    public void testSnapshotEscapes() throws Exception {
+        Assert.assertEquals(Pair.with(10, 10), RxTuples.zipToPooledPair(RANGE, RANGE)
+                .map(new Function<PooledPair<Integer, Integer>, Pair<Integer, Integer>>() {
+                    @Override
+                    public Pair<Integer, Integer> apply(PooledPair<Integer, Integer> pair) {
+                        return pair.toTuple();
+                    }
+                }).blockingLast());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDebugUseAfterRelease() throws Exception {
+        final PooledPair<Integer, Integer> pair = RxTuples
+                .zipToPooledPair(RANGE, RANGE, ReleaseMode.AUTO, true).blockingFirst();
+        pair.getValue0();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDoubleRelease() throws Exception {
+        final PooledPair<Integer, Integer> pair = RxTuples
+                .zipToPooledPair(RANGE, RANGE, ReleaseMode.MANUAL, false).blockingFirst();
+        pair.release();
+        pair.release();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedArity() throws Exception {
+        new TuplePool(5, 1, false).build(new Object[5]);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+public class ProjectionsTest {
+    private static final Octet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, String> OCTET =
+            Octet.with(0, 1, 2, 3, 4, 5, 6, "7");
+
+    @Test
+    public void testValues() throws Exception {
+        Assert.assertEquals("a", RxTuples.<String> value0().apply(Pair.with("a", 1)));
+        Assert.assertEquals(Integer.valueOf(1),
+                RxTuples.<Integer> value1().apply(Pair.with("a", 1)));
+        Assert.assertEquals("7", RxTuples.<String> value7().apply(OCTET));
+        Assert.assertSame(RxTuples.value3(), RxTuples.value3());
+    }
+
+    @Test
+    public void testSelect() throws Exception {
+        Assert.assertEquals(Pair.with("7", 0),
+                RxTuples.<String, Integer> select(7, 0).apply(OCTET));
+        Assert.assertEquals(Triplet.with(2, 2, "7"),
+                RxTuples.<Integer, Integer, String> select(2, 2, 7).apply(OCTET));
+        Assert.assertSame(RxTuples.select(1, 2), RxTuples.select(1, 2));
+        Assert.assertSame(RxTuples.select(1, 2, 3), RxTuples.select(1, 2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelectOutOfRange() throws Exception {
+        RxTuples.select(0, 8);
+    }
+
+    @Test
+    public void testSwapAndDropLast() throws Exception {
+        Assert.assertEquals(Pair.with(1, "a"),
+                RxTuples.<String, Integer> swap().apply(Pair.with("a", 1)));
+        Assert.assertEquals(Pair.with(1, 2), RxTuples
+                .<Integer, Integer, Integer> dropLastFromTriplet().apply(Triplet.with(1, 2, 3)));
+        Assert.assertEquals(Triplet.with(1, 2, 3),
+                RxTuples.<Integer, Integer, Integer, Integer> dropLastFromQuartet().apply(
+                        Quartet.with(1, 2, 3, 4)));
+    }
+
+    @Test
+    public void testObservableZipSelect() throws Exception {
+        RxTuples.zipBuilder(Observable.just(1, 2)).and(Observable.just("a", "b"))
+                .and(Observable.just(true, false)).<Boolean, Integer> select(2, 0).test()
+                .assertResult(Pair.with(true, 1), Pair.with(false, 2));
+    }
+
+    @Test
+    public void testFlowableZipSelect() throws Exception {
+        RxTuples.zipBuilder(Flowable.just(1)).and(Flowable.just("a"))
+                .<String, Integer, String> select(1, 0, 1).test()
+                .assertResult(Triplet.with("a", 1, "a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZipSelectOutOfRange() throws Exception {
+        RxTuples.zipBuilder(Observable.just(1)).and(Observable.just(2)).select(0, 2);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Septet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function8;
+
+public class RxTuplesAllocationTest {
+    private static final int WARMUP = 20000;
+
+    private static final int ITERATIONS = 100000;
+
+    /* Comparisons take the best of several rounds, so a loop still being compiled doesn't count */
+    private static final int ROUNDS = 5;
+
+    /* Allows for the bookkeeping of the ThreadMXBean itself, not for per-call allocations */
+    private static final long TOLERANCE = 4096;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean)ManagementFactory
+            .getThreadMXBean();
+
+    private static final Integer ONE = 1;
+
+    private static final Integer TWO = 2;
+
+    private static final Septet<Integer, Integer, Integer, Integer, Integer, Integer, Integer> SEPTET = Septet
+            .with(1, 2, 3, 4, 5, 6, 7);
+
+    static volatile Object sink;
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static Object callAllFactories() {
+        Object last = RxTuples.toPair();
+        last = RxTuples.toTriplet();
+        last = RxTuples.toTripletFromSingle();
+        last = RxTuples.toTripletFromPair();
+        last = RxTuples.toQuartet();
+        last = RxTuples.toQuartetFromSingle();
+        last = RxTuples.toQuartetFromPair();
+        last = RxTuples.toQuartetFromTriplet();
+        last = RxTuples.toQuintet();
+        last = RxTuples.toQuintetFromSingle();
+        last = RxTuples.toQuintetFromPair();
+        last = RxTuples.toQuintetFromTriplet();
+        last = RxTuples.toQuintetFromQuartet();
+        last = RxTuples.toSextet();
+        last = RxTuples.toSextetFromSingle();
+        last = RxTuples.toSextetFromPair();
+        last = RxTuples.toSextetFromTriplet();
+        last = RxTuples.toSextetFromQuartet();
+        last = RxTuples.toSextetFromQuintet();
+        last = RxTuples.toSeptet();
+        last = RxTuples.toSeptetFromSingle();
+        last = RxTuples.toSeptetFromPair();
+        last = RxTuples.toSeptetFromTriplet();
+        last = RxTuples.toSeptetFromQuartet();
+        last = RxTuples.toSeptetFromQuintet();
+        last = RxTuples.toSeptetFromSextet();
+        last = RxTuples.toOctet();
+        last = RxTuples.toOctetFromSingle();
+        last = RxTuples.toOctetFromPair();
+        last = RxTuples.toOctetFromTriplet();
+        last = RxTuples.toOctetFromQuartet();
+        last = RxTuples.toOctetFromQuintet();
+        last = RxTuples.toOctetFromSextet();
+        last = RxTuples.toOctetFromSeptet();
+        return last;
+    }
+
+    /* One measured loop, run for the given number of iterations */
+    private abstract static class Loop {
+        abstract void run(int iterations) throws Exception;
+    }
+
+    /**
+     * Warms every loop up, then runs them in turn for {@link #ROUNDS} rounds and returns the
+     * lowest allocation of each
+     */
+    private static long[] leastAllocated(Loop... loops) throws Exception {
+        for (Loop loop : loops) {
+            loop.run(WARMUP);
+        }
+        final long[] least = new long[loops.length];
+        Arrays.fill(least, Long.MAX_VALUE);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < loops.length; i++) {
+                final long start = allocatedBytes();
+                loops[i].run(ITERATIONS);
+                least[i] = Math.min(least[i], allocatedBytes() - start);
+            }
+        }
+        return least;
+    }
+
+    @Test
+    public void testFactoriesAreShared() throws Exception {
+        Assert.assertSame(RxTuples.toPair(), RxTuples.toPair());
+        Assert.assertSame(RxTuples.<Integer, Integer> toPair(), RxTuples.<String, Long> toPair());
+        Assert.assertSame(RxTuples.toTripletFromPair(), RxTuples.toTripletFromPair());
+        Assert.assertSame(RxTuples.toOctet(), RxTuples.toOctet());
+        Assert.assertSame(RxTuples.toOctetFromSeptet(), RxTuples.toOctetFromSeptet());
+    }
+
+    @Test
+    public void testFactoryCallsDoNotAllocate() throws Exception {
+        final long allocated = leastAllocated(new Loop() {
+            @Override
+            void run(int iterations) {
+                for (int i = 0; i < iterations; i++) {
+                    sink = callAllFactories();
+                }
+            }
+        })[0];
+        Assert.assertTrue("Factory calls allocated " + allocated + " bytes", allocated < TOLERANCE);
+    }
+
+    @Test
+    public void testApplyAllocatesOnlyTheTuple() throws Exception {
+        final BiFunction<Integer, Integer, Pair<Integer, Integer>> toPair = RxTuples.toPair();
+        final long[] allocated = leastAllocated(new Loop() {
+            @Override
+            void run(int iterations) {
+                for (int i = 0; i < iterations; i++) {
+                    sink = Pair.with(ONE, TWO);
+                }
+            }
+        }, new Loop() {
+            @Override
+            void run(int iterations) throws Exception {
+                for (int i = 0; i < iterations; i++) {
+                    sink = toPair.apply(ONE, TWO);
+                }
+            }
+        });
+        Assert.assertTrue("Pair.with allocated " + allocated[0] + " bytes, toPair allocated "
+                + allocated[1], allocated[1] <= allocated[0] + TOLERANCE);
+    }
+
+    @Test
+    public void testMergeAllocatesOnlyTheTuple() throws Exception {
+        final BiFunction<Septet<Integer, Integer, Integer, Integer, Integer, Integer, Integer>, Integer, Octet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>> toOctet = RxTuples
+                .toOctetFromSeptet();
+        final long[] allocated = leastAllocated(new Loop() {
+            @Override
+            void run(int iterations) {
+                for (int i = 0; i < iterations; i++) {
+                    sink = Octet.with(SEPTET.getValue0(), SEPTET.getValue1(), SEPTET.getValue2(),
+                            SEPTET.getValue3(), SEPTET.getValue4(), SEPTET.getValue5(),
+                            SEPTET.getValue6(), TWO);
+                }
+            }
+        }, new Loop() {
+            @Override
+            void run(int iterations) throws Exception {
+                for (int i = 0; i < iterations; i++) {
+                    sink = toOctet.apply(SEPTET, TWO);
+                }
+            }
+        });
+        Assert.assertTrue("Octet.with allocated " + allocated[0]
+                + " bytes, toOctetFromSeptet allocated " + allocated[1],
+                allocated[1] <= allocated[0] + TOLERANCE);
+    }
+
+    @Test
+    public void testNaryApplyAllocatesOnlyTheTuple() throws Exception {
+        final Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Octet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>> toOctet = RxTuples
+                .toOctet();
+        final long[] allocated = leastAllocated(new Loop() {
+            @Override
+            void run(int iterations) {
+                for (int i = 0; i < iterations; i++) {
+                    sink = Octet.with(ONE, TWO, ONE, TWO, ONE, TWO, ONE, TWO);
+                }
+            }
+        }, new Loop() {
+            @Override
+            void run(int iterations) throws Exception {
+                for (int i = 0; i < iterations; i++) {
+                    sink = toOctet.apply(ONE, TWO, ONE, TWO, ONE, TWO, ONE, TWO);
+                }
+            }
+        });
+        Assert.assertTrue("Octet.with allocated " + allocated[0] + " bytes, toOctet allocated "
+                + allocated[1], allocated[1] <= allocated[0] + TOLERANCE);
+    }
+}
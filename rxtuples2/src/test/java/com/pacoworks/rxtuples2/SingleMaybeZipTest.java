@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public class SingleMaybeZipTest {
+    @Test
+    public void testSingleZipToPair() throws Exception {
+        RxTuples.singleZipToPair(Single.just(1), Single.just("a")).test()
+                .assertResult(Pair.with(1, "a"));
+    }
+
+    @Test
+    public void testSingleMatchesZip() throws Exception {
+        final Single<Integer> one = Single.just(1);
+        Assert.assertEquals(
+                Single.zip(one, one, one, RxTuples.<Integer, Integer, Integer> toTriplet())
+                        .blockingGet(), RxTuples.singleZipToTriplet(one, one, one).blockingGet());
+        Assert.assertEquals(Octet.with(1, 1, 1, 1, 1, 1, 1, 1),
+                RxTuples.singleZipToOctet(one, one, one, one, one, one, one, one).blockingGet());
+    }
+
+    @Test
+    public void testSingleErrorDisposesSiblings() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.singleZipToPair(
+                first.singleOrError(), second.singleOrError()).test();
+        Assert.assertTrue(second.hasObservers());
+        first.onError(new IllegalStateException());
+        observer.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testSingleDispose() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.singleZipToPair(
+                first.singleOrError(), second.singleOrError()).test();
+        observer.dispose();
+        Assert.assertFalse(first.hasObservers());
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testMaybeZipToTriplet() throws Exception {
+        RxTuples.maybeZipToTriplet(Maybe.just(1), Maybe.just("a"), Maybe.just(2.0)).test()
+                .assertResult(Triplet.with(1, "a", 2.0));
+    }
+
+    @Test
+    public void testMaybeEmptyCompletes() throws Exception {
+        final PublishSubject<Integer> second = PublishSubject.create();
+        RxTuples.maybeZipToPair(Maybe.<Integer> empty(), second.singleElement()).test()
+                .assertResult();
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testMaybeErrorDisposesSiblings() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.maybeZipToPair(
+                first.singleElement(), second.singleElement()).test();
+        first.onError(new IllegalStateException());
+        observer.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSource() throws Exception {
+        RxTuples.singleZipToPair(Single.just(1), (Single<Integer>)null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testMaybeNullSource() throws Exception {
+        RxTuples.maybeZipToPair(Maybe.just(1), (Maybe<Integer>)null);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class SlidingWindowTest {
+    @Test
+    public void testPairwise() throws Exception {
+        Observable.range(1, 4).compose(RxTuples.<Integer> pairwise()).test()
+                .assertResult(Pair.with(1, 2), Pair.with(2, 3), Pair.with(3, 4));
+    }
+
+    @Test
+    public void testPairwiseMatchesZipSkip() throws Exception {
+        final Observable<Integer> range = Observable.range(1, 100);
+        Assert.assertEquals(
+                Observable.zip(range, range.skip(1), RxTuples.<Integer, Integer> toPair())
+                        .toList().blockingGet(),
+                range.compose(RxTuples.<Integer> pairwise()).toList().blockingGet());
+    }
+
+    @Test
+    public void testSubscribesOnce() throws Exception {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        Observable.range(1, 3).doOnSubscribe(new Consumer<Disposable>() {
+            @Override
+            public void accept(Disposable disposable) throws Exception {
+                subscriptions.incrementAndGet();
+            }
+        }).compose(RxTuples.<Integer> slidingTriplet()).test()
+                .assertResult(Triplet.with(1, 2, 3));
+        Assert.assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    public void testShorterThanWindow() throws Exception {
+        Observable.range(1, 3).compose(RxTuples.<Integer> slidingQuartet()).test().assertResult();
+    }
+
+    @Test
+    public void testEvery() throws Exception {
+        Observable.range(1, 6).compose(RxTuples.<Integer> pairwise(2)).test()
+                .assertResult(Pair.with(1, 2), Pair.with(3, 4), Pair.with(5, 6));
+        Observable.range(1, 9).compose(RxTuples.<Integer> slidingQuartet(3)).test()
+                .assertResult(Quartet.with(1, 2, 3, 4), Quartet.with(4, 5, 6, 7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEvery() throws Exception {
+        RxTuples.pairwise(0);
+    }
+
+    @Test
+    public void testFlowableBackpressure() throws Exception {
+        final TestSubscriber<Triplet<Integer, Integer, Integer>> subscriber = Flowable
+                .range(1, 10).compose(RxTuples.<Integer> slidingTriplet(2)).test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(2);
+        subscriber.assertValues(Triplet.with(1, 2, 3), Triplet.with(3, 4, 5))
+                .assertNotComplete();
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertResult(Triplet.with(1, 2, 3), Triplet.with(3, 4, 5),
+                Triplet.with(5, 6, 7), Triplet.with(7, 8, 9));
+    }
+
+    @Test
+    public void testErrorPropagates() throws Exception {
+        Flowable.just(1, 2).concatWith(Flowable.<Integer> error(new IllegalStateException()))
+                .compose(RxTuples.<Integer> pairwise()).test()
+                .assertFailure(IllegalStateException.class, Pair.with(1, 2));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.io.File;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.javatuples.Pair;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.pacoworks.rxtuples2.codec.ElementCodec;
+import com.pacoworks.rxtuples2.codec.ElementCodecs;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+public class SpillingZipTest {
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = File.createTempFile("spill-test", "");
+        Assert.assertTrue(directory.delete());
+        Assert.assertTrue(directory.mkdir());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        final File[] files = directory.listFiles();
+        Assert.assertEquals(0, files == null ? 0 : files.length);
+        Assert.assertTrue(directory.delete());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testQueueKeepsOrderAcrossSpills() throws Exception {
+        final AtomicLong bytes = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+        final SpillQueue queue = new SpillQueue((ElementCodec)ElementCodecs.ints(), 4, directory,
+                bytes, count);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        Assert.assertEquals(6, count.get());
+        Assert.assertEquals(24, bytes.get());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(i, queue.poll());
+        }
+        // The file still has pending elements, so new ones must queue behind them
+        queue.offer(10);
+        Assert.assertEquals(7, count.get());
+        for (int i = 5; i <= 10; i++) {
+            Assert.assertEquals(i, queue.poll());
+        }
+        Assert.assertNull(queue.poll());
+        Assert.assertTrue(queue.isEmpty());
+        // Back to memory once the file is read back
+        queue.offer(11);
+        Assert.assertEquals(7, count.get());
+        Assert.assertEquals(11, queue.poll());
+        queue.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testQueueGrowsSegments() throws Exception {
+        final SpillQueue queue = new SpillQueue((ElementCodec)ElementCodecs.byteArrays(), 1,
+                directory, new AtomicLong(), new AtomicLong());
+        final byte[] large = new byte[700 * 1024];
+        queue.offer(new byte[0]);
+        queue.offer(large);
+        queue.offer(large);
+        Assert.assertEquals(0, ((byte[])queue.poll()).length);
+        Assert.assertEquals(large.length, ((byte[])queue.poll()).length);
+        Assert.assertEquals(large.length, ((byte[])queue.poll()).length);
+        queue.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testQueueReusesReadSegments() throws Exception {
+        final SpillQueue queue = new SpillQueue((ElementCodec)ElementCodecs.byteArrays(), 1,
+                directory, new AtomicLong(), new AtomicLong());
+        final byte[] element = new byte[100 * 1024];
+        for (int i = 0; i < 30; i++) {
+            queue.offer(element);
+        }
+        // A steady lag of 30 elements, about 3MB, over 20MB of spilled elements
+        for (int i = 0; i < 200; i++) {
+            queue.offer(element);
+            Assert.assertEquals(element.length, ((byte[])queue.poll()).length);
+        }
+        Assert.assertTrue(queue.fileSize() <= 5 * 1024 * 1024);
+        while (!queue.isEmpty()) {
+            queue.poll();
+        }
+        // Cut back to a single region once it is read back
+        Assert.assertEquals(1 << 20, queue.fileSize());
+        queue.clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testQueueDropsPartialRecord() throws Exception {
+        final SpillQueue queue = new SpillQueue((ElementCodec)UNDERSIZED, 1, directory,
+                new AtomicLong(), new AtomicLong());
+        queue.write(new byte[1]);
+        try {
+            queue.write(new byte[2 << 20]);
+            Assert.fail();
+        } catch (BufferOverflowException expected) {
+            // The length made it to the file, the bytes did not
+        }
+        queue.write(new byte[3]);
+        Assert.assertEquals(1, ((byte[])queue.poll()).length);
+        Assert.assertEquals(3, ((byte[])queue.poll()).length);
+        Assert.assertTrue(queue.isEmpty());
+        queue.clear();
+    }
+
+    @Test
+    public void testZipMatchesZip() throws Exception {
+        final Observable<Integer> range = Observable.range(0, 1000);
+        final ObservableSpillingZip<Pair<Integer, Integer>> zip = RxTuples.spillingZipToPair(
+                range, range, ElementCodecs.ints(), ElementCodecs.ints(), 16, directory);
+        Assert.assertEquals(RxTuples.zipToPair(range, range).toList().blockingGet(), zip.toList()
+                .blockingGet());
+        // The first source completes before the second is subscribed to
+        Assert.assertEquals(1000 - 16, zip.spillCount());
+        Assert.assertEquals((1000 - 16) * 4, zip.spilledBytes());
+    }
+
+    @Test
+    public void testSlowSourceCatchesUp() throws Exception {
+        final PublishSubject<String> slow = PublishSubject.create();
+        final ObservableSpillingZip<Pair<Integer, String>> zip = RxTuples.spillingZipToPair(
+                Observable.range(0, 100), slow, ElementCodecs.ints(), ElementCodecs.strings(), 8,
+                directory);
+        final TestObserver<Pair<Integer, String>> observer = zip.test();
+        Assert.assertEquals(92, zip.spillCount());
+        for (int i = 0; i < 100; i++) {
+            slow.onNext("s" + i);
+        }
+        observer.assertValueCount(100).assertComplete();
+        Assert.assertEquals(Pair.with(99, "s99"), observer.values().get(99));
+        Assert.assertFalse(slow.hasObservers());
+    }
+
+    @Test
+    public void testDisposeDeletesSpillFile() throws Exception {
+        final PublishSubject<Integer> slow = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.spillingZipToPair(
+                Observable.range(0, 100), slow, ElementCodecs.ints(), ElementCodecs.ints(), 8,
+                directory).test();
+        Assert.assertEquals(1, directory.listFiles().length);
+        observer.dispose();
+        Assert.assertFalse(slow.hasObservers());
+    }
+
+    @Test
+    public void testCodecErrorIsDelivered() throws Exception {
+        final PublishSubject<Integer> slow = PublishSubject.create();
+        RxTuples.spillingZipToPair(Observable.just(new byte[1], new byte[2 << 20]), slow,
+                UNDERSIZED, ElementCodecs.ints(), 1, directory).test()
+                .assertFailure(BufferOverflowException.class);
+        Assert.assertFalse(slow.hasObservers());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() throws Exception {
+        RxTuples.spillingZipToPair(Observable.just(1), Observable.just(2), ElementCodecs.ints(),
+                ElementCodecs.ints(), 0);
+    }
+
+    /* Claims a single byte per element, so a large element overflows its region */
+    private static final ElementCodec<byte[]> UNDERSIZED = new ElementCodec<byte[]>() {
+        @Override
+        public int maxSize(byte[] value) {
+            return 1;
+        }
+
+        @Override
+        public void encode(byte[] value, ByteBuffer buffer) {
+            ElementCodecs.byteArrays().encode(value, buffer);
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer buffer) {
+            return ElementCodecs.byteArrays().decode(buffer);
+        }
+    };
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.List;
+
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Observable;
+
+public class TupleInternerTest {
+    @Test
+    public void testFactoryReturnsCanonicalTuple() throws Exception {
+        /* Values with stable hash codes, so both combinations map to different entries every run */
+        final TupleInterner interner = new TupleInterner(16, InternMode.EQUALITY);
+        final List<Triplet<String, Boolean, String>> triplets = Observable
+                .combineLatest(Observable.just("wifi"), Observable.just(true),
+                        Observable.just("day", "night", "day"),
+                        RxTuples.<String, Boolean, String> toInternedTriplet(interner)).toList()
+                .blockingGet();
+        Assert.assertEquals(3, triplets.size());
+        Assert.assertEquals(Triplet.with("wifi", true, "night"), triplets.get(1));
+        Assert.assertSame(triplets.get(0), triplets.get(2));
+        Assert.assertEquals(1, interner.hits());
+        Assert.assertEquals(2, interner.misses());
+    }
+
+    @Test
+    public void testIdentityAndEquality() throws Exception {
+        final String a = "a";
+        final String copy = new String(a);
+        final TupleInterner identity = new TupleInterner(16, InternMode.IDENTITY);
+        Assert.assertSame(identity.pair(a, 1), identity.pair(a, 1));
+        Assert.assertNotSame(identity.pair(a, 1), identity.pair(copy, 1));
+        final TupleInterner equality = new TupleInterner(16, InternMode.EQUALITY);
+        Assert.assertSame(equality.pair(a, 1), equality.pair(copy, 1));
+        Assert.assertEquals(0.5, equality.hitRate(), 0.0);
+    }
+
+    @Test
+    public void testInternOperatorOutput() throws Exception {
+        final TupleInterner interner = new TupleInterner(16, InternMode.EQUALITY);
+        final List<Quartet<Integer, Integer, Integer, Integer>> quartets = RxTuples
+                .zipToQuartet(Observable.just(1, 1), Observable.just(2, 2), Observable.just(3, 3),
+                        Observable.just(4, 4))
+                .map(RxTuples.<Quartet<Integer, Integer, Integer, Integer>> intern(interner))
+                .toList().blockingGet();
+        Assert.assertSame(quartets.get(0), quartets.get(1));
+        Assert.assertSame(quartets.get(0), interner.quartet(1, 2, 3, 4));
+    }
+
+    @Test
+    public void testBoundedEviction() throws Exception {
+        final TupleInterner interner = new TupleInterner(1, InternMode.EQUALITY);
+        final Pair<Integer, Integer> first = interner.pair(1, 2);
+        interner.pair(3, 4);
+        Assert.assertEquals(1, interner.evictions());
+        Assert.assertNotSame(first, interner.pair(1, 2));
+        interner.clear();
+        Assert.assertEquals(3, interner.misses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() throws Exception {
+        new TupleInterner(0, InternMode.EQUALITY);
+    }
+}
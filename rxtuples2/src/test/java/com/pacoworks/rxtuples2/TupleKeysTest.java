@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.pacoworks.rxtuples2.lite.LitePair;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.Observer;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.flowables.GroupedFlowable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.observables.GroupedObservable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class TupleKeysTest {
+    @Test
+    public void testSetReturnsFirstEqualKey() throws Exception {
+        final TupleKeySet set = new TupleKeySet(4);
+        final Pair<Integer, String> first = Pair.with(1, "a");
+        Assert.assertNull(set.putIfAbsent(first));
+        Assert.assertSame(first, set.putIfAbsent(Pair.with(1, "a")));
+        Assert.assertNull(set.putIfAbsent(Pair.with(1, "b")));
+        Assert.assertNull(set.putIfAbsent(Triplet.with(1, "a", null)));
+        Assert.assertEquals(3, set.size());
+    }
+
+    @Test
+    public void testSetGrowsWithHighCardinality() throws Exception {
+        final TupleKeySet set = new TupleKeySet(1);
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertNull(set.putIfAbsent(LitePair.with(i, i % 7)));
+        }
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertNotNull(set.putIfAbsent(LitePair.with(i, i % 7)));
+        }
+        Assert.assertEquals(10000, set.size());
+        set.clear();
+        Assert.assertNull(set.putIfAbsent(LitePair.with(0, 0)));
+    }
+
+    @Test
+    public void testSetSpreadsClusteredHashes() throws Exception {
+        final TupleKeySet set = new TupleKeySet(1);
+        // Every hash shares its low 16 bits
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertNull(set.putIfAbsent(LitePair.with(i << 16, 0)));
+        }
+        Assert.assertTrue(set.isSpread());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertNotNull(set.putIfAbsent(LitePair.with(i << 16, 0)));
+        }
+        Assert.assertEquals(1000, set.size());
+    }
+
+    @Test
+    public void testSetStoresValues() throws Exception {
+        final TupleKeySet set = new TupleKeySet(4);
+        final Object value = new Object();
+        Assert.assertNull(set.get(Pair.with(1, "a")));
+        set.put(Pair.with(1, "a"), value);
+        Assert.assertSame(value, set.get(Pair.with(1, "a")));
+        Assert.assertNull(set.get(Pair.with(1, "b")));
+        Assert.assertFalse(set.remove(Pair.with(1, "a"), new Object()));
+        Assert.assertTrue(set.remove(Pair.with(1, "a"), value));
+        Assert.assertNull(set.get(Pair.with(1, "a")));
+        Assert.assertEquals(0, set.size());
+    }
+
+    @Test
+    public void testSetRemoveKeepsCollidingKeys() throws Exception {
+        final TupleKeySet set = new TupleKeySet(1);
+        // Every hash shares its low 16 bits, so the keys probe past each other
+        for (int i = 0; i < 20; i++) {
+            set.put(LitePair.with(i << 16, 0), i);
+        }
+        for (int i = 0; i < 20; i += 2) {
+            Assert.assertTrue(set.remove(LitePair.with(i << 16, 0), i));
+        }
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(i % 2 == 0 ? null : i, set.get(LitePair.with(i << 16, 0)));
+        }
+        Assert.assertEquals(10, set.size());
+        Assert.assertEquals(10, set.values().size());
+    }
+
+    @Test
+    public void testLiteTupleCachesHash() throws Exception {
+        final LitePair<Integer, String> pair = LitePair.with(1, "a");
+        Assert.assertEquals(pair.hashCode(), pair.hashCode());
+        Assert.assertEquals(pair, LitePair.with(1, "a"));
+        Assert.assertFalse(pair.equals(LitePair.with(1, "b")));
+    }
+
+    @Test
+    public void testObservableDistinctTuples() throws Exception {
+        Observable.just(Pair.with(1, "a"), Pair.with(2, "b"), Pair.with(1, "a"), Pair.with(2, "c"))
+                .compose(RxTuples.<Pair<Integer, String>> distinctTuples()).test()
+                .assertResult(Pair.with(1, "a"), Pair.with(2, "b"), Pair.with(2, "c"));
+    }
+
+    @Test
+    public void testObservableMatchesDistinct() throws Exception {
+        final Observable<LitePair<Integer, Integer>> keys = Observable.range(0, 1000).map(
+                new Function<Integer, LitePair<Integer, Integer>>() {
+                    @Override
+                    public LitePair<Integer, Integer> apply(Integer i) throws Exception {
+                        return LitePair.with(i % 300, i % 7);
+                    }
+                });
+        Assert.assertEquals(keys.distinct().toList().blockingGet(),
+                keys.compose(RxTuples.<LitePair<Integer, Integer>> distinctTuples()).toList()
+                        .blockingGet());
+    }
+
+    @Test
+    public void testFlowableDistinctTuplesBackpressure() throws Exception {
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = Flowable
+                .just(Pair.with(1, 1), Pair.with(1, 1), Pair.with(1, 1), Pair.with(2, 2))
+                .compose(RxTuples.<Pair<Integer, Integer>> distinctTuples()).test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(2);
+        subscriber.assertResult(Pair.with(1, 1), Pair.with(2, 2));
+    }
+
+    @Test
+    public void testObservableGroupByTuple() throws Exception {
+        final List<GroupedObservable<Pair<Integer, Integer>, Integer>> groups = Observable
+                .range(0, 12).compose(RxTuples.groupByTuple(MOD_2_3)).toList().blockingGet();
+        Assert.assertEquals(6, groups.size());
+        Assert.assertEquals(Pair.with(0, 0), groups.get(0).getKey());
+        groups.get(0).test().assertResult(0, 6);
+        groups.get(5).test().assertResult(5, 11);
+    }
+
+    @Test
+    public void testObservableGroupByTupleMatchesGroupBy() throws Exception {
+        final Observable<Integer> range = Observable.range(0, 1000);
+        // Groups complete in map order, which differs between the two operators
+        Assert.assertEquals(
+                new HashSet<List<Integer>>(range.groupBy(MOD_2_3).flatMap(TO_LIST).toList()
+                        .blockingGet()),
+                new HashSet<List<Integer>>(range.compose(RxTuples.groupByTuple(MOD_2_3))
+                        .flatMap(TO_LIST).toList().blockingGet()));
+    }
+
+    @Test
+    public void testObservableDisposedGroupIsRecreated() throws Exception {
+        final PublishSubject<Integer> source = PublishSubject.create();
+        final List<TestObserver<Integer>> observers = new ArrayList<TestObserver<Integer>>();
+        source.compose(RxTuples.groupByTuple(MOD_2_3)).subscribe(
+                new Consumer<GroupedObservable<Pair<Integer, Integer>, Integer>>() {
+                    @Override
+                    public void accept(GroupedObservable<Pair<Integer, Integer>, Integer> group) {
+                        observers.add(group.take(1).test());
+                    }
+                });
+        source.onNext(0);
+        source.onNext(6);
+        Assert.assertEquals(2, observers.size());
+        observers.get(0).assertResult(0);
+        observers.get(1).assertResult(6);
+        Assert.assertTrue(source.hasObservers());
+    }
+
+    @Test
+    public void testObservableGroupsKeepUpstreamAfterDispose() throws Exception {
+        final PublishSubject<Integer> source = PublishSubject.create();
+        final List<GroupedObservable<Pair<Integer, Integer>, Integer>> groups = new ArrayList<GroupedObservable<Pair<Integer, Integer>, Integer>>();
+        final TestObserver<GroupedObservable<Pair<Integer, Integer>, Integer>> main = source
+                .compose(RxTuples.groupByTuple(MOD_2_3)).doOnNext(
+                        new Consumer<GroupedObservable<Pair<Integer, Integer>, Integer>>() {
+                            @Override
+                            public void accept(GroupedObservable<Pair<Integer, Integer>, Integer> group) {
+                                groups.add(group);
+                            }
+                        }).test();
+        source.onNext(0);
+        final TestObserver<Integer> group = groups.get(0).test();
+        main.dispose();
+        Assert.assertTrue(source.hasObservers());
+        source.onNext(6);
+        source.onNext(1);
+        group.assertValues(0, 6);
+        Assert.assertEquals(1, groups.size());
+        group.dispose();
+        Assert.assertFalse(source.hasObservers());
+    }
+
+    @Test
+    public void testObservableGroupDisposedInOnSubscribeDuringDrain() throws Exception {
+        final PublishSubject<Integer> source = PublishSubject.create();
+        final List<GroupedObservable<Pair<Integer, Integer>, Integer>> groups = new ArrayList<GroupedObservable<Pair<Integer, Integer>, Integer>>();
+        final TestObserver<GroupedObservable<Pair<Integer, Integer>, Integer>> main = source
+                .compose(RxTuples.groupByTuple(MOD_2_3)).doOnNext(
+                        new Consumer<GroupedObservable<Pair<Integer, Integer>, Integer>>() {
+                            @Override
+                            public void accept(GroupedObservable<Pair<Integer, Integer>, Integer> group) {
+                                groups.add(group);
+                            }
+                        }).test();
+        source.onNext(0);
+        main.dispose();
+        Assert.assertTrue(source.hasObservers());
+        // The upstream thread holds the group's drain while the group is subscribed and disposed
+        ((ObservableGroupByTuple.Group<Pair<Integer, Integer>, Integer>)groups.get(0)).state
+                .getAndIncrement();
+        groups.get(0).subscribe(new Observer<Integer>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                d.dispose();
+            }
+
+            @Override
+            public void onNext(Integer value) {
+            }
+
+            @Override
+            public void onError(Throwable e) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        Assert.assertFalse(source.hasObservers());
+    }
+
+    @Test
+    public void testObservableKeySelectorError() throws Exception {
+        Observable.just(1).compose(RxTuples.groupByTuple(new Function<Integer, Pair<Integer, Integer>>() {
+            @Override
+            public Pair<Integer, Integer> apply(Integer i) throws Exception {
+                throw new IllegalStateException();
+            }
+        })).test().assertFailure(IllegalStateException.class);
+    }
+
+    @Test
+    public void testFlowableGroupByTuple() throws Exception {
+        Assert.assertEquals(Long.valueOf(3), Flowable.range(0, 9)
+                .compose(RxTuples.groupByTuple(new Function<Integer, Pair<Integer, Boolean>>() {
+                    @Override
+                    public Pair<Integer, Boolean> apply(Integer i) throws Exception {
+                        return Pair.with(i % 3, true);
+                    }
+                })).count().blockingGet());
+    }
+
+    @Test
+    public void testFlowableGroupByTupleMatchesGroupBy() throws Exception {
+        final Flowable<Integer> range = Flowable.range(0, 1000);
+        Assert.assertEquals(
+                new HashSet<List<Integer>>(range.groupBy(MOD_2_3).flatMap(TO_LIST_FLOWABLE)
+                        .toList().blockingGet()),
+                new HashSet<List<Integer>>(range.compose(RxTuples.groupByTuple(MOD_2_3))
+                        .flatMap(TO_LIST_FLOWABLE).toList().blockingGet()));
+    }
+
+    @Test
+    public void testFlowableCancelledGroupsKeepUpstreamFlowing() throws Exception {
+        // Every group cancels after one element, so each element reopens its key's group and
+        // the upstream has to keep flowing well past the prefetch
+        final int count = Flowable.bufferSize() * 4;
+        Assert.assertEquals(Long.valueOf(count), Flowable.range(0, count)
+                .compose(RxTuples.groupByTuple(new Function<Integer, Pair<Integer, Integer>>() {
+                    @Override
+                    public Pair<Integer, Integer> apply(Integer i) throws Exception {
+                        return Pair.with(i / 2, 0);
+                    }
+                }))
+                .flatMap(new Function<GroupedFlowable<Pair<Integer, Integer>, Integer>, Flowable<Integer>>() {
+                    @Override
+                    public Flowable<Integer> apply(GroupedFlowable<Pair<Integer, Integer>, Integer> group) {
+                        return group.take(1);
+                    }
+                }).count().blockingGet());
+    }
+
+    @Test
+    public void testFlowableGroupBackpressure() throws Exception {
+        final List<TestSubscriber<Integer>> groups = new ArrayList<TestSubscriber<Integer>>();
+        Flowable.range(0, 6).compose(RxTuples.groupByTuple(MOD_2_3)).subscribe(
+                new Consumer<GroupedFlowable<Pair<Integer, Integer>, Integer>>() {
+                    @Override
+                    public void accept(GroupedFlowable<Pair<Integer, Integer>, Integer> group) {
+                        groups.add(group.test(0));
+                    }
+                });
+        Assert.assertEquals(6, groups.size());
+        groups.get(0).assertNoValues();
+        groups.get(0).requestMore(1);
+        groups.get(0).assertResult(0);
+    }
+
+    @Test
+    public void testFlowableMainCancelReleasesQueuedGroups() throws Exception {
+        final PublishProcessor<Integer> source = PublishProcessor.create();
+        final TestSubscriber<GroupedFlowable<Pair<Integer, Integer>, Integer>> main = source
+                .compose(RxTuples.groupByTuple(MOD_2_3)).test(0);
+        source.onNext(0);
+        source.onNext(1);
+        main.cancel();
+        Assert.assertFalse(source.hasSubscribers());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullKeySelector() throws Exception {
+        RxTuples.groupByTuple(null);
+    }
+
+    private static final Function<Integer, Pair<Integer, Integer>> MOD_2_3 = new Function<Integer, Pair<Integer, Integer>>() {
+        @Override
+        public Pair<Integer, Integer> apply(Integer i) throws Exception {
+            return Pair.with(i % 2, i % 3);
+        }
+    };
+
+    private static final Function<GroupedObservable<Pair<Integer, Integer>, Integer>, Observable<List<Integer>>> TO_LIST = new Function<GroupedObservable<Pair<Integer, Integer>, Integer>, Observable<List<Integer>>>() {
+        @Override
+        public Observable<List<Integer>> apply(GroupedObservable<Pair<Integer, Integer>, Integer> group) {
+            return group.toList().toObservable();
+        }
+    };
+
+    private static final Function<GroupedFlowable<Pair<Integer, Integer>, Integer>, Flowable<List<Integer>>> TO_LIST_FLOWABLE = new Function<GroupedFlowable<Pair<Integer, Integer>, Integer>, Flowable<List<Integer>>>() {
+        @Override
+        public Flowable<List<Integer>> apply(GroupedFlowable<Pair<Integer, Integer>, Integer> group) {
+            return group.toList().toFlowable();
+        }
+    };
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.functions.Consumer;
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class UnzipTest {
+    @Test
+    public void testObservableUnzipSubscribesOnce() throws Exception {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final Observable<Triplet<Integer, String, Boolean>> source = Observable
+                .just(Triplet.with(1, "a", true), Triplet.with(2, "b", false))
+                .doOnSubscribe(new Consumer<Disposable>() {
+                    @Override
+                    public void accept(Disposable disposable) throws Exception {
+                        subscriptions.incrementAndGet();
+                    }
+                });
+        final Triplet<Observable<Integer>, Observable<String>, Observable<Boolean>> unzipped = RxTuples
+                .unzipTriplet(source);
+        final TestObserver<Integer> first = unzipped.getValue0().test();
+        final TestObserver<String> second = unzipped.getValue1().test();
+        Assert.assertEquals(0, subscriptions.get());
+        final TestObserver<Boolean> third = unzipped.getValue2().test();
+        Assert.assertEquals(1, subscriptions.get());
+        first.assertResult(1, 2);
+        second.assertResult("a", "b");
+        third.assertResult(true, false);
+    }
+
+    @Test
+    public void testObservableBranchSubscribedTwice() throws Exception {
+        final Pair<Observable<Integer>, Observable<Integer>> unzipped = RxTuples
+                .unzipPair(Observable.just(Pair.with(1, 2)));
+        unzipped.getValue0().test();
+        unzipped.getValue0().test().assertFailure(IllegalStateException.class);
+    }
+
+    @Test
+    public void testObservableError() throws Exception {
+        final Pair<Observable<Integer>, Observable<Integer>> unzipped = RxTuples.unzipPair(
+                Observable.<Pair<Integer, Integer>> error(new IllegalStateException()));
+        final TestObserver<Integer> first = unzipped.getValue0().test();
+        unzipped.getValue1().test().assertFailure(IllegalStateException.class);
+        first.assertFailure(IllegalStateException.class);
+    }
+
+    @Test
+    public void testFlowableLockstep() throws Exception {
+        final Flowable<Pair<Integer, Integer>> source = Flowable.range(1, 100).map(
+                new Function<Integer, Pair<Integer, Integer>>() {
+                    @Override
+                    public Pair<Integer, Integer> apply(Integer value) throws Exception {
+                        return Pair.with(value, -value);
+                    }
+                });
+        final Pair<Flowable<Integer>, Flowable<Integer>> unzipped = RxTuples.unzipPair(source, 4,
+                null);
+        final TestSubscriber<Integer> fast = unzipped.getValue0().test();
+        final TestSubscriber<Integer> slow = unzipped.getValue1().test(0);
+        fast.assertValues(1, 2, 3, 4).assertNotComplete();
+        slow.requestMore(2);
+        slow.assertValues(-1, -2);
+        fast.assertValueCount(6);
+        slow.requestMore(Long.MAX_VALUE);
+        slow.assertValueCount(100).assertComplete();
+        fast.assertValueCount(100).assertComplete();
+    }
+
+    @Test
+    public void testFlowableDropOldest() throws Exception {
+        final PublishProcessor<Pair<Integer, Integer>> source = PublishProcessor.create();
+        final Pair<Flowable<Integer>, Flowable<Integer>> unzipped = RxTuples.unzipPair(source, 2,
+                BackpressureOverflowStrategy.DROP_OLDEST);
+        final TestSubscriber<Integer> fast = unzipped.getValue0().test();
+        final TestSubscriber<Integer> slow = unzipped.getValue1().test(0);
+        for (int i = 1; i <= 5; i++) {
+            source.onNext(Pair.with(i, -i));
+        }
+        source.onComplete();
+        fast.assertResult(1, 2, 3, 4, 5);
+        slow.requestMore(Long.MAX_VALUE);
+        slow.assertResult(-4, -5);
+    }
+
+    @Test
+    public void testFlowableOverflowErrorOnlyFailsSlowBranch() throws Exception {
+        final PublishProcessor<Pair<Integer, Integer>> source = PublishProcessor.create();
+        final Pair<Flowable<Integer>, Flowable<Integer>> unzipped = RxTuples.unzipPair(source, 2,
+                BackpressureOverflowStrategy.ERROR);
+        final TestSubscriber<Integer> fast = unzipped.getValue0().test();
+        final TestSubscriber<Integer> slow = unzipped.getValue1().test(0);
+        for (int i = 1; i <= 3; i++) {
+            source.onNext(Pair.with(i, -i));
+        }
+        slow.assertFailure(MissingBackpressureException.class);
+        source.onComplete();
+        fast.assertResult(1, 2, 3);
+    }
+
+    @Test
+    public void testFlowableCancelAfterOverflowKeepsUpstream() throws Exception {
+        final PublishProcessor<Pair<Integer, Integer>> source = PublishProcessor.create();
+        final Pair<Flowable<Integer>, Flowable<Integer>> unzipped = RxTuples.unzipPair(source, 2,
+                BackpressureOverflowStrategy.ERROR);
+        final TestSubscriber<Integer> fast = unzipped.getValue0().test();
+        final TestSubscriber<Integer> slow = unzipped.getValue1().test(0);
+        for (int i = 1; i <= 3; i++) {
+            source.onNext(Pair.with(i, -i));
+        }
+        slow.assertFailure(MissingBackpressureException.class);
+        slow.cancel();
+        Assert.assertTrue(source.hasSubscribers());
+        source.onNext(Pair.with(4, -4));
+        fast.assertValues(1, 2, 3, 4);
+    }
+
+    @Test
+    public void testObservableDisposeTwiceKeepsUpstream() throws Exception {
+        final PublishSubject<Pair<Integer, Integer>> source = PublishSubject.create();
+        final Pair<Observable<Integer>, Observable<Integer>> unzipped = RxTuples.unzipPair(source);
+        final TestObserver<Integer> first = unzipped.getValue0().test();
+        final TestObserver<Integer> second = unzipped.getValue1().test();
+        first.dispose();
+        first.dispose();
+        Assert.assertTrue(source.hasObservers());
+        source.onNext(Pair.with(1, -1));
+        second.assertValues(-1);
+    }
+
+    @Test
+    public void testFlowableCancelAllCancelsUpstream() throws Exception {
+        final AtomicInteger subscriptions = new AtomicInteger();
+        final PublishProcessor<Pair<Integer, Integer>> source = PublishProcessor.create();
+        final Pair<Flowable<Integer>, Flowable<Integer>> unzipped = RxTuples.unzipPair(source
+                .doOnSubscribe(new Consumer<Subscription>() {
+                    @Override
+                    public void accept(Subscription subscription) throws Exception {
+                        subscriptions.incrementAndGet();
+                    }
+                }));
+        final TestSubscriber<Integer> first = unzipped.getValue0().test();
+        final TestSubscriber<Integer> second = unzipped.getValue1().test();
+        Assert.assertTrue(source.hasSubscribers());
+        first.cancel();
+        Assert.assertTrue(source.hasSubscribers());
+        second.cancel();
+        Assert.assertFalse(source.hasSubscribers());
+        Assert.assertEquals(1, subscriptions.get());
+    }
+}
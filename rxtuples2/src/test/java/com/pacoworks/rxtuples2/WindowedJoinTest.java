@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.concurrent.TimeUnit;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.functions.Function;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+
+public class WindowedJoinTest {
+    private static final Function<String, Character> FIRST = new Function<String, Character>() {
+        @Override
+        public Character apply(String value) throws Exception {
+            return value.charAt(0);
+        }
+    };
+
+    @Test
+    public void testIndexLruKeepsMatchedEntries() throws Exception {
+        final JoinIndex index = new JoinIndex(2, EvictionPolicy.LRU);
+        index.add("a", "a", JoinIndex.spread("a".hashCode()), 0L);
+        index.add("b", "b", JoinIndex.spread("b".hashCode()), 0L);
+        index.touch(index.chain(JoinIndex.spread("a".hashCode())));
+        Assert.assertEquals(1, index.add("c", "c", JoinIndex.spread("c".hashCode()), 0L));
+        Assert.assertTrue(contains(index, "a"));
+        Assert.assertFalse(contains(index, "b"));
+    }
+
+    @Test
+    public void testIndexExpiresAndRecycles() throws Exception {
+        final JoinIndex index = new JoinIndex(100, EvictionPolicy.FIFO);
+        for (int i = 0; i < 1000; i++) {
+            index.add(i, i, JoinIndex.spread(i), i);
+        }
+        Assert.assertEquals(100, index.size());
+        Assert.assertEquals(50, index.expire(950));
+        Assert.assertFalse(contains(index, 949));
+        Assert.assertTrue(contains(index, 950));
+    }
+
+    @Test
+    public void testPairJoinsOnKey() throws Exception {
+        final PublishSubject<String> left = PublishSubject.create();
+        final PublishSubject<String> right = PublishSubject.create();
+        final ObservableWindowedJoin<Pair<String, String>> join = RxTuples.windowedJoinToPair(
+                left, right, FIRST, FIRST, 10, EvictionPolicy.FIFO);
+        final TestObserver<Pair<String, String>> observer = join.test();
+        left.onNext("a1");
+        right.onNext("b1");
+        right.onNext("a2");
+        left.onNext("a3");
+        left.onComplete();
+        right.onComplete();
+        observer.assertResult(Pair.with("a1", "a2"), Pair.with("a3", "a2"));
+        Assert.assertEquals(2, join.hits());
+        Assert.assertEquals(2, join.misses());
+    }
+
+    @Test
+    public void testCountEviction() throws Exception {
+        final PublishSubject<String> left = PublishSubject.create();
+        final PublishSubject<String> right = PublishSubject.create();
+        final ObservableWindowedJoin<Pair<String, String>> join = RxTuples.windowedJoinToPair(
+                left, right, FIRST, FIRST, 1, EvictionPolicy.FIFO);
+        final TestObserver<Pair<String, String>> observer = join.test();
+        left.onNext("a1");
+        left.onNext("b1");
+        right.onNext("a2");
+        observer.assertNoValues();
+        Assert.assertEquals(1, join.evictions());
+    }
+
+    @Test
+    public void testTimeWindow() throws Exception {
+        final TestScheduler scheduler = new TestScheduler();
+        final PublishSubject<String> left = PublishSubject.create();
+        final PublishSubject<String> right = PublishSubject.create();
+        final ObservableWindowedJoin<Pair<String, String>> join = RxTuples.windowedJoinToPair(
+                left, right, FIRST, FIRST, 10, TimeUnit.SECONDS, scheduler, 100,
+                EvictionPolicy.LRU);
+        final TestObserver<Pair<String, String>> observer = join.test();
+        left.onNext("a1");
+        scheduler.advanceTimeBy(5, TimeUnit.SECONDS);
+        right.onNext("a2");
+        scheduler.advanceTimeBy(11, TimeUnit.SECONDS);
+        right.onNext("a3");
+        observer.assertValue(Pair.with("a1", "a2"));
+        Assert.assertEquals(2, join.evictions());
+    }
+
+    @Test
+    public void testTripletEmitsEveryCombination() throws Exception {
+        final PublishSubject<String> a = PublishSubject.create();
+        final PublishSubject<String> b = PublishSubject.create();
+        final PublishSubject<String> c = PublishSubject.create();
+        final TestObserver<Triplet<String, String, String>> observer = RxTuples
+                .windowedJoinToTriplet(a, b, c, FIRST, FIRST, FIRST, 10, EvictionPolicy.FIFO)
+                .test();
+        a.onNext("x1");
+        b.onNext("x2");
+        b.onNext("x3");
+        c.onNext("y4");
+        c.onNext("x5");
+        observer.assertValues(Triplet.with("x1", "x2", "x5"), Triplet.with("x1", "x3", "x5"));
+    }
+
+    @Test
+    public void testErrorDisposesOthers() throws Exception {
+        final PublishSubject<String> left = PublishSubject.create();
+        final PublishSubject<String> right = PublishSubject.create();
+        final TestObserver<Pair<String, String>> observer = RxTuples.windowedJoinToPair(left,
+                right, FIRST, FIRST, 10, EvictionPolicy.FIFO).test();
+        left.onError(new IllegalStateException());
+        observer.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(right.hasObservers());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxEntries() throws Exception {
+        RxTuples.windowedJoinToPair(PublishSubject.<String> create(),
+                PublishSubject.<String> create(), FIRST, FIRST, 0, EvictionPolicy.FIFO);
+    }
+
+    private static boolean contains(JoinIndex index, Object key) {
+        final int hash = JoinIndex.spread(key.hashCode());
+        for (JoinIndex.Node n = index.chain(hash); n != null; n = n.bucketNext) {
+            if (JoinIndex.matches(n, hash, key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class ZipBuilderTest {
+    private static final Observable<Integer> RANGE = Observable.range(1, 10);
+
+    private static final Flowable<Integer> FLOWABLE_RANGE = Flowable.range(1, 10);
+
+    @Test
+    public void testObservableMatchesChainedZip() throws Exception {
+        final Observable<Octet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>> chained = RANGE
+                .zipWith(RANGE, RxTuples.<Integer, Integer> toPair())
+                .zipWith(RANGE, RxTuples.<Integer, Integer, Integer> toTripletFromPair())
+                .zipWith(RANGE, RxTuples.<Integer, Integer, Integer, Integer> toQuartetFromTriplet())
+                .zipWith(RANGE,
+                        RxTuples.<Integer, Integer, Integer, Integer, Integer> toQuintetFromQuartet())
+                .zipWith(
+                        RANGE,
+                        RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer> toSextetFromQuintet())
+                .zipWith(
+                        RANGE,
+                        RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer> toSeptetFromSextet())
+                .zipWith(
+                        RANGE,
+                        RxTuples.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSeptet());
+        Assert.assertEquals(chained.toList().blockingGet(),
+                RxTuples.zipBuilder(RANGE).and(RANGE).and(RANGE).and(RANGE).and(RANGE).and(RANGE)
+                        .and(RANGE).and(RANGE).toOctet().toList().blockingGet());
+    }
+
+    @Test
+    public void testObservableMixedTypes() throws Exception {
+        final Observable<Triplet<Integer, String, Boolean>> zipped = RxTuples
+                .zipBuilder(Observable.just(1, 2)).and(Observable.just("a", "b"))
+                .and(Observable.just(true, false)).toTriplet();
+        zipped.test().assertResult(Triplet.with(1, "a", true), Triplet.with(2, "b", false));
+    }
+
+    @Test
+    public void testStagesAreReusable() throws Exception {
+        final ObservableZipBuilder.Zip2<Integer, String> base = RxTuples.zipBuilder(
+                Observable.just(1)).and(Observable.just("a"));
+        base.toPair().test().assertResult(Pair.with(1, "a"));
+        base.and(Observable.just(2.0)).toTriplet().test()
+                .assertResult(Triplet.with(1, "a", 2.0));
+        base.toPair().test().assertResult(Pair.with(1, "a"));
+    }
+
+    @Test
+    public void testFlowableBackpressure() throws Exception {
+        final TestSubscriber<Triplet<Integer, Integer, Integer>> subscriber = RxTuples
+                .zipBuilder(FLOWABLE_RANGE).and(FLOWABLE_RANGE).and(FLOWABLE_RANGE).toTriplet()
+                .test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(1);
+        subscriber.assertValues(Triplet.with(1, 1, 1)).assertNotComplete();
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertValueCount(10).assertComplete();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSource() throws Exception {
+        RxTuples.zipBuilder(RANGE).and((Observable<Integer>)null);
+    }
+
+    @Test
+    public void testNullSourceMessage() throws Exception {
+        try {
+            RxTuples.zipBuilder(RANGE).and(RANGE).and((Observable<Integer>)null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            Assert.assertEquals("source 2 is null", e.getMessage());
+        }
+    }
+}
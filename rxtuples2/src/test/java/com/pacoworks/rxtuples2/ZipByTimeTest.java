@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+
+public class ZipByTimeTest {
+    private static final TimestampExtractor<Long> TIME = new TimestampExtractor<Long>() {
+        @Override
+        public long timestamp(Long value) throws Exception {
+            return value;
+        }
+    };
+
+    private final List<String> dropped = new ArrayList<String>();
+
+    private final UnmatchedHandler record = new UnmatchedHandler() {
+        @Override
+        public void unmatched(int source, Object value) throws Exception {
+            dropped.add(source + ":" + value);
+        }
+    };
+
+    @Test
+    public void testRingWrapsAround() throws Exception {
+        final TimeRing ring = new TimeRing(2);
+        for (long i = 0; i < 5; i++) {
+            ring.offer(i, i);
+            Assert.assertEquals(i, ring.time(0));
+            Assert.assertEquals(i, ring.poll());
+        }
+        ring.offer(5L, "a");
+        ring.offer(6L, "b");
+        Assert.assertTrue(ring.isFull());
+        Assert.assertEquals(6L, ring.time(1));
+    }
+
+    @Test
+    public void testMissingSampleDoesNotShift() throws Exception {
+        final ObservableZipByTime<Pair<Long, Long>> zip = RxTuples.zipByTimeToPair(
+                Observable.just(0L, 10L, 20L, 30L), Observable.just(1L, 11L, 31L), TIME, TIME, 5,
+                16, record);
+        zip.test().assertResult(Pair.with(0L, 1L), Pair.with(10L, 11L), Pair.with(30L, 31L));
+        Assert.assertEquals(Arrays.asList("0:20"), dropped);
+        Assert.assertEquals(3, zip.matched());
+        Assert.assertEquals(1, zip.unmatched());
+    }
+
+    @Test
+    public void testFasterSourceDropsInBetween() throws Exception {
+        RxTuples.zipByTimeToPair(Observable.just(0L, 10L, 20L),
+                Observable.just(0L, 5L, 10L, 15L, 20L), TIME, TIME, 3, 16, record).test()
+                .assertResult(Pair.with(0L, 0L), Pair.with(10L, 10L), Pair.with(20L, 20L));
+        Assert.assertEquals(Arrays.asList("1:5", "1:15"), dropped);
+    }
+
+    @Test
+    public void testClosestPendingElementWins() throws Exception {
+        RxTuples.zipByTimeToPair(Observable.just(0L, 4L, 6L, 9L), Observable.just(7L), TIME,
+                TIME, 10, 16, record).test().assertResult(Pair.with(6L, 7L));
+        Assert.assertEquals(Arrays.asList("0:0", "0:4", "0:9"), dropped);
+    }
+
+    @Test
+    public void testFullBufferDropsOldest() throws Exception {
+        final TestObserver<Pair<Long, Long>> observer = RxTuples.zipByTimeToPair(
+                Observable.just(0L, 10L, 20L, 30L), Observable.<Long> never(), TIME, TIME, 5, 2,
+                record).test();
+        observer.assertNoValues().assertNotComplete();
+        Assert.assertEquals(Arrays.asList("0:0", "0:10"), dropped);
+    }
+
+    @Test
+    public void testQuartet() throws Exception {
+        final Observable<Long> source = Observable.just(0L, 100L, 200L);
+        RxTuples.zipByTimeToQuartet(source, Observable.just(1L, 101L, 201L), source,
+                Observable.just(2L, 202L), TIME, TIME, TIME, TIME, 5, 16).test().assertResult(
+                Quartet.with(0L, 1L, 0L, 2L), Quartet.with(200L, 201L, 200L, 202L));
+    }
+
+    @Test
+    public void testExtractorError() throws Exception {
+        RxTuples.zipByTimeToPair(Observable.just(1L), Observable.just(1L), TIME,
+                new TimestampExtractor<Long>() {
+                    @Override
+                    public long timestamp(Long value) throws Exception {
+                        throw new IllegalStateException();
+                    }
+                }, 5, 16).test().assertFailure(IllegalStateException.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeTolerance() throws Exception {
+        RxTuples.zipByTimeToPair(Observable.just(1L), Observable.just(1L), TIME, TIME, -1, 16);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.processors.UnicastProcessor;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.UnicastSubject;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class ZipTupleTest {
+    private static final Observable<Integer> RANGE = Observable.range(1, 10);
+
+    private static final Flowable<Integer> FLOWABLE_RANGE = Flowable.range(1, 10);
+
+    @Test
+    public void testObservableZipToPair() throws Exception {
+        RxTuples.zipToPair(Observable.just(1, 2), Observable.just("a", "b")).test()
+                .assertResult(Pair.with(1, "a"), Pair.with(2, "b"));
+    }
+
+    @Test
+    public void testObservableMatchesZip() throws Exception {
+        Assert.assertEquals(
+                Observable.zip(RANGE, RANGE, RANGE, RANGE,
+                        RxTuples.<Integer, Integer, Integer, Integer> toQuartet()).toList()
+                        .blockingGet(), RxTuples.zipToQuartet(RANGE, RANGE, RANGE, RANGE).toList()
+                        .blockingGet());
+        Assert.assertEquals(Octet.with(10, 10, 10, 10, 10, 10, 10, 10),
+                RxTuples.zipToOctet(RANGE, RANGE, RANGE, RANGE, RANGE, RANGE, RANGE, RANGE)
+                        .blockingLast());
+    }
+
+    @Test
+    public void testObservableCompletesWithShortest() throws Exception {
+        RxTuples.zipToPair(RANGE, Observable.just("a")).test().assertResult(Pair.with(1, "a"));
+        RxTuples.zipToPair(Observable.<Integer> empty(), Observable.<String> never()).test()
+                .assertResult();
+    }
+
+    @Test
+    public void testObservableAsyncFusedSource() throws Exception {
+        final UnicastSubject<Integer> subject = UnicastSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.zipToPair(subject, RANGE)
+                .test();
+        subject.onNext(1);
+        subject.onNext(2);
+        observer.assertValues(Pair.with(1, 1), Pair.with(2, 2)).assertNotComplete();
+        subject.onComplete();
+        observer.assertResult(Pair.with(1, 1), Pair.with(2, 2));
+    }
+
+    @Test
+    public void testObservableErrorDisposesSiblings() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.zipToPair(first, second)
+                .test();
+        first.onNext(1);
+        second.onNext(2);
+        first.onError(new IllegalStateException());
+        observer.assertFailure(IllegalStateException.class, Pair.with(1, 2));
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testObservableDispose() throws Exception {
+        final PublishSubject<Integer> first = PublishSubject.create();
+        final PublishSubject<Integer> second = PublishSubject.create();
+        final TestObserver<Pair<Integer, Integer>> observer = RxTuples.zipToPair(first, second)
+                .test();
+        Assert.assertTrue(first.hasObservers());
+        observer.dispose();
+        Assert.assertFalse(first.hasObservers());
+        Assert.assertFalse(second.hasObservers());
+    }
+
+    @Test
+    public void testFlowableMatchesZip() throws Exception {
+        Assert.assertEquals(
+                Flowable.zip(FLOWABLE_RANGE, FLOWABLE_RANGE,
+                        RxTuples.<Integer, Integer> toPair()).toList().blockingGet(),
+                RxTuples.zipToPair(FLOWABLE_RANGE, FLOWABLE_RANGE).toList().blockingGet());
+        Assert.assertEquals(Quartet.with(10, 10, 10, 10), RxTuples
+                .zipToQuartet(FLOWABLE_RANGE, FLOWABLE_RANGE, FLOWABLE_RANGE, FLOWABLE_RANGE)
+                .blockingLast());
+    }
+
+    @Test
+    public void testFlowableBackpressure() throws Exception {
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples
+                .zipToPair(FLOWABLE_RANGE, FLOWABLE_RANGE).test(0);
+        subscriber.assertNoValues();
+        subscriber.requestMore(2);
+        subscriber.assertValues(Pair.with(1, 1), Pair.with(2, 2)).assertNotComplete();
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.assertValueCount(10).assertComplete();
+    }
+
+    @Test
+    public void testFlowableLongSources() throws Exception {
+        Assert.assertEquals(Pair.with(10000, 10000),
+                RxTuples.zipToPair(Flowable.range(1, 10000), Flowable.range(1, 10000))
+                        .blockingLast());
+    }
+
+    @Test
+    public void testFlowableAsyncFusedSource() throws Exception {
+        Assert.assertEquals(Pair.with(10000, 10000),
+                RxTuples.zipToPair(Flowable.range(1, 10000).observeOn(Schedulers.single()),
+                        Flowable.range(1, 10000)).blockingLast());
+        final UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples.zipToPair(processor,
+                FLOWABLE_RANGE).test(2);
+        processor.onNext(1);
+        processor.onNext(2);
+        processor.onNext(3);
+        subscriber.assertValues(Pair.with(1, 1), Pair.with(2, 2)).assertNotComplete();
+        subscriber.requestMore(1);
+        processor.onComplete();
+        subscriber.assertResult(Pair.with(1, 1), Pair.with(2, 2), Pair.with(3, 3));
+    }
+
+    @Test
+    public void testFlowableErrorCancelsSiblings() throws Exception {
+        final PublishProcessor<Integer> first = PublishProcessor.create();
+        final PublishProcessor<Integer> second = PublishProcessor.create();
+        final TestSubscriber<Pair<Integer, Integer>> subscriber = RxTuples.zipToPair(first,
+                second).test();
+        second.onError(new IllegalStateException());
+        subscriber.assertFailure(IllegalStateException.class);
+        Assert.assertFalse(first.hasSubscribers());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSource() throws Exception {
+        RxTuples.zipToPair(RANGE, (Observable<Integer>)null);
+    }
+
+    @Test
+    public void testNullSourceMessage() throws Exception {
+        try {
+            RxTuples.zipToTriplet(RANGE, RANGE, (Observable<Integer>)null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            Assert.assertEquals("source 2 is null", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Function;
+
+public class TupleCodecsTest {
+    private static final TupleCodec<Triplet<Integer, String, Double>> TRIPLET_CODEC = TupleCodecs
+            .triplet(ElementCodecs.ints(), ElementCodecs.strings(), ElementCodecs.doubles());
+
+    @Test
+    public void testPrimitivesRoundTrip() throws Exception {
+        final TupleCodec<Octet<Boolean, Byte, Short, Character, Integer, Long, Float, Double>> codec = TupleCodecs
+                .octet(ElementCodecs.booleans(), ElementCodecs.bytes(), ElementCodecs.shorts(),
+                        ElementCodecs.chars(), ElementCodecs.ints(), ElementCodecs.longs(),
+                        ElementCodecs.floats(), ElementCodecs.doubles());
+        final Octet<Boolean, Byte, Short, Character, Integer, Long, Float, Double> octet = Octet
+                .with(true, (byte)-1, Short.MIN_VALUE, 'x', Integer.MAX_VALUE, Long.MIN_VALUE,
+                        1.5f, Double.NaN);
+        Assert.assertEquals(octet, roundTrip(codec, octet));
+    }
+
+    @Test
+    public void testStringsRoundTrip() throws Exception {
+        final TupleCodec<Pair<String, String>> codec = TupleCodecs.pair(ElementCodecs.strings(),
+                ElementCodecs.strings());
+        final Pair<String, String> pair = Pair.with("plain ascii", "\u00f1and\u00fa \u20ac \ud83d\ude00");
+        Assert.assertEquals(pair, roundTrip(codec, pair));
+        Assert.assertEquals(Pair.with("", ""), roundTrip(codec, Pair.with("", "")));
+    }
+
+    @Test
+    public void testNullSlots() throws Exception {
+        final Triplet<Integer, String, Double> triplet = Triplet.with(null, "b", null);
+        Assert.assertEquals(triplet, roundTrip(TRIPLET_CODEC, triplet));
+    }
+
+    @Test
+    public void testByteArrays() throws Exception {
+        final TupleCodec<Pair<byte[], Integer>> codec = TupleCodecs.pair(
+                ElementCodecs.byteArrays(), ElementCodecs.ints());
+        final Pair<byte[], Integer> decoded = roundTrip(codec,
+                Pair.with(new byte[] {
+                        1, 2, 3
+                }, 4));
+        Assert.assertArrayEquals(new byte[] {
+                1, 2, 3
+        }, decoded.getValue0());
+        Assert.assertEquals(Integer.valueOf(4), decoded.getValue1());
+    }
+
+    @Test
+    public void testMaxSizeBoundsEncoding() throws Exception {
+        final Triplet<Integer, String, Double> triplet = Triplet.with(1, "\u20ac\u20ac", 2.0);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        TRIPLET_CODEC.encode(triplet, buffer);
+        Assert.assertTrue(buffer.position() <= TRIPLET_CODEC.maxSize(triplet));
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        final Triplet<Integer, String, Double> triplet = Triplet.with(1, "name", 2.0);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        TRIPLET_CODEC.encode(triplet, buffer);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(triplet);
+        out.close();
+        Assert.assertTrue(buffer.position() * 10 < bytes.size());
+    }
+
+    @Test
+    public void testFlowableRoundTrip() throws Exception {
+        final List<Triplet<Integer, String, Double>> tuples = new ArrayList<Triplet<Integer, String, Double>>();
+        for (int i = 0; i < 1000; i++) {
+            tuples.add(Triplet.with(i, "value " + i, i / 2.0));
+        }
+        // Tiny initial buffer to exercise growing it
+        final List<Triplet<Integer, String, Double>> decoded = Flowable.fromIterable(tuples)
+                .compose(TupleCodecs.encoder(TRIPLET_CODEC, 64, 16))
+                .compose(TupleCodecs.decoder(TRIPLET_CODEC)).toList().blockingGet();
+        Assert.assertEquals(tuples, decoded);
+    }
+
+    @Test
+    public void testFlowableBatches() throws Exception {
+        Flowable.range(0, 10).map(new Function<Integer, Triplet<Integer, String, Double>>() {
+            @Override
+            public Triplet<Integer, String, Double> apply(Integer value) throws Exception {
+                return Triplet.with(value, "", 0.0);
+            }
+        }).compose(TupleCodecs.encoder(TRIPLET_CODEC, 4)).map(new Function<ByteBuffer, Integer>() {
+            @Override
+            public Integer apply(ByteBuffer buffer) throws Exception {
+                return buffer.getInt(0);
+            }
+        }).test().assertResult(4, 4, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() throws Exception {
+        TupleCodecs.encoder(TRIPLET_CODEC, 0);
+    }
+
+    private static <T extends org.javatuples.Tuple> T roundTrip(TupleCodec<T> codec, T tuple) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(codec.maxSize(tuple));
+        codec.encode(tuple, buffer);
+        buffer.flip();
+        final T decoded = codec.decode(buffer);
+        Assert.assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.lite;
+
+import java.lang.management.ManagementFactory;
+
+import org.javatuples.Octet;
+import org.javatuples.Pair;
+import org.javatuples.Quartet;
+import org.javatuples.Triplet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RxLiteTuplesTest {
+    public static final LitePair<Integer, Integer> RES_PAIR = LitePair.with(1, 2);
+
+    public static final LiteTriplet<Integer, Integer, Integer> RES_TRIPLET = LiteTriplet.with(1, 2,
+            3);
+
+    public static final LiteQuartet<Integer, Integer, Integer, Integer> RES_QUARTET = LiteQuartet
+            .with(1, 2, 3, 4);
+
+    public static final LiteSeptet<Integer, Integer, Integer, Integer, Integer, Integer, Integer> RES_SEPTET = LiteSeptet
+            .with(1, 2, 3, 4, 5, 6, 7);
+
+    public static final LiteOctet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> RES_OCTET = LiteOctet
+            .with(1, 2, 3, 4, 5, 6, 7, 8);
+
+    static volatile Object sink;
+
+    @Test
+    public void testFactories() throws Exception {
+        Assert.assertEquals(RES_PAIR, RxLiteTuples.toPair().apply(1, 2));
+        Assert.assertEquals(RES_TRIPLET,
+                RxLiteTuples.<Integer, Integer, Integer> toTriplet().apply(1, 2, 3));
+        Assert.assertEquals(RES_TRIPLET,
+                RxLiteTuples.<Integer, Integer, Integer> toTripletFromPair().apply(RES_PAIR, 3));
+        Assert.assertEquals(RES_TRIPLET, RxLiteTuples.<Integer, Integer, Integer> toTripletFromSingle()
+                .apply(1, LitePair.with(2, 3)));
+        Assert.assertEquals(RES_QUARTET, RxLiteTuples
+                .<Integer, Integer, Integer, Integer> toQuartetFromPair()
+                .apply(RES_PAIR, LitePair.with(3, 4)));
+        Assert.assertEquals(RES_OCTET, RxLiteTuples
+                .<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromSeptet()
+                .apply(RES_SEPTET, 8));
+        Assert.assertEquals(RES_OCTET, RxLiteTuples
+                .<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> toOctetFromQuartet()
+                .apply(RES_QUARTET, LiteQuartet.with(5, 6, 7, 8)));
+        Assert.assertSame(RxLiteTuples.toPair(), RxLiteTuples.toPair());
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        Assert.assertEquals(LitePair.with(1, "a"), LitePair.with(1, "a"));
+        Assert.assertEquals(LitePair.with(1, "a").hashCode(), LitePair.with(1, "a").hashCode());
+        Assert.assertEquals(LitePair.with(null, null), LitePair.with(null, null));
+        Assert.assertFalse(LitePair.with(1, "a").equals(LitePair.with(1, "b")));
+        Assert.assertFalse(LitePair.with(1, 2).equals(LiteTriplet.with(1, 2, 3)));
+        Assert.assertFalse(LitePair.with(1, 2).equals(Pair.with(1, 2)));
+        Assert.assertEquals("[1, null]", LitePair.with(1, null).toString());
+    }
+
+    @Test
+    public void testComparison() throws Exception {
+        Assert.assertTrue(LitePair.with(1, 2).compareTo(LitePair.with(1, 3)) < 0);
+        Assert.assertTrue(LitePair.with(2, 0).compareTo(LitePair.with(1, 3)) > 0);
+        Assert.assertEquals(0, RES_OCTET.compareTo(LiteOctet.with(1, 2, 3, 4, 5, 6, 7, 8)));
+        Assert.assertTrue(LitePair.<Integer, Integer> with(null, 2).compareTo(LitePair.with(1, 2)) < 0);
+    }
+
+    @Test
+    public void testSlotAccess() throws Exception {
+        Assert.assertEquals(8, RES_OCTET.getSize());
+        for (int i = 0; i < RES_OCTET.getSize(); i++) {
+            Assert.assertEquals(i + 1, RES_OCTET.getValue(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidSlot() throws Exception {
+        RES_PAIR.getValue(2);
+    }
+
+    @Test
+    public void testConversions() throws Exception {
+        Assert.assertEquals(Pair.with(1, 2), RES_PAIR.toTuple());
+        Assert.assertEquals(RES_PAIR, LitePair.from(Pair.with(1, 2)));
+        Assert.assertEquals(RES_TRIPLET, RxLiteTuples.<Integer, Integer, Integer> fromJavaTriplet()
+                .apply(Triplet.with(1, 2, 3)));
+        Assert.assertEquals(Quartet.with(1, 2, 3, 4), RxLiteTuples
+                .<Integer, Integer, Integer, Integer> toJavaQuartet().apply(RES_QUARTET));
+        Assert.assertEquals(Octet.with(1, 2, 3, 4, 5, 6, 7, 8), RES_OCTET.toTuple());
+        Assert.assertEquals(RES_OCTET, LiteOctet.from(RES_OCTET.toTuple()));
+    }
+
+    @Test
+    public void testEqualityDoesNotAllocate() throws Exception {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory
+                .getThreadMXBean();
+        final long id = Thread.currentThread().getId();
+        final LiteOctet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> other = LiteOctet
+                .with(1, 2, 3, 4, 5, 6, 7, 8);
+        int accumulator = 0;
+        for (int i = 0; i < 20000; i++) {
+            accumulator += RES_OCTET.hashCode() + (RES_OCTET.equals(other) ? 1 : 0)
+                    + RES_OCTET.compareTo(other);
+        }
+        final long start = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 100000; i++) {
+            accumulator += RES_OCTET.hashCode() + (RES_OCTET.equals(other) ? 1 : 0)
+                    + RES_OCTET.compareTo(other);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(id) - start;
+        sink = accumulator;
+        Assert.assertTrue("Allocated " + allocated + " bytes", allocated < 4096);
+    }
+}
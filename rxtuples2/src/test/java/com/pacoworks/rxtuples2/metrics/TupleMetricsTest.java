@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.metrics;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.pacoworks.rxtuples2.RxTuples;
+
+import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function3;
+
+public class TupleMetricsTest {
+    @After
+    public void tearDown() {
+        TupleMetrics.uninstall();
+    }
+
+    @Test
+    public void testDisabledReturnsSameFunction() throws Exception {
+        Assert.assertFalse(TupleMetrics.isEnabled());
+        final BiFunction<Integer, String, Pair<Integer, String>> toPair = RxTuples.toPair();
+        Assert.assertSame(toPair, RxTuples.instrumented("pairs", toPair));
+    }
+
+    @Test
+    public void testRecordsPerSite() throws Exception {
+        final CountingMetricsSink sink = new CountingMetricsSink();
+        TupleMetrics.install(sink);
+        Assert.assertTrue(TupleMetrics.isEnabled());
+        final BiFunction<Integer, String, Pair<Integer, String>> pairs = RxTuples.instrumented(
+                "pairs", RxTuples.<Integer, String> toPair());
+        final Function3<Integer, Integer, Integer, Triplet<Integer, Integer, Integer>> triplets =
+                RxTuples.instrumented("triplets", RxTuples.<Integer, Integer, Integer> toTriplet());
+        Assert.assertEquals(Pair.with(1, "a"), pairs.apply(1, "a"));
+        pairs.apply(2, "b");
+        triplets.apply(1, 2, 3);
+        Assert.assertEquals(2, sink.invocations("pairs"));
+        Assert.assertEquals(2, sink.allocations("pairs"));
+        Assert.assertEquals(1, sink.invocations("triplets"));
+        Assert.assertEquals(0, sink.invocations("missing"));
+        Assert.assertEquals(2, sink.sites().size());
+        long total = 0;
+        for (long count : sink.latencyHistogram("pairs")) {
+            total += count;
+        }
+        Assert.assertEquals(2, total);
+        Assert.assertTrue(sink.latencyPercentile("pairs", 99) > 0);
+    }
+
+    @Test
+    public void testNonTupleResultsAreNotAllocations() throws Exception {
+        final CountingMetricsSink sink = new CountingMetricsSink();
+        TupleMetrics.install(sink);
+        RxTuples.instrumented("sum", new BiFunction<Integer, Integer, Integer>() {
+            @Override
+            public Integer apply(Integer a, Integer b) throws Exception {
+                return a + b;
+            }
+        }).apply(1, 2);
+        Assert.assertEquals(1, sink.invocations("sum"));
+        Assert.assertEquals(0, sink.allocations("sum"));
+    }
+
+    @Test
+    public void testHistogramBuckets() throws Exception {
+        Assert.assertEquals(0, CountingMetricsSink.bucket(0));
+        Assert.assertEquals(1, CountingMetricsSink.bucket(1));
+        Assert.assertEquals(10, CountingMetricsSink.bucket(1000));
+        Assert.assertEquals(63, CountingMetricsSink.bucket(Long.MAX_VALUE));
+        final CountingMetricsSink sink = new CountingMetricsSink();
+        for (int i = 0; i < 99; i++) {
+            sink.record("site", 100, true);
+        }
+        sink.record("site", 1000000, true);
+        Assert.assertEquals(128, sink.latencyPercentile("site", 50));
+        Assert.assertEquals(1 << 20, sink.latencyPercentile("site", 100));
+        sink.reset();
+        Assert.assertEquals(0, sink.latencyPercentile("site", 50));
+    }
+
+    @Test
+    public void testUninstalledSinkStopsRecording() throws Exception {
+        final CountingMetricsSink sink = new CountingMetricsSink();
+        TupleMetrics.install(sink);
+        final BiFunction<Integer, Integer, Pair<Integer, Integer>> pairs = RxTuples.instrumented(
+                "pairs", RxTuples.<Integer, Integer> toPair());
+        TupleMetrics.uninstall();
+        pairs.apply(1, 2);
+        Assert.assertEquals(0, sink.invocations("pairs"));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) pakoito 2017
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.rxtuples2.primitive;
+
+import org.javatuples.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+
+public class RxPrimitiveTuplesTest {
+    @Test
+    public void testFactories() throws Exception {
+        Assert.assertEquals(IntIntPair.with(1, 2), RxPrimitiveTuples.toIntIntPair().apply(1, 2));
+        Assert.assertEquals(LongLongPair.with(1L, 2L),
+                RxPrimitiveTuples.toLongLongPair().apply(1L, 2L));
+        Assert.assertEquals(LongDoublePair.with(1L, 2.5),
+                RxPrimitiveTuples.toLongDoublePair().apply(1L, 2.5));
+        Assert.assertEquals(IntObjPair.with(1, "a"),
+                RxPrimitiveTuples.<String> toIntObjPair().apply(1, "a"));
+        Assert.assertEquals(LongObjPair.with(1L, "a"),
+                RxPrimitiveTuples.<String> toLongObjPair().apply(1L, "a"));
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        Assert.assertEquals(LongDoublePair.with(1L, Double.NaN), LongDoublePair.with(1L, Double.NaN));
+        Assert.assertFalse(LongDoublePair.with(1L, 0.0).equals(LongDoublePair.with(1L, -0.0)));
+        Assert.assertEquals(Double.valueOf(2.5).hashCode() + 31 * 1,
+                LongDoublePair.with(1L, 2.5).hashCode());
+        Assert.assertEquals(IntObjPair.with(1, null), IntObjPair.with(1, null));
+        Assert.assertFalse(IntObjPair.with(1, "a").equals(LongObjPair.with(1L, "a")));
+        Assert.assertEquals("[3, a]", IntObjPair.with(3, "a").toString());
+    }
+
+    @Test
+    public void testConversions() throws Exception {
+        Assert.assertEquals(Pair.with(1, 2), IntIntPair.with(1, 2).toTuple());
+        Assert.assertEquals(Pair.with(1L, 2.5), LongDoublePair.with(1L, 2.5).toTuple());
+        Assert.assertEquals(Pair.with(1L, "a"), LongObjPair.with(1L, "a").toTuple());
+    }
+
+    @Test
+    public void testWithIndex() throws Exception {
+        Observable.just("a", "b", "c").compose(RxPrimitiveTuples.<String> withIndex()).test()
+                .assertResult(IntObjPair.with(0, "a"), IntObjPair.with(1, "b"),
+                        IntObjPair.with(2, "c"));
+        Flowable.just("a", "b", "c").compose(RxPrimitiveTuples.<String> withLongIndex()).test()
+                .assertResult(LongObjPair.with(0L, "a"), LongObjPair.with(1L, "b"),
+                        LongObjPair.with(2L, "c"));
+    }
+
+    @Test
+    public void testWithIndexRestartsPerSubscription() throws Exception {
+        final Observable<IntObjPair<String>> indexed = Observable.just("a", "b").compose(
+                RxPrimitiveTuples.<String> withIndex());
+        indexed.test().assertResult(IntObjPair.with(0, "a"), IntObjPair.with(1, "b"));
+        indexed.test().assertResult(IntObjPair.with(0, "a"), IntObjPair.with(1, "b"));
+    }
+
+    @Test
+    public void testWithNanoTime() throws Exception {
+        final long start = System.nanoTime();
+        final LongObjPair<Integer> last = Flowable.range(0, 10)
+                .compose(RxPrimitiveTuples.<Integer> withNanoTime()).blockingLast();
+        Assert.assertEquals(9, last.getValue1().intValue());
+        Assert.assertTrue(last.getValue0() >= start);
+        Assert.assertTrue(last.getValue0() <= System.nanoTime());
+    }
+}